@@ -17,6 +17,7 @@ function addFunctions() {
     addSprintfFunctions();
     addIoFunctions();
     addStringFunctions();
+    addTableFunctions();
 }
 
 function addJSONFunctions() {
@@ -140,3 +141,13 @@ function addStringFunctions() {
     functions["benchmarkStringSplit"] = benchmarktypes:benchmarkStringSplit;
     functions["benchmarkStringUnescape"] = benchmarktypes:benchmarkStringUnescape;
 }
+
+function addTableFunctions() {
+    functions["benchmarkTableInsertWithIntKey"] = benchmarktypes:benchmarkTableInsertWithIntKey;
+    functions["benchmarkTableInsertWithStringKey"] = benchmarktypes:benchmarkTableInsertWithStringKey;
+    functions["benchmarkTableInsertWithCompositeKey"] = benchmarktypes:benchmarkTableInsertWithCompositeKey;
+    functions["benchmarkTableLookupWithIntKey"] = benchmarktypes:benchmarkTableLookupWithIntKey;
+    functions["benchmarkTableLookupWithStringKey"] = benchmarktypes:benchmarkTableLookupWithStringKey;
+    functions["benchmarkTableIteration"] = benchmarktypes:benchmarkTableIteration;
+    functions["benchmarkTableRemove"] = benchmarktypes:benchmarkTableRemove;
+}
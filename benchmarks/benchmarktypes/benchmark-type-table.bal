@@ -0,0 +1,76 @@
+type Employee record {|
+    readonly int id;
+    readonly string name;
+    int salary;
+|};
+
+type EmployeeIntKeyTable table<Employee> key(id);
+
+type EmployeeStringKeyTable table<Employee> key(name);
+
+type EmployeeCompositeKeyTable table<Employee> key(id, name);
+
+const int TABLE_ROW_COUNT = 1000;
+
+public function benchmarkTableInsertWithIntKey() {
+    EmployeeIntKeyTable employees = table [];
+    foreach int i in 0 ..< TABLE_ROW_COUNT {
+        employees.add({id: i, name: "name" + i.toString(), salary: i});
+    }
+}
+
+public function benchmarkTableInsertWithStringKey() {
+    EmployeeStringKeyTable employees = table [];
+    foreach int i in 0 ..< TABLE_ROW_COUNT {
+        employees.add({id: i, name: "name" + i.toString(), salary: i});
+    }
+}
+
+public function benchmarkTableInsertWithCompositeKey() {
+    EmployeeCompositeKeyTable employees = table [];
+    foreach int i in 0 ..< TABLE_ROW_COUNT {
+        employees.add({id: i, name: "name" + i.toString(), salary: i});
+    }
+}
+
+public function benchmarkTableLookupWithIntKey() {
+    EmployeeIntKeyTable employees = createIntKeyTable();
+    int total = 0;
+    foreach int i in 0 ..< TABLE_ROW_COUNT {
+        total += employees.get(i).salary;
+    }
+}
+
+public function benchmarkTableLookupWithStringKey() {
+    EmployeeStringKeyTable employees = table [];
+    foreach int i in 0 ..< TABLE_ROW_COUNT {
+        employees.add({id: i, name: "name" + i.toString(), salary: i});
+    }
+    int total = 0;
+    foreach int i in 0 ..< TABLE_ROW_COUNT {
+        total += employees.get("name" + i.toString()).salary;
+    }
+}
+
+public function benchmarkTableIteration() {
+    EmployeeIntKeyTable employees = createIntKeyTable();
+    int total = 0;
+    foreach Employee employee in employees {
+        total += employee.salary;
+    }
+}
+
+public function benchmarkTableRemove() {
+    EmployeeIntKeyTable employees = createIntKeyTable();
+    foreach int i in 0 ..< TABLE_ROW_COUNT {
+        _ = employees.remove(i);
+    }
+}
+
+function createIntKeyTable() returns EmployeeIntKeyTable {
+    EmployeeIntKeyTable employees = table [];
+    foreach int i in 0 ..< TABLE_ROW_COUNT {
+        employees.add({id: i, name: "name" + i.toString(), salary: i});
+    }
+    return employees;
+}
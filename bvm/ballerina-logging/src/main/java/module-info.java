@@ -5,4 +5,5 @@ module io.ballerina.logging {
     exports org.ballerinalang.logging;
     exports org.ballerinalang.logging.util;
     exports org.ballerinalang.logging.formatters;
+    exports org.ballerinalang.logging.handlers;
 }
@@ -21,6 +21,7 @@ import org.ballerinalang.config.ConfigRegistry;
 import org.ballerinalang.logging.formatters.HttpAccessLogFormatter;
 import org.ballerinalang.logging.formatters.HttpTraceLogFormatter;
 import org.ballerinalang.logging.formatters.JsonLogFormatter;
+import org.ballerinalang.logging.handlers.AsyncLogHandler;
 import org.ballerinalang.logging.util.BLogLevel;
 import org.ballerinalang.logging.util.BLogLevelMapper;
 
@@ -35,6 +36,7 @@ import java.util.Map;
 import java.util.Properties;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.FileHandler;
+import java.util.logging.Handler;
 import java.util.logging.Level;
 import java.util.logging.LogManager;
 import java.util.logging.Logger;
@@ -44,6 +46,7 @@ import java.util.regex.Pattern;
 
 import static org.ballerinalang.logging.util.Constants.BALLERINA_USER_LOG_LEVEL;
 import static org.ballerinalang.logging.util.Constants.CONSOLE_LOGGER;
+import static org.ballerinalang.logging.util.Constants.DEFAULT_LOG_ASYNC_BUFFER_SIZE;
 import static org.ballerinalang.logging.util.Constants.HTTP_ACCESS_LOG;
 import static org.ballerinalang.logging.util.Constants.HTTP_ACCESS_LOG_CONSOLE;
 import static org.ballerinalang.logging.util.Constants.HTTP_ACCESS_LOG_FILE;
@@ -52,6 +55,9 @@ import static org.ballerinalang.logging.util.Constants.HTTP_TRACE_LOG_CONSOLE;
 import static org.ballerinalang.logging.util.Constants.HTTP_TRACE_LOG_FILE;
 import static org.ballerinalang.logging.util.Constants.HTTP_TRACE_LOG_HOST;
 import static org.ballerinalang.logging.util.Constants.HTTP_TRACE_LOG_PORT;
+import static org.ballerinalang.logging.util.Constants.LOG_ASYNC;
+import static org.ballerinalang.logging.util.Constants.LOG_ASYNC_BUFFER_SIZE;
+import static org.ballerinalang.logging.util.Constants.LOG_ASYNC_OVERFLOW_POLICY;
 import static org.ballerinalang.logging.util.Constants.LOG_LEVEL;
 
 /**
@@ -104,6 +110,7 @@ public class BLogManager extends LogManager {
 
         setHttpTraceLogHandler();
         setHttpAccessLogHandler();
+        setAsyncLogHandlers();
 
         // have to set default console logger level here since ballerina config is not initialized at the time of the
         // logger initialization
@@ -224,6 +231,40 @@ public class BLogManager extends LogManager {
         }
     }
 
+    /**
+     * Makes the Ballerina log API and the root logger publish their records asynchronously, if enabled.
+     */
+    public void setAsyncLogHandlers() {
+        ConfigRegistry configRegistry = ConfigRegistry.getInstance();
+        if (!Boolean.parseBoolean(configRegistry.getAsString(LOG_ASYNC))) {
+            return;
+        }
+        String bufferSize = configRegistry.getAsString(LOG_ASYNC_BUFFER_SIZE);
+        String overflowPolicy = configRegistry.getAsString(LOG_ASYNC_OVERFLOW_POLICY);
+        AsyncLogHandler.OverflowPolicy policy;
+        int size;
+        try {
+            size = bufferSize == null ? DEFAULT_LOG_ASYNC_BUFFER_SIZE : Integer.parseInt(bufferSize.trim());
+            policy = AsyncLogHandler.OverflowPolicy.fromString(overflowPolicy);
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("invalid asynchronous log configuration: " + LOG_ASYNC_BUFFER_SIZE + "=" +
+                    bufferSize + ", " + LOG_ASYNC_OVERFLOW_POLICY + "=" + overflowPolicy, e);
+        }
+
+        for (String loggerName : new String[]{BALLERINA_ROOT_LOGGER_NAME, ""}) {
+            Logger logger = getLogger(loggerName);
+            if (logger == null) {
+                continue;
+            }
+            for (Handler handler : logger.getHandlers()) {
+                if (!(handler instanceof AsyncLogHandler)) {
+                    logger.removeHandler(handler);
+                    logger.addHandler(new AsyncLogHandler(handler, size, policy));
+                }
+            }
+        }
+    }
+
     private String substituteVariables(String value) {
         Matcher matcher = varPattern.matcher(value);
         boolean found = matcher.find();
@@ -0,0 +1,246 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.logging.handlers;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * A log handler which publishes the log records to another handler asynchronously.
+ * <p>
+ * Logging threads append the records to a bounded lock-free ring buffer, which is drained in batches by a dedicated
+ * writer thread. The records are formatted and written by the writer thread, and a {@link BufferedHandler} is flushed
+ * once per batch instead of once per record. When the buffer is full, the {@link OverflowPolicy} decides whether the
+ * logging thread waits for space or the record is dropped. Records at {@link Level#SEVERE} are never dropped.
+ *
+ * @since 2.0.0
+ */
+public class AsyncLogHandler extends Handler {
+
+    private static final int MAX_BATCH_SIZE = 256;
+    private static final int SAMPLING_RATE = 100;
+    private static final long WRITER_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long FLUSH_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    private final Handler delegate;
+    private final OverflowPolicy overflowPolicy;
+    private final AtomicReferenceArray<LogRecord> buffer;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong overflowCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final Thread writer;
+    private volatile long head;
+    private volatile long flushedHead;
+    private volatile long reportedDropCount;
+    private volatile long flushedDropCount;
+    private volatile boolean writerParked;
+    private volatile boolean closed;
+
+    /**
+     * Creates a handler and starts its writer thread.
+     *
+     * @param delegate       handler to which the records are published
+     * @param bufferSize     maximum number of buffered records, rounded up to a power of two
+     * @param overflowPolicy what to do with a record when the buffer is full
+     */
+    public AsyncLogHandler(Handler delegate, int bufferSize, OverflowPolicy overflowPolicy) {
+        this.delegate = delegate;
+        this.overflowPolicy = overflowPolicy;
+        int capacity = Integer.highestOneBit(Math.max(bufferSize, 2) - 1) << 1;
+        this.buffer = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+        setLevel(delegate.getLevel());
+        this.writer = new Thread(this::drain, "ballerina-log-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (closed || !isLoggable(record)) {
+            return;
+        }
+        if (!offer(record)) {
+            if (record.getLevel().intValue() < Level.SEVERE.intValue() &&
+                    (overflowPolicy == OverflowPolicy.DROP || (overflowPolicy == OverflowPolicy.SAMPLE &&
+                            overflowCount.getAndIncrement() % SAMPLING_RATE != 0))) {
+                droppedCount.incrementAndGet();
+                return;
+            }
+            while (!offer(record)) {
+                if (closed) {
+                    return;
+                }
+                LockSupport.unpark(writer);
+                Thread.yield();
+            }
+        }
+        if (writerParked) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    /**
+     * Waits until the records published so far are written and flushed by the writer thread.
+     */
+    @Override
+    public void flush() {
+        long target = tail.get();
+        long deadline = System.nanoTime() + FLUSH_TIMEOUT_NANOS;
+        while ((flushedHead < target || flushedDropCount != droppedCount.get()) && writer.isAlive() &&
+                System.nanoTime() - deadline < 0) {
+            LockSupport.unpark(writer);
+            Thread.yield();
+        }
+        delegate.flush();
+    }
+
+    /**
+     * Writes the buffered records and closes the handler. The log manager closes the handlers on shutdown.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        flush();
+        closed = true;
+        LockSupport.unpark(writer);
+        try {
+            writer.join(TimeUnit.NANOSECONDS.toMillis(FLUSH_TIMEOUT_NANOS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        delegate.close();
+    }
+
+    /**
+     * Returns the number of records dropped since the buffer was full.
+     *
+     * @return dropped record count
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    private boolean offer(LogRecord record) {
+        while (true) {
+            long currentTail = tail.get();
+            if (currentTail - head >= buffer.length()) {
+                return false;
+            }
+            if (tail.compareAndSet(currentTail, currentTail + 1)) {
+                buffer.lazySet((int) (currentTail & mask), record);
+                return true;
+            }
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            int written = 0;
+            long currentHead = head;
+            while (written < MAX_BATCH_SIZE && currentHead < tail.get()) {
+                int index = (int) (currentHead & mask);
+                LogRecord record = buffer.get(index);
+                if (record == null) {
+                    // the slot has been claimed, but the record is not visible yet
+                    Thread.onSpinWait();
+                    continue;
+                }
+                buffer.lazySet(index, null);
+                write(record);
+                // the slot is released only once the record is written
+                currentHead++;
+                head = currentHead;
+                written++;
+            }
+            long drops = droppedCount.get();
+            if (drops != reportedDropCount) {
+                write(new LogRecord(Level.WARNING, (drops - reportedDropCount) +
+                        " log messages were dropped since the log buffer was full"));
+                reportedDropCount = drops;
+                written++;
+            }
+            if (written > 0) {
+                delegate.flush();
+                flushedHead = currentHead;
+                flushedDropCount = reportedDropCount;
+                continue;
+            }
+            if (closed) {
+                return;
+            }
+            writerParked = true;
+            if (head == tail.get()) {
+                LockSupport.parkNanos(this, WRITER_PARK_NANOS);
+            }
+            writerParked = false;
+        }
+    }
+
+    private void write(LogRecord record) {
+        try {
+            if (delegate instanceof BufferedHandler) {
+                ((BufferedHandler) delegate).publishBuffered(record);
+            } else {
+                delegate.publish(record);
+            }
+        } catch (RuntimeException e) {
+            reportError(null, e, ErrorManager.WRITE_FAILURE);
+        }
+    }
+
+    /**
+     * What to do with a record which is published while the buffer is full.
+     */
+    public enum OverflowPolicy {
+
+        /**
+         * The logging thread waits until there is space in the buffer.
+         */
+        BLOCK,
+
+        /**
+         * The record is dropped.
+         */
+        DROP,
+
+        /**
+         * One record out of every hundred is kept, and the logging thread waits for space to publish it. The others
+         * are dropped.
+         */
+        SAMPLE;
+
+        public static OverflowPolicy fromString(String policy) {
+            if (policy == null || policy.trim().isEmpty()) {
+                return BLOCK;
+            }
+            return valueOf(policy.trim().toUpperCase(Locale.ROOT));
+        }
+    }
+}
@@ -17,13 +17,36 @@
   */
  package org.ballerinalang.logging.handlers;
 
- import java.util.logging.ConsoleHandler;
+ import java.util.logging.LogRecord;
+ import java.util.logging.StreamHandler;
 
  /**
-  * Console log handler used for Ballerina Log API.
+  * Console log handler used for Ballerina Log API. Like the {@link java.util.logging.ConsoleHandler}, it writes to
+  * {@code System.err} and flushes after each record, unless the records are written in batches by an
+  * {@link AsyncLogHandler}.
   */
- public class BallerinaLogApiHandler extends ConsoleHandler {
+ public class BallerinaLogApiHandler extends StreamHandler implements BufferedHandler {
 
      public BallerinaLogApiHandler() {
+         setOutputStream(System.err);
+     }
+
+     @Override
+     public void publish(LogRecord record) {
+         super.publish(record);
+         flush();
+     }
+
+     @Override
+     public void publishBuffered(LogRecord record) {
+         super.publish(record);
+     }
+
+     /**
+      * Flushes the output, without closing {@code System.err}.
+      */
+     @Override
+     public void close() {
+         flush();
      }
  }
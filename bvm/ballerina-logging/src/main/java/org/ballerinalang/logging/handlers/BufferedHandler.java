@@ -0,0 +1,36 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.logging.handlers;
+
+import java.util.logging.LogRecord;
+
+/**
+ * A log handler which can write a record without flushing its output, so that a batch of records is flushed once.
+ *
+ * @since 2.0.0
+ */
+public interface BufferedHandler {
+
+    /**
+     * Writes a record without flushing the output of the handler.
+     *
+     * @param record record to be written
+     */
+    void publishBuffered(LogRecord record);
+}
@@ -32,6 +32,11 @@ public class Constants {
 
     public static final String CONSOLE_LOGGER = "b7a.log.console";
 
+    public static final String LOG_ASYNC = "b7a.log.async";
+    public static final String LOG_ASYNC_BUFFER_SIZE = "b7a.log.async.buffersize";
+    public static final String LOG_ASYNC_OVERFLOW_POLICY = "b7a.log.async.overflow";
+    public static final int DEFAULT_LOG_ASYNC_BUFFER_SIZE = 8192;
+
     public static final String HTTP_TRACE_LOG = "http.tracelog";
     public static final String HTTP_TRACE_LOG_ENABLED = "http.tracelog.enabled";
     public static final String HTTP_TRACE_LOG_CONSOLE = "b7a.http.tracelog.console";
@@ -17,7 +17,11 @@
  */
 package io.ballerina.runtime.api;
 
+import io.ballerina.runtime.api.async.Timeout;
 import io.ballerina.runtime.internal.scheduling.Strand;
+import io.ballerina.runtime.internal.scheduling.TimerWheel;
+
+import java.util.concurrent.TimeUnit;
 
 /**
  * A future that will resume the underling strand when completed.
@@ -35,4 +39,17 @@ public class Future {
         strand.returnValue = returnValue;
         strand.scheduler.unblockStrand(strand);
     }
+
+    /**
+     * Completes the future after a delay, on the timer shared by the runtime. If the timeout is cancelled, the future
+     * should be completed by other means.
+     *
+     * @param returnValue value with which the strand is resumed
+     * @param delay       delay after which the future is completed
+     * @param unit        unit of the delay
+     * @return the timeout of the completion, which can be cancelled
+     */
+    public Timeout completeAfter(Object returnValue, long delay, TimeUnit unit) {
+        return TimerWheel.getInstance().schedule(() -> complete(returnValue), delay, unit);
+    }
 }
@@ -0,0 +1,49 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.api.async;
+
+import io.ballerina.runtime.internal.scheduling.TimerWheel;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs tasks after a delay, on the timer shared by the runtime.
+ * <p>
+ * Scheduling and cancelling a task takes constant time irrespective of the number of scheduled tasks. The tasks are
+ * run on the timer thread, so they should be short, and hand over any longer work to another thread, for example by
+ * completing a {@link io.ballerina.runtime.api.Future}.
+ *
+ * @since 2.0.0
+ */
+public class Timeouts {
+
+    private Timeouts() {
+    }
+
+    /**
+     * Schedules a task to be run once after a delay.
+     *
+     * @param task  task to be run
+     * @param delay delay after which the task is run
+     * @param unit  unit of the delay
+     * @return the timeout of the task, which can be cancelled
+     */
+    public static Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        return TimerWheel.getInstance().schedule(task, delay, unit);
+    }
+}
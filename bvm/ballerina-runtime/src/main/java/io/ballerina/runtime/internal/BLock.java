@@ -21,26 +21,65 @@ import io.ballerina.runtime.internal.scheduling.State;
 import io.ballerina.runtime.internal.scheduling.Strand;
 
 import java.util.ArrayDeque;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * {@code VarLock} represents lock object for variables in jvm.
+ * <p>
+ * An uncontended lock is acquired and released with a single CAS on the owner. Once a strand has to wait for the
+ * lock, the lock switches to the queued mode, in which waiting strands are parked in FIFO order, until the queue
+ * is drained again.
  *
  * @since 1.0.0
  */
 public class BLock {
 
-    private ArrayDeque<Strand> current;
+    private final BLockStore lockStore;
 
-    private ArrayDeque<Strand> waitingForLock;
+    private final AtomicReference<Strand> owner = new AtomicReference<>();
 
+    /**
+     * Number of times the owner has acquired the lock. Only written by the owner, but volatile since the owning
+     * strand may be resumed on another thread.
+     */
+    private volatile int holdCount;
+
+    private volatile boolean contended;
+
+    private final ArrayDeque<Strand> waitingForLock = new ArrayDeque<>();
+
+    /**
+     * Creates a lock which does not belong to a lock store, such as the lock of an object field.
+     */
     public BLock() {
-        this.current = new ArrayDeque<>();
-        this.waitingForLock = new ArrayDeque<>();
+        this(null);
     }
 
-    public synchronized boolean lock(Strand strand) {
-        if (isLockFree() || lockedBySameContext(strand)) {
-            this.current.offerLast(strand);
+    BLock(BLockStore lockStore) {
+        this.lockStore = lockStore;
+    }
+
+    public boolean lock(Strand strand) {
+        Strand current = this.owner.get();
+        if (current == strand) {
+            this.holdCount++;
+            return true;
+        }
+
+        if (current == null && !this.contended && this.owner.compareAndSet(null, strand)) {
+            acquired(strand);
+            return true;
+        }
+
+        return lockOrWait(strand);
+    }
+
+    private synchronized boolean lockOrWait(Strand strand) {
+        // Mark the lock as contended before the final attempt, so that an owner releasing the lock concurrently
+        // either lets this attempt succeed or sees the flag and wakes up this strand.
+        this.contended = true;
+        if (this.owner.compareAndSet(null, strand)) {
+            acquired(strand);
             return true;
         }
 
@@ -52,20 +91,43 @@ public class BLock {
         return false;
     }
 
-    public synchronized void unlock() {
-        //current cannot be empty as unlock cannot be called without lock being called first.
-        this.current.removeLast();
-        if (!waitingForLock.isEmpty()) {
-            Strand strand = this.waitingForLock.removeFirst();
+    public void unlock() {
+        //owner cannot be null as unlock cannot be called without lock being called first.
+        if (--this.holdCount > 0) {
+            return;
+        }
+
+        this.owner.get().lockReleased(this);
+        this.owner.set(null);
+        if (this.contended) {
+            wakeUpWaitingStrand();
+        }
+    }
+
+    private synchronized void wakeUpWaitingStrand() {
+        Strand strand = this.waitingForLock.pollFirst();
+        if (this.waitingForLock.isEmpty()) {
+            this.contended = false;
+        }
+        if (strand != null) {
             strand.scheduler.unblockStrand(strand);
         }
     }
 
+    private void acquired(Strand strand) {
+        this.holdCount = 1;
+        strand.lockAcquired(this);
+    }
+
     public boolean isLockFree() {
-        return this.current.isEmpty();
+        return this.owner.get() == null;
     }
 
     public boolean lockedBySameContext(Strand ctx) {
-        return this.current.getLast() == ctx;
+        return this.owner.get() == ctx;
+    }
+
+    public BLockStore getLockStore() {
+        return this.lockStore;
     }
 }
@@ -19,6 +19,7 @@ package io.ballerina.runtime.internal;
 
 import io.ballerina.runtime.api.TypeTags;
 import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.types.BRecordType;
 import io.ballerina.runtime.internal.values.ArrayValue;
 import io.ballerina.runtime.internal.values.DecimalValue;
 import io.ballerina.runtime.internal.values.MapValueImpl;
@@ -32,11 +33,15 @@ import java.io.OutputStreamWriter;
 import java.io.Writer;
 import java.math.BigDecimal;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.Map.Entry;
 
 /**
  * This class represents the functionality to generate the JSON constructs to be written out
  * to a given {@link OutputStream}.
+ * <p>
+ * When the output stream is written in UTF-8, the constructs are encoded straight into bytes by a
+ * {@link Utf8JsonWriter}, and member names of records are encoded once per record type.
  * 
  * @since 0.995.0
  */
@@ -46,6 +51,8 @@ public class JsonGenerator {
 
     private Writer writer;
 
+    private Utf8JsonWriter utf8Writer;
+
     private boolean[] levelInit = new boolean[DEFAULT_DEPTH];
 
     private int currentLevel;
@@ -68,7 +75,11 @@ public class JsonGenerator {
     }
 
     public JsonGenerator(OutputStream out, Charset charset) {
-        this(new BufferedWriter(new OutputStreamWriter(out, charset)));
+        if (StandardCharsets.UTF_8.equals(charset)) {
+            this.utf8Writer = new Utf8JsonWriter(out);
+        } else {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, charset));
+        }
     }
 
     public JsonGenerator(Writer writer) {
@@ -96,7 +107,7 @@ public class JsonGenerator {
     private void processStartLevel() throws IOException {
         if (!this.fieldActive) {
             if (this.getLevelInit(this.currentLevel)) {
-                this.writer.write(", ");
+                this.writeRaw(", ");
             } else {
                 this.setLevelInit(this.currentLevel, true);
             }
@@ -114,7 +125,7 @@ public class JsonGenerator {
 
     private void processFieldInit() throws IOException {
         if (this.getLevelInit(this.currentLevel)) {
-            this.writer.write(", ");
+            this.writeRaw(", ");
         } else {
             this.setLevelInit(this.currentLevel, true);
         }
@@ -127,7 +138,7 @@ public class JsonGenerator {
             return;
         }
         if (this.getLevelInit(this.currentLevel)) {
-            this.writer.write(", ");
+            this.writeRaw(", ");
         } else {
             this.setLevelInit(this.currentLevel, true);
         }
@@ -135,21 +146,59 @@ public class JsonGenerator {
 
     public void startObject() throws IOException {
         this.processStartLevel();
-        this.writer.write('{');
+        this.writeRaw('{');
     }
 
     public void endObject() throws IOException {
-        this.writer.write('}');
+        this.writeRaw('}');
         this.processEndLevel();
     }
 
     public void writeFieldName(String fieldName) throws IOException {
         this.processFieldInit();
         this.writeStringValue(fieldName);
-        this.writer.write(":");
+        this.writeRaw(':');
+    }
+
+    /**
+     * Writes a member name of a record. The names of the fields declared by the record type are encoded once per
+     * record type when writing bytes. Names of rest fields come from the data, hence they are encoded every time.
+     *
+     * @param recordType type of the record
+     * @param fieldName  name of the field
+     * @throws IOException if the member name cannot be written
+     */
+    private void writeFieldName(BRecordType recordType, String fieldName) throws IOException {
+        if (this.utf8Writer == null || !recordType.getFields().containsKey(fieldName)) {
+            this.writeFieldName(fieldName);
+            return;
+        }
+        this.processFieldInit();
+        this.utf8Writer.write(recordType.getEncodedFieldNames()
+                                      .computeIfAbsent(fieldName, Utf8JsonWriter::encodeFieldName));
+    }
+
+    private void writeRaw(String value) throws IOException {
+        if (this.utf8Writer != null) {
+            this.utf8Writer.writeAscii(value);
+        } else {
+            this.writer.write(value);
+        }
+    }
+
+    private void writeRaw(char value) throws IOException {
+        if (this.utf8Writer != null) {
+            this.utf8Writer.write(value);
+        } else {
+            this.writer.write(value);
+        }
     }
 
     private void writeStringValue(String value) throws IOException {
+        if (this.utf8Writer != null) {
+            this.utf8Writer.writeQuotedString(value);
+            return;
+        }
         this.writer.write("\"");
         int count = value.length();
         char ch;
@@ -176,6 +225,10 @@ public class JsonGenerator {
     }
 
     public void writeStringEsc(char[] chs) throws IOException {
+        if (this.utf8Writer != null) {
+            this.utf8Writer.writeChars(new String(chs), true);
+            return;
+        }
         int count = chs.length;
         int index = 0;
         char ch;
@@ -235,41 +288,49 @@ public class JsonGenerator {
 
     public void writeNumber(long value) throws IOException {
         this.processValueInit();
-        this.writer.write(Long.toString(value));
+        if (this.utf8Writer != null) {
+            this.utf8Writer.writeLong(value);
+        } else {
+            this.writer.write(Long.toString(value));
+        }
     }
 
     public void writeNumber(double value) throws IOException {
         this.processValueInit();
-        this.writer.write(Double.toString(value));
+        this.writeRaw(Double.toString(value));
     }
 
     public void writeNumber(BigDecimal value) throws IOException {
         this.processValueInit();
-        this.writer.write(value.toString());
+        this.writeRaw(value.toString());
     }
 
     public void writeBoolean(boolean value) throws IOException {
         this.processValueInit();
-        this.writer.write(Boolean.toString(value));
+        this.writeRaw(Boolean.toString(value));
     }
 
     public void writeNull() throws IOException {
         this.processValueInit();
-        this.writer.write("null");
+        this.writeRaw("null");
     }
 
     public void writeStartArray() throws IOException {
         this.processStartLevel();
-        this.writer.write("[");
+        this.writeRaw('[');
     }
 
     public void writeEndArray() throws IOException {
-        this.writer.write("]");
+        this.writeRaw(']');
         this.processEndLevel();
     }
 
     public void flush() throws IOException {
-        this.writer.flush();
+        if (this.utf8Writer != null) {
+            this.utf8Writer.flush();
+        } else {
+            this.writer.flush();
+        }
     }
 
     @SuppressWarnings("unchecked")
@@ -316,6 +377,15 @@ public class JsonGenerator {
                 }
                 this.endObject();
                 break;
+            case TypeTags.RECORD_TYPE_TAG:
+                BRecordType recordType = (BRecordType) TypeChecker.getType(json);
+                this.startObject();
+                for (Entry<BString, Object> entry : ((MapValueImpl<BString, Object>) json).entrySet()) {
+                    this.writeFieldName(recordType, entry.getKey().getValue());
+                    serialize(entry.getValue());
+                }
+                this.endObject();
+                break;
             case TypeTags.STRING_TAG:
                 this.writeString(json.toString());
                 break;
@@ -0,0 +1,261 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.runtime.internal;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes the constructs of {@link JsonGenerator} to an {@link OutputStream} as UTF-8 encoded bytes, without going
+ * through a {@link java.io.Writer} and a charset encoder.
+ * <p>
+ * Bytes are collected in a buffer which is taken from a per thread pool, and given back once the content is flushed.
+ * Strings are escaped through lookup tables, and the bytes are identical to the ones written by the generator through
+ * a UTF-8 writer.
+ *
+ * @since 2.0.0
+ */
+class Utf8JsonWriter {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * Maximum number of bytes written for a single character, which is a surrogate pair.
+     */
+    private static final int MAX_BYTES_PER_CHAR = 4;
+
+    private static final ThreadLocal<byte[]> BUFFER_POOL = new ThreadLocal<>();
+
+    /**
+     * Characters which cause a string to be escaped, as in {@link JsonGenerator}.
+     */
+    private static final boolean[] ESCAPE_TRIGGERS = new boolean[128];
+
+    /**
+     * Escape sequences of the characters which are escaped once a string is escaped.
+     */
+    private static final byte[][] ESCAPES = new byte[128][];
+
+    private static final byte[] MIN_LONG = Long.toString(Long.MIN_VALUE).getBytes();
+
+    static {
+        ESCAPE_TRIGGERS['"'] = true;
+        ESCAPE_TRIGGERS['\\'] = true;
+        ESCAPE_TRIGGERS['\b'] = true;
+        ESCAPE_TRIGGERS['\n'] = true;
+        ESCAPE_TRIGGERS['\r'] = true;
+        ESCAPE_TRIGGERS['\t'] = true;
+        ESCAPES['"'] = new byte[]{'\\', '"'};
+        ESCAPES['\\'] = new byte[]{'\\', '\\'};
+        ESCAPES['/'] = new byte[]{'\\', '/'};
+        ESCAPES['\b'] = new byte[]{'\\', 'b'};
+        ESCAPES['\n'] = new byte[]{'\\', 'n'};
+        ESCAPES['\r'] = new byte[]{'\\', 'r'};
+        ESCAPES['\f'] = new byte[]{'\\', 'f'};
+        ESCAPES['\t'] = new byte[]{'\\', 't'};
+    }
+
+    private final OutputStream out;
+
+    private byte[] buffer;
+
+    private int count;
+
+    Utf8JsonWriter(OutputStream out) {
+        this.out = out;
+    }
+
+    void write(char ch) throws IOException {
+        ensureCapacity(1);
+        this.buffer[this.count++] = (byte) ch;
+    }
+
+    /**
+     * Writes a string which only contains ASCII characters.
+     *
+     * @param value the string
+     * @throws IOException if the bytes cannot be written
+     */
+    void writeAscii(String value) throws IOException {
+        int length = value.length();
+        ensureCapacity(length);
+        if (length > this.buffer.length) {
+            this.out.write(value.getBytes());
+            return;
+        }
+        for (int i = 0; i < length; i++) {
+            this.buffer[this.count++] = (byte) value.charAt(i);
+        }
+    }
+
+    void write(byte[] bytes) throws IOException {
+        ensureCapacity(bytes.length);
+        if (bytes.length > this.buffer.length) {
+            this.out.write(bytes);
+            return;
+        }
+        System.arraycopy(bytes, 0, this.buffer, this.count, bytes.length);
+        this.count += bytes.length;
+    }
+
+    void writeLong(long value) throws IOException {
+        if (value == Long.MIN_VALUE) {
+            write(MIN_LONG);
+            return;
+        }
+        ensureCapacity(20);
+        long remaining = value;
+        if (remaining < 0) {
+            this.buffer[this.count++] = '-';
+            remaining = -remaining;
+        }
+        int digits = 1;
+        for (long limit = 10; digits < 19 && remaining >= limit; limit *= 10) {
+            digits++;
+        }
+        int index = this.count + digits;
+        do {
+            this.buffer[--index] = (byte) ('0' + remaining % 10);
+            remaining /= 10;
+        } while (remaining != 0);
+        this.count += digits;
+    }
+
+    /**
+     * Writes a string enclosed in quotes. The string is escaped only if it contains a character which is escaped by
+     * {@link JsonGenerator}.
+     *
+     * @param value the string
+     * @throws IOException if the bytes cannot be written
+     */
+    void writeQuotedString(String value) throws IOException {
+        write('"');
+        writeChars(value, requiresEscaping(value));
+        write('"');
+    }
+
+    /**
+     * Encodes a string which is not enclosed in quotes.
+     *
+     * @param value  the string
+     * @param escape whether the characters with an escape sequence are escaped
+     * @throws IOException if the bytes cannot be written
+     */
+    void writeChars(String value, boolean escape) throws IOException {
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            ensureCapacity(MAX_BYTES_PER_CHAR);
+            char ch = value.charAt(i);
+            if (ch < 0x80) {
+                byte[] escapeSequence = escape ? ESCAPES[ch] : null;
+                if (escapeSequence == null) {
+                    this.buffer[this.count++] = (byte) ch;
+                } else {
+                    this.buffer[this.count++] = escapeSequence[0];
+                    this.buffer[this.count++] = escapeSequence[1];
+                }
+            } else if (ch < 0x800) {
+                this.buffer[this.count++] = (byte) (0xC0 | (ch >> 6));
+                this.buffer[this.count++] = (byte) (0x80 | (ch & 0x3F));
+            } else if (!Character.isSurrogate(ch)) {
+                this.buffer[this.count++] = (byte) (0xE0 | (ch >> 12));
+                this.buffer[this.count++] = (byte) (0x80 | ((ch >> 6) & 0x3F));
+                this.buffer[this.count++] = (byte) (0x80 | (ch & 0x3F));
+            } else if (Character.isHighSurrogate(ch) && i + 1 < length &&
+                    Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(ch, value.charAt(++i));
+                this.buffer[this.count++] = (byte) (0xF0 | (codePoint >> 18));
+                this.buffer[this.count++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                this.buffer[this.count++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                this.buffer[this.count++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else {
+                // A UTF-8 writer replaces a lone surrogate with the replacement byte of the charset
+                this.buffer[this.count++] = '?';
+            }
+        }
+    }
+
+    /**
+     * Encodes a member name as it is written by {@link JsonGenerator}, including the quotes and the colon.
+     *
+     * @param name the member name
+     * @return the encoded bytes
+     */
+    static byte[] encodeFieldName(String name) {
+        Utf8JsonWriter encoder = new Utf8JsonWriter(null);
+        encoder.buffer = new byte[name.length() * 6 + 3];
+        try {
+            encoder.writeQuotedString(name);
+            encoder.write(':');
+        } catch (IOException e) {
+            // the buffer is large enough for the name, hence it is never written to the stream
+            throw new IllegalStateException(e);
+        }
+        byte[] bytes = new byte[encoder.count];
+        System.arraycopy(encoder.buffer, 0, bytes, 0, encoder.count);
+        return bytes;
+    }
+
+    static boolean requiresEscaping(String value) {
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char ch = value.charAt(i);
+            if (ch < ESCAPE_TRIGGERS.length && ESCAPE_TRIGGERS[ch]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Writes the buffered bytes to the stream and flushes it. The buffer is given back to the pool, and another one is
+     * taken if more content is written.
+     *
+     * @throws IOException if the bytes cannot be written
+     */
+    void flush() throws IOException {
+        if (this.buffer != null) {
+            writeBuffer();
+            BUFFER_POOL.set(this.buffer);
+            this.buffer = null;
+        }
+        this.out.flush();
+    }
+
+    private void ensureCapacity(int length) throws IOException {
+        if (this.buffer == null) {
+            this.buffer = BUFFER_POOL.get();
+            if (this.buffer == null) {
+                this.buffer = new byte[BUFFER_SIZE];
+            } else {
+                // a nested generator on the same thread allocates its own buffer while this one is in use
+                BUFFER_POOL.set(null);
+            }
+        }
+        if (this.count + length > this.buffer.length) {
+            writeBuffer();
+        }
+    }
+
+    private void writeBuffer() throws IOException {
+        if (this.count > 0) {
+            this.out.write(this.buffer, 0, this.count);
+            this.count = 0;
+        }
+    }
+}
@@ -35,9 +35,8 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.Stack;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
@@ -61,14 +60,18 @@ public class Scheduler {
     /**
      * Strands that are ready for execution.
      */
-    private BlockingQueue<ItemGroup> runnableList = new LinkedBlockingDeque<>();
+    private final RunQueue runnableList;
 
     private static final ThreadLocal<StrandHolder> strandHolder = ThreadLocal.withInitial(StrandHolder::new);
 
+    private final SchedulerStats stats = new SchedulerStats();
+
     private AtomicInteger totalStrands = new AtomicInteger();
 
     private static String poolSizeConf = System.getenv(RuntimeConstants.BALLERINA_MAX_POOL_SIZE_ENV_VAR);
 
+    private static String schedulerModeConf = System.getenv(RuntimeConstants.BALLERINA_SCHEDULER_MODE_ENV_VAR);
+
     /**
      * This can be changed by setting the BALLERINA_MAX_POOL_SIZE system variable.
      * Default is 100.
@@ -77,6 +80,11 @@ public class Scheduler {
 
     private static int poolSize = Runtime.getRuntime().availableProcessors() * 2;
 
+    /**
+     * Factory for virtual threads when the scheduler runs in the virtual thread mode, null otherwise.
+     */
+    private final ThreadFactory virtualThreadFactory;
+
     private Semaphore mainBlockSem;
     private ListenerRegistry listenerRegistry;
 
@@ -92,15 +100,58 @@ public class Scheduler {
         }
         this.numThreads = poolSize;
         this.immortal = immortal;
+        this.virtualThreadFactory = createVirtualThreadFactory(schedulerModeConf);
+        this.runnableList = createRunQueue(numThreads, schedulerModeConf);
         listenerRegistry = new ListenerRegistry();
     }
 
     public Scheduler(int numThreads, boolean immortal) {
+        this(numThreads, immortal, schedulerModeConf);
+    }
+
+    Scheduler(int numThreads, boolean immortal, String schedulerMode) {
         this.numThreads = numThreads;
         this.immortal = immortal;
+        this.virtualThreadFactory = createVirtualThreadFactory(schedulerMode);
+        this.runnableList = createRunQueue(numThreads, schedulerMode);
         listenerRegistry = new ListenerRegistry();
     }
 
+    private ThreadFactory createVirtualThreadFactory(String schedulerMode) {
+        if (!RuntimeConstants.SCHEDULER_MODE_VIRTUAL_THREADS.equalsIgnoreCase(schedulerMode)) {
+            return null;
+        }
+        ThreadFactory factory = VirtualThreads.createFactory("jbal-strand-vexec-");
+        if (factory == null) {
+            err.println("ballerina: virtual threads are not supported by the current JVM, " +
+                                "using the default scheduler mode");
+        }
+        return factory;
+    }
+
+    private RunQueue createRunQueue(int numThreads, String schedulerMode) {
+        if (schedulerMode == null ||
+                RuntimeConstants.SCHEDULER_MODE_SHARED_QUEUE.equalsIgnoreCase(schedulerMode) ||
+                RuntimeConstants.SCHEDULER_MODE_VIRTUAL_THREADS.equalsIgnoreCase(schedulerMode)) {
+            return new SharedRunQueue();
+        }
+        if (RuntimeConstants.SCHEDULER_MODE_WORK_STEALING.equalsIgnoreCase(schedulerMode)) {
+            return new WorkStealingRunQueue(numThreads);
+        }
+        err.println("ballerina: unknown scheduler mode '" + schedulerMode + "' in system variable:" +
+                            RuntimeConstants.BALLERINA_SCHEDULER_MODE_ENV_VAR + ", using the default mode");
+        return new SharedRunQueue();
+    }
+
+    /**
+     * Returns the runtime statistics collected by this scheduler.
+     *
+     * @return scheduler statistics
+     */
+    public SchedulerStats getStats() {
+        return stats;
+    }
+
     public static Strand getStrand() {
         Strand strand = strandHolder.get().strand;
         if (strand == null) {
@@ -147,10 +198,11 @@ public class Scheduler {
         SchedulerItem item = new SchedulerItem(fp.getFunction(), params, future);
         future.strand.schedulerItem = item;
         totalStrands.incrementAndGet();
+        strandScheduled(item);
         future.strand.strandGroup = parent.strandGroup;
         parent.strandGroup.add(item);
         if (parent.strandGroup.scheduled.compareAndSet(false, true)) {
-            runnableList.add(future.strand.strandGroup);
+            enqueue(future.strand.strandGroup);
         }
         return future;
     }
@@ -197,10 +249,11 @@ public class Scheduler {
         SchedulerItem item = new SchedulerItem(function, params, future);
         future.strand.schedulerItem = item;
         totalStrands.incrementAndGet();
+        strandScheduled(item);
         ItemGroup group = new ItemGroup(item);
         future.strand.strandGroup = group;
         group.scheduled.set(true);
-        runnableList.add(group);
+        enqueue(group);
         return future;
     }
 
@@ -223,19 +276,25 @@ public class Scheduler {
         SchedulerItem item = new SchedulerItem(consumer, params, future);
         future.strand.schedulerItem = item;
         totalStrands.incrementAndGet();
+        strandScheduled(item);
         ItemGroup group = new ItemGroup(item);
         future.strand.strandGroup = group;
         group.scheduled.set(true);
-        runnableList.add(group);
+        enqueue(group);
         return future;
     }
 
     public void start() {
+        if (virtualThreadFactory != null) {
+            dispatchToVirtualThreads();
+            return;
+        }
         this.mainBlockSem = new Semaphore(-(numThreads - 1));
         for (int i = 0; i < numThreads - 1; i++) {
-            new Thread(this::runSafely, "jbal-strand-exec-" + i).start();
+            final int workerId = i + 1;
+            new Thread(() -> runSafely(workerId), "jbal-strand-exec-" + i).start();
         }
-        this.runSafely();
+        this.runSafely(0);
         try {
             this.mainBlockSem.acquire();
         } catch (InterruptedException e) {
@@ -246,25 +305,69 @@ public class Scheduler {
     /**
      * Defensive programming to prevent unforeseen errors.
      */
-    private void runSafely() {
+    private void runSafely(int workerId) {
         try {
+            runnableList.registerWorker(workerId);
             run();
         } catch (Throwable t) {
             RuntimeUtils.printCrashLog(t);
         }
     }
 
+    /**
+     * Runs each group taken from the runnable list on a new virtual thread, so that a strand blocked on a
+     * blocking call (e.g. a blocking java interop call) does not hold up one of a fixed number of worker threads.
+     * <p>
+     * Each running group holds a permit of the main block semaphore. As in the default mode, where the worker
+     * threads finish their current group before they stop, this returns only after all the running groups are done.
+     */
+    private void dispatchToVirtualThreads() {
+        Semaphore runningGroups = new Semaphore(Integer.MAX_VALUE);
+        this.mainBlockSem = runningGroups;
+        while (true) {
+            ItemGroup group;
+            try {
+                group = runnableList.take();
+            } catch (InterruptedException ignored) {
+                continue;
+            }
+
+            if (group == POISON_PILL) {
+                runningGroups.acquireUninterruptibly(Integer.MAX_VALUE);
+                break;
+            }
+
+            stats.groupDequeued();
+            runningGroups.acquireUninterruptibly();
+            virtualThreadFactory.newThread(() -> runGroupSafely(group, runningGroups)).start();
+        }
+    }
+
+    private void runGroupSafely(ItemGroup group, Semaphore runningGroups) {
+        try {
+            runGroup(group);
+        } catch (Throwable t) {
+            RuntimeUtils.printCrashLog(t);
+        } finally {
+            runningGroups.release();
+        }
+    }
+
     /**
      * Executes tasks that are submitted to the Scheduler.
      */
     private void run() {
         while (true) {
-            SchedulerItem item;
             ItemGroup group;
+            long idleStart = stats.isTimingsEnabled() ? System.nanoTime() : 0;
             try {
                 group = runnableList.take();
             } catch (InterruptedException ignored) {
                 continue;
+            } finally {
+                if (idleStart != 0) {
+                    stats.workerIdle(System.nanoTime() - idleStart);
+                }
             }
 
             if (group == POISON_PILL) {
@@ -272,35 +375,51 @@ public class Scheduler {
                 break;
             }
 
-            while (!group.items.empty()) {
-                Object result = null;
-                Throwable panic = null;
+            stats.groupDequeued();
+            runGroup(group);
+        }
+    }
 
-                item = group.get();
+    /**
+     * Executes the items of the given group until the group has no runnable items left.
+     */
+    private void runGroup(ItemGroup group) {
+        SchedulerItem item;
+        while (!group.items.empty()) {
+            Object result = null;
+            Throwable panic = null;
 
-                try {
-                    strandHolder.get().strand = item.future.strand;
-                    result = item.execute();
-                } catch (Throwable e) {
-                    panic = createError(e);
-                    notifyChannels(item, panic);
+            item = group.get();
 
-                    if (!(panic instanceof BError)) {
-                        RuntimeUtils.printCrashLog(panic);
-                    }
-                    // Please refer #18763.
-                    // This logs cases where errors have occurred while strand is blocked.
-                    if (item.isYielded()) {
-                        RuntimeUtils.printCrashLog(panic);
-                    }
-                } finally {
-                    strandHolder.get().strand = null;
+            long startTime = stats.isTimingsEnabled() ? System.nanoTime() : 0;
+            if (startTime != 0) {
+                stats.itemStarted(item, startTime);
+            }
+            try {
+                strandHolder.get().strand = item.future.strand;
+                result = item.execute();
+            } catch (Throwable e) {
+                panic = createError(e);
+                notifyChannels(item, panic);
+
+                if (!(panic instanceof BError)) {
+                    RuntimeUtils.printCrashLog(panic);
+                }
+                // Please refer #18763.
+                // This logs cases where errors have occurred while strand is blocked.
+                if (item.isYielded()) {
+                    RuntimeUtils.printCrashLog(panic);
                 }
-                postProcess(item, result, panic);
-                if (group.items.empty()) {
-                    group.scheduled.set(false);
+            } finally {
+                strandHolder.get().strand = null;
+                if (startTime != 0) {
+                    stats.workerBusy(System.nanoTime() - startTime);
                 }
             }
+            postProcess(item, result, panic);
+            if (group.items.empty()) {
+                group.scheduled.set(false);
+            }
         }
     }
 
@@ -310,6 +429,7 @@ public class Scheduler {
     private void postProcess(SchedulerItem item, Object result, Throwable panic) {
         switch (item.getState()) {
             case BLOCK_AND_YIELD:
+                strandYielded(item);
                 item.future.strand.lock();
                 // need to recheck due to concurrency, unblockStrand() may have changed state
                 if (item.getState().getStatus() == State.YIELD.getStatus()) {
@@ -318,9 +438,11 @@ public class Scheduler {
                     break;
                 }
                 item.parked = true;
+                stats.strandParked();
                 item.future.strand.unlock();
                 break;
             case BLOCK_ON_AND_YIELD:
+                strandYielded(item);
                 WaitContext waitContext = item.future.strand.waitContext;
                 waitContext.lock();
                 waitContext.intermediate = false;
@@ -331,6 +453,7 @@ public class Scheduler {
                 waitContext.unLock();
                 break;
             case YIELD:
+                strandYielded(item);
                 reschedule(item);
                 break;
             case RUNNABLE:
@@ -363,6 +486,7 @@ public class Scheduler {
                                 ctx.runnable = true;
                             } else {
                                 ctx.completed = true;
+                                stats.waitContextWokenUp();
                                 reschedule(ctx.schedulerItem);
                             }
                         }
@@ -371,15 +495,15 @@ public class Scheduler {
                 }
 
                 cleanUp(justCompleted);
+                stats.strandCompleted(item);
 
                 int strandsLeft = totalStrands.decrementAndGet();
-                if (strandsLeft == 0) {
-                    // (number of started stands - finished stands) = 0, all the work is done
+                if (strandsLeft == 0 && !immortal) {
+                    // (number of started stands - finished stands) = 0, all the work is done. An immortal
+                    // scheduler may get new strands from other threads at any time, hence the queue is only
+                    // known to be empty here when the scheduler is about to stop.
                     assert runnableList.size() == 0;
-
-                    if (!immortal) {
-                        poison();
-                    }
+                    poison();
                 }
                 break;
             default:
@@ -404,6 +528,7 @@ public class Scheduler {
         strand.lock();
         if (strand.schedulerItem.parked) {
             strand.schedulerItem.parked = false;
+            stats.strandUnparked();
             reschedule(strand.schedulerItem);
         } else {
             // item not returned to scheduler, yet.
@@ -444,6 +569,9 @@ public class Scheduler {
         if (!item.getState().equals(State.RUNNABLE)) {
             ItemGroup group = item.future.strand.strandGroup;
             item.setState(State.RUNNABLE);
+            if (stats.isTimingsEnabled()) {
+                item.enqueuedAt = System.nanoTime();
+            }
             group.add(item);
 
             // Group maybe not picked by any thread at the moment because,
@@ -451,11 +579,29 @@ public class Scheduler {
             //  2) All others have finished
             // In this case we need to put it back in the runnable list.
             if (group.scheduled.compareAndSet(false, true)) {
-                runnableList.add(group);
+                enqueue(group);
             }
         }
     }
 
+    private void enqueue(ItemGroup group) {
+        stats.groupQueued();
+        runnableList.add(group);
+    }
+
+    private void strandScheduled(SchedulerItem item) {
+        stats.strandScheduled();
+        if (stats.isTimingsEnabled()) {
+            item.createdAt = System.nanoTime();
+            item.enqueuedAt = item.createdAt;
+        }
+    }
+
+    private void strandYielded(SchedulerItem item) {
+        item.yieldCount++;
+        stats.strandYielded();
+    }
+
     public FutureValue createFuture(Strand parent, Callback callback, Map<String, Object> properties,
                                     Type constraint, String name, StrandMetadata metadata) {
         Strand newStrand = new Strand(name, metadata, this, parent, properties);
@@ -469,7 +615,10 @@ public class Scheduler {
     }
 
     public void poison() {
-        for (int i = 0; i < numThreads; i++) {
+        // In the virtual thread mode a single dispatcher takes from the runnable list, and a pill left behind
+        // would stop the next start() of this scheduler before it runs anything
+        int consumers = virtualThreadFactory != null ? 1 : numThreads;
+        for (int i = 0; i < consumers; i++) {
             runnableList.add(POISON_PILL);
         }
     }
@@ -525,6 +674,9 @@ class SchedulerItem {
     private Object[] params;
     final FutureValue future;
     boolean parked;
+    long createdAt;
+    long enqueuedAt;
+    int yieldCount;
 
     public SchedulerItem(Function function, Object[] params, FutureValue future) {
         this.future = future;
@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import io.ballerina.runtime.observability.metrics.Counter;
+import io.ballerina.runtime.observability.metrics.DefaultMetricRegistry;
+import io.ballerina.runtime.observability.metrics.Gauge;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.StatisticConfig;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runtime statistics of a {@link Scheduler}.
+ * <p>
+ * Event counts of each scheduler are always collected using striped counters. Once {@link #enableMetrics(String)}
+ * has been called, i.e. when metrics are enabled, the schedulers created afterwards also report to the default
+ * metric registry and collect timings, which need a clock read per event. The registered metrics are shared by all
+ * those schedulers, hence they report the totals of the process.
+ *
+ * @since 2.0.0
+ */
+public class SchedulerStats {
+
+    private static volatile String metricsPrefix;
+
+    private final LongAdder queuedGroups = new LongAdder();
+    private final LongAdder activeStrands = new LongAdder();
+    private final LongAdder completedStrands = new LongAdder();
+    private final LongAdder yields = new LongAdder();
+    private final LongAdder parks = new LongAdder();
+    private final LongAdder unparks = new LongAdder();
+    private final LongAdder waitContextWakeups = new LongAdder();
+
+    /**
+     * Metrics in the default metric registry, or null if metrics were not enabled when the scheduler was created.
+     */
+    private final Metrics metrics;
+
+    SchedulerStats() {
+        this(metricsPrefix);
+    }
+
+    SchedulerStats(String metricsPrefix) {
+        this.metrics = metricsPrefix == null ? null :
+                new Metrics(metricsPrefix, DefaultMetricRegistry.getInstance());
+    }
+
+    SchedulerStats(String metricsPrefix, MetricRegistry registry) {
+        this.metrics = new Metrics(metricsPrefix, registry);
+    }
+
+    /**
+     * Makes the schedulers created after this call report their statistics to the default metric registry.
+     *
+     * @param prefix prefix for the metric names
+     */
+    public static void enableMetrics(String prefix) {
+        metricsPrefix = prefix;
+    }
+
+    /**
+     * @return number of strand groups waiting in the run queue
+     */
+    public long getRunQueueDepth() {
+        return queuedGroups.sum();
+    }
+
+    /**
+     * @return number of strands that are scheduled and not yet completed
+     */
+    public long getActiveStrands() {
+        return activeStrands.sum();
+    }
+
+    /**
+     * @return number of strands completed
+     */
+    public long getCompletedStrands() {
+        return completedStrands.sum();
+    }
+
+    /**
+     * @return number of times strands yielded back to the scheduler
+     */
+    public long getYields() {
+        return yields.sum();
+    }
+
+    /**
+     * @return number of times strands were parked
+     */
+    public long getParks() {
+        return parks.sum();
+    }
+
+    /**
+     * @return number of times parked strands were unblocked
+     */
+    public long getUnparks() {
+        return unparks.sum();
+    }
+
+    /**
+     * @return number of strands woken up by a completed wait
+     */
+    public long getWaitContextWakeups() {
+        return waitContextWakeups.sum();
+    }
+
+    boolean isTimingsEnabled() {
+        return metrics != null;
+    }
+
+    void groupQueued() {
+        queuedGroups.increment();
+        if (metrics != null) {
+            metrics.runQueueDepth.increment();
+        }
+    }
+
+    void groupDequeued() {
+        queuedGroups.decrement();
+        if (metrics != null) {
+            metrics.runQueueDepth.decrement();
+        }
+    }
+
+    void strandScheduled() {
+        activeStrands.increment();
+        if (metrics != null) {
+            metrics.activeStrands.increment();
+        }
+    }
+
+    void strandYielded() {
+        yields.increment();
+        if (metrics != null) {
+            metrics.yields.increment();
+        }
+    }
+
+    void strandParked() {
+        parks.increment();
+        if (metrics != null) {
+            metrics.parks.increment();
+        }
+    }
+
+    void strandUnparked() {
+        unparks.increment();
+        if (metrics != null) {
+            metrics.unparks.increment();
+        }
+    }
+
+    void waitContextWokenUp() {
+        waitContextWakeups.increment();
+        if (metrics != null) {
+            metrics.waitContextWakeups.increment();
+        }
+    }
+
+    void workerBusy(long nanos) {
+        if (metrics != null) {
+            metrics.busyTime.increment(nanos);
+        }
+    }
+
+    void workerIdle(long nanos) {
+        if (metrics != null) {
+            metrics.idleTime.increment(nanos);
+        }
+    }
+
+    void itemStarted(SchedulerItem item, long now) {
+        if (metrics != null && item.enqueuedAt != 0) {
+            metrics.queueingDelay.setValue(toMillis(now - item.enqueuedAt));
+            item.enqueuedAt = 0;
+        }
+    }
+
+    void strandCompleted(SchedulerItem item) {
+        activeStrands.decrement();
+        completedStrands.increment();
+        if (metrics == null) {
+            return;
+        }
+        metrics.activeStrands.decrement();
+        metrics.completedStrands.increment();
+        if (item.createdAt != 0) {
+            metrics.strandRunTime.setValue(toMillis(System.nanoTime() - item.createdAt));
+            metrics.yieldsPerStrand.setValue(item.yieldCount);
+        }
+    }
+
+    private static double toMillis(long nanos) {
+        return (double) nanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * Scheduler metrics in a metric registry. Monotonic totals are counters, so that rates can be derived
+     * from them, and values which go up and down are gauges.
+     */
+    private static class Metrics {
+
+        private final Gauge runQueueDepth;
+        private final Gauge activeStrands;
+        private final Counter completedStrands;
+        private final Counter yields;
+        private final Counter parks;
+        private final Counter unparks;
+        private final Counter waitContextWakeups;
+        private final Counter busyTime;
+        private final Counter idleTime;
+        private final Gauge queueingDelay;
+        private final Gauge strandRunTime;
+        private final Gauge yieldsPerStrand;
+
+        private Metrics(String prefix, MetricRegistry registry) {
+            runQueueDepth = Gauge.builder(prefix + "run_queue_depth")
+                    .description("Number of strand groups waiting in the run queue").register(registry);
+            activeStrands = Gauge.builder(prefix + "active_strands")
+                    .description("Number of strands that are scheduled and not yet completed").register(registry);
+            completedStrands = Counter.builder(prefix + "completed_strands_total")
+                    .description("Number of strands completed").register(registry);
+            yields = Counter.builder(prefix + "yields_total")
+                    .description("Number of times strands yielded back to the scheduler").register(registry);
+            parks = Counter.builder(prefix + "parks_total")
+                    .description("Number of times strands were parked").register(registry);
+            unparks = Counter.builder(prefix + "unparks_total")
+                    .description("Number of times parked strands were unblocked").register(registry);
+            waitContextWakeups = Counter.builder(prefix + "wait_context_wakeups_total")
+                    .description("Number of strands woken up by a completed wait").register(registry);
+            busyTime = Counter.builder(prefix + "worker_busy_time_nanoseconds_total")
+                    .description("Total time worker threads spent executing strands").register(registry);
+            idleTime = Counter.builder(prefix + "worker_idle_time_nanoseconds_total")
+                    .description("Total time worker threads spent waiting for runnable strands").register(registry);
+            queueingDelay = Gauge.builder(prefix + "strand_queueing_delay_milliseconds")
+                    .description("Time a runnable strand waits in the run queue")
+                    .summarize(StatisticConfig.DEFAULT).register(registry);
+            strandRunTime = Gauge.builder(prefix + "strand_run_time_milliseconds")
+                    .description("Time from scheduling a strand until its completion")
+                    .summarize(StatisticConfig.DEFAULT).register(registry);
+            yieldsPerStrand = Gauge.builder(prefix + "strand_yields")
+                    .description("Number of yields of a strand during its lifetime")
+                    .summarize(StatisticConfig.DEFAULT).register(registry);
+        }
+    }
+}
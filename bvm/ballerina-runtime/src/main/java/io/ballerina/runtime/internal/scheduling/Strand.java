@@ -21,6 +21,8 @@ import io.ballerina.runtime.api.PredefinedTypes;
 import io.ballerina.runtime.api.async.StrandMetadata;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.internal.BLock;
+import io.ballerina.runtime.internal.BLockStore;
 import io.ballerina.runtime.internal.TypeChecker;
 import io.ballerina.runtime.internal.values.ChannelDetails;
 import io.ballerina.runtime.internal.values.ErrorValue;
@@ -28,6 +30,7 @@ import io.ballerina.runtime.internal.values.FutureValue;
 import io.ballerina.runtime.internal.values.MapValue;
 import io.ballerina.runtime.transactions.TransactionLocalContext;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -82,6 +85,7 @@ public class Strand {
     public Stack<TransactionLocalContext> trxContexts;
     private State state;
     private final ReentrantLock strandLock;
+    private ArrayDeque<BLock> acquiredLocks;
 
     public Strand(String name, StrandMetadata metadata, Scheduler scheduler, Strand parent,
                   Map<String, Object> properties) {
@@ -138,6 +142,45 @@ public class Strand {
         this.globalProps.put(key, value);
     }
 
+    /**
+     * Records a lock acquired by this strand.
+     *
+     * @param lock acquired lock
+     */
+    public void lockAcquired(BLock lock) {
+        if (this.acquiredLocks == null) {
+            this.acquiredLocks = new ArrayDeque<>();
+        }
+        this.acquiredLocks.offerLast(lock);
+    }
+
+    /**
+     * Records a lock released by this strand. Locks are usually released in the reverse order of acquisition.
+     *
+     * @param lock released lock
+     */
+    public void lockReleased(BLock lock) {
+        this.acquiredLocks.removeLastOccurrence(lock);
+    }
+
+    /**
+     * Checks whether this strand holds any of the locks of the given lock store.
+     *
+     * @param lockStore lock store of a module
+     * @return true if this strand holds a lock of the lock store
+     */
+    public boolean isInLock(BLockStore lockStore) {
+        if (this.acquiredLocks == null || this.acquiredLocks.isEmpty()) {
+            return false;
+        }
+        for (BLock lock : this.acquiredLocks) {
+            if (lock.getLockStore() == lockStore) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     public boolean isInTransaction() {
         return this.currentTrxContext != null && this.currentTrxContext.isTransactional();
     }
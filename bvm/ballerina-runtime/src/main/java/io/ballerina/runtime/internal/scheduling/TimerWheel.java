@@ -0,0 +1,298 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import io.ballerina.runtime.api.async.Timeout;
+
+import java.io.PrintStream;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Runtime wide hierarchical timer wheel, which runs short tasks, such as resuming a sleeping strand, after a delay.
+ * <p>
+ * Time advances in ticks of a millisecond. A timeout is placed in one of the {@link #WHEEL_SIZE} buckets of the
+ * finest wheel which spans its deadline, and the buckets of a coarser wheel are cascaded into the finer wheels as the
+ * time reaches them, so scheduling, cancelling and expiring a timeout is done in constant time irrespective of the
+ * number of pending timeouts. The wheels are only accessed by the timer thread; other threads hand new and cancelled
+ * timeouts over through lock-free queues.
+ * <p>
+ * The tasks are run on the timer thread, and should only hand over work to other threads.
+ *
+ * @since 2.0.0
+ */
+public class TimerWheel {
+
+    private static final PrintStream ERR = System.err;
+    private static final int WHEEL_BITS = 8;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+    private static final int WHEEL_COUNT = 4;
+    private static final long TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private static final TimerWheel INSTANCE = new TimerWheel();
+
+    static {
+        INSTANCE.start();
+    }
+
+    private final TimerTask[][] wheels = new TimerTask[WHEEL_COUNT][WHEEL_SIZE];
+    private final ConcurrentLinkedQueue<TimerTask> added = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<TimerTask> cancelled = new ConcurrentLinkedQueue<>();
+    private final long startTime = System.nanoTime();
+    private volatile Thread thread;
+    private long currentTick;
+    private int pendingCount;
+    private volatile boolean idle;
+
+    /**
+     * Creates a timer wheel without a timer thread. Time advances only when {@link #advance(long)} is called, until
+     * the wheel is started.
+     */
+    TimerWheel() {
+        for (TimerTask[] wheel : wheels) {
+            for (int i = 0; i < WHEEL_SIZE; i++) {
+                wheel[i] = TimerTask.sentinel();
+            }
+        }
+    }
+
+    public static TimerWheel getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Schedules a task to be run once after a delay.
+     *
+     * @param task  short task to be run on the timer thread
+     * @param delay delay after which the task is run
+     * @param unit  unit of the delay
+     * @return the timeout of the task, which can be cancelled
+     */
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        long deadline = System.nanoTime() + Math.max(0, unit.toNanos(delay));
+        TimerTask timerTask = new TimerTask(this, task, deadline);
+        added.add(timerTask);
+        if (idle) {
+            LockSupport.unpark(thread);
+        }
+        return timerTask;
+    }
+
+    /**
+     * Starts the timer thread, which advances the time of the wheel from then on.
+     */
+    void start() {
+        Thread timerThread = new Thread(this::run, "ballerina-timer");
+        timerThread.setDaemon(true);
+        thread = timerThread;
+        timerThread.start();
+    }
+
+    /**
+     * Takes over the scheduled and cancelled timeouts, and expires the timeouts whose deadlines are not after the
+     * given time. Must only be called by a single thread, which is the timer thread once the wheel is started.
+     *
+     * @param now current value of {@link System#nanoTime()}
+     */
+    void advance(long now) {
+        long nowTick = (now - startTime) / TICK_NANOS;
+        transferCancelled();
+        transferAdded();
+        while (currentTick < nowTick) {
+            currentTick++;
+            cascade();
+            expire(wheels[0][(int) (currentTick & WHEEL_MASK)]);
+        }
+    }
+
+    /**
+     * @return number of timeouts in the wheel, which are neither expired nor cancelled
+     */
+    int pendingCount() {
+        return pendingCount;
+    }
+
+    private void run() {
+        while (true) {
+            try {
+                advance(System.nanoTime());
+                if (pendingCount == 0) {
+                    idle = true;
+                    if (added.isEmpty()) {
+                        LockSupport.park(this);
+                    }
+                    idle = false;
+                    // the ticks passed while idle have no timeouts, so there is no need to walk through them
+                    currentTick = Math.max(currentTick, (System.nanoTime() - startTime) / TICK_NANOS);
+                } else {
+                    LockSupport.parkNanos(this, startTime + (currentTick + 1) * TICK_NANOS - System.nanoTime());
+                }
+            } catch (Throwable t) {
+                ERR.println("ballerina: error in the timer thread: " + t);
+            }
+        }
+    }
+
+    private void transferAdded() {
+        TimerTask task;
+        while ((task = added.poll()) != null) {
+            if (task.isPending()) {
+                // the bucket of the current tick has been expired already
+                place(task, currentTick + 1);
+                pendingCount++;
+            }
+        }
+    }
+
+    private void transferCancelled() {
+        TimerTask task;
+        while ((task = cancelled.poll()) != null) {
+            if (task.next != null) {
+                task.unlink();
+                pendingCount--;
+            }
+        }
+    }
+
+    /**
+     * Moves the timeouts of the buckets of the coarser wheels, which the current tick has reached, to finer wheels.
+     */
+    private void cascade() {
+        for (int level = 1; level < WHEEL_COUNT; level++) {
+            if ((currentTick & ((1L << (level * WHEEL_BITS)) - 1)) != 0) {
+                return;
+            }
+            TimerTask sentinel = wheels[level][(int) ((currentTick >>> (level * WHEEL_BITS)) & WHEEL_MASK)];
+            TimerTask task = sentinel.next;
+            sentinel.next = sentinel;
+            sentinel.prev = sentinel;
+            while (task != sentinel) {
+                TimerTask next = task.next;
+                task.next = null;
+                task.prev = null;
+                place(task, currentTick);
+                task = next;
+            }
+        }
+    }
+
+    private void expire(TimerTask sentinel) {
+        TimerTask task = sentinel.next;
+        while (task != sentinel) {
+            TimerTask next = task.next;
+            task.unlink();
+            pendingCount--;
+            task.expire();
+            task = next;
+        }
+    }
+
+    private void place(TimerTask task, long minTick) {
+        long deadlineTick = Math.max((task.deadline - startTime + TICK_NANOS - 1) / TICK_NANOS, minTick);
+        long ticks = deadlineTick - currentTick;
+        int level = 0;
+        while (level < WHEEL_COUNT - 1 && ticks >= (1L << ((level + 1) * WHEEL_BITS))) {
+            level++;
+        }
+        if (ticks >= (1L << (WHEEL_COUNT * WHEEL_BITS))) {
+            // beyond the span of the wheels, wait in the last bucket of the coarsest wheel and be placed again later
+            deadlineTick = currentTick + (1L << (WHEEL_COUNT * WHEEL_BITS)) - 1;
+        }
+        TimerTask sentinel = wheels[level][(int) ((deadlineTick >>> (level * WHEEL_BITS)) & WHEEL_MASK)];
+        task.linkBefore(sentinel);
+    }
+
+    /**
+     * A scheduled task, linked into a bucket of a wheel.
+     */
+    private static class TimerTask implements Timeout {
+
+        private static final int PENDING = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        private final TimerWheel timerWheel;
+        private final Runnable task;
+        private final long deadline;
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+        private TimerTask prev;
+        private TimerTask next;
+
+        private TimerTask(TimerWheel timerWheel, Runnable task, long deadline) {
+            this.timerWheel = timerWheel;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        private static TimerTask sentinel() {
+            TimerTask sentinel = new TimerTask(null, null, 0);
+            sentinel.prev = sentinel;
+            sentinel.next = sentinel;
+            return sentinel;
+        }
+
+        @Override
+        public boolean cancel() {
+            if (state.compareAndSet(PENDING, CANCELLED)) {
+                timerWheel.cancelled.add(this);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return state.get() == CANCELLED;
+        }
+
+        @Override
+        public boolean isExpired() {
+            return state.get() == EXPIRED;
+        }
+
+        private boolean isPending() {
+            return state.get() == PENDING;
+        }
+
+        private void expire() {
+            if (state.compareAndSet(PENDING, EXPIRED)) {
+                try {
+                    task.run();
+                } catch (Throwable t) {
+                    ERR.println("ballerina: error in a timer task: " + t);
+                }
+            }
+        }
+
+        private void linkBefore(TimerTask sentinel) {
+            prev = sentinel.prev;
+            next = sentinel;
+            sentinel.prev.next = this;
+            sentinel.prev = this;
+        }
+
+        private void unlink() {
+            prev.next = next;
+            next.prev = prev;
+            prev = null;
+            next = null;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static io.ballerina.runtime.internal.scheduling.ItemGroup.POISON_PILL;
+
+/**
+ * {@link RunQueue} that keeps a deque per worker thread.
+ * <p>
+ * Groups scheduled from a worker thread are pushed to the head of that worker's deque and popped from the head
+ * again (LIFO), so that strands spawned by a strand tend to run on the same thread. Idle workers steal from the
+ * tail of other workers' deques (FIFO). Groups scheduled from non-worker threads (e.g. network callbacks, timers)
+ * go to a global injection queue. Idle workers park individually, and each added group unparks one of them.
+ *
+ * @since 2.0.0
+ */
+class WorkStealingRunQueue implements RunQueue {
+
+    private static final long PARK_TIMEOUT_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final List<ConcurrentLinkedDeque<ItemGroup>> localQueues;
+    private final ConcurrentLinkedQueue<ItemGroup> globalQueue = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<Thread> idleWorkers = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<Integer> workerId = new ThreadLocal<>();
+
+    WorkStealingRunQueue(int numWorkers) {
+        this.localQueues = new ArrayList<>(numWorkers);
+        for (int i = 0; i < numWorkers; i++) {
+            localQueues.add(new ConcurrentLinkedDeque<>());
+        }
+    }
+
+    @Override
+    public void registerWorker(int workerId) {
+        this.workerId.set(workerId);
+    }
+
+    @Override
+    public void add(ItemGroup group) {
+        Integer id = workerId.get();
+        if (id == null || group == POISON_PILL) {
+            globalQueue.add(group);
+        } else {
+            localQueues.get(id).addFirst(group);
+        }
+        signalIdleWorker();
+    }
+
+    @Override
+    public ItemGroup take() throws InterruptedException {
+        Integer id = workerId.get();
+        int self = id == null ? -1 : id;
+        while (true) {
+            ItemGroup group = poll(self);
+            if (group != null) {
+                return group;
+            }
+
+            // Register as idle before the re-check, so that a producer either unparks this worker or this worker
+            // sees the newly added group. An unpark which comes before the park makes the park return at once.
+            Thread current = Thread.currentThread();
+            idleWorkers.add(current);
+            group = poll(self);
+            if (group != null) {
+                if (!idleWorkers.remove(current)) {
+                    // A producer unparked this worker for a group which it did not take, hence pass the wake-up on
+                    signalIdleWorker();
+                }
+                return group;
+            }
+            LockSupport.parkNanos(this, PARK_TIMEOUT_NANOS);
+            idleWorkers.remove(current);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        int size = globalQueue.size();
+        for (ConcurrentLinkedDeque<ItemGroup> localQueue : localQueues) {
+            size += localQueue.size();
+        }
+        return size;
+    }
+
+    private ItemGroup poll(int self) {
+        ItemGroup group;
+        if (self >= 0) {
+            group = localQueues.get(self).pollFirst();
+            if (group != null) {
+                return group;
+            }
+        }
+
+        group = globalQueue.poll();
+        if (group != null) {
+            return group;
+        }
+
+        return steal(self);
+    }
+
+    private ItemGroup steal(int self) {
+        int numWorkers = localQueues.size();
+        int start = self < 0 ? 0 : self + 1;
+        for (int i = 0; i < numWorkers; i++) {
+            int victim = (start + i) % numWorkers;
+            if (victim == self) {
+                continue;
+            }
+            ItemGroup group = localQueues.get(victim).pollLast();
+            if (group != null) {
+                return group;
+            }
+        }
+        return null;
+    }
+
+    private void signalIdleWorker() {
+        Thread idleWorker = idleWorkers.poll();
+        if (idleWorker != null) {
+            LockSupport.unpark(idleWorker);
+        }
+    }
+}
@@ -35,6 +35,7 @@ import io.ballerina.runtime.internal.values.ReadOnlyUtils;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * {@code BRecordType} represents a user defined record type in Ballerina.
@@ -48,6 +49,7 @@ public class BRecordType extends BStructureType implements RecordType {
     public int typeFlags;
     private final boolean readonly;
     private IntersectionType immutableType;
+    private volatile Map<String, byte[]> encodedFieldNames;
 
     /**
      * Create a {@code BRecordType} which represents the user defined record type.
@@ -170,4 +172,20 @@ public class BRecordType extends BStructureType implements RecordType {
     public int getTypeFlags() {
         return typeFlags;
     }
+
+    /**
+     * Provides the cache of the field names of this type, encoded as JSON member names by the JSON generator. Only
+     * the declared fields are cached, since the names of rest fields are not bounded.
+     *
+     * @return map of field names to their encoded bytes
+     */
+    public Map<String, byte[]> getEncodedFieldNames() {
+        Map<String, byte[]> fieldNames = this.encodedFieldNames;
+        if (fieldNames == null) {
+            // a map created concurrently by another thread is only a duplicate of the same entries
+            fieldNames = new ConcurrentHashMap<>();
+            this.encodedFieldNames = fieldNames;
+        }
+        return fieldNames;
+    }
 }
@@ -220,6 +220,47 @@ public class ArrayValueImpl extends AbstractArrayValue {
         }
     }
 
+    /**
+     * Sorts the members of an array of a basic simple type or string in place, in the order of lang.array:sort.
+     *
+     * @param ascending whether to sort in the ascending order
+     * @return false if the members are not held in a primitive backing array, in which case the array is unchanged
+     */
+    public boolean sortValues(boolean ascending) {
+        if (elementType == null || refValues != null) {
+            return false;
+        }
+        if (size > 0) {
+            handleImmutableArrayValue();
+        }
+        switch (elementType.getTag()) {
+            case TypeTags.INT_TAG:
+            case TypeTags.SIGNED32_INT_TAG:
+            case TypeTags.SIGNED16_INT_TAG:
+            case TypeTags.SIGNED8_INT_TAG:
+            case TypeTags.UNSIGNED32_INT_TAG:
+            case TypeTags.UNSIGNED16_INT_TAG:
+            case TypeTags.UNSIGNED8_INT_TAG:
+                PrimitiveArraySort.sort(intValues, size, ascending);
+                return true;
+            case TypeTags.STRING_TAG:
+            case TypeTags.CHAR_STRING_TAG:
+                PrimitiveArraySort.sort(bStringValues, size, ascending);
+                return true;
+            case TypeTags.FLOAT_TAG:
+                PrimitiveArraySort.sort(floatValues, size, ascending);
+                return true;
+            case TypeTags.BOOLEAN_TAG:
+                PrimitiveArraySort.sort(booleanValues, size, ascending);
+                return true;
+            case TypeTags.BYTE_TAG:
+                PrimitiveArraySort.sort(byteValues, size, ascending);
+                return true;
+            default:
+                return false;
+        }
+    }
+
     public ArrayValueImpl(ArrayType type, long size) {
         this.arrayType = type;
         this.elementType = type.getElementType();
@@ -889,9 +930,7 @@ public class ArrayValueImpl extends AbstractArrayValue {
     public void serialize(OutputStream outputStream) {
         if (this.elementType.getTag() == TypeTags.BYTE_TAG) {
             try {
-                for (int i = 0; i < this.size; i++) {
-                    outputStream.write(this.byteValues[i]);
-                }
+                outputStream.write(this.byteValues, 0, this.size);
             } catch (IOException e) {
                 throw new BallerinaException("error occurred while writing the binary content to the output stream", e);
             }
@@ -70,17 +70,30 @@
 
     @Override
     public BString concat(BString str) {
+        if (value.length() + str.length() >= RopeStringValue.MIN_ROPE_LENGTH) {
+            return RopeStringValue.concat(this, str);
+        }
         if (str instanceof NonBmpStringValue) {
             NonBmpStringValue other = (NonBmpStringValue) str;
-            int[] both = Arrays.copyOf(surrogates, surrogates.length + other.surrogates.length);
-            System.arraycopy(other.surrogates, 0, both, surrogates.length, other.surrogates.length);
-            return new NonBmpStringValue(this.value + other.value, both);
+            return new NonBmpStringValue(this.value + other.value, concatSurrogates(surrogates, length(), other));
         } else if (str instanceof BmpStringValue) {
             BmpStringValue other = (BmpStringValue) str;
             return new NonBmpStringValue(this.value + other.getValue(), surrogates);
         } else {
-            throw new RuntimeException("not impl yet");
+            return StringUtils.fromString(this.value + str.getValue());
+        }
+    }
+
+    /**
+     * Returns the surrogate pair locations of a string followed by the given string, where the first string has the
+     * given surrogate pair locations and length.
+     */
+    static int[] concatSurrogates(int[] surrogates, int length, NonBmpStringValue other) {
+        int[] both = Arrays.copyOf(surrogates, surrogates.length + other.surrogates.length);
+        for (int i = 0; i < other.surrogates.length; i++) {
+            both[surrogates.length + i] = other.surrogates[i] + length;
         }
+        return both;
     }
 
      @Override
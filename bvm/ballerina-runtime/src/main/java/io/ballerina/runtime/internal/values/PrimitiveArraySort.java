@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * In place sorting of the primitive backing arrays of {@link ArrayValueImpl}, with the ordering of
+ * lang.array:sort.
+ * <p>
+ * Arrays with at least {@link #PARALLEL_SORT_THRESHOLD} members are sorted with the fork/join based
+ * {@link Arrays#parallelSort}. The sort of {@code string} values is stable, and so is the placement of
+ * {@code -0.0} and {@code 0.0}, which are equal in the ordering.
+ *
+ * @since 2.0.0
+ */
+class PrimitiveArraySort {
+
+    static final int PARALLEL_SORT_THRESHOLD = 1 << 16;
+
+    private static final Comparator<BString> CODE_POINT_ORDER = (s1, s2) -> {
+        String str1 = s1.getValue();
+        String str2 = s2.getValue();
+        int i = 0;
+        int j = 0;
+        while (i < str1.length() && j < str2.length()) {
+            int codePoint1 = str1.codePointAt(i);
+            int codePoint2 = str2.codePointAt(j);
+            if (codePoint1 != codePoint2) {
+                return Integer.compare(codePoint1, codePoint2);
+            }
+            i += Character.charCount(codePoint1);
+            j += Character.charCount(codePoint2);
+        }
+        return Boolean.compare(i < str1.length(), j < str2.length());
+    };
+
+    private PrimitiveArraySort() {
+    }
+
+    static void sort(long[] values, int size, boolean ascending) {
+        if (size < PARALLEL_SORT_THRESHOLD) {
+            Arrays.sort(values, 0, size);
+        } else {
+            Arrays.parallelSort(values, 0, size);
+        }
+        if (!ascending) {
+            reverse(values, 0, size);
+        }
+    }
+
+    /**
+     * Sorts float values. NaN is placed last irrespective of the sort direction.
+     */
+    static void sort(double[] values, int size, boolean ascending) {
+        // Arrays.sort orders -0.0 before 0.0, remember the original order of the zeros to restore it
+        double[] zeros = null;
+        int zeroCount = 0;
+        boolean hasNegativeZero = false;
+        for (int i = 0; i < size; i++) {
+            if (values[i] == 0) {
+                zeroCount++;
+                hasNegativeZero |= Double.doubleToRawLongBits(values[i]) != 0;
+            }
+        }
+        if (hasNegativeZero) {
+            zeros = new double[zeroCount];
+            for (int i = 0, j = 0; i < size; i++) {
+                if (values[i] == 0) {
+                    zeros[j++] = values[i];
+                }
+            }
+        }
+
+        if (size < PARALLEL_SORT_THRESHOLD) {
+            Arrays.sort(values, 0, size);
+        } else {
+            Arrays.parallelSort(values, 0, size);
+        }
+        int end = size;
+        while (end > 0 && Double.isNaN(values[end - 1])) {
+            end--;
+        }
+        if (!ascending) {
+            reverse(values, 0, end);
+        }
+
+        if (zeros != null) {
+            int start = 0;
+            while (values[start] != 0) {
+                start++;
+            }
+            System.arraycopy(zeros, 0, values, start, zeroCount);
+        }
+    }
+
+    /**
+     * Sorts byte values, which are unsigned, by counting the occurrences of each value.
+     */
+    static void sort(byte[] values, int size, boolean ascending) {
+        int[] counts = new int[256];
+        for (int i = 0; i < size; i++) {
+            counts[values[i] & 0xFF]++;
+        }
+        int index = 0;
+        for (int i = 0; i < counts.length; i++) {
+            int value = ascending ? i : counts.length - 1 - i;
+            Arrays.fill(values, index, index + counts[value], (byte) value);
+            index += counts[value];
+        }
+    }
+
+    static void sort(boolean[] values, int size, boolean ascending) {
+        int falseCount = 0;
+        for (int i = 0; i < size; i++) {
+            if (!values[i]) {
+                falseCount++;
+            }
+        }
+        if (ascending) {
+            Arrays.fill(values, 0, falseCount, false);
+            Arrays.fill(values, falseCount, size, true);
+        } else {
+            Arrays.fill(values, 0, size - falseCount, true);
+            Arrays.fill(values, size - falseCount, size, false);
+        }
+    }
+
+    static void sort(BString[] values, int size, boolean ascending) {
+        Comparator<BString> comparator = ascending ? CODE_POINT_ORDER : CODE_POINT_ORDER.reversed();
+        if (size < PARALLEL_SORT_THRESHOLD) {
+            Arrays.sort(values, 0, size, comparator);
+        } else {
+            Arrays.parallelSort(values, 0, size, comparator);
+        }
+    }
+
+    private static void reverse(long[] values, int from, int to) {
+        for (int i = from, j = to - 1; i < j; i++, j--) {
+            long temp = values[i];
+            values[i] = values[j];
+            values[j] = temp;
+        }
+    }
+
+    private static void reverse(double[] values, int from, int to) {
+        for (int i = from, j = to - 1; i < j; i++, j--) {
+            double temp = values[i];
+            values[i] = values[j];
+            values[j] = temp;
+        }
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BLink;
+import io.ballerina.runtime.api.values.BString;
+
+/**
+ * Represent ballerina strings built by concatenation, backed by a buffer shared with the strings it was built from.
+ * <p>
+ * A string is a prefix of the shared buffer. Concatenating to the string that ends at the end of the buffer appends
+ * to the buffer in place, which makes building a string piece by piece amortised constant time per piece. The
+ * characters of the string are materialised into a {@link BmpStringValue} or a {@link NonBmpStringValue} on the
+ * first access that needs them, and all further operations are delegated to it. The string then releases the shared
+ * buffer, so that it does not keep the characters appended by longer strings alive.
+ *
+ * @since 2.0.0
+ */
+public class RopeStringValue implements StringValue {
+
+    /**
+     * Concatenations which result in fewer characters than this are done eagerly.
+     */
+    static final int MIN_ROPE_LENGTH = 256;
+
+    /**
+     * Shared buffer, or null once the string has been flattened.
+     */
+    private volatile StringBuilder buffer;
+    private final int charLength;
+    private final int length;
+    private volatile BString flattened;
+
+    private RopeStringValue(StringBuilder buffer, int charLength, int length) {
+        this.buffer = buffer;
+        this.charLength = charLength;
+        this.length = length;
+    }
+
+    static BString concat(BString str1, BString str2) {
+        String value1 = str1.getValue();
+        String value2 = str2.getValue();
+        StringBuilder buffer = new StringBuilder(Math.max(2 * (value1.length() + value2.length()), 16));
+        buffer.append(value1).append(value2);
+        return new RopeStringValue(buffer, buffer.length(), str1.length() + str2.length());
+    }
+
+    @Override
+    public String getValue() {
+        return flatten().getValue();
+    }
+
+    @Override
+    public int getCodePoint(int index) {
+        return flatten().getCodePoint(index);
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public BString concat(BString str) {
+        StringBuilder buffer = this.buffer;
+        if (buffer == null) {
+            return concat(flattened, str);
+        }
+        String value = str.getValue();
+        synchronized (buffer) {
+            if (buffer.length() == charLength) {
+                // nothing has been appended after this string yet, so the buffer can be extended in place
+                buffer.append(value);
+                return new RopeStringValue(buffer, buffer.length(), length + str.length());
+            }
+            StringBuilder copy = new StringBuilder(Math.max(2 * (charLength + value.length()), 16));
+            copy.append(buffer, 0, charLength).append(value);
+            return new RopeStringValue(copy, copy.length(), length + str.length());
+        }
+    }
+
+    @Override
+    public String stringValue(BLink parent) {
+        return getValue();
+    }
+
+    @Override
+    public String informalStringValue(BLink parent) {
+        return "\"" + toString() + "\"";
+    }
+
+    @Override
+    public String expressionStringValue(BLink parent) {
+        return informalStringValue(parent);
+    }
+
+    @Override
+    public int hashCode() {
+        return getValue().hashCode();
+    }
+
+    @Override
+    public boolean equals(Object str) {
+        if (str == this) {
+            return true;
+        }
+        if (str instanceof BString) {
+            BString other = (BString) str;
+            return other.length() == length && other.getValue().equals(getValue());
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return getValue();
+    }
+
+    @Override
+    public Long indexOf(BString str, int fromIndex) {
+        return flatten().indexOf(str, fromIndex);
+    }
+
+    @Override
+    public Long lastIndexOf(BString str, int fromIndex) {
+        return flatten().lastIndexOf(str, fromIndex);
+    }
+
+    @Override
+    public BString substring(int beginIndex, int endIndex) {
+        return flatten().substring(beginIndex, endIndex);
+    }
+
+    private BString flatten() {
+        BString value = flattened;
+        if (value != null) {
+            return value;
+        }
+        StringBuilder buffer = this.buffer;
+        if (buffer == null) {
+            // flattened by another thread
+            return flattened;
+        }
+        String chars;
+        synchronized (buffer) {
+            chars = buffer.substring(0, charLength);
+        }
+        value = length == charLength ? new BmpStringValue(chars) : StringUtils.fromString(chars);
+        flattened = value;
+        this.buffer = null;
+        return value;
+    }
+}
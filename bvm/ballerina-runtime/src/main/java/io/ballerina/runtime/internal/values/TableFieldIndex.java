@@ -0,0 +1,286 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Secondary index over a non-key field of the rows of a table.
+ * <p>
+ * The index is built over a snapshot of the rows, in the order of the table. A hash index is used to answer equality
+ * lookups and a sorted index is used to answer range lookups. Both are built on first use. Only {@code int},
+ * {@code string}, {@code boolean} and nil field values are indexed, if any row holds some other value for the field
+ * the index cannot answer lookups and the caller has to fall back to a scan.
+ * <p>
+ * Lookups return candidate rows, which is a superset of the rows matching the predicate. The caller is expected to
+ * evaluate the predicate on the candidates.
+ *
+ * @since 2.0.0
+ */
+class TableFieldIndex {
+
+    static final int EQUAL = 0;
+    static final int LESS_THAN = 1;
+    static final int LESS_EQUAL = 2;
+    static final int GREATER_THAN = 3;
+    static final int GREATER_EQUAL = 4;
+
+    private static final Object NIL_VALUE = new Object();
+
+    private final Object[] rows;
+    private final Object[] fieldValues;
+    private final boolean indexable;
+
+    private Map<Object, int[]> hashIndex;
+    private int[] sortedRows;
+    private boolean sortedIndexBuilt;
+
+    TableFieldIndex(Object[] rows, BString fieldName) {
+        this.rows = rows;
+        this.fieldValues = new Object[rows.length];
+        boolean indexable = true;
+        for (int i = 0; i < rows.length; i++) {
+            Object fieldValue = indexKey(((MapValue) rows[i]).get(fieldName));
+            if (fieldValue == null) {
+                indexable = false;
+                break;
+            }
+            fieldValues[i] = fieldValue;
+        }
+        this.indexable = indexable;
+    }
+
+    static int operator(String operator) {
+        switch (operator) {
+            case "==":
+                return EQUAL;
+            case "<":
+                return LESS_THAN;
+            case "<=":
+                return LESS_EQUAL;
+            case ">":
+                return GREATER_THAN;
+            case ">=":
+                return GREATER_EQUAL;
+            default:
+                throw new IllegalArgumentException("unsupported operator '" + operator + "'");
+        }
+    }
+
+    /**
+     * Returns the rows which may satisfy {@code field <operator> value} in the order of the table, or null if the
+     * lookup cannot be answered from this index.
+     */
+    Object[] candidates(int operator, Object value) {
+        if (!indexable) {
+            return null;
+        }
+        Object key = indexKey(value);
+        if (key == null) {
+            return null;
+        }
+        if (operator == EQUAL) {
+            int[] positions = getHashIndex().get(key);
+            return positions == null ? new Object[0] : toRows(positions);
+        }
+
+        int[] sorted = getSortedIndex();
+        if (sorted == null) {
+            return null;
+        }
+        if (sorted.length == 0) {
+            return new Object[0];
+        }
+        if (compare(fieldValues[sorted[0]], key) == null) {
+            return null;
+        }
+        int from;
+        int to;
+        switch (operator) {
+            case LESS_THAN:
+                from = 0;
+                to = bound(sorted, key, false);
+                break;
+            case LESS_EQUAL:
+                from = 0;
+                to = bound(sorted, key, true);
+                break;
+            case GREATER_THAN:
+                from = bound(sorted, key, true);
+                to = sorted.length;
+                break;
+            default:
+                from = bound(sorted, key, false);
+                to = sorted.length;
+                break;
+        }
+        int[] positions = Arrays.copyOfRange(sorted, from, to);
+        // restore the order of the table
+        Arrays.sort(positions);
+        return toRows(positions);
+    }
+
+    /**
+     * Checks whether a row field value may satisfy {@code fieldValue <operator> value}. Values that cannot be
+     * indexed always may.
+     */
+    static boolean mayMatch(Object fieldValue, int operator, Object value) {
+        Object fieldKey = indexKey(fieldValue);
+        Object key = indexKey(value);
+        if (fieldKey == null || key == null) {
+            return true;
+        }
+        if (operator == EQUAL) {
+            return fieldKey.equals(key);
+        }
+        Integer result = compare(fieldKey, key);
+        if (result == null) {
+            return true;
+        }
+        switch (operator) {
+            case LESS_THAN:
+                return result < 0;
+            case LESS_EQUAL:
+                return result <= 0;
+            case GREATER_THAN:
+                return result > 0;
+            default:
+                return result >= 0;
+        }
+    }
+
+    private synchronized Map<Object, int[]> getHashIndex() {
+        if (hashIndex != null) {
+            return hashIndex;
+        }
+        Map<Object, int[]> counts = new HashMap<>();
+        for (Object fieldValue : fieldValues) {
+            int[] count = counts.computeIfAbsent(fieldValue, k -> new int[1]);
+            count[0]++;
+        }
+        Map<Object, int[]> index = new HashMap<>(counts.size() * 2);
+        for (int i = 0; i < fieldValues.length; i++) {
+            int[] count = counts.get(fieldValues[i]);
+            int[] positions = index.computeIfAbsent(fieldValues[i], k -> new int[count[0]]);
+            positions[positions.length - count[0]--] = i;
+        }
+        hashIndex = index;
+        return index;
+    }
+
+    /**
+     * Returns the row positions sorted by the field value, or null if the field values are not all {@code int} or
+     * all {@code string} values.
+     */
+    private synchronized int[] getSortedIndex() {
+        if (sortedIndexBuilt) {
+            return sortedRows;
+        }
+        sortedIndexBuilt = true;
+        if (fieldValues.length > 0) {
+            Class<?> valueClass = fieldValues[0].getClass();
+            if (valueClass != Long.class && valueClass != String.class) {
+                return null;
+            }
+            for (Object fieldValue : fieldValues) {
+                if (fieldValue.getClass() != valueClass) {
+                    return null;
+                }
+            }
+        }
+        Integer[] positions = new Integer[fieldValues.length];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = i;
+        }
+        Arrays.sort(positions, (a, b) -> compare(fieldValues[a], fieldValues[b]));
+        sortedRows = new int[positions.length];
+        for (int i = 0; i < positions.length; i++) {
+            sortedRows[i] = positions[i];
+        }
+        return sortedRows;
+    }
+
+    /**
+     * Returns the number of sorted rows with a field value less than the given key, or less than or equal to the
+     * given key if {@code inclusive} is set.
+     */
+    private int bound(int[] sorted, Object key, boolean inclusive) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int result = compare(fieldValues[sorted[mid]], key);
+            if (result < 0 || (inclusive && result == 0)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private Object[] toRows(int[] positions) {
+        Object[] result = new Object[positions.length];
+        for (int i = 0; i < positions.length; i++) {
+            result[i] = rows[positions[i]];
+        }
+        return result;
+    }
+
+    private static Object indexKey(Object value) {
+        if (value == null) {
+            return NIL_VALUE;
+        }
+        if (value instanceof Long || value instanceof Boolean) {
+            return value;
+        }
+        if (value instanceof BString) {
+            return ((BString) value).getValue();
+        }
+        return null;
+    }
+
+    private static Integer compare(Object fieldKey, Object key) {
+        if (fieldKey instanceof Long && key instanceof Long) {
+            return Long.compare((Long) fieldKey, (Long) key);
+        }
+        if (fieldKey instanceof String && key instanceof String) {
+            return compareCodePoints((String) fieldKey, (String) key);
+        }
+        return null;
+    }
+
+    private static int compareCodePoints(String a, String b) {
+        int i = 0;
+        int j = 0;
+        while (i < a.length() && j < b.length()) {
+            int cpA = a.codePointAt(i);
+            int cpB = b.codePointAt(j);
+            if (cpA != cpB) {
+                return Integer.compare(cpA, cpB);
+            }
+            i += Character.charCount(cpA);
+            j += Character.charCount(cpB);
+        }
+        return Boolean.compare(i < a.length(), j < b.length());
+    }
+}
@@ -0,0 +1,353 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.TableUtils;
+import io.ballerina.runtime.internal.TypeChecker;
+
+import java.util.Arrays;
+
+/**
+ * Insertion ordered row storage of a table.
+ * <p>
+ * Rows are kept in contiguous key and value arrays in the order they were added. For keyed tables, rows are looked
+ * up through an open addressing (linear probing) index of row positions, which compares the full keys of the
+ * candidates, so that distinct keys with the same hash never replace each other. {@code int} and {@code string}
+ * keys are hashed and compared directly, other keys use {@link TableUtils#hash} and {@link TypeChecker#isEqual}.
+ * <p>
+ * Removed rows leave a gap in the row arrays, which is reclaimed when the arrays have to grow.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the rows
+ *
+ * @since 2.0.0
+ */
+class TableRowStore<K, V> {
+
+    static final int NO_ROW = -1;
+
+    private static final int INITIAL_CAPACITY = 8;
+    private static final int EMPTY_SLOT = -1;
+    private static final int DELETED_SLOT = -2;
+
+    private final boolean keyed;
+
+    private Object[] rowKeys;
+    private Object[] rowValues;
+    private int[] rowHashes;
+
+    /**
+     * Sequence numbers of the rows, which increase in row order and are kept when the rows are moved.
+     */
+    private long[] rowSeqs;
+    private long nextSeq;
+    private int rowCount;
+    private int size;
+
+    /**
+     * Open addressing index, holds row positions, {@link #EMPTY_SLOT} or {@link #DELETED_SLOT}.
+     */
+    private int[] index;
+    private int usedSlots;
+
+    /**
+     * Incremented whenever the positions of the rows change.
+     */
+    private int layoutVersion;
+
+    /**
+     * Incremented whenever a row is added, replaced or removed.
+     */
+    private int modCount;
+
+    TableRowStore(boolean keyed) {
+        this.keyed = keyed;
+        init();
+    }
+
+    private void init() {
+        this.rowKeys = new Object[INITIAL_CAPACITY];
+        this.rowValues = new Object[INITIAL_CAPACITY];
+        this.rowSeqs = new long[INITIAL_CAPACITY];
+        this.rowCount = 0;
+        this.size = 0;
+        if (keyed) {
+            this.rowHashes = new int[INITIAL_CAPACITY];
+            this.index = newIndex(INITIAL_CAPACITY * 2);
+            this.usedSlots = 0;
+        }
+        this.layoutVersion++;
+        this.modCount++;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int rowCount() {
+        return rowCount;
+    }
+
+    int layoutVersion() {
+        return layoutVersion;
+    }
+
+    int modCount() {
+        return modCount;
+    }
+
+    /**
+     * Returns the position of the first row at or after the given position, or {@link #NO_ROW}.
+     */
+    int nextRow(int from) {
+        for (int row = from; row < rowCount; row++) {
+            if (rowValues[row] != null) {
+                return row;
+            }
+        }
+        return NO_ROW;
+    }
+
+    K keyAt(int row) {
+        return (K) rowKeys[row];
+    }
+
+    V valueAt(int row) {
+        return (V) rowValues[row];
+    }
+
+    long seqAt(int row) {
+        return rowSeqs[row];
+    }
+
+    /**
+     * Returns the position of the first row added after the row with the given sequence number, even if that row
+     * has been removed or moved since.
+     */
+    int rowAfter(long seq) {
+        int low = 0;
+        int high = rowCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (rowSeqs[mid] <= seq) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the position of the row with the given key, or {@link #NO_ROW}.
+     */
+    int find(Object key) {
+        return find(key, hash(key));
+    }
+
+    V get(Object key) {
+        int row = find(key);
+        return row == NO_ROW ? null : (V) rowValues[row];
+    }
+
+    boolean containsKey(Object key) {
+        return find(key) != NO_ROW;
+    }
+
+    /**
+     * Replaces the row with the given key, or appends a new row if there is no row with the key.
+     *
+     * @return the replaced row, or null
+     */
+    V put(K key, V value) {
+        int hash = hash(key);
+        int row = find(key, hash);
+        if (row != NO_ROW) {
+            V previous = (V) rowValues[row];
+            rowKeys[row] = key;
+            rowValues[row] = value;
+            modCount++;
+            return previous;
+        }
+        append(key, value, hash);
+        return null;
+    }
+
+    /**
+     * Appends a row to a table without a key.
+     */
+    void add(V value) {
+        append((K) value, value, 0);
+    }
+
+    V remove(Object key) {
+        int hash = hash(key);
+        int mask = index.length - 1;
+        for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+            int row = index[slot];
+            if (row == EMPTY_SLOT) {
+                return null;
+            }
+            if (row != DELETED_SLOT && rowHashes[row] == hash && keyEquals(rowKeys[row], key)) {
+                index[slot] = DELETED_SLOT;
+                V previous = (V) rowValues[row];
+                rowKeys[row] = null;
+                rowValues[row] = null;
+                size--;
+                modCount++;
+                if (row == rowCount - 1) {
+                    rowCount--;
+                }
+                return previous;
+            }
+        }
+    }
+
+    void clear() {
+        init();
+    }
+
+    private int find(Object key, int hash) {
+        int mask = index.length - 1;
+        for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+            int row = index[slot];
+            if (row == EMPTY_SLOT) {
+                return NO_ROW;
+            }
+            if (row != DELETED_SLOT && rowHashes[row] == hash && keyEquals(rowKeys[row], key)) {
+                return row;
+            }
+        }
+    }
+
+    private void append(K key, V value, int hash) {
+        if (rowCount == rowValues.length) {
+            ensureRowCapacity();
+        }
+        int row = rowCount++;
+        rowKeys[row] = key;
+        rowValues[row] = value;
+        rowSeqs[row] = nextSeq++;
+        size++;
+        modCount++;
+        if (!keyed) {
+            return;
+        }
+
+        rowHashes[row] = hash;
+        if ((usedSlots + 1) * 4 > index.length * 3) {
+            rebuildIndex(size * 4 > index.length * 3 ? index.length * 2 : index.length);
+        } else {
+            insertIntoIndex(row, hash);
+        }
+    }
+
+    private void ensureRowCapacity() {
+        if (size * 4 <= rowCount * 3) {
+            // at least a quarter of the rows have been removed, reclaim the gaps instead of growing
+            compact();
+            return;
+        }
+        int capacity = rowValues.length * 2;
+        rowKeys = Arrays.copyOf(rowKeys, capacity);
+        rowValues = Arrays.copyOf(rowValues, capacity);
+        rowSeqs = Arrays.copyOf(rowSeqs, capacity);
+        if (keyed) {
+            rowHashes = Arrays.copyOf(rowHashes, capacity);
+        }
+    }
+
+    private void compact() {
+        int target = 0;
+        for (int row = 0; row < rowCount; row++) {
+            if (rowValues[row] == null) {
+                continue;
+            }
+            rowKeys[target] = rowKeys[row];
+            rowValues[target] = rowValues[row];
+            rowSeqs[target] = rowSeqs[row];
+            if (keyed) {
+                rowHashes[target] = rowHashes[row];
+            }
+            target++;
+        }
+        Arrays.fill(rowKeys, target, rowCount, null);
+        Arrays.fill(rowValues, target, rowCount, null);
+        rowCount = target;
+        layoutVersion++;
+        if (keyed) {
+            rebuildIndex(index.length);
+        }
+    }
+
+    private void rebuildIndex(int capacity) {
+        index = newIndex(capacity);
+        usedSlots = 0;
+        for (int row = 0; row < rowCount; row++) {
+            if (rowValues[row] != null) {
+                insertIntoIndex(row, rowHashes[row]);
+            }
+        }
+    }
+
+    private void insertIntoIndex(int row, int hash) {
+        int mask = index.length - 1;
+        int slot = hash & mask;
+        while (index[slot] >= 0) {
+            slot = (slot + 1) & mask;
+        }
+        if (index[slot] == EMPTY_SLOT) {
+            usedSlots++;
+        }
+        index[slot] = row;
+    }
+
+    private static int[] newIndex(int capacity) {
+        int[] index = new int[capacity];
+        Arrays.fill(index, EMPTY_SLOT);
+        return index;
+    }
+
+    private static int hash(Object key) {
+        int hash;
+        if (key instanceof Long) {
+            hash = Long.hashCode((Long) key);
+        } else if (key instanceof BString) {
+            hash = ((BString) key).getValue().hashCode();
+        } else {
+            hash = Long.hashCode(TableUtils.hash(key, null));
+        }
+        // spread the higher bits, since the index is addressed with the lower bits
+        hash *= 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    private static boolean keyEquals(Object rowKey, Object key) {
+        if (rowKey == key) {
+            return true;
+        }
+        if (rowKey instanceof Long && key instanceof Long) {
+            return ((Long) rowKey).longValue() == ((Long) key).longValue();
+        }
+        if (rowKey instanceof BString && key instanceof BString) {
+            return ((BString) rowKey).getValue().equals(((BString) key).getValue());
+        }
+        return TypeChecker.isEqual(rowKey, key);
+    }
+}
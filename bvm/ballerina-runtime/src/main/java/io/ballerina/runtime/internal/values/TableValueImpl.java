@@ -32,7 +32,6 @@ import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 import io.ballerina.runtime.internal.CycleUtils;
 import io.ballerina.runtime.internal.IteratorUtils;
-import io.ballerina.runtime.internal.TableUtils;
 import io.ballerina.runtime.internal.TypeChecker;
 import io.ballerina.runtime.internal.types.BMapType;
 import io.ballerina.runtime.internal.types.BRecordType;
@@ -40,20 +39,19 @@ import io.ballerina.runtime.internal.types.BTableType;
 import io.ballerina.runtime.internal.types.BTupleType;
 import io.ballerina.runtime.internal.util.exceptions.BLangFreezeException;
 
+import java.util.AbstractCollection;
 import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.StringJoiner;
-import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 import static io.ballerina.runtime.api.constants.RuntimeConstants.TABLE_LANG_LIB;
 import static io.ballerina.runtime.internal.util.exceptions.BallerinaErrorReasons.INHERENT_TYPE_VIOLATION_ERROR_IDENTIFIER;
@@ -74,34 +72,27 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     private TableType type;
     private Type iteratorNextReturnType;
-    private ConcurrentHashMap<Long, Map.Entry<K, V>> entries;
-    private LinkedHashMap<Long, V> values;
-    private LinkedHashMap<Long, K> keys;
+    private TableRowStore<K, V> rows;
     private String[] fieldNames;
     private ValueHolder valueHolder;
     private long maxIntKey = 0;
 
-    //These are required to achieve the iterator behavior
-    private LinkedHashMap<Long, Long> indexToKeyMap;
-    private LinkedHashMap<Long, Long> keyToIndexMap;
-    private long noOfAddedEntries = 0;
-
     private boolean nextKeySupported;
 
+    private Map<String, TableFieldIndex> fieldIndexes;
+    private int fieldIndexesModCount;
+
     private final Map<String, Object> nativeData = new HashMap<>();
 
     public TableValueImpl(TableType type) {
         this.type = type;
 
-        this.entries = new ConcurrentHashMap<>();
-        this.keys = new LinkedHashMap<>();
-        this.values = new LinkedHashMap<>();
-        this.keyToIndexMap = new LinkedHashMap<>();
-        this.indexToKeyMap = new LinkedHashMap<>();
         this.fieldNames = type.getFieldNames();
         if (type.getFieldNames() != null) {
+            this.rows = new TableRowStore<>(true);
             this.valueHolder = new KeyHashValueHolder();
         } else {
+            this.rows = new TableRowStore<>(false);
             this.valueHolder = new ValueHolder();
         }
     }
@@ -125,7 +116,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public IteratorValue getIterator() {
-        return new TableIterator<K, V>();
+        return new TableIterator();
     }
 
     @Override
@@ -212,23 +203,49 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public Set<Map.Entry<K, V>> entrySet() {
-        return new LinkedHashSet<>(entries.values());
+        Set<Map.Entry<K, V>> entrySet = new LinkedHashSet<>(rows.size());
+        for (int row = rows.nextRow(0); row != TableRowStore.NO_ROW; row = rows.nextRow(row + 1)) {
+            entrySet.add(new AbstractMap.SimpleEntry<>(rows.keyAt(row), rows.valueAt(row)));
+        }
+        return entrySet;
     }
 
     @Override
     public Collection<V> values() {
-        return values.values();
+        return new AbstractCollection<V>() {
+            @Override
+            public Iterator<V> iterator() {
+                return new Iterator<V>() {
+                    private int row = rows.nextRow(0);
+
+                    @Override
+                    public boolean hasNext() {
+                        return row != TableRowStore.NO_ROW;
+                    }
+
+                    @Override
+                    public V next() {
+                        if (row == TableRowStore.NO_ROW) {
+                            throw new NoSuchElementException();
+                        }
+                        V value = rows.valueAt(row);
+                        row = rows.nextRow(row + 1);
+                        return value;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return rows.size();
+            }
+        };
     }
 
     @Override
     public void clear() {
         handleFrozenTableValue();
-        entries.clear();
-        keys.clear();
-        values.clear();
-        keyToIndexMap.clear();
-        indexToKeyMap.clear();
-        noOfAddedEntries = 0;
+        rows.clear();
     }
 
     @Override
@@ -257,7 +274,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
                                                                         + "The key sequence should only have an " +
                                                                            "Integer field."));
         }
-        return keys.size() == 0 ? 0 : (this.maxIntKey + 1);
+        return rows.size() == 0 ? 0 : (this.maxIntKey + 1);
     }
 
     public Type getKeyType() {
@@ -285,17 +302,66 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public K[] getKeys() {
-        return (K[]) keys.values().toArray(new Object[]{});
+        if (!(valueHolder instanceof KeyHashValueHolder)) {
+            return (K[]) new Object[0];
+        }
+        Object[] keys = new Object[rows.size()];
+        int i = 0;
+        for (int row = rows.nextRow(0); row != TableRowStore.NO_ROW; row = rows.nextRow(row + 1)) {
+            keys[i++] = rows.keyAt(row);
+        }
+        return (K[]) keys;
+    }
+
+    /**
+     * Returns the rows that may satisfy {@code row[fieldName] <operator> value}, in the order of the table. The
+     * result is a superset of the matching rows, the caller has to evaluate the predicate on each of them.
+     * <p>
+     * When the rows of the table cannot be mutated in place, the lookup is answered from a secondary index on the
+     * field, which is built on first use and dropped when rows are added, replaced or removed. Otherwise the rows
+     * are scanned.
+     *
+     * @param fieldName name of a field of the row type
+     * @param operator  one of {@code ==}, {@code <}, {@code <=}, {@code >} and {@code >=}
+     * @param value     value to compare the field with
+     * @return candidate rows
+     */
+    public Object[] getCandidateRows(BString fieldName, String operator, Object value) {
+        int op = TableFieldIndex.operator(operator);
+        if (type.isReadOnly() || type.getConstrainedType().isReadOnly()) {
+            Object[] candidates = getFieldIndex(fieldName).candidates(op, value);
+            if (candidates != null) {
+                return candidates;
+            }
+        }
+
+        List<Object> candidates = new ArrayList<>();
+        for (int row = rows.nextRow(0); row != TableRowStore.NO_ROW; row = rows.nextRow(row + 1)) {
+            MapValue rowValue = (MapValue) rows.valueAt(row);
+            if (TableFieldIndex.mayMatch(rowValue.get(fieldName), op, value)) {
+                candidates.add(rowValue);
+            }
+        }
+        return candidates.toArray();
+    }
+
+    private synchronized TableFieldIndex getFieldIndex(BString fieldName) {
+        if (fieldIndexes == null || fieldIndexesModCount != rows.modCount()) {
+            fieldIndexes = new HashMap<>();
+            fieldIndexesModCount = rows.modCount();
+        }
+        return fieldIndexes.computeIfAbsent(fieldName.getValue(),
+                k -> new TableFieldIndex(values().toArray(), fieldName));
     }
 
     @Override
     public int size() {
-        return entries.size();
+        return rows.size();
     }
 
     @Override
     public boolean isEmpty() {
-        return entries.isEmpty();
+        return rows.size() == 0;
     }
 
     @Override
@@ -320,8 +386,7 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
     }
 
     public String stringValue(BLink parent) {
-        Iterator<Map.Entry<Long, V>> itr = values.entrySet().iterator();
-        return createStringValueDataEntry(itr, parent);
+        return createStringValueDataEntry(values().iterator(), parent);
     }
 
     @Override
@@ -331,21 +396,20 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
     @Override
     public String expressionStringValue(BLink parent) {
-        Iterator<Map.Entry<Long, V>> itr = values.entrySet().iterator();
-        return createExpressionStringValueDataEntry(itr, parent);
+        return createExpressionStringValueDataEntry(values().iterator(), parent);
     }
 
-    private String createStringValueDataEntry(Iterator<Map.Entry<Long, V>> itr, BLink parent) {
+    private String createStringValueDataEntry(Iterator<V> itr, BLink parent) {
         StringJoiner sj = new StringJoiner(",");
         while (itr.hasNext()) {
-            Map.Entry<Long, V> struct = itr.next();
-            sj.add(StringUtils.getStringValue(struct.getValue(),
+            V struct = itr.next();
+            sj.add(StringUtils.getStringValue(struct,
                                               new CycleUtils.Node(this, parent)));
         }
         return "[" + sj.toString() + "]";
     }
 
-    private String createExpressionStringValueDataEntry(Iterator<Map.Entry<Long, V>> itr, BLink parent) {
+    private String createExpressionStringValueDataEntry(Iterator<V> itr, BLink parent) {
         StringJoiner sj = new StringJoiner(",");
         StringJoiner keyJoiner = new StringJoiner(",");
         if (type.getFieldNames() != null) {
@@ -355,8 +419,8 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
             }
         }
         while (itr.hasNext()) {
-            Map.Entry<Long, V> struct = itr.next();
-            sj.add(StringUtils.getExpressionStringValue(struct.getValue(),
+            V struct = itr.next();
+            sj.add(StringUtils.getExpressionStringValue(struct,
                                                         new CycleUtils.Node(this, parent)));
         }
         return "table key(" + keyJoiner.toString() + ") [" + sj.toString() + "]";
@@ -385,40 +449,54 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
         return iteratorNextReturnType;
     }
 
-    private class TableIterator<K, V> implements IteratorValue {
-        private long cursor;
+    private class TableIterator implements IteratorValue {
+        private int cursor;
+        private int layoutVersion;
+        private long lastSeq;
 
         TableIterator() {
             this.cursor = 0;
+            this.layoutVersion = rows.layoutVersion();
+            this.lastSeq = -1;
         }
 
         @Override
         public Object next() {
-            Long hash = indexToKeyMap.get(cursor);
-            if (hash != null) {
-                Map.Entry<K, V> next = (Map.Entry<K, V>) entries.get(hash);
-                V value = next.getValue();
-                K key = next.getKey();
-
-                List<Type> types = new ArrayList<>();
-                types.add(TypeChecker.getType(key));
-                types.add(TypeChecker.getType(value));
-                BTupleType tupleType = new BTupleType(types);
-
-                TupleValueImpl tuple = new TupleValueImpl(tupleType);
-                tuple.add(0, key);
-                tuple.add(1, value);
-                cursor++;
-                return tuple;
-            } else {
-                cursor++;
-                return next();
+            syncCursor();
+            int row = rows.nextRow(cursor);
+            if (row == TableRowStore.NO_ROW) {
+                throw new NoSuchElementException();
             }
+            K key = rows.keyAt(row);
+            V value = rows.valueAt(row);
+
+            List<Type> types = new ArrayList<>();
+            types.add(TypeChecker.getType(key));
+            types.add(TypeChecker.getType(value));
+            BTupleType tupleType = new BTupleType(types);
+
+            TupleValueImpl tuple = new TupleValueImpl(tupleType);
+            tuple.add(0, key);
+            tuple.add(1, value);
+            cursor = row + 1;
+            lastSeq = rows.seqAt(row);
+            return tuple;
         }
 
         @Override
         public boolean hasNext() {
-           return cursor < noOfAddedEntries;
+            syncCursor();
+            return rows.nextRow(cursor) != TableRowStore.NO_ROW;
+        }
+
+        // Rows are moved when the gaps left by removed rows are reclaimed. Continue after the last returned row,
+        // which may have been removed as well.
+        private void syncCursor() {
+            if (layoutVersion == rows.layoutVersion()) {
+                return;
+            }
+            layoutVersion = rows.layoutVersion();
+            cursor = rows.rowAfter(lastSeq);
         }
     }
 
@@ -440,11 +518,8 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
 
         public V putData(V data) {
             checkInherentTypeViolation((MapValue) data, type);
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry(data, data);
-            UUID uuid = UUID.randomUUID();
-            entries.put((long) uuid.hashCode(), entry);
-            updateIndexKeyMappings((long) uuid.hashCode());
-            return values.put((long) uuid.hashCode(), data);
+            rows.add(data);
+            return null;
         }
 
         public V remove(K key) {
@@ -485,63 +560,40 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
                                                StringUtils.fromString("A value " + "found for key '" + key + "'"));
             }
 
-            if (nextKeySupported && (keys.size() == 0 || maxIntKey < TypeChecker.anyToInt(key))) {
+            if (nextKeySupported && (rows.size() == 0 || maxIntKey < TypeChecker.anyToInt(key))) {
                 maxIntKey = ((Long) TypeChecker.anyToInt(key)).intValue();
             }
 
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry(key, data);
-            Long hash = TableUtils.hash(key, null);
-            putData(key, data, entry, hash);
+            rows.put(key, data);
         }
 
         public V getData(K key) {
-            return values.get(TableUtils.hash(key, null));
+            return rows.get(key);
         }
 
         public V putData(K key, V data) {
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry<>(key, data);
             Object actualKey = this.keyWrapper.wrapKey((MapValue) data);
-            Long actualHash = TableUtils.hash(actualKey, null);
-            Long hash = TableUtils.hash(key, null);
-
-            if (!hash.equals(actualHash)) {
+            if (!TypeChecker.isEqual(key, actualKey)) {
                 throw ErrorCreator.createError(TABLE_KEY_NOT_FOUND_ERROR, StringUtils.fromString("The key '" +
                         key + "' not found in value " + data.toString()));
             }
 
-            return putData(key, data, entry, hash);
-        }
-
-        private V putData(K key, V data, Map.Entry<K, V> entry, Long hash) {
-            entries.put(hash, entry);
-            keys.put(hash, key);
-            updateIndexKeyMappings(hash);
-            return values.put(hash, data);
+            return rows.put(key, data);
         }
 
         public V putData(V data) {
             MapValue dataMap = (MapValue) data;
             checkInherentTypeViolation(dataMap, type);
             K key = this.keyWrapper.wrapKey(dataMap);
-            Map.Entry<K, V> entry = new AbstractMap.SimpleEntry<>(key, data);
-            Long hash = TableUtils.hash(key, null);
-            return putData((K) key, data, entry, hash);
+            return rows.put(key, data);
         }
 
         public V remove(K key) {
-            Long hash = TableUtils.hash(key, null);
-            entries.remove(hash);
-            keys.remove(hash);
-            Long index = keyToIndexMap.remove(hash);
-            indexToKeyMap.remove(index);
-            if (index != null && index == noOfAddedEntries - 1) {
-                noOfAddedEntries--;
-            }
-            return values.remove(hash);
+            return rows.remove(key);
         }
 
         public boolean containsKey(K key) {
-            return keys.containsKey(TableUtils.hash(key, null));
+            return rows.containsKey(key);
         }
 
         public Type getKeyType() {
@@ -592,15 +644,6 @@ public class TableValueImpl<K, V> implements TableValue<K, V> {
         }
     }
 
-    // This method updates the indexes and the order required by the iterators
-    private void updateIndexKeyMappings(Long hash) {
-        if (!keyToIndexMap.containsKey(hash)) {
-            keyToIndexMap.put(hash, noOfAddedEntries);
-            indexToKeyMap.put(noOfAddedEntries, hash);
-            noOfAddedEntries++;
-        }
-    }
-
     // This method checks for inherent table type violation
     private void checkInherentTypeViolation(MapValue dataMap, TableType type) {
         if (!TypeChecker.checkIsType(dataMap.getType(), type.getConstrainedType())) {
@@ -18,6 +18,7 @@
 package io.ballerina.runtime.observability.metrics;
 
 import io.ballerina.runtime.api.launch.LaunchListener;
+import io.ballerina.runtime.internal.scheduling.SchedulerStats;
 import io.ballerina.runtime.observability.ObserveUtils;
 import io.ballerina.runtime.observability.metrics.noop.NoOpMetricProvider;
 import io.ballerina.runtime.observability.metrics.noop.NoOpMetricReporter;
@@ -110,20 +111,7 @@ public class MetricsLaunchListener implements LaunchListener {
     }
 
     private void registerBallerinaMetrics() {
-//        final BLangScheduler.SchedulerStats schedulerStats = BLangScheduler.getStats();
-//        final String prefix = "ballerina_scheduler_";
-//        PolledGauge.builder(prefix + "ready_worker_count", schedulerStats,
-//                BLangScheduler.SchedulerStats::getReadyWorkerCount).register();
-//        PolledGauge.builder(prefix + "running_worker_count", schedulerStats,
-//                BLangScheduler.SchedulerStats::getRunningWorkerCount).register();
-//        PolledGauge.builder(prefix + "excepted_worker_count", schedulerStats,
-//                BLangScheduler.SchedulerStats::getExceptedWorkerCount).register();
-//        PolledGauge.builder(prefix + "paused_worker_count", schedulerStats,
-//                BLangScheduler.SchedulerStats::getPausedWorkerCount).register();
-//        PolledGauge.builder(prefix + "waiting_for_response_worker_count", schedulerStats,
-//                BLangScheduler.SchedulerStats::getWaitingForResponseWorkerCount).register();
-//        PolledGauge.builder(prefix + "waiting_for_lock_worker_count", schedulerStats,
-//                BLangScheduler.SchedulerStats::getWaitingForLockWorkerCount).register();
+        SchedulerStats.enableMetrics("ballerina_scheduler_");
     }
 
     @Override
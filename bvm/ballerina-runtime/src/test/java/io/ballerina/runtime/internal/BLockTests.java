@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.scheduling.State;
+import io.ballerina.runtime.internal.scheduling.Strand;
+import io.ballerina.runtime.internal.values.FutureValue;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Test cases for {@link BLock}.
+ */
+public class BLockTests {
+
+    @Test
+    public void testReentrantLock() {
+        BLockStore lockStore = new BLockStore();
+        BLock lock = lockStore.getLockFromMap("count");
+        Strand strand = new Strand("main", null, null, null, null);
+
+        Assert.assertTrue(lock.lock(strand));
+        Assert.assertTrue(lock.lock(strand));
+        Assert.assertTrue(lock.lockedBySameContext(strand));
+        Assert.assertTrue(strand.isInLock(lockStore));
+
+        // The lock is held until it is released as many times as it was acquired
+        lock.unlock();
+        Assert.assertFalse(lock.isLockFree());
+        Assert.assertTrue(strand.isInLock(lockStore));
+
+        lock.unlock();
+        Assert.assertTrue(lock.isLockFree());
+        Assert.assertFalse(strand.isInLock(lockStore));
+    }
+
+    @Test
+    public void testAcquiredLocksOfStrand() {
+        BLockStore lockStore = new BLockStore();
+        BLockStore otherLockStore = new BLockStore();
+        BLock first = lockStore.getLockFromMap("first");
+        BLock second = otherLockStore.getLockFromMap("second");
+        Strand strand = new Strand("main", null, null, null, null);
+
+        Assert.assertTrue(first.lock(strand));
+        Assert.assertTrue(second.lock(strand));
+        Assert.assertTrue(strand.isInLock(lockStore));
+        Assert.assertTrue(strand.isInLock(otherLockStore));
+
+        // Locks need not be released in the reverse order of acquisition
+        first.unlock();
+        Assert.assertFalse(strand.isInLock(lockStore));
+        Assert.assertTrue(strand.isInLock(otherLockStore));
+        second.unlock();
+        Assert.assertFalse(strand.isInLock(otherLockStore));
+    }
+
+    @Test
+    public void testObjectFieldLock() {
+        // Generated object initializers create the locks of fields with the no-arg constructor
+        BLock lock = new BLock();
+        BLockStore lockStore = new BLockStore();
+        Strand strand = new Strand("main", null, null, null, null);
+
+        Assert.assertNull(lock.getLockStore());
+        Assert.assertTrue(lock.lock(strand));
+        Assert.assertTrue(lock.lock(strand));
+        // Holding the lock of a field does not prevent async calls of a module
+        Assert.assertFalse(strand.isInLock(lockStore));
+
+        lock.unlock();
+        lock.unlock();
+        Assert.assertTrue(lock.isLockFree());
+    }
+
+    @Test
+    public void testContendedLock() {
+        BLock lock = new BLockStore().getLockFromMap("count");
+        Strand owner = new Strand("owner", null, null, null, null);
+        Strand waiting = new Strand("waiting", null, null, null, null);
+
+        Assert.assertTrue(lock.lock(owner));
+        Assert.assertFalse(lock.lock(waiting));
+        Assert.assertSame(waiting.getState(), State.BLOCK_AND_YIELD);
+        Assert.assertTrue(lock.lockedBySameContext(owner));
+    }
+
+    @Test
+    public void testContendedLockFromStrands() {
+        Scheduler scheduler = new Scheduler(4, false);
+        BLock lock = new BLockStore().getLockFromMap("count");
+        int numStrands = 50;
+        int numIncrements = 100;
+        AtomicInteger inLock = new AtomicInteger();
+        AtomicInteger overlaps = new AtomicInteger();
+        int[] count = new int[1];
+        // Like a generated lock statement, a strand which did not get the lock yields and runs the function again
+        // once the lock is released
+        Function<Object[], Object> increment = params -> {
+            Strand strand = (Strand) params[0];
+            if (!lock.lock(strand)) {
+                return null;
+            }
+            if (inLock.incrementAndGet() != 1) {
+                overlaps.incrementAndGet();
+            }
+            for (int i = 0; i < numIncrements; i++) {
+                count[0]++;
+            }
+            Thread.yield();
+            inLock.decrementAndGet();
+            lock.unlock();
+            return null;
+        };
+
+        List<FutureValue> futures = new ArrayList<>();
+        for (int i = 0; i < numStrands; i++) {
+            futures.add(scheduler.schedule(new Object[1], increment, null, null, null, PredefinedTypes.TYPE_NULL,
+                                           "increment", null));
+        }
+        scheduler.start();
+
+        for (FutureValue future : futures) {
+            Assert.assertTrue(future.isDone);
+            Assert.assertNull(future.panic);
+        }
+        Assert.assertEquals(overlaps.get(), 0);
+        Assert.assertEquals(count[0], numStrands * numIncrements);
+        Assert.assertTrue(lock.isLockFree());
+    }
+}
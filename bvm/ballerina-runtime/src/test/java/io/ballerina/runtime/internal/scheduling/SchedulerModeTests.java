@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.constants.RuntimeConstants;
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.internal.values.FutureValue;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Test cases which check that the {@link Scheduler} behaves the same in each scheduler mode. The generated main
+ * method starts the same scheduler once for the module init, once for the main function and once for the module
+ * start, and reads the result of each future after {@link Scheduler#start()} returns.
+ * <p>
+ * The virtual thread mode falls back to the default mode on JVMs without virtual threads.
+ */
+public class SchedulerModeTests {
+
+    private static final int NUM_THREADS = 4;
+
+    @DataProvider(name = "schedulerModes")
+    public Object[][] schedulerModes() {
+        return new Object[][]{
+                {RuntimeConstants.SCHEDULER_MODE_SHARED_QUEUE},
+                {RuntimeConstants.SCHEDULER_MODE_WORK_STEALING},
+                {RuntimeConstants.SCHEDULER_MODE_VIRTUAL_THREADS}
+        };
+    }
+
+    @Test(dataProvider = "schedulerModes")
+    public void testMainStrandResult(String schedulerMode) {
+        Scheduler scheduler = new Scheduler(NUM_THREADS, false, schedulerMode);
+        AtomicInteger completedChildren = new AtomicInteger();
+        Function<Object[], Object> child = params -> {
+            sleep(20);
+            completedChildren.incrementAndGet();
+            return null;
+        };
+        // Like a main function which starts workers without waiting for them
+        Function<Object[], Object> main = params -> {
+            Strand strand = (Strand) params[0];
+            for (int i = 0; i < 10; i++) {
+                scheduler.schedule(new Object[1], child, strand, null, null, PredefinedTypes.TYPE_NULL, "child",
+                                   null);
+            }
+            return 42L;
+        };
+
+        FutureValue future = scheduler.schedule(new Object[1], main, null, null, null, PredefinedTypes.TYPE_INT,
+                                                "main", null);
+        scheduler.start();
+
+        Assert.assertTrue(future.isDone);
+        Assert.assertNull(future.panic);
+        Assert.assertEquals(future.result, 42L);
+        // The runtime exits once start() returns, hence all strands must be complete at this point
+        Assert.assertEquals(completedChildren.get(), 10);
+    }
+
+    @Test(dataProvider = "schedulerModes")
+    public void testMainStrandPanic(String schedulerMode) {
+        Scheduler scheduler = new Scheduler(NUM_THREADS, false, schedulerMode);
+        Function<Object[], Object> main = params -> {
+            throw ErrorCreator.createError(StringUtils.fromString("main panicked"));
+        };
+
+        FutureValue future = scheduler.schedule(new Object[1], main, null, null, null, PredefinedTypes.TYPE_NULL,
+                                                "main", null);
+        scheduler.start();
+
+        Assert.assertTrue(future.isDone);
+        Assert.assertTrue(future.panic instanceof BError);
+        Assert.assertEquals(((BError) future.panic).getMessage(), "main panicked");
+        Assert.assertNull(future.result);
+    }
+
+    @Test(dataProvider = "schedulerModes")
+    public void testRestartAfterStop(String schedulerMode) {
+        Scheduler scheduler = new Scheduler(NUM_THREADS, false, schedulerMode);
+        Function<Object[], Object> init = params -> null;
+        Function<Object[], Object> main = params -> {
+            sleep(20);
+            return "done";
+        };
+
+        FutureValue initFuture = scheduler.schedule(new Object[1], init, null, null, null,
+                                                    PredefinedTypes.TYPE_NULL, "init", null);
+        scheduler.start();
+        Assert.assertTrue(initFuture.isDone);
+
+        // No poison pill of the first run may stop the second run before the main strand is done
+        FutureValue mainFuture = scheduler.schedule(new Object[1], main, null, null, null,
+                                                    PredefinedTypes.TYPE_STRING, "main", null);
+        scheduler.start();
+        Assert.assertTrue(mainFuture.isDone);
+        Assert.assertEquals(mainFuture.result, "done");
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
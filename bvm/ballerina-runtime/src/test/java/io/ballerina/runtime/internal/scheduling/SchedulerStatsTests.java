@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.observability.metrics.Counter;
+import io.ballerina.runtime.observability.metrics.Gauge;
+import io.ballerina.runtime.observability.metrics.Metric;
+import io.ballerina.runtime.observability.metrics.MetricRegistry;
+import io.ballerina.runtime.observability.metrics.noop.NoOpMetricProvider;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Test cases for {@link SchedulerStats}.
+ */
+public class SchedulerStatsTests {
+
+    @Test
+    public void testStatsPerScheduler() {
+        Scheduler first = runStrands(5);
+        Scheduler second = runStrands(7);
+
+        Assert.assertNotSame(first.getStats(), second.getStats());
+        Assert.assertEquals(first.getStats().getCompletedStrands(), 5);
+        Assert.assertEquals(second.getStats().getCompletedStrands(), 7);
+        Assert.assertEquals(first.getStats().getActiveStrands(), 0);
+        Assert.assertEquals(first.getStats().getRunQueueDepth(), 0);
+    }
+
+    @Test
+    public void testMetricTypes() {
+        // A registry of its own, since the default registry can be set only once in the process
+        MetricRegistry registry = new MetricRegistry(new NoOpMetricProvider());
+        new SchedulerStats("test_scheduler_", registry);
+
+        Map<String, Metric> metrics = new HashMap<>();
+        for (Metric metric : registry.getAllMetrics()) {
+            metrics.put(metric.getId().getName(), metric);
+        }
+        // Monotonic totals are counters, so that rates can be queried
+        for (String name : new String[]{"completed_strands_total", "yields_total", "parks_total", "unparks_total",
+                "wait_context_wakeups_total", "worker_busy_time_nanoseconds_total",
+                "worker_idle_time_nanoseconds_total"}) {
+            Assert.assertTrue(metrics.get("test_scheduler_" + name) instanceof Counter, name);
+        }
+        for (String name : new String[]{"run_queue_depth", "active_strands", "strand_queueing_delay_milliseconds",
+                "strand_run_time_milliseconds", "strand_yields"}) {
+            Assert.assertTrue(metrics.get("test_scheduler_" + name) instanceof Gauge, name);
+        }
+    }
+
+    private static Scheduler runStrands(int numStrands) {
+        Scheduler scheduler = new Scheduler(2, false);
+        for (int i = 0; i < numStrands; i++) {
+            scheduler.schedule(new Object[1], params -> null, null, null, null, PredefinedTypes.TYPE_NULL, "strand",
+                               null);
+        }
+        scheduler.start();
+        return scheduler;
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import io.ballerina.runtime.api.async.Timeout;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test cases for {@link TimerWheel}. Except for the concurrency test, the wheels are not started and the tests
+ * advance their time.
+ */
+public class TimerWheelTests {
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    @Test
+    public void testExpiryOrder() {
+        TimerWheel timerWheel = new TimerWheel();
+        List<Integer> expired = new ArrayList<>();
+        long start = System.nanoTime();
+        timerWheel.schedule(() -> expired.add(30), 30, TimeUnit.MILLISECONDS);
+        timerWheel.schedule(() -> expired.add(10), 10, TimeUnit.MILLISECONDS);
+        timerWheel.schedule(() -> expired.add(20), 20, TimeUnit.MILLISECONDS);
+        timerWheel.schedule(() -> expired.add(0), 0, TimeUnit.MILLISECONDS);
+
+        timerWheel.advance(start);
+        Assert.assertEquals(timerWheel.pendingCount(), 4);
+        timerWheel.advance(start + millis(40));
+        Assert.assertEquals(expired, List.of(0, 10, 20, 30));
+        Assert.assertEquals(timerWheel.pendingCount(), 0);
+    }
+
+    @Test
+    public void testExpiryAtDeadline() {
+        TimerWheel timerWheel = new TimerWheel();
+        AtomicInteger runs = new AtomicInteger();
+        long before = System.nanoTime();
+        Timeout timeout = timerWheel.schedule(runs::incrementAndGet, 50, TimeUnit.MILLISECONDS);
+        long after = System.nanoTime();
+
+        // A timeout never expires before its deadline, and expires within the tick which follows it
+        timerWheel.advance(before + millis(50) - 1);
+        Assert.assertEquals(runs.get(), 0);
+        Assert.assertFalse(timeout.isExpired());
+        timerWheel.advance(after + millis(51));
+        Assert.assertEquals(runs.get(), 1);
+        Assert.assertTrue(timeout.isExpired());
+        Assert.assertFalse(timeout.cancel());
+    }
+
+    @Test
+    public void testCascading() {
+        TimerWheel timerWheel = new TimerWheel();
+        // Delays beyond the 256 ticks of the finest wheel are placed in the second and third wheels, and cascade
+        // into the finer wheels as the time reaches them
+        long[] delays = {255, 256, 300, 65535, 65536, 70000};
+        AtomicInteger[] runs = new AtomicInteger[delays.length];
+        long before = System.nanoTime();
+        for (int i = 0; i < delays.length; i++) {
+            AtomicInteger taskRuns = new AtomicInteger();
+            runs[i] = taskRuns;
+            timerWheel.schedule(taskRuns::incrementAndGet, delays[i], TimeUnit.MILLISECONDS);
+        }
+        long after = System.nanoTime();
+
+        for (int i = 0; i < delays.length; i++) {
+            timerWheel.advance(before + millis(delays[i]) - 1);
+            Assert.assertEquals(runs[i].get(), 0, "delay " + delays[i]);
+            timerWheel.advance(after + millis(delays[i] + 1));
+            Assert.assertEquals(runs[i].get(), 1, "delay " + delays[i]);
+        }
+        Assert.assertEquals(timerWheel.pendingCount(), 0);
+    }
+
+    @Test
+    public void testCancel() {
+        TimerWheel timerWheel = new TimerWheel();
+        AtomicInteger cancelledRuns = new AtomicInteger();
+        AtomicInteger runs = new AtomicInteger();
+        long start = System.nanoTime();
+        Timeout cancelledBeforeTransfer = timerWheel.schedule(cancelledRuns::incrementAndGet, 10,
+                                                              TimeUnit.MILLISECONDS);
+        Timeout cancelledInWheel = timerWheel.schedule(cancelledRuns::incrementAndGet, 300, TimeUnit.MILLISECONDS);
+        timerWheel.schedule(runs::incrementAndGet, 300, TimeUnit.MILLISECONDS);
+
+        Assert.assertTrue(cancelledBeforeTransfer.cancel());
+        timerWheel.advance(start);
+        Assert.assertEquals(timerWheel.pendingCount(), 2);
+        Assert.assertTrue(cancelledInWheel.cancel());
+        Assert.assertFalse(cancelledInWheel.cancel());
+        Assert.assertTrue(cancelledInWheel.isCancelled());
+        timerWheel.advance(start);
+        Assert.assertEquals(timerWheel.pendingCount(), 1);
+
+        timerWheel.advance(start + millis(1000));
+        Assert.assertEquals(cancelledRuns.get(), 0);
+        Assert.assertEquals(runs.get(), 1);
+        Assert.assertFalse(cancelledBeforeTransfer.isExpired());
+        Assert.assertEquals(timerWheel.pendingCount(), 0);
+    }
+
+    @Test
+    public void testConcurrentScheduleAndCancel() throws Exception {
+        TimerWheel timerWheel = new TimerWheel();
+        timerWheel.start();
+        int numThreads = 4;
+        int tasksPerThread = 1000;
+        ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+        try {
+            List<Future<List<ScheduledTask>>> results = new ArrayList<>();
+            for (int i = 0; i < numThreads; i++) {
+                results.add(executor.submit(() -> {
+                    List<ScheduledTask> tasks = new ArrayList<>();
+                    for (int j = 0; j < tasksPerThread; j++) {
+                        ScheduledTask task = new ScheduledTask();
+                        task.timeout = timerWheel.schedule(task.runs::incrementAndGet,
+                                                           ThreadLocalRandom.current().nextInt(20),
+                                                           TimeUnit.MILLISECONDS);
+                        // Cancelled while the timer thread may be expiring it
+                        if (j % 2 == 0) {
+                            task.cancelled = task.timeout.cancel();
+                        }
+                        tasks.add(task);
+                    }
+                    return tasks;
+                }));
+            }
+
+            List<ScheduledTask> tasks = new ArrayList<>();
+            for (Future<List<ScheduledTask>> result : results) {
+                tasks.addAll(result.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            }
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+            for (ScheduledTask task : tasks) {
+                while (!task.cancelled && !task.timeout.isExpired() && System.nanoTime() < deadline) {
+                    Thread.sleep(1);
+                }
+            }
+            // Wait for a few more ticks, so that a cancelled task which wrongly runs would have run
+            Thread.sleep(50);
+            for (ScheduledTask task : tasks) {
+                Assert.assertEquals(task.runs.get(), task.cancelled ? 0 : 1);
+                Assert.assertEquals(task.timeout.isCancelled(), task.cancelled);
+                Assert.assertEquals(task.timeout.isExpired(), !task.cancelled);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static long millis(long millis) {
+        return TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+
+    /**
+     * A task scheduled by the concurrency test.
+     */
+    private static class ScheduledTask {
+
+        private final AtomicInteger runs = new AtomicInteger();
+        private Timeout timeout;
+        private boolean cancelled;
+    }
+}
@@ -0,0 +1,264 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.scheduling;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.async.Callback;
+import io.ballerina.runtime.api.constants.RuntimeConstants;
+import io.ballerina.runtime.api.values.BError;
+import io.ballerina.runtime.internal.values.FutureValue;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static io.ballerina.runtime.internal.scheduling.ItemGroup.POISON_PILL;
+
+/**
+ * Test cases for {@link WorkStealingRunQueue} and the work-stealing mode of the {@link Scheduler}.
+ */
+public class WorkStealingRunQueueTests {
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    @Test
+    public void testLocalQueueIsLifo() throws InterruptedException {
+        WorkStealingRunQueue runQueue = new WorkStealingRunQueue(2);
+        runQueue.registerWorker(0);
+        ItemGroup first = newGroup();
+        ItemGroup second = newGroup();
+        ItemGroup third = newGroup();
+        runQueue.add(first);
+        runQueue.add(second);
+        runQueue.add(third);
+
+        Assert.assertEquals(runQueue.size(), 3);
+        Assert.assertSame(runQueue.take(), third);
+        Assert.assertSame(runQueue.take(), second);
+        Assert.assertSame(runQueue.take(), first);
+        Assert.assertEquals(runQueue.size(), 0);
+    }
+
+    @Test
+    public void testStealIsFifo() throws Exception {
+        WorkStealingRunQueue runQueue = new WorkStealingRunQueue(2);
+        List<ItemGroup> groups = new ArrayList<>();
+        runOnWorker(runQueue, 0, () -> {
+            for (int i = 0; i < 3; i++) {
+                ItemGroup group = newGroup();
+                groups.add(group);
+                runQueue.add(group);
+            }
+            return null;
+        });
+
+        // Worker 1 has nothing of its own, hence it steals the oldest groups of worker 0
+        List<ItemGroup> stolen = runOnWorker(runQueue, 1, () -> {
+            List<ItemGroup> taken = new ArrayList<>();
+            taken.add(runQueue.take());
+            taken.add(runQueue.take());
+            return taken;
+        });
+        Assert.assertSame(stolen.get(0), groups.get(0));
+        Assert.assertSame(stolen.get(1), groups.get(1));
+
+        // The newest group is still in the local queue of worker 0
+        Assert.assertSame(runOnWorker(runQueue, 0, runQueue::take), groups.get(2));
+    }
+
+    @Test
+    public void testGroupsFromNonWorkerThreads() throws Exception {
+        WorkStealingRunQueue runQueue = new WorkStealingRunQueue(2);
+        ItemGroup local = newGroup();
+        ItemGroup external = newGroup();
+        runOnWorker(runQueue, 0, () -> {
+            runQueue.add(local);
+            return null;
+        });
+        // The calling thread is not a worker, hence the group goes to the global queue
+        runQueue.add(external);
+
+        // A worker takes its own groups first, then the global queue, before stealing from others
+        Assert.assertSame(runOnWorker(runQueue, 1, runQueue::take), external);
+        Assert.assertSame(runOnWorker(runQueue, 1, runQueue::take), local);
+    }
+
+    @Test
+    public void testIdleWorkerIsWokenUp() throws Exception {
+        WorkStealingRunQueue runQueue = new WorkStealingRunQueue(2);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<ItemGroup> taken = executor.submit(() -> {
+                runQueue.registerWorker(1);
+                return runQueue.take();
+            });
+            // Give the worker time to park
+            Thread.sleep(50);
+            ItemGroup group = newGroup();
+            runQueue.add(group);
+            Assert.assertSame(taken.get(TIMEOUT_SECONDS, TimeUnit.SECONDS), group);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testPoisonPillReachesEveryWorker() throws Exception {
+        int numWorkers = 3;
+        WorkStealingRunQueue runQueue = new WorkStealingRunQueue(numWorkers);
+        ExecutorService executor = Executors.newFixedThreadPool(numWorkers);
+        try {
+            List<Future<ItemGroup>> taken = new ArrayList<>();
+            for (int i = 0; i < numWorkers; i++) {
+                int workerId = i;
+                taken.add(executor.submit(() -> {
+                    runQueue.registerWorker(workerId);
+                    return runQueue.take();
+                }));
+            }
+            // Poison pills added by a worker must not stay in its local queue, where other workers would
+            // only find them by stealing
+            runOnWorker(runQueue, 0, () -> {
+                for (int i = 0; i < numWorkers; i++) {
+                    runQueue.add(POISON_PILL);
+                }
+                return null;
+            });
+            for (Future<ItemGroup> group : taken) {
+                Assert.assertSame(group.get(TIMEOUT_SECONDS, TimeUnit.SECONDS), POISON_PILL);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testSchedulerCompletesStrands() throws InterruptedException {
+        Scheduler scheduler = new Scheduler(4, false, RuntimeConstants.SCHEDULER_MODE_WORK_STEALING);
+        int numStrands = 50;
+        int numChildren = 20;
+        AtomicInteger executed = new AtomicInteger();
+        Function<Object[], Object> child = params -> {
+            executed.incrementAndGet();
+            return null;
+        };
+        // Each strand schedules more strands from a worker thread, which go to the local queue of that worker
+        Function<Object[], Object> parent = params -> {
+            Strand strand = (Strand) params[0];
+            for (int i = 0; i < numChildren; i++) {
+                scheduler.schedule(new Object[1], child, strand, null, null, PredefinedTypes.TYPE_NULL, "child",
+                                   null);
+            }
+            return executed.incrementAndGet();
+        };
+
+        List<FutureValue> futures = new ArrayList<>();
+        for (int i = 0; i < numStrands; i++) {
+            futures.add(scheduler.schedule(new Object[1], parent, null, null, null, PredefinedTypes.TYPE_INT,
+                                           "parent", null));
+        }
+        // Returns once all the strands are done, since the scheduler is not immortal
+        scheduler.start();
+
+        Assert.assertEquals(executed.get(), numStrands * (numChildren + 1));
+        for (FutureValue future : futures) {
+            Assert.assertTrue(future.isDone);
+            Assert.assertNull(future.panic);
+        }
+    }
+
+    @Test
+    public void testStrandsFromNonWorkerThreads() throws Exception {
+        Scheduler scheduler = new Scheduler(4, true, RuntimeConstants.SCHEDULER_MODE_WORK_STEALING);
+        Thread schedulerThread = new Thread(scheduler::start);
+        schedulerThread.start();
+
+        int numThreads = 4;
+        int strandsPerThread = 100;
+        CountDownLatch completed = new CountDownLatch(numThreads * strandsPerThread);
+        AtomicInteger sum = new AtomicInteger();
+        Callback callback = new Callback() {
+            @Override
+            public void notifySuccess(Object result) {
+                sum.addAndGet((Integer) result);
+                completed.countDown();
+            }
+
+            @Override
+            public void notifyFailure(BError error) {
+                Assert.fail("strand failed: " + error);
+            }
+        };
+        Function<Object[], Object> function = params -> 1;
+
+        // Callbacks of network and timer threads schedule strands from threads which are not workers
+        ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+        try {
+            for (int i = 0; i < numThreads; i++) {
+                executor.submit(() -> {
+                    for (int j = 0; j < strandsPerThread; j++) {
+                        scheduler.schedule(new Object[1], function, null, callback, null, PredefinedTypes.TYPE_INT,
+                                           "external", null);
+                    }
+                });
+            }
+            Assert.assertTrue(completed.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            Assert.assertEquals(sum.get(), numThreads * strandsPerThread);
+        } finally {
+            executor.shutdownNow();
+            scheduler.poison();
+            schedulerThread.join(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+        }
+        Assert.assertFalse(schedulerThread.isAlive());
+    }
+
+    private static ItemGroup newGroup() {
+        return new ItemGroup(new SchedulerItem(params -> null, new Object[1], null));
+    }
+
+    private static <T> T runOnWorker(WorkStealingRunQueue runQueue, int workerId, WorkerTask<T> task)
+            throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            return executor.submit(() -> {
+                runQueue.registerWorker(workerId);
+                return task.run();
+            }).get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * A task which runs on a thread registered as a worker of the run queue.
+     *
+     * @param <T> result type
+     */
+    private interface WorkerTask<T> {
+
+        T run() throws Exception;
+    }
+}
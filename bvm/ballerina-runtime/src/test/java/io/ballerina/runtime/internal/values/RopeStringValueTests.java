@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Test cases for {@link RopeStringValue}.
+ */
+public class RopeStringValueTests {
+
+    private static final String PIECE = repeat('a', RopeStringValue.MIN_ROPE_LENGTH);
+
+    @Test
+    public void testConcatSharingBuffer() {
+        BString base = StringUtils.fromString(PIECE).concat(StringUtils.fromString("b"));
+        Assert.assertTrue(base instanceof RopeStringValue);
+
+        // The first concatenation extends the shared buffer, the second one has to copy it
+        BString first = base.concat(StringUtils.fromString("c"));
+        BString second = base.concat(StringUtils.fromString("d"));
+
+        Assert.assertEquals(base.getValue(), PIECE + "b");
+        Assert.assertEquals(first.getValue(), PIECE + "bc");
+        Assert.assertEquals(second.getValue(), PIECE + "bd");
+        Assert.assertEquals(second.length(), PIECE.length() + 2);
+    }
+
+    @Test
+    public void testConcatAfterFlatten() {
+        BString base = StringUtils.fromString(PIECE).concat(StringUtils.fromString("b"));
+        BString longer = base.concat(StringUtils.fromString(PIECE));
+
+        // Flattening releases the shared buffer, further concatenations start from the flattened value
+        Assert.assertEquals(base.getValue(), PIECE + "b");
+        BString fromFlattened = base.concat(StringUtils.fromString("c"));
+
+        Assert.assertEquals(fromFlattened.getValue(), PIECE + "bc");
+        Assert.assertEquals(longer.getValue(), PIECE + "b" + PIECE);
+        Assert.assertEquals(longer.concat(StringUtils.fromString("d")).getValue(), PIECE + "b" + PIECE + "d");
+    }
+
+    @Test
+    public void testConcatNonBmp() {
+        String nonBmp = "😀";
+        BString base = StringUtils.fromString(PIECE).concat(StringUtils.fromString(nonBmp));
+        BString longer = base.concat(StringUtils.fromString(nonBmp));
+
+        Assert.assertEquals(base.length(), PIECE.length() + 1);
+        Assert.assertEquals(longer.length(), PIECE.length() + 2);
+        Assert.assertEquals(longer.getCodePoint(PIECE.length() + 1), 0x1F600);
+        Assert.assertEquals(longer.substring(PIECE.length(), PIECE.length() + 2).getValue(), nonBmp + nonBmp);
+    }
+
+    private static String repeat(char c, int count) {
+        StringBuilder builder = new StringBuilder(count);
+        for (int i = 0; i < count; i++) {
+            builder.append(c);
+        }
+        return builder.toString();
+    }
+}
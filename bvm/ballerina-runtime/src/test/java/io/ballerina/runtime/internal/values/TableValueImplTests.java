@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.runtime.internal.values;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.types.BMapType;
+import io.ballerina.runtime.internal.types.BTableType;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Test cases for iterating a {@link TableValueImpl}.
+ */
+public class TableValueImplTests {
+
+    private static final BMapType ROW_TYPE = new BMapType(PredefinedTypes.TYPE_INT);
+    private static final BString ID = StringUtils.fromString("id");
+
+    @Test
+    public void testIterationAfterRowsAreReclaimed() {
+        TableValueImpl<Object, MapValueImpl<BString, Object>> table = newTable(0, 8);
+        IteratorValue iterator = table.getIterator();
+        for (long id = 0; id < 4; id++) {
+            Assert.assertEquals(nextId(iterator), id);
+        }
+
+        // Remove the visited rows including the last returned one, and add a row, which reclaims the gaps
+        for (long id = 0; id < 4; id++) {
+            table.remove(id);
+        }
+        table.add(newRow(8));
+
+        List<Long> remaining = new ArrayList<>();
+        while (iterator.hasNext()) {
+            remaining.add(nextId(iterator));
+        }
+        Assert.assertEquals(remaining, Arrays.asList(4L, 5L, 6L, 7L, 8L));
+    }
+
+    @Test
+    public void testIterationAfterUnvisitedRowsAreRemoved() {
+        TableValueImpl<Object, MapValueImpl<BString, Object>> table = newTable(0, 8);
+        IteratorValue iterator = table.getIterator();
+        Assert.assertEquals(nextId(iterator), 0L);
+        Assert.assertEquals(nextId(iterator), 1L);
+
+        table.remove(0L);
+        table.remove(3L);
+        table.remove(5L);
+        table.add(newRow(8));
+
+        List<Long> remaining = new ArrayList<>();
+        while (iterator.hasNext()) {
+            remaining.add(nextId(iterator));
+        }
+        Assert.assertEquals(remaining, Arrays.asList(2L, 4L, 6L, 7L, 8L));
+    }
+
+    @Test(expectedExceptions = NoSuchElementException.class)
+    public void testNextAfterLastRow() {
+        TableValueImpl<Object, MapValueImpl<BString, Object>> table = newTable(0, 2);
+        IteratorValue iterator = table.getIterator();
+        nextId(iterator);
+        nextId(iterator);
+        iterator.next();
+    }
+
+    private static TableValueImpl<Object, MapValueImpl<BString, Object>> newTable(long from, long to) {
+        TableValueImpl<Object, MapValueImpl<BString, Object>> table =
+                new TableValueImpl<>(new BTableType(ROW_TYPE, new String[]{"id"}, false));
+        for (long id = from; id < to; id++) {
+            table.add(newRow(id));
+        }
+        return table;
+    }
+
+    private static MapValueImpl<BString, Object> newRow(long id) {
+        MapValueImpl<BString, Object> row = new MapValueImpl<>(ROW_TYPE);
+        row.put(ID, id);
+        return row;
+    }
+
+    private static long nextId(IteratorValue iterator) {
+        return (Long) ((TupleValueImpl) iterator.next()).get(0);
+    }
+}
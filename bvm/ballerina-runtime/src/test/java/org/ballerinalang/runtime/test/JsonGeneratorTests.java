@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.runtime.test;
+
+import io.ballerina.runtime.api.PredefinedTypes;
+import io.ballerina.runtime.api.flags.SymbolFlags;
+import io.ballerina.runtime.api.types.Field;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.internal.JsonGenerator;
+import io.ballerina.runtime.internal.JsonParser;
+import io.ballerina.runtime.internal.types.BField;
+import io.ballerina.runtime.internal.types.BRecordType;
+import io.ballerina.runtime.internal.values.MapValueImpl;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Test cases for {@link JsonGenerator class}.
+ */
+public class JsonGeneratorTests {
+
+    @Test
+    public void testUtf8OutputMatchesWriterOutput() throws IOException {
+        String json = "{\"name\":\"café € 😀\", \"escaped\":\"a\\\"b\\\\c/d\\n\\t\", " +
+                "\"slash\":\"x/y\", \"count\":-9223372036854775808, \"max\":9223372036854775807, " +
+                "\"ratio\":0.25, \"flag\":true, \"none\":null, \"items\":[1, -20, \"हि\", {\"k\":[]}]}";
+        Object value = JsonParser.parse(json);
+
+        ByteArrayOutputStream writerOut = new ByteArrayOutputStream();
+        JsonGenerator writerGen = new JsonGenerator(new OutputStreamWriter(writerOut, StandardCharsets.UTF_8));
+        writerGen.serialize(value);
+        writerGen.flush();
+
+        ByteArrayOutputStream utf8Out = new ByteArrayOutputStream();
+        JsonGenerator utf8Gen = new JsonGenerator(utf8Out, StandardCharsets.UTF_8);
+        utf8Gen.serialize(value);
+        utf8Gen.flush();
+
+        Assert.assertEquals(utf8Out.toByteArray(), writerOut.toByteArray());
+        // '/' is escaped only in strings which have other characters to escape
+        Assert.assertEquals(new String(utf8Out.toByteArray(), StandardCharsets.UTF_8),
+                            json.replace("c/d", "c\\/d"));
+    }
+
+    @Test
+    public void testRecordWithRestFields() throws IOException {
+        Map<String, Field> fields = new HashMap<>();
+        fields.put("id", new BField(PredefinedTypes.TYPE_INT, "id", SymbolFlags.REQUIRED));
+        BRecordType recordType = new BRecordType("Person", null, 0, fields, PredefinedTypes.TYPE_JSON, false, 0);
+        MapValueImpl<BString, Object> record = new MapValueImpl<>(recordType);
+        record.put(StringUtils.fromString("id"), 1L);
+        record.put(StringUtils.fromString("näme"), StringUtils.fromString("Anne"));
+
+        ByteArrayOutputStream writerOut = new ByteArrayOutputStream();
+        JsonGenerator writerGen = new JsonGenerator(new OutputStreamWriter(writerOut, StandardCharsets.UTF_8));
+        writerGen.serialize(record);
+        writerGen.flush();
+
+        ByteArrayOutputStream utf8Out = new ByteArrayOutputStream();
+        JsonGenerator utf8Gen = new JsonGenerator(utf8Out, StandardCharsets.UTF_8);
+        utf8Gen.serialize(record);
+        utf8Gen.flush();
+
+        Assert.assertEquals(utf8Out.toByteArray(), writerOut.toByteArray());
+        Assert.assertEquals(new String(utf8Out.toByteArray(), StandardCharsets.UTF_8),
+                            "{\"id\":1, \"näme\":\"Anne\"}");
+        // Names of rest fields come from the data, hence they are not cached on the type
+        Assert.assertEquals(recordType.getEncodedFieldNames().keySet(), Collections.singleton("id"));
+    }
+
+    @Test
+    public void testLargeString() throws IOException {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            builder.append("é\"😀");
+        }
+        String value = builder.toString();
+
+        ByteArrayOutputStream writerOut = new ByteArrayOutputStream();
+        JsonGenerator writerGen = new JsonGenerator(new OutputStreamWriter(writerOut, StandardCharsets.UTF_8));
+        writerGen.writeString(value);
+        writerGen.flush();
+
+        ByteArrayOutputStream utf8Out = new ByteArrayOutputStream();
+        JsonGenerator utf8Gen = new JsonGenerator(utf8Out, StandardCharsets.UTF_8);
+        utf8Gen.writeString(value);
+        utf8Gen.flush();
+
+        Assert.assertEquals(utf8Out.toByteArray(), writerOut.toByteArray());
+    }
+}
@@ -19,6 +19,8 @@ package io.ballerina.cli.cmd;
 
 import io.ballerina.cli.BLauncherCmd;
 import io.ballerina.cli.TaskExecutor;
+import io.ballerina.cli.daemon.BuildDaemonClient;
+import io.ballerina.cli.launcher.BLauncherException;
 import io.ballerina.cli.task.CleanTargetDirTask;
 import io.ballerina.cli.task.CompileTask;
 import io.ballerina.cli.task.CreateBaloTask;
@@ -30,6 +32,7 @@ import io.ballerina.cli.utils.FileUtils;
 import io.ballerina.projects.BuildOptions;
 import io.ballerina.projects.BuildOptionsBuilder;
 import io.ballerina.projects.Project;
+import io.ballerina.projects.ProjectEnvironmentBuilder;
 import io.ballerina.projects.ProjectException;
 import io.ballerina.projects.directory.BuildProject;
 import io.ballerina.projects.directory.SingleFileProject;
@@ -41,8 +44,10 @@ import picocli.CommandLine;
 import java.io.PrintStream;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Optional;
 
 import static io.ballerina.cli.cmd.Constants.BUILD_COMMAND;
 import static io.ballerina.runtime.api.constants.RuntimeConstants.SYSTEM_PROP_BAL_DEBUG;
@@ -61,6 +66,7 @@ public class BuildCommand implements BLauncherCmd {
     private Path projectPath;
     private boolean exitWhenFinish;
     private boolean skipCopyLibsFromDist;
+    private ProjectEnvironmentBuilder environmentBuilder;
 
     public BuildCommand() {
         this.projectPath = Paths.get(System.getProperty(ProjectConstants.USER_DIR));
@@ -100,6 +106,22 @@ public class BuildCommand implements BLauncherCmd {
         this.output = output;
     }
 
+    /**
+     * Creates a build command which loads the project in an existing environment. This is used by the build daemon.
+     *
+     * @param outStream output stream
+     * @param errStream error stream
+     * @param environmentBuilder builder of the project environment
+     */
+    public BuildCommand(PrintStream outStream, PrintStream errStream, ProjectEnvironmentBuilder environmentBuilder) {
+        this.projectPath = Paths.get(System.getProperty(ProjectConstants.USER_DIR));
+        this.outStream = outStream;
+        this.errStream = errStream;
+        this.exitWhenFinish = false;
+        this.skipCopyLibsFromDist = false;
+        this.environmentBuilder = environmentBuilder;
+    }
+
     @CommandLine.Option(names = {"--compile", "-c"}, description = "Compile the source without generating " +
                                                                    "executable(s).")
     private boolean compile;
@@ -147,6 +169,10 @@ public class BuildCommand implements BLauncherCmd {
             "JAR file(s).")
     private Boolean observabilityIncluded;
 
+    @CommandLine.Option(names = "--daemon", description = "Build in a background build daemon, which keeps the " +
+            "compiler warm between builds.")
+    private boolean daemon;
+
     public void execute() {
         if (this.helpFlag) {
             String commandUsageInfo = BLauncherCmd.getCommandUsageInfo(BUILD_COMMAND);
@@ -170,7 +196,7 @@ public class BuildCommand implements BLauncherCmd {
         // check if there are too many arguments.
         if (userArgs.length > 0) {
             CommandUtil.printError(this.errStream, "too many arguments.", buildCmd, false);
-            CommandUtil.exitError(this.exitWhenFinish);
+            exitError();
             return;
         }
 
@@ -187,19 +213,43 @@ public class BuildCommand implements BLauncherCmd {
         }
         BuildOptions buildOptions = constructBuildOptions();
 
+        // Tests are run in a child process which writes to the standard streams of the build daemon, hence builds
+        // which run tests are not sent to the daemon
+        boolean runsTests = !FileUtils.hasExtension(this.projectPath) && !Boolean.TRUE.equals(this.skipTests);
+        if (this.daemon && this.environmentBuilder == null) {
+            if (runsTests) {
+                this.outStream.println("The build daemon does not run tests. Building in this process...");
+            } else {
+                Optional<BuildDaemonClient.Result> result = BuildDaemonClient.execute(BUILD_COMMAND, daemonArgs(),
+                        this.outStream, this.errStream);
+                if (result.isPresent()) {
+                    if (result.get().exitCode() != 0) {
+                        failDaemonBuild();
+                        return;
+                    }
+                    if (this.exitWhenFinish) {
+                        Runtime.getRuntime().exit(0);
+                    }
+                    return;
+                }
+            }
+        }
+
         boolean isSingleFileBuild = false;
         if (FileUtils.hasExtension(this.projectPath)) {
             if (this.compile) {
                 CommandUtil.printError(this.errStream,
                         "'-c' or '--compile' can only be used with modules.", null, false);
-                CommandUtil.exitError(this.exitWhenFinish);
+                exitError();
                 return;
             }
             try {
-                project = SingleFileProject.load(this.projectPath, buildOptions);
+                project = this.environmentBuilder == null ?
+                        SingleFileProject.load(this.projectPath, buildOptions) :
+                        SingleFileProject.load(this.environmentBuilder, this.projectPath, buildOptions);
             } catch (ProjectException e) {
                 CommandUtil.printError(this.errStream, e.getMessage(), buildCmd, false);
-                CommandUtil.exitError(this.exitWhenFinish);
+                exitError();
                 return;
             }
             isSingleFileBuild = true;
@@ -211,14 +261,16 @@ public class BuildCommand implements BLauncherCmd {
                                 "file.",
                         "ballerina build -o <output-file> <ballerina-file> ",
                         true);
-                CommandUtil.exitError(this.exitWhenFinish);
+                exitError();
                 return;
             }
             try {
-                project = BuildProject.load(this.projectPath, buildOptions);
+                project = this.environmentBuilder == null ?
+                        BuildProject.load(this.projectPath, buildOptions) :
+                        BuildProject.load(this.environmentBuilder, this.projectPath, buildOptions);
             } catch (ProjectException e) {
                 CommandUtil.printError(this.errStream, e.getMessage(), buildCmd, false);
-                CommandUtil.exitError(this.exitWhenFinish);
+                exitError();
                 return;
             }
         }
@@ -248,6 +300,54 @@ public class BuildCommand implements BLauncherCmd {
         }
     }
 
+    private List<String> daemonArgs() {
+        List<String> daemonArgs = new ArrayList<>();
+        if (this.compile) {
+            daemonArgs.add("--compile");
+        }
+        if (this.output != null) {
+            daemonArgs.add("--output");
+            daemonArgs.add(Paths.get(System.getProperty(ProjectConstants.USER_DIR)).resolve(this.output).toString());
+        }
+        if (Boolean.TRUE.equals(this.offline)) {
+            daemonArgs.add("--offline");
+        }
+        if (Boolean.TRUE.equals(this.skipTests)) {
+            daemonArgs.add("--skip-tests");
+        }
+        if (Boolean.TRUE.equals(this.experimentalFlag)) {
+            daemonArgs.add("--experimental");
+        }
+        if (Boolean.TRUE.equals(this.observabilityIncluded)) {
+            daemonArgs.add("--observability-included");
+        }
+        if (this.dumpBIR) {
+            daemonArgs.add("--dump-bir");
+        }
+        if (this.dumpBIRFile != null) {
+            daemonArgs.add("--dump-bir-file");
+            daemonArgs.add(this.dumpBIRFile);
+        }
+        daemonArgs.add(this.projectPath.toAbsolutePath().toString());
+        return daemonArgs;
+    }
+
+    private void failDaemonBuild() {
+        if (!this.exitWhenFinish) {
+            // The daemon already printed the error, and the command fails as a build in this process does
+            throw new BLauncherException();
+        }
+        CommandUtil.exitError(true);
+    }
+
+    private void exitError() {
+        if (this.environmentBuilder != null) {
+            // The error is already printed, and the build daemon only needs to know that the command failed
+            throw new BLauncherException();
+        }
+        CommandUtil.exitError(this.exitWhenFinish);
+    }
+
     private BuildOptions constructBuildOptions() {
         return new BuildOptionsBuilder()
                 .codeCoverage(coverage)
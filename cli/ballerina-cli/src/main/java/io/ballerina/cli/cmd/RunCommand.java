@@ -20,6 +20,8 @@ package io.ballerina.cli.cmd;
 
 import io.ballerina.cli.BLauncherCmd;
 import io.ballerina.cli.TaskExecutor;
+import io.ballerina.cli.daemon.BuildDaemonClient;
+import io.ballerina.cli.launcher.BLauncherException;
 import io.ballerina.cli.task.CleanTargetDirTask;
 import io.ballerina.cli.task.CompileTask;
 import io.ballerina.cli.task.CreateBaloTask;
@@ -30,6 +32,7 @@ import io.ballerina.cli.utils.FileUtils;
 import io.ballerina.projects.BuildOptions;
 import io.ballerina.projects.BuildOptionsBuilder;
 import io.ballerina.projects.Project;
+import io.ballerina.projects.ProjectEnvironmentBuilder;
 import io.ballerina.projects.ProjectException;
 import io.ballerina.projects.directory.BuildProject;
 import io.ballerina.projects.directory.SingleFileProject;
@@ -38,7 +41,11 @@ import picocli.CommandLine;
 import java.io.PrintStream;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 import static io.ballerina.cli.cmd.Constants.RUN_COMMAND;
 import static io.ballerina.runtime.api.constants.RuntimeConstants.SYSTEM_PROP_BAL_DEBUG;
@@ -55,6 +62,8 @@ public class RunCommand implements BLauncherCmd {
     private final PrintStream errStream;
     private Path projectPath;
     private boolean exitWhenFinish;
+    private ProjectEnvironmentBuilder environmentBuilder;
+    private Consumer<List<String>> executableLauncher;
 
     @CommandLine.Parameters(description = "Program arguments")
     private List<String> argList;
@@ -80,6 +89,10 @@ public class RunCommand implements BLauncherCmd {
             "when run is used with a source file or a module.")
     private Boolean observabilityIncluded;
 
+    @CommandLine.Option(names = "--daemon", description = "Build in a background build daemon, which keeps the " +
+            "compiler warm between builds, and then run.")
+    private boolean daemon;
+
     private static final String runCmd = "ballerina run [--experimental] [--offline] \n" +
             "                  <executable-jar | ballerina-file | . | package-path> [program-args] [(--key=value)...]";
 
@@ -95,6 +108,24 @@ public class RunCommand implements BLauncherCmd {
         this.errStream = outStream;
     }
 
+    /**
+     * Creates a run command which loads the project in an existing environment, and hands over the command of the
+     * executable to the given launcher instead of running it. This is used by the build daemon.
+     *
+     * @param outStream output stream
+     * @param errStream error stream
+     * @param environmentBuilder builder of the project environment
+     * @param executableLauncher launcher which receives the command of the executable
+     */
+    public RunCommand(PrintStream outStream, PrintStream errStream, ProjectEnvironmentBuilder environmentBuilder,
+                      Consumer<List<String>> executableLauncher) {
+        this.outStream = outStream;
+        this.errStream = errStream;
+        this.exitWhenFinish = false;
+        this.environmentBuilder = environmentBuilder;
+        this.executableLauncher = executableLauncher;
+    }
+
     public void execute() {
         if (this.helpFlag) {
             String commandUsageInfo = BLauncherCmd.getCommandUsageInfo(RUN_COMMAND);
@@ -111,32 +142,52 @@ public class RunCommand implements BLauncherCmd {
         String[] args;
         if (this.argList == null) {
             CommandUtil.printError(this.errStream, "no package path provided.", runCmd, false);
-            CommandUtil.exitError(this.exitWhenFinish);
+            exitError();
             return;
         } else {
             args = argList.subList(1, argList.size()).toArray(new String[0]);
             this.projectPath = Paths.get(argList.get(0)).toAbsolutePath().normalize();
         }
 
+        // The daemon only builds the executable, which runs in this process to keep the standard streams of the user
+        if (this.daemon && this.environmentBuilder == null && this.debugPort == null) {
+            Optional<BuildDaemonClient.Result> result = BuildDaemonClient.execute(RUN_COMMAND, daemonArgs(),
+                    this.outStream, this.errStream);
+            if (result.isPresent()) {
+                if (result.get().exitCode() != 0 || !result.get().executable().isPresent()) {
+                    failDaemonBuild();
+                    return;
+                }
+                List<String> executable = new ArrayList<>(result.get().executable().get());
+                executable.addAll(Arrays.asList(args));
+                RunExecutableTask.runExecutable(executable);
+                return;
+            }
+        }
+
         // load project
         Project project;
         BuildOptions buildOptions = constructBuildOptions();
         boolean isSingleFileBuild = false;
         if (FileUtils.hasExtension(this.projectPath)) {
             try {
-                project = SingleFileProject.load(this.projectPath, buildOptions);
+                project = this.environmentBuilder == null ?
+                        SingleFileProject.load(this.projectPath, buildOptions) :
+                        SingleFileProject.load(this.environmentBuilder, this.projectPath, buildOptions);
             } catch (ProjectException e) {
                 CommandUtil.printError(this.errStream, e.getMessage(), runCmd, false);
-                CommandUtil.exitError(this.exitWhenFinish);
+                exitError();
                 return;
             }
             isSingleFileBuild = true;
         } else {
             try {
-                project = BuildProject.load(this.projectPath, buildOptions);
+                project = this.environmentBuilder == null ?
+                        BuildProject.load(this.projectPath, buildOptions) :
+                        BuildProject.load(this.environmentBuilder, this.projectPath, buildOptions);
             } catch (ProjectException e) {
                 CommandUtil.printError(this.errStream, e.getMessage(), runCmd, false);
-                CommandUtil.exitError(this.exitWhenFinish);
+                exitError();
                 return;
             }
         }
@@ -148,7 +199,9 @@ public class RunCommand implements BLauncherCmd {
                 .addTask(new CompileTask(outStream, errStream)) // compile the modules
                 .addTask(new CreateBaloTask(outStream), isSingleFileBuild) // create the BALO (build projects only)
 //                .addTask(new CopyResourcesTask(), isSingleFileBuild)
-                .addTask(new RunExecutableTask(args, outStream, errStream))
+                .addTask(this.executableLauncher == null ?
+                        new RunExecutableTask(args, outStream, errStream) :
+                        new RunExecutableTask(args, outStream, errStream, this.executableLauncher))
                 .build();
 
         taskExecutor.executeTasks(project);
@@ -182,6 +235,37 @@ public class RunCommand implements BLauncherCmd {
     public void setParentCmdParser(CommandLine parentCmdParser) {
     }
 
+    private List<String> daemonArgs() {
+        List<String> daemonArgs = new ArrayList<>();
+        if (this.offline) {
+            daemonArgs.add("--offline");
+        }
+        if (this.experimentalFlag) {
+            daemonArgs.add("--experimental");
+        }
+        if (Boolean.TRUE.equals(this.observabilityIncluded)) {
+            daemonArgs.add("--observability-included");
+        }
+        daemonArgs.add(this.projectPath.toString());
+        return daemonArgs;
+    }
+
+    private void failDaemonBuild() {
+        if (!this.exitWhenFinish) {
+            // The daemon already printed the error, and the command fails as a build in this process does
+            throw new BLauncherException();
+        }
+        CommandUtil.exitError(true);
+    }
+
+    private void exitError() {
+        if (this.environmentBuilder != null) {
+            // The error is already printed, and the build daemon only needs to know that the command failed
+            throw new BLauncherException();
+        }
+        CommandUtil.exitError(this.exitWhenFinish);
+    }
+
     private BuildOptions constructBuildOptions() {
         return new BuildOptionsBuilder()
                 .codeCoverage(false)
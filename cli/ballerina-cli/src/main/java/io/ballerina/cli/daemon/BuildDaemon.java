@@ -0,0 +1,319 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.cli.daemon;
+
+import io.ballerina.cli.BLauncherCmd;
+import io.ballerina.cli.cmd.BuildCommand;
+import io.ballerina.cli.cmd.RunCommand;
+import io.ballerina.cli.launcher.BLauncherException;
+import io.ballerina.cli.launcher.RuntimePanicException;
+import io.ballerina.projects.ProjectEnvironmentBuilder;
+import io.ballerina.projects.environment.Environment;
+import io.ballerina.projects.environment.EnvironmentBuilder;
+import io.ballerina.projects.util.ProjectConstants;
+import org.ballerinalang.compiler.BLangCompilerException;
+import picocli.CommandLine;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+
+import static io.ballerina.projects.util.ProjectConstants.USER_DIR;
+
+/**
+ * A background process which builds projects on behalf of the {@code build} and {@code run} commands.
+ * <p>
+ * The daemon keeps the compiler environment, which holds the lang libs and the resolved dependency packages, alive
+ * between builds, together with the warmed up JVM. The environment is created again when the dependencies in the
+ * user home change, and after a build which failed, since the compiler keeps the error count of a build in the
+ * environment. The daemon shuts down when the distribution changes, and when it is idle for a while.
+ * <p>
+ * Requests are served one at a time, since the compiler environment is not thread safe.
+ *
+ * @since 2.0.0
+ */
+public class BuildDaemon {
+
+    private static final int IDLE_TIMEOUT_MILLIS = 3 * 60 * 60 * 1000;
+    private static final int REQUEST_TIMEOUT_MILLIS = 30 * 1000;
+    private static final String COMPILATION_ERROR_MESSAGE = "compilation contains errors";
+    private static final String OFFLINE_OPTION = "--offline";
+    private static final String JAVA_CLASS_PATH = "java.class.path";
+
+    private final Path registryFile;
+    private final String token;
+    private final byte[] tokenBytes;
+    private final Map<Boolean, Environment> environments = new HashMap<>();
+    private final PrintStream logStream = System.err;
+    private String distributionFingerprint;
+    private String dependenciesFingerprint;
+
+    private BuildDaemon(Path registryFile, String token) {
+        this.registryFile = registryFile;
+        this.token = token;
+        this.tokenBytes = token.getBytes(StandardCharsets.UTF_8);
+    }
+
+    public static void main(String... args) {
+        byte[] tokenBytes = new byte[16];
+        new SecureRandom().nextBytes(tokenBytes);
+        StringBuilder token = new StringBuilder();
+        for (byte b : tokenBytes) {
+            token.append(String.format("%02x", b));
+        }
+
+        BuildDaemon buildDaemon = new BuildDaemon(BuildDaemonProtocol.registryFile(), token.toString());
+        try {
+            buildDaemon.serve();
+        } catch (IOException e) {
+            buildDaemon.logStream.println("error: build daemon stopped: " + e.getMessage());
+            Runtime.getRuntime().exit(1);
+        }
+        Runtime.getRuntime().exit(0);
+    }
+
+    private void serve() throws IOException {
+        try (ServerSocket serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress())) {
+            serverSocket.setSoTimeout(IDLE_TIMEOUT_MILLIS);
+            this.distributionFingerprint = distributionFingerprint();
+            this.dependenciesFingerprint = dependenciesFingerprint();
+            BuildDaemonProtocol.writeRegistry(this.registryFile, serverSocket.getLocalPort(), this.token);
+            try {
+                // Load the lang libs while the first client waits for the connection to be accepted
+                environment(false);
+                boolean serving = true;
+                while (serving) {
+                    Socket socket;
+                    try {
+                        socket = serverSocket.accept();
+                    } catch (SocketTimeoutException e) {
+                        break;
+                    }
+                    try (Socket client = socket) {
+                        // A client which does not send its request in time must not keep the other clients waiting
+                        client.setSoTimeout(REQUEST_TIMEOUT_MILLIS);
+                        serving = serve(client);
+                    } catch (IOException e) {
+                        this.logStream.println("error: failed to serve a build request: " + e.getMessage());
+                    } catch (RuntimeException e) {
+                        this.logStream.println("error: failed to serve a build request: " + e);
+                        e.printStackTrace(this.logStream);
+                    }
+                }
+            } finally {
+                unregister();
+            }
+        }
+    }
+
+    private boolean serve(Socket socket) throws IOException {
+        DataInputStream inputStream = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+        DataOutputStream outputStream = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+        byte[] clientToken = BuildDaemonProtocol.readString(inputStream, this.tokenBytes.length)
+                .getBytes(StandardCharsets.UTF_8);
+        if (!MessageDigest.isEqual(this.tokenBytes, clientToken)) {
+            return true;
+        }
+        String workingDir = BuildDaemonProtocol.readString(inputStream);
+        String command = BuildDaemonProtocol.readString(inputStream);
+        List<String> args = BuildDaemonProtocol.readStrings(inputStream);
+
+        if (BuildDaemonProtocol.STOP_COMMAND.equals(command)) {
+            outputStream.writeByte(BuildDaemonProtocol.EXIT);
+            outputStream.writeInt(0);
+            outputStream.flush();
+            return false;
+        }
+        if (!this.distributionFingerprint.equals(distributionFingerprint())) {
+            // The classes of this daemon may be stale, hence the client starts a new one
+            outputStream.writeByte(BuildDaemonProtocol.STALE);
+            outputStream.flush();
+            return false;
+        }
+        String currentDependenciesFingerprint = dependenciesFingerprint();
+        if (!this.dependenciesFingerprint.equals(currentDependenciesFingerprint)) {
+            this.environments.clear();
+            this.dependenciesFingerprint = currentDependenciesFingerprint;
+        }
+
+        List<List<String>> executables = new ArrayList<>();
+        PrintStream out = new PrintStream(new FrameOutputStream(outputStream, BuildDaemonProtocol.STDOUT), true,
+                StandardCharsets.UTF_8.name());
+        PrintStream err = new PrintStream(new FrameOutputStream(outputStream, BuildDaemonProtocol.STDERR), true,
+                StandardCharsets.UTF_8.name());
+        PrintStream systemOut = System.out;
+        PrintStream systemErr = System.err;
+        String systemUserDir = System.getProperty(USER_DIR);
+        int exitCode;
+        try {
+            System.setOut(out);
+            System.setErr(err);
+            System.setProperty(USER_DIR, workingDir);
+            exitCode = execute(command, args, out, err, executables);
+        } finally {
+            out.flush();
+            err.flush();
+            System.setOut(systemOut);
+            System.setErr(systemErr);
+            System.setProperty(USER_DIR, systemUserDir);
+        }
+
+        if (exitCode != 0) {
+            this.environments.clear();
+        } else if (!executables.isEmpty()) {
+            outputStream.writeByte(BuildDaemonProtocol.EXECUTABLE);
+            BuildDaemonProtocol.writeStrings(outputStream, executables.get(0));
+        }
+        outputStream.writeByte(BuildDaemonProtocol.EXIT);
+        outputStream.writeInt(exitCode);
+        outputStream.flush();
+        return true;
+    }
+
+    private int execute(String command, List<String> args, PrintStream out, PrintStream err,
+                        List<List<String>> executables) {
+        try {
+            ProjectEnvironmentBuilder environmentBuilder =
+                    ProjectEnvironmentBuilder.getBuilder(environment(args.contains(OFFLINE_OPTION)));
+            Optional<BLauncherCmd> launcherCmd = Arrays.<BLauncherCmd>asList(
+                    new BuildCommand(out, err, environmentBuilder),
+                    new RunCommand(out, err, environmentBuilder, executables::add)).stream()
+                    .filter(cmd -> cmd.getName().equals(command))
+                    .findFirst();
+            if (!launcherCmd.isPresent()) {
+                err.println("error: the build daemon does not support the '" + command + "' command");
+                return 1;
+            }
+            CommandLine cmdParser = new CommandLine(launcherCmd.get());
+            cmdParser.setStopAtPositional(true).setUnmatchedOptionsArePositionalParams(true);
+            cmdParser.parse(args.toArray(new String[0]));
+            launcherCmd.get().execute();
+            return 0;
+        } catch (BLauncherException e) {
+            e.getMessages().forEach(err::println);
+            return 1;
+        } catch (RuntimePanicException e) {
+            return e.getExitCode();
+        } catch (BLangCompilerException e) {
+            if (e.getMessage() == null || !e.getMessage().contains(COMPILATION_ERROR_MESSAGE)) {
+                err.println("error: " + e.getMessage());
+            }
+            return 1;
+        } catch (Throwable e) {
+            err.println("error: unexpected error in the build daemon: " + e);
+            e.printStackTrace(this.logStream);
+            return 1;
+        }
+    }
+
+    private Environment environment(boolean offline) {
+        // The offline flag of the central repository is read when the environment is created
+        return this.environments.computeIfAbsent(offline, key -> {
+            System.setProperty(ProjectConstants.BALLERINA_OFFLINE_FLAG, String.valueOf(offline));
+            return EnvironmentBuilder.buildDefault();
+        });
+    }
+
+    /**
+     * Fingerprints the class path of this daemon, which consists of the libraries of the distribution. Unlike the
+     * whole distribution, it is small enough to be checked on each request.
+     */
+    private String distributionFingerprint() throws IOException {
+        Path[] classPath = Arrays.stream(System.getProperty(JAVA_CLASS_PATH).split(File.pathSeparator))
+                .filter(entry -> !entry.isEmpty())
+                .map(Paths::get)
+                .toArray(Path[]::new);
+        return BuildDaemonProtocol.fingerprint(classPath);
+    }
+
+    private String dependenciesFingerprint() throws IOException {
+        Path userHome = BuildDaemonProtocol.userHome();
+        return BuildDaemonProtocol.fingerprint(userHome.resolve(ProjectConstants.REPO_BALO_DIR_NAME),
+                userHome.resolve(ProjectConstants.SETTINGS_FILE_NAME));
+    }
+
+    private void unregister() {
+        try {
+            Properties registry = BuildDaemonProtocol.readRegistry(this.registryFile);
+            // Another daemon may have been started in the meantime
+            if (this.token.equals(registry.getProperty(BuildDaemonProtocol.TOKEN_KEY))) {
+                Files.deleteIfExists(this.registryFile);
+            }
+        } catch (IOException ignore) {
+            // Already removed
+        }
+    }
+
+    /**
+     * Writes the bytes to the client as frames of the given tag.
+     */
+    private static class FrameOutputStream extends OutputStream {
+
+        private final DataOutputStream outputStream;
+        private final byte tag;
+
+        FrameOutputStream(DataOutputStream outputStream, byte tag) {
+            this.outputStream = outputStream;
+            this.tag = tag;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            // Compiler threads may write at the same time
+            synchronized (this.outputStream) {
+                this.outputStream.writeByte(this.tag);
+                this.outputStream.writeInt(length);
+                this.outputStream.write(bytes, offset, length);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            synchronized (this.outputStream) {
+                this.outputStream.flush();
+            }
+        }
+    }
+}
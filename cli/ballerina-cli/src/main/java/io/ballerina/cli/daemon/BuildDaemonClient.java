@@ -0,0 +1,254 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.cli.daemon;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+
+import static io.ballerina.projects.util.ProjectConstants.USER_DIR;
+
+/**
+ * Runs a command in the {@link BuildDaemon}, and starts the daemon if it is not running.
+ *
+ * @since 2.0.0
+ */
+public class BuildDaemonClient {
+
+    private static final long STARTUP_TIMEOUT_MILLIS = 30 * 1000;
+    private static final long STARTUP_POLL_INTERVAL_MILLIS = 100;
+    private static final String JAVA_COMMAND_PROP = "java.command";
+    private static final String JAVA_HOME_PROP = "java.home";
+    private static final String JAVA_CLASS_PATH_PROP = "java.class.path";
+
+    private BuildDaemonClient() {
+    }
+
+    /**
+     * Runs a command in the build daemon. The output of the command is written to the given streams.
+     *
+     * @param command name of the command
+     * @param args    arguments of the command, with absolute paths
+     * @param out     output stream
+     * @param err     error stream
+     * @return the result of the command, or empty if the daemon could not be used
+     */
+    public static Optional<Result> execute(String command, List<String> args, PrintStream out, PrintStream err) {
+        try {
+            Path registryFile = BuildDaemonProtocol.registryFile();
+            // A daemon of a distribution which changed shuts down on the first request, hence the second attempt
+            for (int attempt = 0; attempt < 2; attempt++) {
+                Optional<Connection> connection = connect(registryFile);
+                if (!connection.isPresent()) {
+                    out.println("Starting the build daemon");
+                    startDaemon();
+                    connection = awaitDaemon(registryFile);
+                }
+                if (!connection.isPresent()) {
+                    break;
+                }
+                try (Socket socket = connection.get().socket) {
+                    Optional<Result> result = execute(socket, connection.get().token, command, args, out, err);
+                    if (result.isPresent()) {
+                        return result;
+                    }
+                }
+                Files.deleteIfExists(registryFile);
+            }
+            err.println("warning: unable to connect to the build daemon, building in this process");
+        } catch (IOException e) {
+            err.println("warning: unable to use the build daemon, building in this process: " + e.getMessage());
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Stops the build daemon of this distribution, if it is running.
+     *
+     * @return true if a running daemon was stopped
+     * @throws IOException if the daemon cannot be reached
+     */
+    static boolean stop() throws IOException {
+        Optional<Connection> connection = connect(BuildDaemonProtocol.registryFile());
+        if (!connection.isPresent()) {
+            return false;
+        }
+        try (Socket socket = connection.get().socket) {
+            return execute(socket, connection.get().token, BuildDaemonProtocol.STOP_COMMAND,
+                    Collections.emptyList(), System.out, System.err).isPresent();
+        }
+    }
+
+    private static Optional<Result> execute(Socket socket, String token, String command, List<String> args,
+                                            PrintStream out, PrintStream err) throws IOException {
+        DataOutputStream outputStream = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+        DataInputStream inputStream = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+        BuildDaemonProtocol.writeString(outputStream, token);
+        BuildDaemonProtocol.writeString(outputStream, System.getProperty(USER_DIR));
+        BuildDaemonProtocol.writeString(outputStream, command);
+        BuildDaemonProtocol.writeStrings(outputStream, args);
+        outputStream.flush();
+
+        List<String> executable = null;
+        while (true) {
+            byte tag = inputStream.readByte();
+            switch (tag) {
+                case BuildDaemonProtocol.STDOUT:
+                case BuildDaemonProtocol.STDERR:
+                    byte[] bytes = new byte[inputStream.readInt()];
+                    inputStream.readFully(bytes);
+                    PrintStream stream = tag == BuildDaemonProtocol.STDOUT ? out : err;
+                    stream.write(bytes, 0, bytes.length);
+                    stream.flush();
+                    break;
+                case BuildDaemonProtocol.EXECUTABLE:
+                    executable = BuildDaemonProtocol.readStrings(inputStream);
+                    break;
+                case BuildDaemonProtocol.EXIT:
+                    return Optional.of(new Result(inputStream.readInt(), executable));
+                case BuildDaemonProtocol.STALE:
+                    return Optional.empty();
+                default:
+                    throw new IOException("unexpected response from the build daemon: " + tag);
+            }
+        }
+    }
+
+    private static Optional<Connection> connect(Path registryFile) throws IOException {
+        if (Files.notExists(registryFile)) {
+            return Optional.empty();
+        }
+        Properties registry = BuildDaemonProtocol.readRegistry(registryFile);
+        int port = Integer.parseInt(registry.getProperty(BuildDaemonProtocol.PORT_KEY));
+        try {
+            Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+            return Optional.of(new Connection(socket, registry.getProperty(BuildDaemonProtocol.TOKEN_KEY)));
+        } catch (IOException e) {
+            // The daemon is no longer running
+            Files.deleteIfExists(registryFile);
+            return Optional.empty();
+        }
+    }
+
+    private static Optional<Connection> awaitDaemon(Path registryFile) throws IOException {
+        long deadline = System.currentTimeMillis() + STARTUP_TIMEOUT_MILLIS;
+        while (System.currentTimeMillis() < deadline) {
+            if (Files.exists(registryFile)) {
+                Optional<Connection> connection = connect(registryFile);
+                if (connection.isPresent()) {
+                    return connection;
+                }
+            }
+            try {
+                Thread.sleep(STARTUP_POLL_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Optional.empty();
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static void startDaemon() throws IOException {
+        String javaCommand = System.getProperty(JAVA_COMMAND_PROP);
+        if (javaCommand == null) {
+            javaCommand = Paths.get(System.getProperty(JAVA_HOME_PROP), "bin", "java").toString();
+        }
+        List<String> commands = new ArrayList<>();
+        commands.add(javaCommand);
+        // Use the JVM options of this process, such as the system properties of the distribution, without the ones
+        // which attach a debugger or an agent, or disable the JIT compiler for debugging
+        for (String jvmArg : ManagementFactory.getRuntimeMXBean().getInputArguments()) {
+            if (!jvmArg.startsWith("-agentlib:") && !jvmArg.startsWith("-javaagent:") &&
+                    !jvmArg.startsWith("-Xrunjdwp") && !jvmArg.equals("-Xdebug") && !jvmArg.equals("-Xnoagent") &&
+                    !jvmArg.equals("-Djava.compiler=NONE")) {
+                commands.add(jvmArg);
+            }
+        }
+        commands.add("-cp");
+        commands.add(System.getProperty(JAVA_CLASS_PATH_PROP));
+        commands.add(BuildDaemon.class.getName());
+
+        Path logFile = BuildDaemonProtocol.logFile();
+        Files.createDirectories(logFile.getParent());
+        new ProcessBuilder(commands)
+                .redirectOutput(ProcessBuilder.Redirect.appendTo(logFile.toFile()))
+                .redirectErrorStream(true)
+                .start();
+    }
+
+    /**
+     * A connection to the daemon, with the token which the daemon accepts.
+     */
+    private static class Connection {
+
+        private final Socket socket;
+        private final String token;
+
+        Connection(Socket socket, String token) {
+            this.socket = socket;
+            this.token = token;
+        }
+    }
+
+    /**
+     * Result of a command which ran in the build daemon.
+     */
+    public static class Result {
+
+        private final int exitCode;
+        private final List<String> executable;
+
+        Result(int exitCode, List<String> executable) {
+            this.exitCode = exitCode;
+            this.executable = executable;
+        }
+
+        /**
+         * Returns the exit code of the command.
+         *
+         * @return exit code
+         */
+        public int exitCode() {
+            return this.exitCode;
+        }
+
+        /**
+         * Returns the command which runs the executable built by the {@code run} command.
+         *
+         * @return command of the executable
+         */
+        public Optional<List<String>> executable() {
+            return Optional.ofNullable(this.executable);
+        }
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package io.ballerina.cli.daemon;
+
+import io.ballerina.projects.util.ProjectConstants;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static io.ballerina.runtime.api.constants.RuntimeConstants.BALLERINA_HOME;
+import static io.ballerina.runtime.api.constants.RuntimeConstants.BALLERINA_VERSION;
+import static io.ballerina.runtime.api.constants.RuntimeConstants.USER_HOME;
+
+/**
+ * Constants and utilities shared by the {@link BuildDaemon} and the {@link BuildDaemonClient}.
+ * <p>
+ * A daemon publishes its port and an access token in a registry file under the Ballerina user home. There is a
+ * registry file for each distribution, hence a build never talks to a daemon of another distribution.
+ * <p>
+ * A request consists of the token, the working directory, the command name and the command arguments. The daemon
+ * responds with a sequence of frames, each starting with a tag, which ends with an {@link #EXIT} or a {@link #STALE}
+ * frame. The daemon shuts down after it responds to a {@link #STOP_COMMAND} request.
+ *
+ * @since 2.0.0
+ */
+final class BuildDaemonProtocol {
+
+    static final byte STDOUT = 1;
+    static final byte STDERR = 2;
+    static final byte EXECUTABLE = 3;
+    static final byte EXIT = 4;
+    static final byte STALE = 5;
+
+    static final String STOP_COMMAND = "stop";
+
+    // The lengths in a request are read before the client is authenticated, hence they are limited
+    static final int MAX_STRING_LENGTH = 4 * 1024 * 1024;
+    static final int MAX_STRING_COUNT = 64 * 1024;
+
+    static final String PORT_KEY = "port";
+    static final String TOKEN_KEY = "token";
+
+    private static final String DAEMON_DIR_NAME = "daemon";
+    private static final String REGISTRY_FILE_EXT = ".properties";
+    private static final String LOG_FILE_EXT = ".log";
+
+    private BuildDaemonProtocol() {
+    }
+
+    static Path registryFile() {
+        return daemonDir().resolve(distributionKey() + REGISTRY_FILE_EXT);
+    }
+
+    static Path logFile() {
+        return daemonDir().resolve(distributionKey() + LOG_FILE_EXT);
+    }
+
+    static Properties readRegistry(Path registryFile) throws IOException {
+        Properties registry = new Properties();
+        try (InputStream inputStream = Files.newInputStream(registryFile)) {
+            registry.load(inputStream);
+        }
+        return registry;
+    }
+
+    static void writeRegistry(Path registryFile, int port, String token) throws IOException {
+        Files.createDirectories(registryFile.getParent());
+        Path tempFile = Files.createTempFile(registryFile.getParent(), DAEMON_DIR_NAME, REGISTRY_FILE_EXT);
+        try {
+            // The token gives access to the daemon, hence the file is only readable by the owner where possible
+            Files.setPosixFilePermissions(tempFile, PosixFilePermissions.fromString("rw-------"));
+        } catch (UnsupportedOperationException ignore) {
+            // Not a POSIX file system
+        }
+        Properties registry = new Properties();
+        registry.setProperty(PORT_KEY, Integer.toString(port));
+        registry.setProperty(TOKEN_KEY, token);
+        try (OutputStream outputStream = Files.newOutputStream(tempFile)) {
+            registry.store(outputStream, null);
+        }
+        Files.move(tempFile, registryFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Computes a fingerprint of the files in the given directories and files, from their paths, sizes and modified
+     * times. Paths which do not exist are ignored.
+     *
+     * @param roots directories and files
+     * @return fingerprint of the files
+     * @throws IOException if the directories cannot be traversed
+     */
+    static String fingerprint(Path... roots) throws IOException {
+        MessageDigest digest = newMessageDigest();
+        for (Path root : roots) {
+            if (Files.notExists(root)) {
+                continue;
+            }
+            List<String> entries;
+            try (Stream<Path> paths = Files.walk(root)) {
+                entries = paths.filter(Files::isRegularFile).map(path -> {
+                    try {
+                        BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                        return path + ":" + attributes.size() + ":" + attributes.lastModifiedTime().toMillis();
+                    } catch (IOException e) {
+                        return path.toString();
+                    }
+                }).sorted().collect(Collectors.toList());
+            }
+            for (String entry : entries) {
+                digest.update(entry.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) '\n');
+            }
+        }
+        return toHexString(digest.digest());
+    }
+
+    static Path distributionHome() {
+        return Paths.get(System.getProperty(BALLERINA_HOME)).toAbsolutePath().normalize();
+    }
+
+    static Path userHome() {
+        return Paths.get(System.getProperty(USER_HOME), ProjectConstants.HOME_REPO_DEFAULT_DIRNAME);
+    }
+
+    static void writeString(DataOutputStream outputStream, String value) throws IOException {
+        // DataOutputStream#writeUTF is limited to 64K bytes, which a class path can exceed
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        outputStream.writeInt(bytes.length);
+        outputStream.write(bytes);
+    }
+
+    static String readString(DataInputStream inputStream) throws IOException {
+        return readString(inputStream, MAX_STRING_LENGTH);
+    }
+
+    static String readString(DataInputStream inputStream, int maxLength) throws IOException {
+        int length = inputStream.readInt();
+        if (length < 0 || length > maxLength) {
+            throw new IOException("invalid string length: " + length);
+        }
+        byte[] bytes = new byte[length];
+        inputStream.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static void writeStrings(DataOutputStream outputStream, List<String> values) throws IOException {
+        outputStream.writeInt(values.size());
+        for (String value : values) {
+            writeString(outputStream, value);
+        }
+    }
+
+    static List<String> readStrings(DataInputStream inputStream) throws IOException {
+        int size = inputStream.readInt();
+        if (size < 0 || size > MAX_STRING_COUNT) {
+            throw new IOException("invalid string count: " + size);
+        }
+        List<String> values = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            values.add(readString(inputStream));
+        }
+        return values;
+    }
+
+    private static Path daemonDir() {
+        return userHome().resolve(DAEMON_DIR_NAME);
+    }
+
+    private static String distributionKey() {
+        MessageDigest digest = newMessageDigest();
+        digest.update(distributionHome().toString().getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) '\n');
+        digest.update(String.valueOf(System.getProperty(BALLERINA_VERSION)).getBytes(StandardCharsets.UTF_8));
+        return toHexString(digest.digest()).substring(0, 16);
+    }
+
+    private static MessageDigest newMessageDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    private static String toHexString(byte[] bytes) {
+        StringBuilder builder = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            builder.append(String.format("%02x", b));
+        }
+        return builder.toString();
+    }
+}
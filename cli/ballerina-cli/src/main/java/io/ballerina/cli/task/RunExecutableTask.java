@@ -34,6 +34,7 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.StringJoiner;
+import java.util.function.Consumer;
 
 import static io.ballerina.cli.launcher.LauncherUtils.createLauncherException;
 import static io.ballerina.cli.utils.DebugUtils.getDebugArgs;
@@ -50,6 +51,7 @@ public class RunExecutableTask implements Task {
     private final List<String> args;
     private final transient PrintStream out;
     private final transient PrintStream err;
+    private final transient Consumer<List<String>> launcher;
 
     /**
      * Create a task to run the executable. This requires {@link CreateExecutableTask} to be completed.
@@ -59,9 +61,22 @@ public class RunExecutableTask implements Task {
      * @param err error stream
      */
     public RunExecutableTask(String[] args, PrintStream out, PrintStream err) {
+        this(args, out, err, RunExecutableTask::runExecutable);
+    }
+
+    /**
+     * Create a task which hands over the command of the executable to the given launcher.
+     *
+     * @param args Arguments for the executable.
+     * @param out output stream
+     * @param err error stream
+     * @param launcher launcher which receives the command to run the executable
+     */
+    public RunExecutableTask(String[] args, PrintStream out, PrintStream err, Consumer<List<String>> launcher) {
         this.args = Lists.of(args);
         this.out = out;
         this.err = err;
+        this.launcher = launcher;
     }
 
     @Override
@@ -84,17 +99,26 @@ public class RunExecutableTask implements Task {
                 executableModule.packageInstance().packageName().toString(),
                 executableModule.packageInstance().packageVersion().toString(),
                 MODULE_INIT_CLASS_NAME);
+        List<String> commands = new ArrayList<>();
+        commands.add(System.getProperty("java.command"));
+        // Sets classpath with executable thin jar and all dependency jar paths.
+        commands.add("-cp");
+        commands.add(getAllClassPaths(jarResolver));
+        if (isInDebugMode()) {
+            commands.add(getDebugArgs(err));
+        }
+        commands.add(initClassName);
+        commands.addAll(args);
+        this.launcher.accept(commands);
+    }
+
+    /**
+     * Runs an executable in a child process which inherits the standard streams of this process.
+     *
+     * @param commands command to run the executable
+     */
+    public static void runExecutable(List<String> commands) {
         try {
-            List<String> commands = new ArrayList<>();
-            commands.add(System.getProperty("java.command"));
-            // Sets classpath with executable thin jar and all dependency jar paths.
-            commands.add("-cp");
-            commands.add(getAllClassPaths(jarResolver));
-            if (isInDebugMode()) {
-                commands.add(getDebugArgs(err));
-            }
-            commands.add(initClassName);
-            commands.addAll(args);
             ProcessBuilder pb = new ProcessBuilder(commands).inheritIO();
             Process process = pb.start();
             process.waitFor();
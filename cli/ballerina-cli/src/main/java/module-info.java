@@ -17,4 +17,5 @@ module io.ballerina.cli {
     requires io.ballerina.config;
     requires io.ballerina.core;
     requires slf4j.api;
+    requires java.management;
 }
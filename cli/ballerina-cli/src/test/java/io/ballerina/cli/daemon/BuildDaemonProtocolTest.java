@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.cli.daemon;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Properties;
+import java.util.stream.Stream;
+
+/**
+ * Build daemon protocol tests.
+ *
+ * @since 2.0.0
+ */
+public class BuildDaemonProtocolTest {
+    private Path tmpDir;
+
+    @BeforeClass
+    public void setup() throws IOException {
+        this.tmpDir = Files.createTempDirectory("build-daemon-test-");
+    }
+
+    @Test(description = "Test that the fingerprint changes with the files of a directory.")
+    public void testFingerprint() throws IOException {
+        Path repo = this.tmpDir.resolve("repo");
+        Files.createDirectories(repo.resolve("org").resolve("pkg"));
+        Path balo = repo.resolve("org").resolve("pkg").resolve("pkg.balo");
+        Files.write(balo, "v1".getBytes(StandardCharsets.UTF_8));
+
+        String fingerprint = BuildDaemonProtocol.fingerprint(repo, this.tmpDir.resolve("missing"));
+        Assert.assertEquals(BuildDaemonProtocol.fingerprint(repo, this.tmpDir.resolve("missing")), fingerprint);
+
+        Files.write(balo, "v2.0".getBytes(StandardCharsets.UTF_8));
+        String updatedFingerprint = BuildDaemonProtocol.fingerprint(repo);
+        Assert.assertNotEquals(updatedFingerprint, fingerprint);
+
+        Files.write(repo.resolve("org").resolve("pkg").resolve("other.balo"), new byte[0]);
+        Assert.assertNotEquals(BuildDaemonProtocol.fingerprint(repo), updatedFingerprint);
+    }
+
+    @Test(description = "Test that strings longer than the limit of modified UTF-8 are transferred.")
+    public void testStrings() throws IOException {
+        StringBuilder classPath = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            classPath.append("/home/ballerina/bre/lib/dependency-é-").append(i).append(".jar:");
+        }
+        List<String> values = Arrays.asList("java", "-cp", classPath.toString(), "");
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        BuildDaemonProtocol.writeStrings(new DataOutputStream(bytes), values);
+        DataInputStream inputStream = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+        Assert.assertEquals(BuildDaemonProtocol.readStrings(inputStream), values);
+    }
+
+    @Test(description = "Test that invalid lengths are rejected before anything is allocated.")
+    public void testInvalidLengths() throws IOException {
+        for (int length : new int[]{-1, Integer.MIN_VALUE, BuildDaemonProtocol.MAX_STRING_LENGTH + 1,
+                Integer.MAX_VALUE}) {
+            Assert.assertThrows(IOException.class, () -> BuildDaemonProtocol.readString(lengthPrefix(length)));
+        }
+        Assert.assertThrows(IOException.class, () -> BuildDaemonProtocol.readString(lengthPrefix(33), 32));
+        Assert.assertThrows(IOException.class, () -> BuildDaemonProtocol.readStrings(lengthPrefix(-1)));
+        Assert.assertThrows(IOException.class,
+                () -> BuildDaemonProtocol.readStrings(lengthPrefix(BuildDaemonProtocol.MAX_STRING_COUNT + 1)));
+    }
+
+    @Test(description = "Test writing and reading the registry of a daemon.")
+    public void testRegistry() throws IOException {
+        Path registryFile = this.tmpDir.resolve("daemon").resolve("registry.properties");
+        BuildDaemonProtocol.writeRegistry(registryFile, 4242, "token-1");
+        BuildDaemonProtocol.writeRegistry(registryFile, 4343, "token-2");
+
+        Properties registry = BuildDaemonProtocol.readRegistry(registryFile);
+        Assert.assertEquals(registry.getProperty(BuildDaemonProtocol.PORT_KEY), "4343");
+        Assert.assertEquals(registry.getProperty(BuildDaemonProtocol.TOKEN_KEY), "token-2");
+        try (Stream<Path> files = Files.list(registryFile.getParent())) {
+            Assert.assertEquals(files.count(), 1);
+        }
+    }
+
+    private static DataInputStream lengthPrefix(int length) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        new DataOutputStream(bytes).writeInt(length);
+        return new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+    }
+
+    @AfterClass
+    public void cleanup() throws IOException {
+        try (Stream<Path> paths = Files.walk(this.tmpDir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+}
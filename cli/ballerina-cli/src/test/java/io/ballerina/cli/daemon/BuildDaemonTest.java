@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.cli.daemon;
+
+import io.ballerina.cli.cmd.BuildCommand;
+import io.ballerina.cli.launcher.BLauncherException;
+import io.ballerina.projects.util.ProjectConstants;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import picocli.CommandLine;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Build daemon tests, which build a file with the {@code --daemon} option and in this process, and compare the
+ * results.
+ *
+ * @since 2.0.0
+ */
+public class BuildDaemonTest {
+    private static final String DAEMON_STARTED_MESSAGE = "Starting the build daemon\n";
+
+    private Path tmpDir;
+    private Path balFile;
+    private Path executable;
+
+    @BeforeClass
+    public void setup() throws IOException {
+        this.tmpDir = Files.createTempDirectory("build-daemon-test-");
+        Path sourceDir = this.tmpDir.resolve("hello");
+        Files.createDirectories(sourceDir);
+        this.balFile = sourceDir.resolve("hello.bal");
+        this.executable = sourceDir.resolve("hello.jar");
+        System.setProperty(ProjectConstants.USER_DIR, sourceDir.toString());
+        // The first build must start a daemon of its own
+        BuildDaemonClient.stop();
+    }
+
+    @Test(description = "Test building in the daemon, before and after a change in the source.")
+    public void testBuild() throws IOException {
+        writeSource("public function main() {\n}\n");
+        BuildResult expected = build(false);
+        Assert.assertEquals(expected.exitCode, 0);
+        Assert.assertTrue(Files.exists(this.executable));
+        Files.delete(this.executable);
+
+        BuildResult actual = build(true);
+        Assert.assertEquals(actual.output, DAEMON_STARTED_MESSAGE + expected.output);
+        Assert.assertEquals(actual.exitCode, expected.exitCode);
+        Assert.assertTrue(Files.exists(this.executable));
+        Files.delete(this.executable);
+
+        // The running daemon builds the changed source in the environment of the previous build
+        writeSource("public function main() {\n    int count = 1;\n}\n\nfunction increment(int count) returns int {\n" +
+                "    return count + 1;\n}\n");
+        expected = build(false);
+        Assert.assertEquals(expected.exitCode, 0);
+        Files.delete(this.executable);
+
+        actual = build(true);
+        Assert.assertEquals(actual.output, expected.output);
+        Assert.assertEquals(actual.exitCode, expected.exitCode);
+        Assert.assertTrue(Files.exists(this.executable));
+        Files.delete(this.executable);
+    }
+
+    @Test(description = "Test that a build which fails in the daemon fails as in this process.",
+            dependsOnMethods = "testBuild")
+    public void testFailedBuild() throws IOException {
+        writeSource("public function main() {\n    int count = \"one\";\n}\n");
+        BuildResult expected = build(false);
+        Assert.assertEquals(expected.exitCode, 1);
+
+        BuildResult actual = build(true);
+        Assert.assertEquals(actual.output, expected.output);
+        Assert.assertEquals(actual.exitCode, expected.exitCode);
+        Assert.assertFalse(Files.exists(this.executable));
+
+        // The daemon discards the environment of a failed build, and builds the fixed source as before
+        writeSource("public function main() {\n    int count = 1;\n}\n");
+        expected = build(false);
+        Assert.assertEquals(expected.exitCode, 0);
+        Files.delete(this.executable);
+
+        actual = build(true);
+        Assert.assertEquals(actual.output, expected.output);
+        Assert.assertEquals(actual.exitCode, expected.exitCode);
+        Assert.assertTrue(Files.exists(this.executable));
+        Files.delete(this.executable);
+    }
+
+    private void writeSource(String source) throws IOException {
+        Files.write(this.balFile, source.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private BuildResult build(boolean daemon) throws IOException {
+        ByteArrayOutputStream console = new ByteArrayOutputStream();
+        int exitCode = 0;
+        try (PrintStream printStream = new PrintStream(console, true, StandardCharsets.UTF_8.name())) {
+            BuildCommand buildCommand = new BuildCommand(this.balFile, printStream, printStream, false, true);
+            List<String> args = new ArrayList<>();
+            if (daemon) {
+                args.add("--daemon");
+            }
+            args.add(this.balFile.toString());
+            new CommandLine(buildCommand).parse(args.toArray(new String[0]));
+            try {
+                buildCommand.execute();
+            } catch (BLauncherException e) {
+                // The launcher prints the messages and exits with 1
+                e.getMessages().forEach(printStream::println);
+                exitCode = 1;
+            }
+        }
+        return new BuildResult(console.toString(StandardCharsets.UTF_8.name()).replaceAll("\r", ""), exitCode);
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void cleanup() throws IOException {
+        BuildDaemonClient.stop();
+        try (Stream<Path> paths = Files.walk(this.tmpDir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    /**
+     * Output and exit code of a build.
+     */
+    private static class BuildResult {
+
+        private final String output;
+        private final int exitCode;
+
+        BuildResult(String output, int exitCode) {
+            this.output = output;
+            this.exitCode = exitCode;
+        }
+    }
+}
@@ -42,4 +42,25 @@ public abstract class CompilationCache {
     public abstract void cachePlatformSpecificLibrary(CompilerBackend compilerBackend,
                                                       String libraryName,
                                                       ByteArrayOutputStream libraryContent);
+
+    /**
+     * Returns the hash of the module content from which the cached BIR and platform-specific libraries of the
+     * module were generated.
+     *
+     * @param moduleName name of the module
+     * @return the module hash, or empty if the cached artifacts of the module cannot be reused
+     */
+    public Optional<String> getModuleHash(ModuleName moduleName) {
+        return Optional.empty();
+    }
+
+    /**
+     * Records the hash of the module content from which the cached BIR and platform-specific libraries of the
+     * module were generated. It is called once all the artifacts of the module are cached.
+     *
+     * @param moduleName name of the module
+     * @param moduleHash hash of the module content
+     */
+    public void cacheModuleHash(ModuleName moduleName, String moduleHash) {
+    }
 }
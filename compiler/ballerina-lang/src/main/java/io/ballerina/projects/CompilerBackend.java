@@ -85,6 +85,28 @@ public abstract class CompilerBackend {
     // TODO this method should be moved to some other class owned by the CompilerBackend
     public abstract void performCodeGen(ModuleContext moduleContext, CompilationCache compilationCache);
 
+    /**
+     * Checks whether the compilation cache holds all the platform-specific libraries which
+     * {@link #performCodeGen(ModuleContext, CompilationCache)} generates for the given module.
+     *
+     * @param moduleContext    the module
+     * @param compilationCache the compilation cache
+     * @return true if the generated libraries of the module can be reused
+     */
+    public boolean hasCachedLibraries(ModuleContext moduleContext, CompilationCache compilationCache) {
+        return false;
+    }
+
+    /**
+     * Validates a module whose platform-specific libraries are reused from the compilation cache, as
+     * {@link #performCodeGen(ModuleContext, CompilationCache)} does before generating them. It is called for such a
+     * module when its BIR is generated for the code generation of the modules which depend on it.
+     *
+     * @param moduleContext the module
+     */
+    public void validateCachedLibraries(ModuleContext moduleContext) {
+    }
+
     public abstract String libraryFileExtension();
 
     /**
@@ -54,6 +54,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.jar.Attributes;
 import java.util.jar.JarFile;
 import java.util.jar.JarInputStream;
@@ -126,8 +127,14 @@ public class JBallerinaBackend extends CompilerBackend {
             return;
         }
 
+        List<ModuleContext> moduleContexts = pkgResolution.topologicallySortedModuleList();
+        for (ModuleContext moduleContext : moduleContexts) {
+            moduleContext.compile(compilerContext);
+        }
+        skipUnchangedModules(moduleContexts);
+
         List<Diagnostic> diagnostics = new ArrayList<>();
-        for (ModuleContext moduleContext : pkgResolution.topologicallySortedModuleList()) {
+        for (ModuleContext moduleContext : moduleContexts) {
             moduleContext.generatePlatformSpecificCode(compilerContext, this);
             diagnostics.addAll(moduleContext.diagnostics());
         }
@@ -136,6 +143,26 @@ public class JBallerinaBackend extends CompilerBackend {
         codeGenCompleted = true;
     }
 
+    /**
+     * Skips the BIR generation of the unchanged modules, whose cached BIR and jars are reused, unless a changed module
+     * depends on them. The code generation of a changed module reads the BIR of the modules it depends on.
+     *
+     * @param moduleContexts modules in the topological order
+     */
+    private void skipUnchangedModules(List<ModuleContext> moduleContexts) {
+        Set<ModuleContext> birRequiredModules = new HashSet<>();
+        // The modules which depend on a module follow it in the topological order
+        for (int i = moduleContexts.size() - 1; i >= 0; i--) {
+            ModuleContext moduleContext = moduleContexts.get(i);
+            if (birRequiredModules.contains(moduleContext) ||
+                    !moduleContext.hasCachedArtifacts(this, compilerContext)) {
+                birRequiredModules.addAll(moduleContext.dependencyContexts());
+            } else {
+                moduleContext.skipBirGeneration();
+            }
+        }
+    }
+
     public DiagnosticResult diagnosticResult() {
         return diagnosticResult;
     }
@@ -265,6 +292,27 @@ public class JBallerinaBackend extends CompilerBackend {
         }
     }
 
+    @Override
+    public boolean hasCachedLibraries(ModuleContext moduleContext, CompilationCache compilationCache) {
+        String jarFileName = getJarFileName(moduleContext) + JAR_FILE_NAME_SUFFIX;
+        if (!compilationCache.getPlatformSpecificLibrary(this, jarFileName).isPresent()) {
+            return false;
+        }
+
+        // The test jar is expected whenever performCodeGen generates it
+        if (Boolean.parseBoolean(compilerOptions.get(SKIP_TESTS)) ||
+                !moduleContext.bLangPackage().hasTestablePackage()) {
+            return true;
+        }
+        String testJarFileName = jarFileName + TEST_JAR_FILE_NAME_SUFFIX;
+        return compilationCache.getPlatformSpecificLibrary(this, testJarFileName).isPresent();
+    }
+
+    @Override
+    public void validateCachedLibraries(ModuleContext moduleContext) {
+        interopValidator.validate(moduleContext.moduleId(), this, moduleContext.bLangPackage());
+    }
+
     @Override
     public String libraryFileExtension() {
         return JAR_FILE_EXTENSION;
@@ -19,10 +19,12 @@ package io.ballerina.projects;
 
 import io.ballerina.projects.PackageResolution.DependencyResolution;
 import io.ballerina.projects.environment.ModuleLoadRequest;
+import io.ballerina.projects.environment.PackageCache;
 import io.ballerina.projects.environment.PackageResolver;
 import io.ballerina.projects.environment.ProjectEnvironment;
 import io.ballerina.projects.internal.CompilerPhaseRunner;
 import io.ballerina.tools.diagnostics.Diagnostic;
+import org.ballerinalang.compiler.CompilerOptionName;
 import org.ballerinalang.model.TreeBuilder;
 import org.ballerinalang.model.elements.Flag;
 import org.ballerinalang.model.elements.PackageID;
@@ -35,11 +37,18 @@ import org.wso2.ballerinalang.compiler.tree.BLangTestablePackage;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.CompilerOptions;
 import org.wso2.ballerinalang.programfile.PackageFileWriter;
+import org.wso2.ballerinalang.util.RepoUtils;
 
 import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
@@ -75,6 +84,8 @@ class ModuleContext {
     private BLangPackage bLangPackage;
     private BPackageSymbol bPackageSymbol;
     private byte[] birBytes = new byte[0];
+    private String moduleHash;
+    private boolean birGenSkipped;
     private final Bootstrap bootstrap;
     private ModuleCompilationState moduleCompState;
     private Set<ModuleLoadRequest> allModuleLoadRequests;
@@ -163,6 +174,7 @@ class ModuleContext {
     Set<ModuleLoadRequest> populateModuleLoadRequests() {
         allModuleLoadRequests = new LinkedHashSet<>();
         Set<ModuleLoadRequest> moduleLoadRequests = new LinkedHashSet<>();
+        parseDocuments(srcDocContextMap.values());
         for (DocumentContext docContext : srcDocContextMap.values()) {
             moduleLoadRequests.addAll(docContext.moduleLoadRequests(PackageDependencyScope.DEFAULT));
         }
@@ -173,6 +185,7 @@ class ModuleContext {
 
     Set<ModuleLoadRequest> populateTestSrcModuleLoadRequests() {
         Set<ModuleLoadRequest> moduleLoadRequests = new LinkedHashSet<>();
+        parseDocuments(testDocContextMap.values());
         for (DocumentContext docContext : testDocContextMap.values()) {
             moduleLoadRequests.addAll(docContext.moduleLoadRequests(PackageDependencyScope.TEST_ONLY));
         }
@@ -220,6 +233,7 @@ class ModuleContext {
         //  So I kept this as is for now.
         testablePkg.pos = new BLangDiagnosticLocation(this.moduleName().toString(), 1, 1, 1, 1);
         pkgNode.addTestablePkg(testablePkg);
+        parseDocuments(testDocContextMap.values());
         for (DocumentContext documentContext : testDocContextMap.values()) {
             testablePkg.addCompilationUnit(documentContext.compilationUnit(compilerContext, pkgId, TEST_SOURCE));
         }
@@ -302,9 +316,25 @@ class ModuleContext {
     }
 
     static void parseInternal(ModuleContext moduleContext) {
-        for (DocumentContext docContext : moduleContext.srcDocContextMap.values()) {
-            docContext.parse();
+        parseDocuments(moduleContext.srcDocContextMap.values());
+    }
+
+    /**
+     * Parses the documents concurrently, as the syntax tree of a document does not depend on the other documents.
+     * <p>
+     * The syntax trees are kept in the document contexts. The compilation units are still created from them one
+     * document at a time and in the same order, as the node transformer reports diagnostics and generates the names
+     * of anonymous constructs through the shared compiler context.
+     *
+     * @param documentContexts documents to be parsed
+     */
+    private static void parseDocuments(Collection<DocumentContext> documentContexts) {
+        if (documentContexts.size() < 2) {
+            documentContexts.forEach(DocumentContext::parse);
+            return;
         }
+
+        documentContexts.parallelStream().forEach(DocumentContext::parse);
     }
 
     static void resolveDependenciesInternal(ModuleContext moduleContext) {
@@ -326,6 +356,7 @@ class ModuleContext {
         packageCache.put(moduleCompilationId, pkgNode);
 
         // Parse source files
+        parseDocuments(moduleContext.srcDocContextMap.values());
         for (DocumentContext documentContext : moduleContext.srcDocContextMap.values()) {
             pkgNode.addCompilationUnit(documentContext.compilationUnit(compilerContext, moduleCompilationId,
                                                                        REGULAR_SOURCE));
@@ -353,6 +384,11 @@ class ModuleContext {
     static void generateCodeInternal(ModuleContext moduleContext,
                                      CompilerBackend compilerBackend,
                                      CompilerContext compilerContext) {
+        // An unchanged module which no changed module depends on is not lowered to BIR, see skipBirGeneration
+        if (moduleContext.birGenSkipped) {
+            return;
+        }
+
         // Perform the rest of the compilation phases before generating platform-specific code
         String bootstrapLangLibName = System.getProperty("BOOTSTRAP_LANG_LIB");
         CompilerPhaseRunner compilerPhaseRunner = CompilerPhaseRunner.getInstance(compilerContext);
@@ -362,22 +398,177 @@ class ModuleContext {
             compilerPhaseRunner.performBirGenPhases(moduleContext.bLangPackage);
         }
 
+        // Skip caching the BIR and the code generation phase if there are diagnostics
+        if (Diagnostics.hasErrors(moduleContext.diagnostics())) {
+            return;
+        }
+
+        // The BIR of an unchanged module is only generated above for the code generation of the changed modules which
+        // depend on it. It is validated as the backend does before generating code, which reports the same diagnostics.
+        CompilationCache compilationCache = moduleContext.compilationCache;
+        if (moduleContext.hasCachedArtifacts(compilerBackend, compilerContext)) {
+            compilerBackend.validateCachedLibraries(moduleContext);
+            return;
+        }
+
         // Serialize the BIR  model
         cacheBIR(moduleContext);
+        compilerBackend.performCodeGen(moduleContext, compilationCache);
 
-        // Skip the code generation phase if there are diagnostics
-        if (Diagnostics.hasErrors(moduleContext.diagnostics())) {
-            return;
+        // The hash is recorded last, so that it only refers to a complete set of cached artifacts
+        if (!Diagnostics.hasErrors(moduleContext.diagnostics())) {
+            compilationCache.cacheModuleHash(moduleContext.moduleName(),
+                    moduleContext.moduleHash(compilerBackend, compilerContext));
         }
-        compilerBackend.performCodeGen(moduleContext, moduleContext.compilationCache);
     }
 
-    private static void cacheBIR(ModuleContext moduleContext) {
-        // Skip caching BIR if there are diagnostics
-        if (Diagnostics.hasErrors(moduleContext.diagnostics())) {
-            return;
+    /**
+     * Checks whether the cached BIR and platform-specific libraries of this module were generated from the same
+     * content, so that they can be reused instead of generating them again.
+     *
+     * @param compilerBackend compiler backend which generates the platform-specific libraries
+     * @param compilerContext compiler context of the compilation
+     * @return true if the module is type checked without errors and its cached artifacts are up to date
+     */
+    boolean hasCachedArtifacts(CompilerBackend compilerBackend, CompilerContext compilerContext) {
+        if (bLangPackage == null || Diagnostics.hasErrors(diagnostics())) {
+            return false;
+        }
+
+        String moduleHash = moduleHash(compilerBackend, compilerContext);
+        return compilationCache.getModuleHash(moduleName()).filter(moduleHash::equals).isPresent() &&
+                compilerBackend.hasCachedLibraries(this, compilationCache);
+    }
+
+    /**
+     * Skips the desugaring, the BIR generation and the code generation of this module, whose cached artifacts are
+     * reused. A module is still type checked before that, since its diagnostics, its semantic model and the type
+     * checking of the modules which depend on it need the type checked tree.
+     * <p>
+     * The diagnostics of the skipped phases are not lost. The code generation and the interop validation of the
+     * backend only report errors, and the hash of a module is only cached when there were none. The hash covers
+     * their inputs, which are the sources the BIR is generated from and the platform libraries of the package.
+     */
+    void skipBirGeneration() {
+        birGenSkipped = true;
+    }
+
+    /**
+     * Returns the contexts of the modules this module depends on.
+     *
+     * @return the module contexts of the dependencies
+     */
+    List<ModuleContext> dependencyContexts() {
+        if (moduleDependencies == null) {
+            return Collections.emptyList();
         }
 
+        List<ModuleContext> dependencyContexts = new ArrayList<>();
+        PackageCache packageCache = project.projectEnvironmentContext().getService(PackageCache.class);
+        for (ModuleDependency moduleDependency : moduleDependencies) {
+            dependencyContexts.add(packageCache.getPackageOrThrow(moduleDependency.packageDependency().packageId())
+                    .packageContext().moduleContext(moduleDependency.moduleId()));
+        }
+        return dependencyContexts;
+    }
+
+    /**
+     * Returns a hash of everything the generated BIR and platform-specific libraries of this module depend on.
+     * <p>
+     * It covers the compiler version, the compiler options, the platform libraries of the package, the source and
+     * test source documents of the module, and the hashes of the modules it depends on.
+     *
+     * @param compilerBackend compiler backend which generates the platform-specific libraries
+     * @param compilerContext compiler context of the compilation
+     * @return the hash as a hex string
+     */
+    private String moduleHash(CompilerBackend compilerBackend, CompilerContext compilerContext) {
+        if (moduleHash != null) {
+            return moduleHash;
+        }
+
+        MessageDigest digest = newMessageDigest();
+        updateDigest(digest, RepoUtils.getBallerinaVersion());
+        updateDigest(digest, moduleDescriptor.moduleCompilationId().toString());
+        CompilerOptions compilerOptions = CompilerOptions.getInstance(compilerContext);
+        for (CompilerOptionName optionName : CompilerOptionName.values()) {
+            updateDigest(digest, optionName + "=" + compilerOptions.get(optionName));
+        }
+        for (PlatformLibrary platformLibrary : compilerBackend.platformLibraryDependencies(moduleId.packageId())) {
+            if (platformLibrary instanceof JarLibrary) {
+                File jarFile = ((JarLibrary) platformLibrary).path().toFile();
+                updateDigest(digest, jarFile.getAbsolutePath() + ":" + jarFile.length() + ":" +
+                        jarFile.lastModified() + ":" + platformLibrary.scope());
+            }
+        }
+
+        List<DocumentContext> documentContexts = new ArrayList<>(srcDocContextMap.values());
+        documentContexts.sort(Comparator.comparing(DocumentContext::name));
+        for (DocumentContext documentContext : documentContexts) {
+            updateDigest(digest, documentContext.name());
+            updateDigest(digest, documentContext.content());
+        }
+        documentContexts = new ArrayList<>(testDocContextMap.values());
+        documentContexts.sort(Comparator.comparing(DocumentContext::name));
+        for (DocumentContext documentContext : documentContexts) {
+            updateDigest(digest, "tests/" + documentContext.name());
+            updateDigest(digest, documentContext.content());
+        }
+
+        List<String> dependencyHashes = new ArrayList<>();
+        for (ModuleContext dependencyContext : dependencyContexts()) {
+            dependencyHashes.add(dependencyContext.dependencyHash(compilerBackend, compilerContext));
+        }
+        Collections.sort(dependencyHashes);
+        for (String dependencyHash : dependencyHashes) {
+            updateDigest(digest, dependencyHash);
+        }
+
+        moduleHash = toHexString(digest.digest());
+        return moduleHash;
+    }
+
+    private String dependencyHash(CompilerBackend compilerBackend, CompilerContext compilerContext) {
+        if (birBytes.length == 0) {
+            return moduleHash(compilerBackend, compilerContext);
+        }
+
+        // A module loaded from a BIR is identified by the BIR itself
+        if (moduleHash == null) {
+            MessageDigest digest = newMessageDigest();
+            updateDigest(digest, moduleDescriptor.moduleCompilationId().toString());
+            digest.update(birBytes);
+            moduleHash = toHexString(digest.digest());
+        }
+        return moduleHash;
+    }
+
+    private static MessageDigest newMessageDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // This path may never be executed, as every Java platform supports SHA-256
+            throw new IllegalStateException("Failed to create a SHA-256 message digest", e);
+        }
+    }
+
+    private static void updateDigest(MessageDigest digest, String value) {
+        byte[] bytes = (value == null ? "" : value).getBytes(StandardCharsets.UTF_8);
+        // The length prefix keeps adjacent values from being read as different splits of the same bytes
+        digest.update(new byte[]{(byte) (bytes.length >>> 24), (byte) (bytes.length >>> 16),
+                (byte) (bytes.length >>> 8), (byte) bytes.length});
+        digest.update(bytes);
+    }
+
+    private static String toHexString(byte[] bytes) {
+        StringBuilder hexString = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hexString.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hexString.toString();
+    }
+
+    private static void cacheBIR(ModuleContext moduleContext) {
         // Can we improve this logic
         ByteArrayOutputStream birContent = new ByteArrayOutputStream();
         try {
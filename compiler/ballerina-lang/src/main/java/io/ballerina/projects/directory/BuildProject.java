@@ -68,7 +68,21 @@ public class BuildProject extends Project {
         // todo this is an ugly hack to get the offline build working we need to refactor this later
         System.setProperty(ProjectConstants.BALLERINA_OFFLINE_FLAG, String.valueOf(buildOptions.offlineBuild()));
 
-        ProjectEnvironmentBuilder environmentBuilder = ProjectEnvironmentBuilder.getDefaultBuilder();
+        return load(ProjectEnvironmentBuilder.getDefaultBuilder(), projectPath, buildOptions);
+    }
+
+    /**
+     * Loads a BuildProject from the provided path in an existing environment.
+     *
+     * @param environmentBuilder builder of the project environment
+     * @param projectPath Ballerina project path
+     * @param buildOptions build options
+     * @return build project
+     */
+    public static BuildProject load(ProjectEnvironmentBuilder environmentBuilder, Path projectPath,
+                                    BuildOptions buildOptions) {
+        System.setProperty(ProjectConstants.BALLERINA_OFFLINE_FLAG, String.valueOf(buildOptions.offlineBuild()));
+
         PackageConfig packageConfig = PackageConfigCreator.createBuildProjectConfig(projectPath);
         BuildOptions mergedBuildOptions = ProjectFiles.createBuildOptions(projectPath, buildOptions);
         BuildProject buildProject = new BuildProject(environmentBuilder, projectPath, mergedBuildOptions);
@@ -58,8 +58,22 @@ public class SingleFileProject extends Project {
         // todo this is an ugly hack to get the offline build working we need to refactor this later
         System.setProperty(ProjectConstants.BALLERINA_OFFLINE_FLAG, String.valueOf(buildOptions.offlineBuild()));
 
+        return load(ProjectEnvironmentBuilder.getDefaultBuilder(), filePath, buildOptions);
+    }
+
+    /**
+     * Loads a single file project from the provided path in an existing environment.
+     *
+     * @param environmentBuilder builder of the project environment
+     * @param filePath ballerina standalone file path
+     * @param buildOptions build options
+     * @return single file project
+     */
+    public static SingleFileProject load(ProjectEnvironmentBuilder environmentBuilder, Path filePath,
+                                         BuildOptions buildOptions) {
+        System.setProperty(ProjectConstants.BALLERINA_OFFLINE_FLAG, String.valueOf(buildOptions.offlineBuild()));
+
         PackageConfig packageConfig = PackageConfigCreator.createSingleFileProjectConfig(filePath);
-        ProjectEnvironmentBuilder environmentBuilder = ProjectEnvironmentBuilder.getDefaultBuilder();
         SingleFileProject singleFileProject = new SingleFileProject(environmentBuilder, filePath, buildOptions);
         singleFileProject.addPackage(packageConfig);
         return singleFileProject;
@@ -42,8 +42,8 @@ public class BuildProjectCompilationCache extends FileSystemCache {
 
     @Override
     public byte[] getBir(ModuleName moduleName) {
-        // Do not return the cached BIR in the target directory
-        // We can improve this implementation to cache the BIR later to enable incremental compilation.
+        // Do not return the cached BIR in the target directory, modules are always compiled from sources.
+        // The cached BIR and jars are reused instead of generating code again when the module hash matches.
         return EMPTY_BYTE_ARRAY;
     }
 }
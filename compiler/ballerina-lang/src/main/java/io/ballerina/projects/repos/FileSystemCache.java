@@ -29,6 +29,8 @@ import org.apache.commons.io.FileUtils;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -43,13 +45,16 @@ import java.util.Optional;
  * - version
  * - bir
  * - mod1.bir
+ * - mod1.hash
  * - mod2.bir
+ * - mod2.hash
  * - jar
  * - org-package-name-version.jar
  *
  * @since 2.0.0
  */
 public class FileSystemCache extends CompilationCache {
+    private static final PrintStream err = System.err;
     private final Path cacheDirPath;
     private Path birPath;
     private Path packageCacheDirPath;
@@ -77,13 +82,45 @@ public class FileSystemCache extends CompilationCache {
     @Override
     public void cacheBir(ModuleName moduleName, ByteArrayOutputStream birContent) {
         Path birFilePath = getBirPath().resolve(moduleName.toString() + ProjectConstants.BLANG_COMPILED_PKG_BIR_EXT);
-        if (!Files.exists(birFilePath)) {
+        try {
+            // The cached artifacts of the module are no longer valid once the BIR is replaced
+            Files.deleteIfExists(getModuleHashPath(moduleName));
+            // TODO Can we improve this logic
+            FileUtils.writeByteArrayToFile(birFilePath.toFile(), birContent.toByteArray());
+        } catch (IOException e) {
+            // TODO proper error handling
+            throw new RuntimeException("Failed to cache the bir of module: " + moduleName, e);
+        }
+    }
+
+    @Override
+    public Optional<String> getModuleHash(ModuleName moduleName) {
+        Path moduleHashPath = getModuleHashPath(moduleName);
+        Path birFilePath = getBirPath().resolve(moduleName.toString() + ProjectConstants.BLANG_COMPILED_PKG_BIR_EXT);
+        if (!Files.exists(moduleHashPath) || !Files.exists(birFilePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(Files.readString(moduleHashPath, StandardCharsets.UTF_8).trim());
+        } catch (IOException e) {
+            // The module is compiled again if the hash cannot be read
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void cacheModuleHash(ModuleName moduleName, String moduleHash) {
+        Path moduleHashPath = getModuleHashPath(moduleName);
+        try {
+            FileUtils.writeStringToFile(moduleHashPath.toFile(), moduleHash, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            // The build does not depend on the hash. Without it, the module is compiled again in the next build.
+            err.println("warning: failed to cache the hash of module '" + moduleName + "': " + e.getMessage());
             try {
-                // TODO Can we improve this logic
-                FileUtils.writeByteArrayToFile(birFilePath.toFile(), birContent.toByteArray());
-            } catch (IOException e) {
-                // TODO proper error handling
-                throw new RuntimeException("Failed to cache the bir of module: " + moduleName, e);
+                Files.deleteIfExists(moduleHashPath);
+            } catch (IOException ignored) {
+                // A partly written hash does not match any module hash
             }
         }
     }
@@ -133,6 +170,10 @@ public class FileSystemCache extends CompilationCache {
         }
     }
 
+    private Path getModuleHashPath(ModuleName moduleName) {
+        return getBirPath().resolve(moduleName.toString() + ProjectConstants.BLANG_COMPILED_PKG_HASH_EXT);
+    }
+
     private Path getBirPath() {
         if (birPath != null) {
             return birPath;
@@ -93,6 +93,7 @@ import java.io.ByteArrayInputStream;
 import java.io.DataInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.EnumSet;
@@ -294,8 +295,8 @@ public class BIRPackageSymbolEnter {
                 // Therefore we read the UTF value only if the length >= 0.
                 if (length >= 0) {
                     byte[] bytes = new byte[length];
-                    dataInStream.read(bytes, 0, length);
-                    strValue = new String(bytes);
+                    dataInStream.readFully(bytes);
+                    strValue = new String(bytes, StandardCharsets.UTF_8);
                 }
                 return new CPEntry.StringCPEntry(strValue);
             case CP_ENTRY_PACKAGE:
@@ -21,6 +21,7 @@ import org.ballerinalang.model.TreeBuilder;
 import org.ballerinalang.model.clauses.OrderKeyNode;
 import org.ballerinalang.model.tree.IdentifierNode;
 import org.ballerinalang.model.tree.NodeKind;
+import org.ballerinalang.model.tree.OperatorKind;
 import org.ballerinalang.model.tree.expressions.RecordLiteralNode;
 import org.ballerinalang.model.tree.statements.VariableDefinitionNode;
 import org.ballerinalang.model.tree.types.TypeNode;
@@ -34,11 +35,14 @@ import org.wso2.ballerinalang.compiler.semantics.model.symbols.BRecordTypeSymbol
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.BVarSymbol;
 import org.wso2.ballerinalang.compiler.semantics.model.symbols.SymTag;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.Symbols;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BArrayType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BField;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BIntersectionType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BRecordType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BStreamType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BStructureType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BTableType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BTypedescType;
 import org.wso2.ballerinalang.compiler.semantics.model.types.BUnionType;
@@ -206,6 +210,7 @@ public class QueryDesugar extends BLangNodeVisitor {
     private static final Name QUERY_TO_XML_FUNCTION = new Name("toXML");
     private static final Name QUERY_ADD_TO_TABLE_FUNCTION = new Name("addToTable");
     private static final Name QUERY_GET_STREAM_FROM_PIPELINE_FUNCTION = new Name("getStreamFromPipeline");
+    private static final Name QUERY_GET_CANDIDATE_ROWS_FUNCTION = new Name("getCandidateRows");
     private static final String FRAME_PARAMETER_NAME = "$frame$";
     private static final CompilerContext.Key<QueryDesugar> QUERY_DESUGAR_KEY = new CompilerContext.Key<>();
     private BLangExpression onConflictExpr;
@@ -248,7 +253,10 @@ public class QueryDesugar extends BLangNodeVisitor {
         List<BLangNode> clauses = queryExpr.getQueryClauses();
         Location pos = clauses.get(0).pos;
         BLangBlockStmt queryBlock = ASTBuilderUtil.createBlockStmt(pos);
-        BLangVariableReference streamRef = buildStream(clauses, queryExpr.type, env, queryBlock);
+        // A stream is consumed after the query expression is evaluated, when the rows may have changed, hence the
+        // candidate rows are only looked up for queries which are consumed right away
+        BLangVariableReference streamRef = buildStream(clauses, queryExpr.type, env, queryBlock,
+                !queryExpr.isStream);
         BLangStatementExpression streamStmtExpr;
         if (queryExpr.isStream) {
             streamStmtExpr = ASTBuilderUtil.createStatementExpression(queryBlock, streamRef);
@@ -299,7 +307,8 @@ public class QueryDesugar extends BLangNodeVisitor {
         List<BLangNode> clauses = queryAction.getQueryClauses();
         Location pos = clauses.get(0).pos;
         BLangBlockStmt queryBlock = ASTBuilderUtil.createBlockStmt(pos);
-        BLangVariableReference streamRef = buildStream(clauses, queryAction.type, env, queryBlock);
+        // The body of a query action may change the rows while they are iterated
+        BLangVariableReference streamRef = buildStream(clauses, queryAction.type, env, queryBlock, false);
         BLangVariableReference result = getStreamFunctionVariableRef(queryBlock,
                 QUERY_CONSUME_STREAM_FUNCTION, symTable.errorOrNilType, Lists.of(streamRef), pos);
         BLangStatementExpression stmtExpr = ASTBuilderUtil.createStatementExpression(queryBlock, result);
@@ -314,13 +323,16 @@ public class QueryDesugar extends BLangNodeVisitor {
      * @param resultType result type of the query output.
      * @param env symbol env.
      * @param block parent block to write to.
+     * @param lookupCandidateRows whether the candidate rows of a table may be looked up before iterating.
      * @return variableReference to created _StreamPipeline.
      */
-    BLangVariableReference buildStream(List<BLangNode> clauses, BType resultType, SymbolEnv env, BLangBlockStmt block) {
+    BLangVariableReference buildStream(List<BLangNode> clauses, BType resultType, SymbolEnv env, BLangBlockStmt block,
+                                       boolean lookupCandidateRows) {
         this.env = env;
         BLangFromClause initFromClause = (BLangFromClause) clauses.get(0);
-        final BLangVariableReference initPipeline = addPipeline(block, initFromClause.pos,
-                initFromClause.collection, resultType);
+        BLangExpression collection = lookupCandidateRows ? getIndexedCollection(initFromClause, clauses)
+                : initFromClause.collection;
+        final BLangVariableReference initPipeline = addPipeline(block, initFromClause.pos, collection, resultType);
         BLangVariableReference initFrom = addInputFunction(block, initFromClause);
         addStreamFunction(block, initPipeline, initFrom);
         for (BLangNode clause : clauses.subList(1, clauses.size())) {
@@ -375,6 +387,160 @@ public class QueryDesugar extends BLangNodeVisitor {
     }
 
     // ---- Util methods to create the stream pipeline. ---- //
+    /**
+     * Returns the collection to be iterated by the initial from clause. When a table is filtered right away by a
+     * where clause with an equality or range predicate on a field of the row, only the candidate rows returned by
+     * the secondary index of the table are iterated. The where clause is kept as is and evaluated on the candidates.
+     * _StreamPipeline pipeline = createPipeline(<Customer[]> getCandidateRows(tbl, "city", "==", "X"));
+     *
+     * @param fromClause initial from clause.
+     * @param clauses    list of query clauses.
+     * @return collection to be iterated.
+     */
+    private BLangExpression getIndexedCollection(BLangFromClause fromClause, List<BLangNode> clauses) {
+        BLangExpression collection = fromClause.collection;
+        BType collectionType = collection.type.tag == TypeTags.INTERSECTION
+                ? ((BIntersectionType) collection.type).effectiveType : collection.type;
+        if (collectionType.tag != TypeTags.TABLE || clauses.size() < 2
+                || clauses.get(1).getKind() != NodeKind.WHERE) {
+            return collection;
+        }
+        BType constraint = ((BTableType) collectionType).constraint;
+        BType rowType = constraint.tag == TypeTags.INTERSECTION
+                ? ((BIntersectionType) constraint).effectiveType : constraint;
+        BLangVariable variable = (BLangVariable) fromClause.variableDefinitionNode.getVariable();
+        if (rowType.tag != TypeTags.RECORD || variable.getKind() != NodeKind.VARIABLE) {
+            return collection;
+        }
+        BVarSymbol rowSymbol = ((BLangSimpleVariable) variable).symbol;
+        BLangBinaryExpr predicate = findIndexablePredicate(((BLangWhereClause) clauses.get(1)).expression,
+                rowSymbol, (BRecordType) rowType);
+        if (predicate == null) {
+            return collection;
+        }
+
+        boolean fieldOnLhs = isIndexableFieldAccess(predicate.lhsExpr, rowSymbol, (BRecordType) rowType);
+        BLangFieldBasedAccess fieldAccess = (BLangFieldBasedAccess) (fieldOnLhs ? predicate.lhsExpr
+                : predicate.rhsExpr);
+        BLangExpression value = copyLookupValue(fieldOnLhs ? predicate.rhsExpr : predicate.lhsExpr);
+        Location pos = fromClause.pos;
+        BLangLiteral fieldName = ASTBuilderUtil.createLiteral(pos, symTable.stringType, fieldAccess.field.value);
+        BLangLiteral operator = ASTBuilderUtil.createLiteral(pos, symTable.stringType,
+                getLookupOperator(predicate.opKind, fieldOnLhs));
+        BLangInvocation lookup = createQueryLibInvocation(QUERY_GET_CANDIDATE_ROWS_FUNCTION,
+                Lists.of(collection, fieldName, operator,
+                        desugar.addConversionExprIfRequired(value, symTable.anydataType)), pos);
+        return addTypeConversionExpr(lookup, new BArrayType(constraint));
+    }
+
+    /**
+     * Returns a `row.field == value` or `row.field < value` like predicate which has to hold for the where clause
+     * to be true, or null if there is none.
+     */
+    private BLangBinaryExpr findIndexablePredicate(BLangExpression expr, BVarSymbol rowSymbol, BRecordType rowType) {
+        if (expr.getKind() == NodeKind.GROUP_EXPR) {
+            return findIndexablePredicate(((BLangGroupExpr) expr).expression, rowSymbol, rowType);
+        }
+        if (expr.getKind() != NodeKind.BINARY_EXPR) {
+            return null;
+        }
+        BLangBinaryExpr binaryExpr = (BLangBinaryExpr) expr;
+        switch (binaryExpr.opKind) {
+            case AND:
+                BLangBinaryExpr predicate = findIndexablePredicate(binaryExpr.lhsExpr, rowSymbol, rowType);
+                return predicate != null ? predicate : findIndexablePredicate(binaryExpr.rhsExpr, rowSymbol, rowType);
+            case EQUAL:
+            case LESS_THAN:
+            case LESS_EQUAL:
+            case GREATER_THAN:
+            case GREATER_EQUAL:
+                boolean isRange = binaryExpr.opKind != OperatorKind.EQUAL;
+                if (isIndexableFieldAccess(binaryExpr.lhsExpr, rowSymbol, rowType)
+                        && isLookupValue(binaryExpr.rhsExpr, rowSymbol)
+                        && (!isRange || isSortableField(binaryExpr.lhsExpr))) {
+                    return binaryExpr;
+                }
+                if (isIndexableFieldAccess(binaryExpr.rhsExpr, rowSymbol, rowType)
+                        && isLookupValue(binaryExpr.lhsExpr, rowSymbol)
+                        && (!isRange || isSortableField(binaryExpr.rhsExpr))) {
+                    return binaryExpr;
+                }
+                return null;
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * Checks whether the expression accesses a required `int`, `string` or `boolean` field of the row.
+     */
+    private boolean isIndexableFieldAccess(BLangExpression expr, BVarSymbol rowSymbol, BRecordType rowType) {
+        if (expr.getKind() != NodeKind.FIELD_BASED_ACCESS_EXPR) {
+            return false;
+        }
+        BLangFieldBasedAccess fieldAccess = (BLangFieldBasedAccess) expr;
+        if (fieldAccess.optionalFieldAccess || fieldAccess.expr.getKind() != NodeKind.SIMPLE_VARIABLE_REF
+                || ((BLangSimpleVarRef) fieldAccess.expr).symbol != rowSymbol) {
+            return false;
+        }
+        BField field = rowType.fields.get(fieldAccess.field.value);
+        if (field == null || Symbols.isOptional(field.symbol)) {
+            return false;
+        }
+        int tag = field.type.tag;
+        return tag == TypeTags.INT || tag == TypeTags.STRING || tag == TypeTags.BOOLEAN;
+    }
+
+    private boolean isSortableField(BLangExpression fieldAccess) {
+        return fieldAccess.type.tag == TypeTags.INT || fieldAccess.type.tag == TypeTags.STRING;
+    }
+
+    /**
+     * Checks whether the expression can be evaluated before iterating the table, i.e. it is a literal or a
+     * reference to a variable other than the row.
+     */
+    private boolean isLookupValue(BLangExpression expr, BVarSymbol rowSymbol) {
+        switch (expr.getKind()) {
+            case LITERAL:
+            case NUMERIC_LITERAL:
+                return true;
+            case SIMPLE_VARIABLE_REF:
+                BSymbol symbol = ((BLangSimpleVarRef) expr).symbol;
+                return symbol != rowSymbol && symbol instanceof BVarSymbol
+                        && (symbol.tag & SymTag.CONSTANT) != SymTag.CONSTANT;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Returns a copy of a lookup value, the original expression remains in the where clause.
+     */
+    private BLangExpression copyLookupValue(BLangExpression expr) {
+        if (expr.getKind() == NodeKind.SIMPLE_VARIABLE_REF) {
+            return ASTBuilderUtil.createVariableRef(expr.pos, (BVarSymbol) ((BLangSimpleVarRef) expr).symbol);
+        }
+        return ASTBuilderUtil.createLiteral(expr.pos, expr.type, ((BLangLiteral) expr).value);
+    }
+
+    /**
+     * Returns the operator to compare the field with the lookup value, mirrored if the field is on the right.
+     */
+    private String getLookupOperator(OperatorKind opKind, boolean fieldOnLhs) {
+        switch (opKind) {
+            case LESS_THAN:
+                return fieldOnLhs ? "<" : ">";
+            case LESS_EQUAL:
+                return fieldOnLhs ? "<=" : ">=";
+            case GREATER_THAN:
+                return fieldOnLhs ? ">" : "<";
+            case GREATER_EQUAL:
+                return fieldOnLhs ? ">=" : "<=";
+            default:
+                return "==";
+        }
+    }
+
     /**
      * Desugar fromClause/joinClause to below and return a reference to created join _StreamPipeline.
      * _StreamPipeline pipeline = createPipeline(collection);
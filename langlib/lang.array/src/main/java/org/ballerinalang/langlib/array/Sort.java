@@ -30,6 +30,7 @@ import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BFunctionPointer;
 import io.ballerina.runtime.internal.TypeChecker;
 import io.ballerina.runtime.internal.scheduling.Scheduler;
+import io.ballerina.runtime.internal.values.ArrayValueImpl;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -56,28 +57,35 @@ public class Sort {
             isAscending = false;
         }
 
-        Object[][] sortArr = new Object[arr.size()][2];
-        Object[][] sortArrClone = new Object[arr.size()][2];
+        if (function == null && arr instanceof ArrayValueImpl && ((ArrayValueImpl) arr).sortValues(isAscending)) {
+            return arr;
+        }
+
+        int size = arr.size();
+        Object[] values = new Object[size];
+        Object[] keys;
         if (function != null) {
+            keys = new Object[size];
             boolean elementTypeIdentified = false;
             elemType = ((FunctionType) function.getType()).getReturnType();
-            for (int i = 0; i < arr.size(); i++) {
-                sortArr[i][0] = function.call(new Object[]{Scheduler.getStrand(), arr.get(i), true});
-                // Get the type of the sortArr elements when there is an arrow expression as the key function
+            for (int i = 0; i < size; i++) {
+                values[i] = arr.get(i);
+                keys[i] = function.call(new Object[]{Scheduler.getStrand(), values[i], true});
+                // Get the type of the keys when there is an arrow expression as the key function
                 if (!elementTypeIdentified && elemType.getTag() == TypeTags.UNION_TAG &&
                         ((UnionType) elemType).getMemberTypes().size() > 2) {
-                    Type sortArrElemType = TypeChecker.getType(sortArr[i][0]);
-                    if (sortArrElemType.getTag() != TypeTags.NULL_TAG) {
-                        elemType = sortArrElemType;
+                    Type keyType = TypeChecker.getType(keys[i]);
+                    if (keyType.getTag() != TypeTags.NULL_TAG) {
+                        elemType = keyType;
                         elementTypeIdentified = true;
                     }
                 }
-                sortArr[i][1] = arr.get(i);
             }
         } else {
-            for (int i = 0; i < arr.size(); i++) {
-                sortArr[i][0] = sortArr[i][1] = arr.get(i);
+            for (int i = 0; i < size; i++) {
+                values[i] = arr.get(i);
             }
+            keys = values;
         }
 
         if (elemType.getTag() == TypeTags.UNION_TAG) {
@@ -91,10 +99,15 @@ public class Sort {
             }
         }
 
-        mergesort(sortArr, sortArrClone, 0, sortArr.length - 1, isAscending, elemType);
+        // Sort the positions of the members, so that the keys are computed once and only ints are moved around
+        int[] order = new int[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        mergesort(order, new int[size], keys, 0, size - 1, isAscending, elemType);
 
-        for (int k = 0; k < sortArr.length; k++) {
-            arr.add(k, sortArr[k][1]);
+        for (int k = 0; k < size; k++) {
+            arr.add(k, values[order[k]]);
         }
 
         return arr;
@@ -111,20 +124,21 @@ public class Sort {
     }
 
     // Adapted from https://algs4.cs.princeton.edu/22mergesort/Merge.java.html
-    private static void mergesort(Object[][] input, Object[][] aux, int lo, int hi, boolean isAscending, Type type) {
+    private static void mergesort(int[] input, int[] aux, Object[] keys, int lo, int hi, boolean isAscending,
+                                  Type type) {
         if (hi <= lo) {
             return;
         }
 
         int mid = lo + (hi - lo) / 2;
 
-        mergesort(input, aux, lo, mid, isAscending, type);
-        mergesort(input, aux, mid + 1, hi, isAscending, type);
+        mergesort(input, aux, keys, lo, mid, isAscending, type);
+        mergesort(input, aux, keys, mid + 1, hi, isAscending, type);
 
-        merge(input, aux, lo, mid, hi, isAscending, type);
+        merge(input, aux, keys, lo, mid, hi, isAscending, type);
     }
 
-    private static void merge(Object[][] input, Object[][] aux, int lo, int mid, int hi, boolean isAscending,
+    private static void merge(int[] input, int[] aux, Object[] keys, int lo, int mid, int hi, boolean isAscending,
                               Type type) {
         if (hi + 1 - lo >= 0) {
             System.arraycopy(input, lo, aux, lo, hi + 1 - lo);
@@ -136,9 +150,9 @@ public class Sort {
                 index = j++;
             } else if (j > hi) {
                 index = i++;
-            } else if (isAscending && sortFunc(aux[j][0], aux[i][0], type, true) < 0) {
+            } else if (isAscending && sortFunc(keys[aux[j]], keys[aux[i]], type, true) < 0) {
                 index = j++;
-            } else if (!isAscending && sortFunc(aux[i][0], aux[j][0], type, false) < 0) {
+            } else if (!isAscending && sortFunc(keys[aux[i]], keys[aux[j]], type, false) < 0) {
                 index = j++;
             } else {
                 index = i++;
@@ -151,6 +151,70 @@ function consumeStream(stream<Type, error?> strm) returns error? {
     }
 }
 
+function getCandidateRows(table<map<Type>> tbl, string fieldName, string operator, anydata value)
+        returns map<Type>[] = @java:Method {
+    'class: "org.ballerinalang.langlib.query.GetCandidateRows",
+    name: "getCandidateRows"
+} external;
+
+function joinFrames(_Frame lhsFrame, _Frame rhsFrame) returns _Frame {
+    _Frame joinedFrame = {...lhsFrame};
+    foreach var [k, val] in rhsFrame.entries() {
+        joinedFrame[k] = val;
+    }
+    return joinedFrame;
+}
+
+function createFrameMultiMap() returns handle = @java:Method {
+    'class: "org.ballerinalang.langlib.query.FrameMultiMap",
+    name: "create"
+} external;
+
+function putFrame(handle frameMap, any key, _Frame frame) = @java:Method {
+    'class: "org.ballerinalang.langlib.query.FrameMultiMap",
+    name: "put"
+} external;
+
+function getFrameBucket(handle frameMap, any key) returns int = @java:Method {
+    'class: "org.ballerinalang.langlib.query.FrameMultiMap",
+    name: "get"
+} external;
+
+function getFrameCount(handle frameMap, int bucket) returns int = @java:Method {
+    'class: "org.ballerinalang.langlib.query.FrameMultiMap",
+    name: "count"
+} external;
+
+function getFrameAt(handle frameMap, int bucket, int index) returns _Frame = @java:Method {
+    'class: "org.ballerinalang.langlib.query.FrameMultiMap",
+    name: "frameAt"
+} external;
+
+function createFrameSorter() returns handle = @java:Method {
+    'class: "org.ballerinalang.langlib.query.FrameSorter",
+    name: "create"
+} external;
+
+function addFrameToSort(handle sorter, _Frame frame, any[] directions, any[] keys) = @java:Method {
+    'class: "org.ballerinalang.langlib.query.FrameSorter",
+    name: "add"
+} external;
+
+function sortFrames(handle sorter) = @java:Method {
+    'class: "org.ballerinalang.langlib.query.FrameSorter",
+    name: "sort"
+} external;
+
+function getSortedFrameCount(handle sorter) returns int = @java:Method {
+    'class: "org.ballerinalang.langlib.query.FrameSorter",
+    name: "count"
+} external;
+
+function getSortedFrameAt(handle sorter, int index) returns _Frame = @java:Method {
+    'class: "org.ballerinalang.langlib.query.FrameSorter",
+    name: "frameAt"
+} external;
+
 // TODO: This for debugging purposes, remove once completed.
 function print(any|error? data) = @java:Method {
     'class: "org.ballerinalang.langlib.query.Print",
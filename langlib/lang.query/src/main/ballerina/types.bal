@@ -310,7 +310,8 @@ class _InnerJoinFunction {
     function (_Frame _frame) returns any lhsKeyFunction;
     function (_Frame _frame) returns any rhsKeyFunction;
     _FrameMultiMap rhsFramesMap = new;
-    _Frame[]? rhsCandidates;
+    int rhsCandidates;
+    int rhsIndex;
     _Frame|error? lhsFrame;
 
     function init(
@@ -319,12 +320,13 @@ class _InnerJoinFunction {
             function (_Frame _frame) returns any rhsKeyFunction) {
         self.lhsKeyFunction = lhsKeyFunction;
         self.rhsKeyFunction = rhsKeyFunction;
-        self.rhsCandidates = ();
+        self.rhsCandidates = -1;
+        self.rhsIndex = 0;
         self.prevFunc = ();
         self.lhsFrame = ();
         _Frame|error? f = pipelineToJoin.next();
         while (f is _Frame) {
-            self.rhsFramesMap.put(rhsKeyFunction(f).toString(), f);
+            self.rhsFramesMap.put(rhsKeyFunction(f), f);
             f = pipelineToJoin.next();
         }
     }
@@ -334,46 +336,42 @@ class _InnerJoinFunction {
     # join var ... in streamA join var ... in streamB
     # + return - merged two frames { ...frameA, ...frameB }
     public function process() returns _Frame|error? {
-        function (_Frame _frame) returns any lhsKF = self.lhsKeyFunction;
-        _StreamFunction pf = <_StreamFunction>self.prevFunc;
-         _FrameMultiMap rhsFramesMap = self.rhsFramesMap;
-        _Frame[]? rhsCandidates = self.rhsCandidates;
+        _FrameMultiMap rhsFramesMap = self.rhsFramesMap;
         _Frame|error? lhsFrame = self.lhsFrame;
-        string lhsKey = "";
 
         if (lhsFrame is ()) {
-            lhsFrame = pf.process();
-            self.lhsFrame = lhsFrame;
+            lhsFrame = self.nextLhsFrame();
         }
 
-        if (lhsFrame is _Frame) {
-            lhsKey = lhsKF(lhsFrame).toString();
-            if (rhsCandidates is ()) {
-                rhsCandidates = rhsFramesMap.get(lhsKey);
-                self.rhsCandidates = rhsCandidates;
-            }
-            if (rhsCandidates is _Frame[] && rhsCandidates.length() > 0) {
-                _Frame rhsFrame = rhsCandidates.shift();
-                self.rhsCandidates = rhsCandidates;
-                _Frame joinedFrame = {...lhsFrame};
-                foreach var [k, val] in rhsFrame.entries() {
-                    joinedFrame[k] = val;
-                }
-                return joinedFrame;
-            } else {
-                // Move to next lhs frame
-                self.lhsFrame = ();
-                self.rhsCandidates = ();
-                return self.process();
+        while (lhsFrame is _Frame) {
+            if (self.rhsIndex < rhsFramesMap.count(self.rhsCandidates)) {
+                _Frame rhsFrame = rhsFramesMap.frameAt(self.rhsCandidates, self.rhsIndex);
+                self.rhsIndex += 1;
+                return joinFrames(lhsFrame, rhsFrame);
             }
+            // Move to next lhs frame
+            lhsFrame = self.nextLhsFrame();
         }
         return lhsFrame;
     }
 
+    function nextLhsFrame() returns _Frame|error? {
+        function (_Frame _frame) returns any lhsKF = self.lhsKeyFunction;
+        _StreamFunction pf = <_StreamFunction>self.prevFunc;
+        _Frame|error? lhsFrame = pf.process();
+        if (lhsFrame is _Frame) {
+            self.rhsCandidates = self.rhsFramesMap.get(lhsKF(lhsFrame));
+            self.rhsIndex = 0;
+        }
+        self.lhsFrame = lhsFrame;
+        return lhsFrame;
+    }
+
     public function reset() {
         // Reset the state of lhsFrame
         self.lhsFrame = ();
-        self.rhsCandidates = ();
+        self.rhsCandidates = -1;
+        self.rhsIndex = 0;
         _StreamFunction? pf = self.prevFunc;
         if (pf is _StreamFunction) {
             pf.reset();
@@ -386,7 +384,8 @@ class _OuterJoinFunction {
     function (_Frame _frame) returns any lhsKeyFunction;
     function (_Frame _frame) returns any rhsKeyFunction;
     _FrameMultiMap rhsFramesMap = new;
-    _Frame[]? rhsCandidates;
+    int rhsCandidates;
+    int rhsIndex;
     _Frame|error? lhsFrame;
     _Frame nilFrame;
 
@@ -396,13 +395,14 @@ class _OuterJoinFunction {
             function (_Frame _frame) returns any rhsKeyFunction, _Frame nilFrame) {
         self.lhsKeyFunction = lhsKeyFunction;
         self.rhsKeyFunction = rhsKeyFunction;
-        self.rhsCandidates = ();
+        self.rhsCandidates = -1;
+        self.rhsIndex = 0;
         self.prevFunc = ();
         self.lhsFrame = ();
         self.nilFrame = nilFrame;
         _Frame|error? f = pipelineToJoin.next();
         while (f is _Frame) {
-            self.rhsFramesMap.put(rhsKeyFunction(f).toString(), f);
+            self.rhsFramesMap.put(rhsKeyFunction(f), f);
             f = pipelineToJoin.next();
         }
     }
@@ -414,46 +414,32 @@ class _OuterJoinFunction {
     public function process() returns _Frame|error? {
         function (_Frame _frame) returns any lhsKF = self.lhsKeyFunction;
         _StreamFunction pf = <_StreamFunction>self.prevFunc;
-         _FrameMultiMap rhsFramesMap = self.rhsFramesMap;
-        _Frame[]? rhsCandidates = self.rhsCandidates;
+        _FrameMultiMap rhsFramesMap = self.rhsFramesMap;
         _Frame|error? lhsFrame = self.lhsFrame;
-        _Frame nilFrame = self.nilFrame;
-        string lhsKey = "";
 
         if (lhsFrame is ()) {
             lhsFrame = pf.process();
             self.lhsFrame = lhsFrame;
+            if (lhsFrame is _Frame) {
+                self.rhsCandidates = rhsFramesMap.get(lhsKF(lhsFrame));
+                self.rhsIndex = 0;
+            }
         }
 
         if (lhsFrame is _Frame) {
-            lhsKey = lhsKF(lhsFrame).toString();
-            if (rhsCandidates is ()) {
-                rhsCandidates = rhsFramesMap.get(lhsKey);
-                self.rhsCandidates = rhsCandidates;
-            }
-
-            if (rhsCandidates is _Frame[]) {
-                _Frame rhsFrame = rhsCandidates.shift();
-                if (rhsCandidates.length() > 0) {
-                    self.rhsCandidates = rhsCandidates;
-                } else {
+            int candidateCount = rhsFramesMap.count(self.rhsCandidates);
+            if (candidateCount > 0) {
+                _Frame rhsFrame = rhsFramesMap.frameAt(self.rhsCandidates, self.rhsIndex);
+                self.rhsIndex += 1;
+                if (self.rhsIndex == candidateCount) {
                     // Move to next lhs frame in next iteration.
-                    self.rhsCandidates = ();
                     self.lhsFrame = ();
                 }
-                _Frame joinedFrame = {...lhsFrame};
-                foreach var [k, val] in rhsFrame.entries() {
-                    joinedFrame[k] = val;
-                }
-                return joinedFrame;
+                return joinFrames(lhsFrame, rhsFrame);
             } else {
-                // rhsCandidates is nil, move to next lhs frame in next iteration.
-                _Frame joinedFrame = {...lhsFrame};
-                foreach var [k, val] in nilFrame.entries() {
-                    joinedFrame[k] = val;
-                }
+                // There are no rhs candidates, move to next lhs frame in next iteration.
                 self.lhsFrame = ();
-                return joinedFrame;
+                return joinFrames(lhsFrame, self.nilFrame);
             }
         }
         return lhsFrame;
@@ -462,7 +448,8 @@ class _OuterJoinFunction {
     public function reset() {
         // Reset the state of lhsFrame
         self.lhsFrame = ();
-        self.rhsCandidates = ();
+        self.rhsCandidates = -1;
+        self.rhsIndex = 0;
         _StreamFunction? pf = self.prevFunc;
         if (pf is _StreamFunction) {
             pf.reset();
@@ -501,49 +488,57 @@ class _FilterFunction {
     }
 }
 
+# Collects the frames of the pipeline and sorts them once in the native `FrameSorter`. Only the sorting is
+# native, the frames are still the `_Frame` maps which every stage allocates per row.
 class _OrderByFunction {
     *_StreamFunction;
 
     # Desugared function to do;
     # order by person.fname true, person.age false
     function(_Frame _frame) orderKeyFunc;
-    stream<_Frame>? orderedStream;
+    handle orderedFrames;
+    int frameCount;
+    int index;
 
     function init(function(_Frame _frame) orderKeyFunc) {
         self.orderKeyFunc = orderKeyFunc;
-        self.orderedStream = ();
+        self.orderedFrames = createFrameSorter();
+        self.frameCount = -1;
+        self.index = 0;
         self.prevFunc = ();
     }
 
     public function process() returns _Frame|error? {
-        if (self.orderedStream is ()) {
+        if (self.frameCount < 0) {
             _StreamFunction pf = <_StreamFunction> self.prevFunc;
             function(_Frame _frame) orderKeyFunc = self.orderKeyFunc;
+            handle sorter = self.orderedFrames;
             _Frame|error? f = pf.process();
-            boolean[] directions = [];
-            _OrderTreeNode oTree = new;
             // consume all events for ordering.
             while (f is _Frame) {
                 orderKeyFunc(f);
-                oTree.add(f, <any[]>(checkpanic f["$orderDirection$"]), <any[]>(checkpanic f["$orderKey$"]));
+                addFrameToSort(sorter, f, <any[]>(checkpanic f["$orderDirection$"]),
+                    <any[]>(checkpanic f["$orderKey$"]));
                 f = pf.process();
             }
             if (f is error) {
                 return f;
             }
-            self.orderedStream = oTree.get().toStream();
+            sortFrames(sorter);
+            self.frameCount = getSortedFrameCount(sorter);
         }
 
-        stream<_Frame> s = <stream<_Frame>>self.orderedStream;
-        record {|_Frame value;|}|error? f = s.next();
-        if (f is record {|_Frame value;|}) {
-            return f.value;
+        if (self.index < self.frameCount) {
+            _Frame f = getSortedFrameAt(self.orderedFrames, self.index);
+            self.index += 1;
+            return f;
         }
-        return f;
     }
 
     public function reset() {
-        self.orderedStream = ();
+        self.orderedFrames = createFrameSorter();
+        self.frameCount = -1;
+        self.index = 0;
         _StreamFunction? pf = self.prevFunc;
         if (pf is _StreamFunction) {
             pf.reset();
@@ -662,36 +657,31 @@ class _LimitFunction {
 
 // ---- helper types ----
 
+# Frames of the rhs of a join, grouped by their join key. Frames with the same key are kept in a bucket,
+# in the order they were added.
 class _FrameMultiMap {
-    map<_Frame[]> m;
+    handle m;
 
     function init() {
-        self.m = {};
+        self.m = createFrameMultiMap();
     }
 
-    function put(string k, _Frame v) {
-        _Frame[]? vals = self.m[k];
-        if (vals is _Frame[]) {
-            vals.push(v);
-        } else {
-            self.m[k] = [v];
-        }
+    function put(any k, _Frame v) {
+        putFrame(self.m, k, v);
     }
 
-    function get(string k) returns _Frame[]? {
-        _Frame[]? vals = self.m[k];
-        if (vals is _Frame[]) {
-            _Frame[] frames = [];
-            int l = vals.length();
-            int i = 0;
-            while (i < l) {
-                frames.push(vals[i]);
-                i += 1;
-            }
-            return frames;
-        }
+    # Returns the id of the bucket of frames with the given key, or -1 if there are none.
+    function get(any k) returns int {
+        return getFrameBucket(self.m, k);
     }
 
+    function count(int bucket) returns int {
+        return getFrameCount(self.m, bucket);
+    }
+
+    function frameAt(int bucket, int index) returns _Frame {
+        return getFrameAt(self.m, bucket, index);
+    }
 }
 
 class IterHelper {
@@ -714,107 +704,3 @@ class IterHelper {
         }
     }
 }
-
-class _OrderTreeNode {
-    any? key = ();
-    _Frame[]? frames = ();
-    lang_array:SortDirection nodesDirection = lang_array:ASCENDING;
-    map<_OrderTreeNode> nodes = {};
-    any[] keys = [];
-
-    # adds a _Frame into the _OrderTreeNode tree structure.
-    function add(_Frame f, any[] directions, any[] keys) {
-        if (keys.length() == 0 && directions.length() == 0) {
-            _Frame[]? currentFrames = self.frames;
-            if (currentFrames is _Frame[]) {
-                currentFrames.push(f);
-            } else {
-                self.frames = [f];
-            }
-
-        } else {
-            if(!<boolean>directions.shift()) {
-                self.nodesDirection = lang_array:DESCENDING;
-            }
-            any key = keys.shift();
-            string keyStr = key.toString();
-            _OrderTreeNode o;
-            if (self.nodes.hasKey(keyStr)) {
-                o = self.nodes.get(keyStr);
-            } else {
-                o = new;
-                o.key = key;
-                self.nodes[keyStr] = o;
-                self.keys.push(key);
-            }
-            o.add(f, directions, keys);
-        }
-    }
-
-    # do a pre-order tree traversal and return collected leaf frames as orderedFrames.
-    # + return -  ordered frames.
-    function get() returns _Frame[] {
-        _Frame[] orderedFrames = [];
-        if (self.frames is _Frame[]) {
-            _Frame[] frames = <_Frame[]>self.frames;
-            int l = frames.length();
-            int i = 0;
-            while (i < l) {
-                orderedFrames.push(frames[i]);
-                i += 1;
-            }
-        } else {
-            any[] keys = self.getSortedArray(self.keys);
-            foreach any k in keys {
-                _OrderTreeNode o = self.nodes.get(k.toString());
-                _Frame[] frms = o.get();
-                foreach _Frame f in frms {
-                    orderedFrames.push(f);
-                }
-            }
-        }
-        return orderedFrames;
-    }
-
-    # sorting is not supported for any[], therefore have to resolve runtime type and sort it.
-    # + return -  ordered array.
-    function getSortedArray(any[] arr) returns any[] {
-        if (arr.length() > 0) {
-            int i = 0;
-            while (i < arr.length()) {
-                if (arr[i] is ()) {
-                    i += 1;
-                    continue;
-                } else if (arr[i] is boolean) {
-                    boolean?[] res = [];
-                    self.copyArray(arr, res);
-                    return res.sort(self.nodesDirection, (v) => v);
-                } else if (arr[i] is int) {
-                    int?[] res = [];
-                    self.copyArray(arr, res);
-                    return res.sort(self.nodesDirection, (v) => v);
-                } else if (arr[i] is float) {
-                    float?[] res = [];
-                    self.copyArray(arr, res);
-                    return res.sort(self.nodesDirection, (v) => v);
-                } else if (arr[i] is decimal) {
-                    decimal?[] res = [];
-                    self.copyArray(arr, res);
-                    return res.sort(self.nodesDirection, (v) => v);
-                } else if (arr[i] is string) {
-                    string?[] res = [];
-                    self.copyArray(arr, res);
-                    return res.sort(self.nodesDirection, (v) => v);
-                }
-            }
-        }
-        return arr;
-    }
-
-    # copy every element of source array into empty target array.
-    function copyArray(any[] 'source, any[] 'target) {
-        foreach var v in 'source {
-            'target.push(v);
-        }
-    }
-}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BXml;
+import io.ballerina.runtime.internal.TypeChecker;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Native implementation of the lang.query _FrameMultiMap, which holds the frames of the right hand side of a join
+ * grouped by the value of their join key.
+ * <p>
+ * Join keys are compared for equality with {@link TypeChecker#isEqual}, the same as the {@code equals} of the join
+ * clause, and hashed by value. The frames with the same key are kept in a bucket in the order they were added, and
+ * are read by their position in the bucket.
+ *
+ * @since Swan Lake
+ */
+public class FrameMultiMap {
+
+    private static final int NO_BUCKET = -1;
+    private static final int MAX_HASH_DEPTH = 8;
+
+    private final Map<JoinKey, Integer> bucketIds = new HashMap<>();
+    private final List<List<BMap<BString, Object>>> buckets = new ArrayList<>();
+
+    public static FrameMultiMap create() {
+        return new FrameMultiMap();
+    }
+
+    public static void put(FrameMultiMap frameMap, Object key, BMap<BString, Object> frame) {
+        Integer bucketId = frameMap.bucketIds.computeIfAbsent(new JoinKey(key), k -> {
+            frameMap.buckets.add(new ArrayList<>(1));
+            return frameMap.buckets.size() - 1;
+        });
+        frameMap.buckets.get(bucketId).add(frame);
+    }
+
+    /**
+     * Returns the id of the bucket of frames with the given key, or -1 if there are no frames with the key.
+     */
+    public static long get(FrameMultiMap frameMap, Object key) {
+        Integer bucketId = frameMap.bucketIds.get(new JoinKey(key));
+        return bucketId == null ? NO_BUCKET : bucketId;
+    }
+
+    public static long count(FrameMultiMap frameMap, long bucketId) {
+        return bucketId == NO_BUCKET ? 0 : frameMap.buckets.get((int) bucketId).size();
+    }
+
+    public static BMap<BString, Object> frameAt(FrameMultiMap frameMap, long bucketId, long index) {
+        return frameMap.buckets.get((int) bucketId).get((int) index);
+    }
+
+    private static int hash(Object value, int depth) {
+        if (value == null || depth > MAX_HASH_DEPTH) {
+            return 0;
+        }
+        if (value instanceof Long || value instanceof Integer) {
+            // byte values are equal to the int values with the same value
+            return Long.hashCode(((Number) value).longValue());
+        }
+        if (value instanceof BString) {
+            return ((BString) value).getValue().hashCode();
+        }
+        if (value instanceof BDecimal) {
+            // decimals with different scales are equal
+            BigDecimal decimal = ((BDecimal) value).decimalValue();
+            return decimal.signum() == 0 ? 0 : decimal.stripTrailingZeros().hashCode();
+        }
+        if (value instanceof BMap) {
+            // mappings with the same entries in a different order are equal
+            int result = 0;
+            for (Map.Entry<?, ?> entry : ((BMap<?, ?>) value).entrySet()) {
+                result += hash(entry.getKey(), depth + 1) ^ hash(entry.getValue(), depth + 1);
+            }
+            return result;
+        }
+        if (value instanceof BArray) {
+            BArray array = (BArray) value;
+            int result = 1;
+            for (long i = 0; i < array.size(); i++) {
+                result = 31 * result + hash(array.get(i), depth + 1);
+            }
+            return result;
+        }
+        if (value instanceof BXml) {
+            return value.toString().hashCode();
+        }
+        if (value instanceof Double || value instanceof Boolean) {
+            return value.hashCode();
+        }
+        // other values are only compared for equality
+        return 0;
+    }
+
+    /**
+     * Join key, which is hashed once and compared with the value equality of Ballerina.
+     */
+    private static class JoinKey {
+
+        private final Object value;
+        private final int hash;
+
+        JoinKey(Object value) {
+            this.value = value;
+            this.hash = FrameMultiMap.hash(value, 0);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof JoinKey && TypeChecker.isEqual(value, ((JoinKey) o).value);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
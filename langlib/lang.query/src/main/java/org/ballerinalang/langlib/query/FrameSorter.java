@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.creators.ErrorCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
+import io.ballerina.runtime.api.utils.TypeUtils;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BDecimal;
+import io.ballerina.runtime.api.values.BMap;
+import io.ballerina.runtime.api.values.BString;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Native implementation of the sorting done by the lang.query _OrderByFunction.
+ * <p>
+ * Frames are collected with the values of their order keys and sorted once with a comparator over all the keys.
+ * The sort is stable, frames with equal keys keep the order in which they were added. As with lang.array:sort,
+ * {@code ()} is placed last and float NaN is placed before {@code ()}, irrespective of the order direction, and
+ * arrays are ordered lexicographically by their members.
+ *
+ * @since Swan Lake
+ */
+public class FrameSorter {
+
+    private final List<SortEntry> entries = new ArrayList<>();
+    private boolean[] ascending;
+
+    public static FrameSorter create() {
+        return new FrameSorter();
+    }
+
+    public static void add(FrameSorter sorter, BMap<BString, Object> frame, BArray directions, BArray keys) {
+        if (sorter.ascending == null) {
+            sorter.ascending = new boolean[directions.size()];
+            for (int i = 0; i < sorter.ascending.length; i++) {
+                sorter.ascending[i] = (Boolean) directions.get(i);
+            }
+        }
+        Object[] keyValues = new Object[keys.size()];
+        for (int i = 0; i < keyValues.length; i++) {
+            keyValues[i] = keys.get(i);
+        }
+        sorter.entries.add(new SortEntry(keyValues, frame));
+    }
+
+    public static void sort(FrameSorter sorter) {
+        if (sorter.ascending == null) {
+            return;
+        }
+        boolean[] ascending = sorter.ascending;
+        Comparator<SortEntry> comparator = (entry1, entry2) -> {
+            for (int i = 0; i < ascending.length; i++) {
+                int result = compare(entry1.keys[i], entry2.keys[i], ascending[i]);
+                if (result != 0) {
+                    return result;
+                }
+            }
+            return 0;
+        };
+        sorter.entries.sort(comparator);
+    }
+
+    public static long count(FrameSorter sorter) {
+        return sorter.entries.size();
+    }
+
+    public static BMap<BString, Object> frameAt(FrameSorter sorter, long index) {
+        return sorter.entries.get((int) index).frame;
+    }
+
+    private static int compare(Object value1, Object value2, boolean ascending) {
+        // () should come last irrespective of the order direction.
+        if (value1 == null || value2 == null) {
+            return value1 == null ? (value2 == null ? 0 : 1) : -1;
+        }
+        if (value1 instanceof Double && value2 instanceof Double) {
+            double double1 = (Double) value1;
+            double double2 = (Double) value2;
+            // NaN should come last, or before () when it is present, irrespective of the order direction.
+            if (Double.isNaN(double1) || Double.isNaN(double2)) {
+                return Double.isNaN(double1) ? (Double.isNaN(double2) ? 0 : 1) : -1;
+            }
+            // -0.0 = +0.0
+            int result = double1 == double2 ? 0 : Double.compare(double1, double2);
+            return ascending ? result : -result;
+        }
+        int result = compareOrdered(value1, value2);
+        return ascending ? result : -result;
+    }
+
+    private static int compareOrdered(Object value1, Object value2) {
+        if ((value1 instanceof Long || value1 instanceof Integer) &&
+                (value2 instanceof Long || value2 instanceof Integer)) {
+            return Long.compare(((Number) value1).longValue(), ((Number) value2).longValue());
+        }
+        if (value1 instanceof BString && value2 instanceof BString) {
+            return codePointCompare(((BString) value1).getValue(), ((BString) value2).getValue());
+        }
+        if (value1 instanceof BDecimal && value2 instanceof BDecimal) {
+            return ((BDecimal) value1).decimalValue().compareTo(((BDecimal) value2).decimalValue());
+        }
+        if (value1 instanceof Boolean && value2 instanceof Boolean) {
+            return Boolean.compare((Boolean) value1, (Boolean) value2);
+        }
+        if (value1 instanceof BArray && value2 instanceof BArray) {
+            return compareArrays((BArray) value1, (BArray) value2);
+        }
+        throw ErrorCreator.createError(StringUtils.fromString("expected an ordered type, but found '" +
+                TypeUtils.getType(value1) + "' and '" + TypeUtils.getType(value2) + "'"));
+    }
+
+    private static int compareArrays(BArray array1, BArray array2) {
+        int length = Math.min(array1.size(), array2.size());
+        for (int i = 0; i < length; i++) {
+            int result = compare(array1.get(i), array2.get(i), true);
+            if (result != 0) {
+                return result;
+            }
+        }
+        // A prefix of an array is placed before the array
+        return Integer.compare(array1.size(), array2.size());
+    }
+
+    private static int codePointCompare(String str1, String str2) {
+        int i = 0;
+        int j = 0;
+        while (i < str1.length() && j < str2.length()) {
+            int codePoint1 = str1.codePointAt(i);
+            int codePoint2 = str2.codePointAt(j);
+            if (codePoint1 != codePoint2) {
+                return Integer.compare(codePoint1, codePoint2);
+            }
+            i += Character.charCount(codePoint1);
+            j += Character.charCount(codePoint2);
+        }
+        return Boolean.compare(i < str1.length(), j < str2.length());
+    }
+
+    /**
+     * A frame with the values of its order keys.
+     */
+    private static class SortEntry {
+
+        private final Object[] keys;
+        private final BMap<BString, Object> frame;
+
+        SortEntry(Object[] keys, BMap<BString, Object> frame) {
+            this.keys = keys;
+            this.frame = frame;
+        }
+    }
+}
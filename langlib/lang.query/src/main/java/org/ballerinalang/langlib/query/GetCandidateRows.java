@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.langlib.query;
+
+import io.ballerina.runtime.api.creators.TypeCreator;
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.types.TableType;
+import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BString;
+import io.ballerina.runtime.api.values.BTable;
+import io.ballerina.runtime.internal.values.TableValueImpl;
+
+/**
+ * Implementation of lang.query:getCandidateRows(table, string, string, anydata).
+ * <p>
+ * Returns the rows of the table which may satisfy the given predicate on a field of the row, using the secondary
+ * index of the table where possible.
+ *
+ * @since Swan Lake
+ */
+public class GetCandidateRows {
+
+    public static BArray getCandidateRows(BTable tbl, BString fieldName, BString operator, Object value) {
+        TableType tableType = (TableType) tbl.getType();
+        Object[] rows = ((TableValueImpl<?, ?>) tbl).getCandidateRows(fieldName, operator.getValue(), value);
+        return ValueCreator.createArrayValue(rows, TypeCreator.createArrayType(tableType.getConstrainedType()));
+    }
+}
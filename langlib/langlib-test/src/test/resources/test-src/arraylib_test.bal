@@ -1106,6 +1106,41 @@ function testSort10() {
     assertValueEquality(sortedArr6, arr3);
 }
 
+function testSort11() {
+    float[] arr = [3.0, float:NaN, 0.0, -0.0, -1.5, 0.0, float:NaN, 5.5];
+
+    float[] sortedArr = arr.sort(array:DESCENDING);
+    assertValueEquality(sortedArr.toString(), "[5.5,3.0,0.0,-0.0,0.0,-1.5,NaN,NaN]");
+    assertValueEquality(sortedArr.toString(), arr.toString());
+
+    sortedArr = arr.sort();
+    assertValueEquality(sortedArr.toString(), "[-1.5,0.0,-0.0,0.0,3.0,5.5,NaN,NaN]");
+
+    byte[] arr2 = [200, 1, 0, 255, 1];
+    assertValueEquality(arr2.sort(), [0, 1, 1, 200, 255]);
+    assertValueEquality(arr2.sort(array:DESCENDING), [255, 200, 1, 1, 0]);
+
+    boolean[] arr3 = [true, false, true, false];
+    assertValueEquality(arr3.sort(), [false, false, true, true]);
+    assertValueEquality(arr3.sort(array:DESCENDING), [true, true, false, false]);
+
+    string[] arr4 = ["bcd", "abc", "\u{1F600}", "ab", "Abc"];
+    assertValueEquality(arr4.sort(), ["Abc", "ab", "abc", "bcd", "\u{1F600}"]);
+    assertValueEquality(arr4.sort(array:DESCENDING), ["\u{1F600}", "bcd", "abc", "ab", "Abc"]);
+
+    int[] arr5 = [];
+    foreach int i in 0 ..< 100000 {
+        arr5.push((i * 7919) % 1000);
+    }
+    int[] sortedArr5 = arr5.sort(array:DESCENDING);
+    assertValueEquality(sortedArr5.length(), 100000);
+    assertValueEquality(sortedArr5[0], 999);
+    assertValueEquality(sortedArr5[99999], 0);
+    foreach int i in 1 ..< sortedArr5.length() {
+        assertTrue(sortedArr5[i] <= sortedArr5[i - 1]);
+    }
+}
+
 const ASSERTION_ERROR_REASON = "AssertionError";
 
 function assertTrue(any|error actual) {
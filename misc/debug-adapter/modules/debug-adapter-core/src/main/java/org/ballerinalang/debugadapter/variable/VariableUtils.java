@@ -34,6 +34,7 @@ public class VariableUtils {
     public static final String FIELD_TYPE = "type";
     public static final String FIELD_TYPENAME = "typeName";
     public static final String FIELD_VALUE = "value";
+    public static final String FIELD_FLATTENED = "flattened";
     public static final String FIELD_CONSTRAINT = "constraint";
     public static final String METHOD_STRINGVALUE = "stringValue";
     public static final String UNKNOWN_VALUE = "unknown";
@@ -71,6 +72,11 @@ public class VariableUtils {
                 return UNKNOWN_VALUE;
             }
             ObjectReference stringRef = (ObjectReference) stringValue;
+            if (stringRef.referenceType().name().equals(JVMValueType.ROPESTRING.getString())) {
+                // Concatenated strings only hold their value once it has been materialised.
+                return getFieldValue(stringRef, FIELD_FLATTENED).map(VariableUtils::getStringFrom)
+                        .orElse(UNKNOWN_VALUE);
+            }
             if (!stringRef.referenceType().name().equals(JVMValueType.BMPSTRING.getString())
                     && !stringRef.referenceType().name().equals(JVMValueType.NONBMPSTRING.getString())) {
                 // Additional filtering is required, as some ballerina variable type names may contain redundant
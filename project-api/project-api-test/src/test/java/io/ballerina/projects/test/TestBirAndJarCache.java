@@ -20,6 +20,8 @@ package io.ballerina.projects.test;
 import io.ballerina.projects.CompilationCache;
 import io.ballerina.projects.CompilationCacheFactory;
 import io.ballerina.projects.CompilerBackend;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
 import io.ballerina.projects.JBallerinaBackend;
 import io.ballerina.projects.JvmTarget;
 import io.ballerina.projects.Module;
@@ -39,6 +41,9 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -97,6 +102,101 @@ public class TestBirAndJarCache {
         }
     }
 
+    @Test(description = "tests reusing the cached BIR and Jar files of unchanged modules")
+    public void testModuleHashCaching() throws IOException {
+        Path projectPath = RESOURCE_DIRECTORY.resolve("balowriter").resolve("projectOne");
+        Path cacheDirPath = Files.createTempDirectory("test-compilation-cache" + System.nanoTime());
+
+        // 1) The first build generates the code of all the modules
+        IncrementalCompilationCache[] compilationCache = new IncrementalCompilationCache[1];
+        BuildProject project = loadProject(projectPath, cacheDirPath, compilationCache);
+        int numOfModules = project.currentPackage().moduleIds().size();
+        JBallerinaBackend.from(project.currentPackage().getCompilation(), JvmTarget.JAVA_11);
+        Assert.assertEquals(compilationCache[0].birCachedCount, numOfModules);
+        Assert.assertEquals(compilationCache[0].jarCachedCount, numOfModules * 2);
+
+        // 2) A build of the same sources reuses the cached BIR and Jar files
+        project = loadProject(projectPath, cacheDirPath, compilationCache);
+        JBallerinaBackend jBallerinaBackend =
+                JBallerinaBackend.from(project.currentPackage().getCompilation(), JvmTarget.JAVA_11);
+        Assert.assertFalse(jBallerinaBackend.diagnosticResult().hasErrors());
+        Assert.assertEquals(compilationCache[0].birCachedCount, 0);
+        Assert.assertEquals(compilationCache[0].jarCachedCount, 0);
+
+        // 3) Only the module with a changed document generates code again
+        project = loadProject(projectPath, cacheDirPath, compilationCache);
+        compileWithNewFunction(project, "storage", "closeDatabase");
+        Assert.assertEquals(compilationCache[0].birCachedCount, 1);
+        Assert.assertEquals(compilationCache[0].jarCachedCount, 2);
+
+        // 4) A module whose cached test jar is missing generates code again, even though its hash matches
+        try (Stream<Path> testJars = Files.find(cacheDirPath, 100, (path, fileAttributes) ->
+                path.getFileName().toString().equals("winery.services-testable.jar"))) {
+            List<Path> testJarPaths = testJars.collect(Collectors.toList());
+            Assert.assertEquals(testJarPaths.size(), 1);
+            Files.delete(testJarPaths.get(0));
+        }
+        project = loadProject(projectPath, cacheDirPath, compilationCache);
+        compileWithNewFunction(project, "storage", "closeDatabase");
+        Assert.assertEquals(compilationCache[0].cachedModules, Collections.singletonList("winery.services"));
+        Assert.assertEquals(compilationCache[0].jarCachedCount, 2);
+    }
+
+    @Test(description = "tests generating the code of the modules which depend on a changed module again")
+    public void testDependentModuleHashCaching() throws IOException {
+        // services imports storage, and the default module imports services. utils is not imported.
+        Path projectPath = RESOURCE_DIRECTORY.resolve("incremental_build_project");
+        Path cacheDirPath = Files.createTempDirectory("test-compilation-cache" + System.nanoTime());
+
+        // 1) The first build generates the code of all the modules
+        IncrementalCompilationCache[] compilationCache = new IncrementalCompilationCache[1];
+        BuildProject project = loadProject(projectPath, cacheDirPath, compilationCache);
+        JBallerinaBackend.from(project.currentPackage().getCompilation(), JvmTarget.JAVA_11);
+        Assert.assertEquals(compilationCache[0].birCachedCount, 4);
+        Assert.assertEquals(compilationCache[0].jarCachedCount, 4);
+
+        // 2) A change to storage invalidates the modules which depend on it directly and transitively
+        project = loadProject(projectPath, cacheDirPath, compilationCache);
+        compileWithNewFunction(project, "storage", "closeDatabase");
+        Assert.assertEquals(compilationCache[0].birCachedCount, 3);
+        Assert.assertEquals(compilationCache[0].jarCachedCount, 3);
+        Assert.assertEquals(compilationCache[0].cachedModules,
+                Arrays.asList("incremental.storage", "incremental.services", "incremental"));
+
+        // 3) A change to services does not invalidate storage, which it depends on
+        project = loadProject(projectPath, cacheDirPath, compilationCache);
+        compileWithNewFunction(project, "services", "stopServices");
+        Assert.assertEquals(compilationCache[0].cachedModules, Arrays.asList("incremental.services", "incremental"));
+
+        // 4) A change to utils, which no module depends on, skips the BIR generation of all the other modules
+        project = loadProject(projectPath, cacheDirPath, compilationCache);
+        compileWithNewFunction(project, "utils", "resetUtils");
+        Assert.assertEquals(compilationCache[0].cachedModules, Collections.singletonList("incremental.utils"));
+        Assert.assertEquals(compilationCache[0].jarCachedCount, 1);
+    }
+
+    private static void compileWithNewFunction(BuildProject project, String moduleName, String functionName) {
+        Module module = project.currentPackage().module(ModuleName.from(
+                project.currentPackage().packageName(), moduleName));
+        DocumentId documentId = module.documentIds().iterator().next();
+        Document document = module.document(documentId);
+        Document updatedDocument = document.modify().withContent(document.syntaxTree().textDocument().toString() +
+                "\npublic function " + functionName + "() {\n}\n").apply();
+        JBallerinaBackend jBallerinaBackend = JBallerinaBackend.from(
+                updatedDocument.module().packageInstance().getCompilation(), JvmTarget.JAVA_11);
+        Assert.assertFalse(jBallerinaBackend.diagnosticResult().hasErrors());
+    }
+
+    private static BuildProject loadProject(Path projectPath, Path cacheDirPath,
+                                            IncrementalCompilationCache[] compilationCache) {
+        ProjectEnvironmentBuilder environmentBuilder = ProjectEnvironmentBuilder.getDefaultBuilder();
+        environmentBuilder.addCompilationCacheFactory(project -> {
+            compilationCache[0] = new IncrementalCompilationCache(project, cacheDirPath);
+            return compilationCache[0];
+        });
+        return BuildProject.load(environmentBuilder, projectPath);
+    }
+
     /**
      * An instance of {@code CompilationCacheFactory} used for testing purposes.
      */
@@ -125,6 +225,7 @@ public class TestBirAndJarCache {
     private static class TestCompilationCache extends FileSystemCache {
         public int birCachedCount;
         public int jarCachedCount;
+        public List<String> cachedModules = new ArrayList<>();
 
         public TestCompilationCache(Project project, Path cacheDirPath) {
             super(project, cacheDirPath);
@@ -134,6 +235,7 @@ public class TestBirAndJarCache {
         public void cacheBir(ModuleName moduleName, ByteArrayOutputStream birContent) {
             super.cacheBir(moduleName, birContent);
             birCachedCount++;
+            cachedModules.add(moduleName.toString());
         }
 
         @Override
@@ -144,4 +246,20 @@ public class TestBirAndJarCache {
             jarCachedCount++;
         }
     }
+
+    /**
+     * An instance of {@code CompilationCache} which, like the cache of a build project, compiles the modules from
+     * sources and reuses the cached files only for unchanged modules.
+     */
+    private static class IncrementalCompilationCache extends TestCompilationCache {
+
+        public IncrementalCompilationCache(Project project, Path cacheDirPath) {
+            super(project, cacheDirPath);
+        }
+
+        @Override
+        public byte[] getBir(ModuleName moduleName) {
+            return new byte[0];
+        }
+    }
 }
@@ -0,0 +1,5 @@
+import incremental.services;
+
+public function main() {
+    services:runServices();
+}
@@ -0,0 +1,5 @@
+import foo/incremental.storage;
+
+public function runServices() {
+    storage:initDatabase();
+}
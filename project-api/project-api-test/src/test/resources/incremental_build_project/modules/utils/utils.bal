@@ -0,0 +1,3 @@
+public function formatName(string name) returns string {
+    return name;
+}
@@ -27,12 +27,37 @@ import ballerina/time;
 #                            '-1' means, the entries are valid forever. This will be overwritten by the the
 #                            `maxAgeInSeconds` property set when inserting item to the cache
 # + cleanupIntervalInSeconds - Interval of the timer task, which will clean up the cache
+# + loader - The function, which loads the value of a key when it is not available in the cache. If it is provided,
+#            the `get` operation loads and caches the missing values instead of returning an `Error`
+# + refreshAfterWriteInSeconds - The time in seconds after which a cached value is reloaded in the background by the
+#                                `loader`, while the current value is returned. '-1' means, the values are not
+#                                refreshed. This is supported only with the built-in eviction policies
 public type CacheConfig record {|
     int capacity = 100;
     AbstractEvictionPolicy evictionPolicy = new LruEvictionPolicy();
     float evictionFactor = 0.25;
     int defaultMaxAgeInSeconds = -1;
     int cleanupIntervalInSeconds?;
+    LoaderFunction loader?;
+    int refreshAfterWriteInSeconds = -1;
+|};
+
+# The function, which loads the value of a key for a `cache:Cache`.
+#
+# + key - Key of the value, which is not available in the cache
+# + return - The value to be cached or an `error` if the value could not be loaded
+public type LoaderFunction function (string key) returns any|error;
+
+# Represents the statistics of a `cache:Cache`. The statistics are recorded when the cache uses one of the built-in
+# eviction policies.
+#
+# + hitCount - Number of `get` operations, which returned a cached value
+# + missCount - Number of `get` operations, which found no entry or an expired entry
+# + evictionCount - Number of entries removed due to the capacity of the cache or their expiry
+public type CacheStats record {|
+    int hitCount;
+    int missCount;
+    int evictionCount;
 |};
 
 type CacheEntry record {|
@@ -58,6 +83,10 @@ service class CleanupService {
 
 # The `cache:Cache` object, which is used for all the cache-related operations. It is not recommended to insert `()`
 # as the value of the cache since it doesn't make any sense to cache a nil.
+#
+# When the eviction policy is a `cache:LruEvictionPolicy` or a `cache:TinyLfuEvictionPolicy`, the cache is backed by a
+# native concurrent engine, which reads the entries without locking and removes the expired entries with a timer wheel.
+# Custom eviction policies maintain the `cache:LinkedList` of the cache.
 public class Cache {
 
     *AbstractCache;
@@ -67,6 +96,10 @@ public class Cache {
     private float evictionFactor;
     private int defaultMaxAgeInSeconds;
     private LinkedList list;
+    private boolean nativeEviction = false;
+    private LoaderFunction? loader;
+    private int refreshAfterWriteInSeconds;
+    private map<future<any|error>> loads = {};
 
     # Called when a new `cache:Cache` object is created.
     #
@@ -76,6 +109,8 @@ public class Cache {
         self.evictionPolicy = cacheConfig.evictionPolicy;
         self.evictionFactor = cacheConfig.evictionFactor;
         self.defaultMaxAgeInSeconds = cacheConfig.defaultMaxAgeInSeconds;
+        self.loader = cacheConfig?.loader;
+        self.refreshAfterWriteInSeconds = cacheConfig.refreshAfterWriteInSeconds;
 
         // Cache capacity must be a positive value.
         if (self.capacity_ <= 0) {
@@ -91,14 +126,31 @@ public class Cache {
             panic prepareError("Default max age should be greater than 0 or -1 for indicate forever valid.");
         }
 
+        if (self.refreshAfterWriteInSeconds != -1 && self.refreshAfterWriteInSeconds <= 0) {
+            panic prepareError("Refresh time should be greater than 0 or -1 for indicate no refresh.");
+        }
+        if (self.refreshAfterWriteInSeconds != -1 && self.loader is ()) {
+            panic prepareError("Refreshing the cache entries requires a loader.");
+        }
+
         self.list = {
             head: (),
             tail: ()
         };
 
+        int? cleanupIntervalInSeconds = cacheConfig?.cleanupIntervalInSeconds;
+        // The built-in eviction policies are implemented by the native engine, which also runs the cleanup.
+        self.nativeEviction = externInitEngine(self, self.evictionPolicy, self.capacity_, self.evictionFactor,
+                                               cleanupIntervalInSeconds ?: -1);
+        if (self.nativeEviction) {
+            return;
+        }
+        if (self.refreshAfterWriteInSeconds != -1) {
+            panic prepareError("Refreshing the cache entries is not supported with a custom eviction policy.");
+        }
+
         externInit(self, self.capacity_);
 
-        int? cleanupIntervalInSeconds = cacheConfig?.cleanupIntervalInSeconds;
         if (cleanupIntervalInSeconds is int) {
             task:TimerConfiguration timerConfiguration = {
                 intervalInMillis: cleanupIntervalInSeconds,
@@ -129,11 +181,6 @@ public class Cache {
             return prepareError("Unsupported cache value '()' for the key: " + key + ".",
                                 logLevel = LOG_LEVEL_DEBUG);
         }
-        // If the current cache is full (i.e. size = capacity), evict cache.
-        if (self.size() == self.capacity_) {
-            evict(self, self.list, self.evictionPolicy, self.capacity_, self.evictionFactor);
-        }
-
         // Calculate the `expTime` of the cache entry based on the `maxAgeInSeconds` property and
         // `defaultMaxAgeInSeconds` property.
         int calculatedExpTime = -1;
@@ -145,6 +192,16 @@ public class Cache {
             }
         }
 
+        if (self.nativeEviction) {
+            externPutValue(self, key, value, calculatedExpTime);
+            return;
+        }
+
+        // If the current cache is full (i.e. size = capacity), evict cache.
+        if (self.size() == self.capacity_) {
+            evict(self, self.list, self.evictionPolicy, self.capacity_, self.evictionFactor);
+        }
+
         CacheEntry entry = {
             key: key,
             data: value,
@@ -161,12 +218,41 @@ public class Cache {
         externPut(self, key, newNode);
     }
 
-    # Returns the cached value associated with the provided key.
+    # Returns the cached value associated with the provided key. If the cache has a `loader`, a value which is not
+    # available is loaded and cached, and concurrent calls for the same key wait for the same load.
     #
     # + key - Key of the cached value, which should be retrieved
     # + return - The cached value associated with the provided key or an `Error` if the provided cache key is not
     #            exisiting in the cache or any error occurred while retrieving the value from the cache.
     public function get(string key) returns any|Error {
+        any|Error value = self.lookup(key);
+        if (self.loader is ()) {
+            return value;
+        }
+        if (value is Error || value is ()) {
+            any|error loadedValue = self.loadMissing(key);
+            if (loadedValue is error) {
+                return prepareError("Failed to load the cache entry for the key: " + key + ".", loadedValue);
+            }
+            return loadedValue;
+        }
+        if (self.refreshAfterWriteInSeconds != -1 && externNeedsRefresh(self, key, self.refreshAfterWriteInSeconds)) {
+            // The current value is returned while the new value is loaded in the background.
+            _ = self.startLoad(key);
+        }
+        return value;
+    }
+
+    function lookup(string key) returns any|Error {
+        if (self.nativeEviction) {
+            any|error value = externGetValue(self, key);
+            if (value is error) {
+                return prepareError("Cache entry from the given key: " + key + ", is not available.",
+                                    logLevel = LOG_LEVEL_DEBUG);
+            }
+            return value;
+        }
+
         if (!self.hasKey(key)) {
             return prepareError("Cache entry from the given key: " + key + ", is not available.",
                                 logLevel = LOG_LEVEL_DEBUG);
@@ -188,12 +274,73 @@ public class Cache {
         return entry.data;
     }
 
+    // Loads the value of a key which was missing in the cache, unless it is already being loaded. The cache is looked up
+    // again while holding the lock, since a load which completed after the first lookup has already cached the value.
+    function loadMissing(string key) returns any|error {
+        future<any|error>? load = ();
+        any|Error value = ();
+        lock {
+            load = self.loads[key];
+            if (load is ()) {
+                value = self.lookup(key);
+                if (value is Error || value is ()) {
+                    future<any|error> newLoad = start self.load(key);
+                    self.loads[key] = newLoad;
+                    load = newLoad;
+                }
+            }
+        }
+        if (load is future<any|error>) {
+            return wait load;
+        }
+        return value;
+    }
+
+    // Starts loading the value of a key, unless it is already being loaded.
+    function startLoad(string key) returns future<any|error> {
+        future<any|error> load;
+        lock {
+            future<any|error>? inFlight = self.loads[key];
+            if (inFlight is future<any|error>) {
+                load = inFlight;
+            } else {
+                load = start self.load(key);
+                self.loads[key] = load;
+            }
+        }
+        return load;
+    }
+
+    function load(string key) returns any|error {
+        LoaderFunction loader = <LoaderFunction>self.loader;
+        any|error value = loader(key);
+        if (!(value is error)) {
+            Error? result = self.put(key, value);
+            if (result is Error) {
+                value = result;
+            }
+        }
+        // The value is cached before the load is completed, so that the later calls find it in the cache.
+        lock {
+            _ = self.loads.remove(key);
+        }
+        return value;
+    }
+
     # Discards a cached value from the cache.
     #
     # + key - Key of the cache value, which needs to be discarded from the cache
     # + return - `()` if successfully discarded the value or an `Error` if the provided cache key is not present in the
     #            cache
     public function invalidate(string key) returns Error? {
+        if (self.nativeEviction) {
+            if (!externInvalidate(self, key)) {
+                return prepareError("Cache entry from the given key: " + key + ", is not available.",
+                                    logLevel = LOG_LEVEL_DEBUG);
+            }
+            return;
+        }
+
         if (!self.hasKey(key)) {
             return prepareError("Cache entry from the given key: " + key + ", is not available.",
                                 logLevel = LOG_LEVEL_DEBUG);
@@ -209,6 +356,10 @@ public class Cache {
     # + return - `()` if successfully discarded all the values from the cache or an `Error` if any error occurred while
     # discarding all the values from the cache.
     public function invalidateAll() returns Error? {
+        if (self.nativeEviction) {
+            externInvalidateAll(self);
+            return;
+        }
         self.evictionPolicy.clear(self.list);
         externRemoveAll(self);
     }
@@ -242,6 +393,18 @@ public class Cache {
     public function capacity() returns int {
         return self.capacity_;
     }
+
+    # Returns the statistics of the cache. The statistics are recorded only when the cache uses one of the built-in
+    # eviction policies, otherwise all the counts are 0.
+    #
+    # + return - The hit, miss and eviction counts of the cache
+    public function stats() returns CacheStats {
+        if (!self.nativeEviction) {
+            return {hitCount: 0, missCount: 0, evictionCount: 0};
+        }
+        int[] stats = externStats(self);
+        return {hitCount: stats[0], missCount: stats[1], evictionCount: stats[2]};
+    }
 }
 
 function evict(Cache cache, LinkedList list, AbstractEvictionPolicy evictionPolicy, int capacity, float evictionFactor) {
@@ -280,6 +443,11 @@ function externInit(Cache cache, int capacity) = @java:Method {
     'class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
 } external;
 
+function externInitEngine(Cache cache, AbstractEvictionPolicy evictionPolicy, int capacity, float evictionFactor,
+                          int cleanupIntervalInSeconds) returns boolean = @java:Method {
+    'class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
+} external;
+
 function externPut(Cache cache, string key, Node value) = @java:Method {
     'class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
 } external;
@@ -307,3 +475,27 @@ function externKeys(Cache cache) returns string[] = @java:Method {
 function externSize(Cache cache) returns int = @java:Method {
     'class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
 } external;
+
+function externGetValue(Cache cache, string key) returns any|error = @java:Method {
+    'class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
+} external;
+
+function externPutValue(Cache cache, string key, any value, int expTime) = @java:Method {
+    'class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
+} external;
+
+function externNeedsRefresh(Cache cache, string key, int refreshAfterWriteInSeconds) returns boolean = @java:Method {
+    'class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
+} external;
+
+function externInvalidate(Cache cache, string key) returns boolean = @java:Method {
+    'class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
+} external;
+
+function externInvalidateAll(Cache cache) = @java:Method {
+    'class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
+} external;
+
+function externStats(Cache cache) returns int[] = @java:Method {
+    'class: "org.ballerinalang.stdlib.cache.nativeimpl.Cache"
+} external;
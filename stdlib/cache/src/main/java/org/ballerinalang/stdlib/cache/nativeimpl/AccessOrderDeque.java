@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.cache.nativeimpl;
+
+/**
+ * Intrusive doubly linked queue of cache entries in access order, with the least recently used entry at the head.
+ *
+ * @since 2.0.0
+ */
+class AccessOrderDeque {
+
+    private CacheEntry head;
+    private CacheEntry tail;
+    private int size;
+
+    CacheEntry peekFirst() {
+        return head;
+    }
+
+    CacheEntry peekLast() {
+        return tail;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean contains(CacheEntry entry) {
+        return entry.queue == this;
+    }
+
+    void addLast(CacheEntry entry) {
+        entry.queue = this;
+        entry.accessPrev = tail;
+        entry.accessNext = null;
+        if (tail == null) {
+            head = entry;
+        } else {
+            tail.accessNext = entry;
+        }
+        tail = entry;
+        size++;
+    }
+
+    void moveToBack(CacheEntry entry) {
+        if (entry != tail) {
+            remove(entry);
+            addLast(entry);
+        }
+    }
+
+    void remove(CacheEntry entry) {
+        CacheEntry prev = entry.accessPrev;
+        CacheEntry next = entry.accessNext;
+        if (prev == null) {
+            head = next;
+        } else {
+            prev.accessNext = next;
+        }
+        if (next == null) {
+            tail = prev;
+        } else {
+            next.accessPrev = prev;
+        }
+        entry.accessPrev = null;
+        entry.accessNext = null;
+        entry.queue = null;
+        size--;
+    }
+
+    void clear() {
+        CacheEntry entry = head;
+        while (entry != null) {
+            CacheEntry next = entry.accessNext;
+            entry.accessPrev = null;
+            entry.accessNext = null;
+            entry.queue = null;
+            entry = next;
+        }
+        head = null;
+        tail = null;
+        size = 0;
+    }
+}
@@ -18,28 +18,82 @@
 
 package org.ballerinalang.stdlib.cache.nativeimpl;
 
+import io.ballerina.runtime.api.Module;
+import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BMap;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Ballerina function to cache with java.util.concurrent.ConcurrentHashMap.
+ * <p>
+ * A cache with one of the built-in eviction policies is backed by a native {@link CacheEngine}, which keeps its
+ * entries in the same map.
  *
  * @since 2.0.0
  */
 public class Cache {
 
     public static final String CACHE_MAP = "CACHE_MAP";
+    public static final String CACHE_ENGINE = "CACHE_ENGINE";
+
+    private static final String CACHE_ORG_NAME = "ballerina";
+    private static final String CACHE_MODULE_NAME = "cache";
+    private static final String LRU_EVICTION_POLICY = "LruEvictionPolicy";
+    private static final String TINY_LFU_EVICTION_POLICY = "TinyLfuEvictionPolicy";
+    private static final BError ENTRY_NOT_AVAILABLE =
+            ErrorCreator.createError(StringUtils.fromString("Cache entry is not available."));
 
     public static void externInit(BObject cache, int capacity) {
         ConcurrentHashMap<BString, BMap<BString, Object>> map = new ConcurrentHashMap<>(capacity);
         cache.addNativeData(CACHE_MAP, map);
     }
 
+    /**
+     * Initializes the native engine of a cache, if it uses one of the built-in eviction policies.
+     *
+     * @param cache                    cache object
+     * @param evictionPolicy           eviction policy of the cache
+     * @param capacity                 maximum number of entries
+     * @param evictionFactor           fraction of the capacity to be evicted once the cache is full
+     * @param cleanupIntervalInSeconds interval of removing the expired entries, or -1 to remove them lazily
+     * @return true if the cache is backed by the native engine, false if the eviction policy is a custom one
+     */
+    public static boolean externInitEngine(BObject cache, BObject evictionPolicy, int capacity, double evictionFactor,
+                                           int cleanupIntervalInSeconds) {
+        Module module = evictionPolicy.getType().getPackage();
+        if (module == null || !CACHE_ORG_NAME.equals(module.getOrg()) ||
+                !CACHE_MODULE_NAME.equals(module.getName())) {
+            return false;
+        }
+        EvictionPolicy policy;
+        switch (evictionPolicy.getType().getName()) {
+            case LRU_EVICTION_POLICY:
+                policy = new LruPolicy();
+                break;
+            case TINY_LFU_EVICTION_POLICY:
+                policy = new TinyLfuPolicy(capacity);
+                break;
+            default:
+                return false;
+        }
+        ConcurrentHashMap<BString, CacheEntry> map = new ConcurrentHashMap<>(capacity);
+        CacheEngine engine = new CacheEngine(map, policy, capacity, evictionFactor);
+        if (cleanupIntervalInSeconds > 0) {
+            engine.scheduleCleanUp(cleanupIntervalInSeconds);
+        }
+        cache.addNativeData(CACHE_MAP, map);
+        cache.addNativeData(CACHE_ENGINE, engine);
+        return true;
+    }
+
     public static void externPut(BObject cache, BString key, BMap<BString, Object> value) {
         ConcurrentHashMap<BString, BMap<BString, Object>> map =
                 (ConcurrentHashMap<BString, BMap<BString, Object>>) cache.getNativeData(CACHE_MAP);
@@ -65,20 +119,53 @@ public class Cache {
     }
 
     public static boolean externHasKey(BObject cache, BString key) {
-        ConcurrentHashMap<BString, BMap<BString, Object>> map =
-                (ConcurrentHashMap<BString, BMap<BString, Object>>) cache.getNativeData(CACHE_MAP);
+        ConcurrentHashMap<BString, ?> map = (ConcurrentHashMap<BString, ?>) cache.getNativeData(CACHE_MAP);
         return map.containsKey(key);
     }
 
     public static BArray externKeys(BObject cache) {
-        ConcurrentHashMap<BString, BMap<BString, Object>> map =
-                (ConcurrentHashMap<BString, BMap<BString, Object>>) cache.getNativeData(CACHE_MAP);
+        ConcurrentHashMap<BString, ?> map = (ConcurrentHashMap<BString, ?>) cache.getNativeData(CACHE_MAP);
         return ValueCreator.createArrayValue(map.keySet().toArray(new BString[0]));
     }
 
     public static int externSize(BObject cache) {
-        ConcurrentHashMap<BString, BMap<BString, Object>> map =
-                (ConcurrentHashMap<BString, BMap<BString, Object>>) cache.getNativeData(CACHE_MAP);
+        ConcurrentHashMap<BString, ?> map = (ConcurrentHashMap<BString, ?>) cache.getNativeData(CACHE_MAP);
         return map.size();
     }
+
+    /**
+     * Returns the value of a key from the native engine.
+     *
+     * @param cache cache object
+     * @param key   key of the entry
+     * @return the value, `()` if the entry has expired or an error if there is no entry
+     */
+    public static Object externGetValue(BObject cache, BString key) {
+        Object value = ((CacheEngine) cache.getNativeData(CACHE_ENGINE)).get(key);
+        if (value == CacheEngine.ABSENT) {
+            return ENTRY_NOT_AVAILABLE;
+        }
+        return value == CacheEngine.EXPIRED ? null : value;
+    }
+
+    public static void externPutValue(BObject cache, BString key, Object value, long expTime) {
+        ((CacheEngine) cache.getNativeData(CACHE_ENGINE)).put(key, value, expTime);
+    }
+
+    public static boolean externNeedsRefresh(BObject cache, BString key, long refreshAfterWriteInSeconds) {
+        return ((CacheEngine) cache.getNativeData(CACHE_ENGINE)).needsRefresh(key,
+                TimeUnit.SECONDS.toNanos(refreshAfterWriteInSeconds));
+    }
+
+    public static boolean externInvalidate(BObject cache, BString key) {
+        return ((CacheEngine) cache.getNativeData(CACHE_ENGINE)).invalidate(key);
+    }
+
+    public static void externInvalidateAll(BObject cache) {
+        ((CacheEngine) cache.getNativeData(CACHE_ENGINE)).invalidateAll();
+    }
+
+    public static BArray externStats(BObject cache) {
+        return ValueCreator.createArrayValue(((CacheEngine) cache.getNativeData(CACHE_ENGINE)).stats());
+    }
 }
@@ -0,0 +1,282 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.cache.nativeimpl;
+
+import io.ballerina.runtime.api.values.BString;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Native engine of a {@code cache:Cache} with one of the built-in eviction policies.
+ * <p>
+ * Reads look up the entry in a {@link ConcurrentHashMap} without locking and record the read in a {@link ReadBuffer}.
+ * Writes, evictions and expiry take the eviction lock, under which the buffered reads are replayed on the
+ * {@link EvictionPolicy} and the {@link TimerWheel} is advanced to remove the expired entries.
+ *
+ * @since 2.0.0
+ */
+class CacheEngine {
+
+    static final Object ABSENT = new Object();
+    static final Object EXPIRED = new Object();
+
+    private static final ScheduledExecutorService CLEANUP_EXECUTOR = Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+                Thread thread = new Thread(runnable, "ballerina-cache-cleanup");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    private final ConcurrentHashMap<BString, CacheEntry> map;
+    private final EvictionPolicy policy;
+    private final int capacity;
+    private final int evictionCount;
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final ReadBuffer readBuffer = new ReadBuffer();
+    private final TimerWheel timerWheel = new TimerWheel(System.nanoTime());
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates an engine.
+     *
+     * @param map            map of the entries, shared with the key based natives of the cache
+     * @param policy         eviction policy
+     * @param capacity       maximum number of entries
+     * @param evictionFactor fraction of the capacity to be evicted once the cache is full
+     */
+    CacheEngine(ConcurrentHashMap<BString, CacheEntry> map, EvictionPolicy policy, int capacity,
+                double evictionFactor) {
+        this.map = map;
+        this.policy = policy;
+        this.capacity = capacity;
+        this.evictionCount = Math.max(1, (int) (capacity * evictionFactor));
+    }
+
+    /**
+     * Returns the value of a key.
+     *
+     * @param key key of the entry
+     * @return the value, {@link #ABSENT} if there is no entry or {@link #EXPIRED} if the entry has expired
+     */
+    Object get(BString key) {
+        CacheEntry entry = map.get(key);
+        if (entry == null) {
+            misses.increment();
+            return ABSENT;
+        }
+        if (entry.hasExpired(System.nanoTime())) {
+            misses.increment();
+            evictionLock.lock();
+            try {
+                if (map.remove(key, entry)) {
+                    removeEntry(entry);
+                    evictions.increment();
+                }
+            } finally {
+                evictionLock.unlock();
+            }
+            return EXPIRED;
+        }
+        Object value = entry.value;
+        hits.increment();
+        if (readBuffer.offer(entry) && evictionLock.tryLock()) {
+            try {
+                drainReads();
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+        return value;
+    }
+
+    void put(BString key, Object value, long expTime) {
+        evictionLock.lock();
+        try {
+            maintain();
+            CacheEntry entry = map.get(key);
+            if (entry != null) {
+                entry.value = value;
+                entry.expTime = expTime;
+                entry.writeTime = System.nanoTime();
+                policy.onAccess(entry);
+                timerWheel.reschedule(entry);
+                return;
+            }
+            entry = new CacheEntry(key, value, expTime);
+            map.put(key, entry);
+            policy.onAdd(entry);
+            if (expTime != CacheEntry.NO_EXPIRY) {
+                timerWheel.schedule(entry);
+            }
+            // the new entry is added first, so that the policy can weigh it against the entries of the cache
+            if (map.size() > capacity) {
+                evict();
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Checks whether the value of a key was written long enough ago to be reloaded.
+     *
+     * @param key               key of the entry
+     * @param refreshAfterNanos age after which the value should be reloaded
+     * @return true if there is an entry older than the given age
+     */
+    boolean needsRefresh(BString key, long refreshAfterNanos) {
+        CacheEntry entry = map.get(key);
+        return entry != null && System.nanoTime() - entry.writeTime >= refreshAfterNanos;
+    }
+
+    boolean invalidate(BString key) {
+        evictionLock.lock();
+        try {
+            CacheEntry entry = map.remove(key);
+            if (entry == null) {
+                return false;
+            }
+            removeEntry(entry);
+            return true;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    void invalidateAll() {
+        evictionLock.lock();
+        try {
+            for (CacheEntry entry : map.values()) {
+                entry.alive = false;
+            }
+            map.clear();
+            readBuffer.drainTo(entry -> { });
+            policy.clear();
+            timerWheel.clear();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Replays the buffered reads and removes the expired entries.
+     */
+    void cleanUp() {
+        evictionLock.lock();
+        try {
+            maintain();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the statistics of the cache.
+     *
+     * @return the hit count, the miss count and the eviction count, which includes the expired entries
+     */
+    long[] stats() {
+        return new long[]{hits.sum(), misses.sum(), evictions.sum()};
+    }
+
+    /**
+     * Removes the expired entries periodically, for as long as the engine is in use.
+     *
+     * @param intervalInSeconds interval between two clean ups
+     */
+    void scheduleCleanUp(long intervalInSeconds) {
+        CleanUpTask task = new CleanUpTask(new WeakReference<>(this));
+        task.future = CLEANUP_EXECUTOR.scheduleWithFixedDelay(task, intervalInSeconds, intervalInSeconds,
+                                                              TimeUnit.SECONDS);
+    }
+
+    private void maintain() {
+        drainReads();
+        timerWheel.advance(System.nanoTime(), this::expire);
+    }
+
+    private void drainReads() {
+        readBuffer.drainTo(entry -> {
+            if (entry.alive) {
+                policy.onAccess(entry);
+            }
+        });
+    }
+
+    private void expire(CacheEntry entry) {
+        if (map.remove(entry.key, entry)) {
+            entry.alive = false;
+            policy.onRemove(entry);
+            evictions.increment();
+        }
+    }
+
+    private void evict() {
+        for (int i = 0; i < evictionCount; i++) {
+            CacheEntry victim = policy.victim();
+            if (victim == null) {
+                return;
+            }
+            map.remove(victim.key, victim);
+            removeEntry(victim);
+            evictions.increment();
+        }
+    }
+
+    private void removeEntry(CacheEntry entry) {
+        entry.alive = false;
+        policy.onRemove(entry);
+        timerWheel.deschedule(entry);
+    }
+
+    /**
+     * Periodic clean up of an engine, which stops once the engine is garbage collected.
+     */
+    private static class CleanUpTask implements Runnable {
+
+        private final WeakReference<CacheEngine> engine;
+        private volatile ScheduledFuture<?> future;
+
+        CleanUpTask(WeakReference<CacheEngine> engine) {
+            this.engine = engine;
+        }
+
+        @Override
+        public void run() {
+            CacheEngine cacheEngine = engine.get();
+            if (cacheEngine == null) {
+                ScheduledFuture<?> scheduledFuture = future;
+                if (scheduledFuture != null) {
+                    scheduledFuture.cancel(false);
+                }
+                return;
+            }
+            cacheEngine.cleanUp();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.cache.nativeimpl;
+
+import io.ballerina.runtime.api.values.BString;
+
+/**
+ * An entry of the native cache engine. The entry is linked into the queue of the eviction policy and, if it expires,
+ * into a bucket of the timer wheel. The links are only accessed while holding the eviction lock of the engine.
+ *
+ * @since 2.0.0
+ */
+class CacheEntry {
+
+    static final long NO_EXPIRY = -1;
+
+    final BString key;
+    volatile Object value;
+    volatile long expTime;
+    volatile long writeTime;
+    volatile boolean alive = true;
+
+    CacheEntry accessPrev;
+    CacheEntry accessNext;
+    AccessOrderDeque queue;
+
+    CacheEntry timerPrev;
+    CacheEntry timerNext;
+
+    CacheEntry(BString key, Object value, long expTime) {
+        this.key = key;
+        this.value = value;
+        this.expTime = expTime;
+        this.writeTime = System.nanoTime();
+    }
+
+    boolean hasExpired(long now) {
+        long expiry = expTime;
+        return expiry != NO_EXPIRY && expiry - now < 0;
+    }
+}
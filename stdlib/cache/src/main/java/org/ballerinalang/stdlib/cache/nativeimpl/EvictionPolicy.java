@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.cache.nativeimpl;
+
+/**
+ * Eviction policy of the native cache engine. The methods are called while holding the eviction lock of the engine.
+ *
+ * @since 2.0.0
+ */
+interface EvictionPolicy {
+
+    /**
+     * Records a new entry of the cache.
+     *
+     * @param entry added entry
+     */
+    void onAdd(CacheEntry entry);
+
+    /**
+     * Records a read or an update of an entry of the cache.
+     *
+     * @param entry accessed entry
+     */
+    void onAccess(CacheEntry entry);
+
+    /**
+     * Records the removal of an entry from the cache.
+     *
+     * @param entry removed entry
+     */
+    void onRemove(CacheEntry entry);
+
+    /**
+     * Selects the entry to be evicted next, without removing it.
+     *
+     * @return the entry to be evicted, or null if there are no entries
+     */
+    CacheEntry victim();
+
+    void clear();
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.cache.nativeimpl;
+
+/**
+ * Least recently used eviction policy, the native counterpart of the Ballerina {@code LruEvictionPolicy}.
+ *
+ * @since 2.0.0
+ */
+class LruPolicy implements EvictionPolicy {
+
+    private final AccessOrderDeque deque = new AccessOrderDeque();
+
+    @Override
+    public void onAdd(CacheEntry entry) {
+        deque.addLast(entry);
+    }
+
+    @Override
+    public void onAccess(CacheEntry entry) {
+        if (deque.contains(entry)) {
+            deque.moveToBack(entry);
+        }
+    }
+
+    @Override
+    public void onRemove(CacheEntry entry) {
+        if (deque.contains(entry)) {
+            deque.remove(entry);
+        }
+    }
+
+    @Override
+    public CacheEntry victim() {
+        return deque.peekFirst();
+    }
+
+    @Override
+    public void clear() {
+        deque.clear();
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.cache.nativeimpl;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * Striped, lossy buffer of the reads of a cache, so that the recency of an entry can be recorded without taking the
+ * eviction lock on every read.
+ * <p>
+ * A reading thread appends the entry to the ring buffer of its stripe, or drops it if the ring buffer is full. The
+ * buffered reads are replayed on the eviction policy in batches by the thread which holds the eviction lock.
+ *
+ * @since 2.0.0
+ */
+class ReadBuffer {
+
+    static final int BUFFER_SIZE = 16;
+    private static final int BUFFER_MASK = BUFFER_SIZE - 1;
+    private static final int STRIPES = Integer.highestOneBit(
+            Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), 64)) * 2 - 1);
+    private static final int STRIPE_MASK = STRIPES - 1;
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+
+    ReadBuffer() {
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    /**
+     * Records a read of an entry.
+     *
+     * @param entry entry which was read
+     * @return true if the stripe is full and should be drained
+     */
+    boolean offer(CacheEntry entry) {
+        Stripe stripe = stripes[probe() & STRIPE_MASK];
+        long head = stripe.readCounter;
+        long tail = stripe.writeCounter.get();
+        long size = tail - head;
+        if (size >= BUFFER_SIZE) {
+            return true;
+        }
+        if (stripe.writeCounter.compareAndSet(tail, tail + 1)) {
+            stripe.buffer.lazySet((int) (tail & BUFFER_MASK), entry);
+            return size + 1 == BUFFER_SIZE;
+        }
+        return false;
+    }
+
+    /**
+     * Replays the buffered reads. Must be called while holding the eviction lock.
+     *
+     * @param consumer consumer of the buffered reads
+     */
+    void drainTo(Consumer<CacheEntry> consumer) {
+        for (Stripe stripe : stripes) {
+            long head = stripe.readCounter;
+            long tail = stripe.writeCounter.get();
+            for (; head < tail; head++) {
+                int index = (int) (head & BUFFER_MASK);
+                CacheEntry entry = stripe.buffer.get(index);
+                if (entry == null) {
+                    // the write has been claimed but is not yet visible
+                    break;
+                }
+                stripe.buffer.lazySet(index, null);
+                consumer.accept(entry);
+            }
+            stripe.readCounter = head;
+        }
+    }
+
+    private static int probe() {
+        long id = Thread.currentThread().getId();
+        return (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+    }
+
+    /**
+     * Ring buffer of a stripe.
+     */
+    private static class Stripe {
+
+        private final AtomicLong writeCounter = new AtomicLong();
+        private final AtomicReferenceArray<CacheEntry> buffer = new AtomicReferenceArray<>(BUFFER_SIZE);
+        private volatile long readCounter;
+    }
+}
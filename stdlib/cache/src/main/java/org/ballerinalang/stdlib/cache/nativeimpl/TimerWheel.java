@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.cache.nativeimpl;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timer wheel of the expiring entries of a cache, which expires entries in time proportional to the
+ * number of expired entries instead of the size of the cache.
+ * <p>
+ * The wheels have buckets of about a second, a minute, an hour and a day, and a last bucket for the entries expiring
+ * later. An entry is placed in the bucket of the finest wheel which spans its expiry time. As time advances, the
+ * buckets which have been passed are emptied, expiring their entries or moving them into a finer wheel. The wheel is
+ * only accessed while holding the eviction lock of the engine.
+ *
+ * @since 2.0.0
+ */
+class TimerWheel {
+
+    private static final int[] BUCKETS = {64, 64, 32, 4, 1};
+    private static final long[] SPANS = {
+            ceilingPowerOfTwo(TimeUnit.SECONDS.toNanos(1)),
+            ceilingPowerOfTwo(TimeUnit.MINUTES.toNanos(1)),
+            ceilingPowerOfTwo(TimeUnit.HOURS.toNanos(1)),
+            ceilingPowerOfTwo(TimeUnit.DAYS.toNanos(1)),
+            BUCKETS[3] * ceilingPowerOfTwo(TimeUnit.DAYS.toNanos(1)),
+            BUCKETS[3] * ceilingPowerOfTwo(TimeUnit.DAYS.toNanos(1))
+    };
+    private static final long[] SHIFTS = {
+            Long.numberOfTrailingZeros(SPANS[0]),
+            Long.numberOfTrailingZeros(SPANS[1]),
+            Long.numberOfTrailingZeros(SPANS[2]),
+            Long.numberOfTrailingZeros(SPANS[3]),
+            Long.numberOfTrailingZeros(SPANS[4])
+    };
+
+    private final CacheEntry[][] wheel;
+    private long nanos;
+
+    TimerWheel(long now) {
+        this.nanos = now;
+        this.wheel = new CacheEntry[BUCKETS.length][];
+        for (int i = 0; i < wheel.length; i++) {
+            wheel[i] = new CacheEntry[BUCKETS[i]];
+            for (int j = 0; j < wheel[i].length; j++) {
+                wheel[i][j] = sentinel();
+            }
+        }
+    }
+
+    /**
+     * Adds an entry with an expiry time to the wheel.
+     *
+     * @param entry expiring entry
+     */
+    void schedule(CacheEntry entry) {
+        CacheEntry sentinel = findBucket(entry.expTime);
+        CacheEntry last = sentinel.timerPrev;
+        entry.timerPrev = last;
+        entry.timerNext = sentinel;
+        last.timerNext = entry;
+        sentinel.timerPrev = entry;
+    }
+
+    /**
+     * Removes an entry from the wheel, if it is scheduled.
+     *
+     * @param entry entry to be removed
+     */
+    void deschedule(CacheEntry entry) {
+        if (entry.timerNext != null) {
+            entry.timerPrev.timerNext = entry.timerNext;
+            entry.timerNext.timerPrev = entry.timerPrev;
+            entry.timerPrev = null;
+            entry.timerNext = null;
+        }
+    }
+
+    /**
+     * Moves the entry into the bucket of its current expiry time.
+     *
+     * @param entry entry which has been updated
+     */
+    void reschedule(CacheEntry entry) {
+        deschedule(entry);
+        if (entry.expTime != CacheEntry.NO_EXPIRY) {
+            schedule(entry);
+        }
+    }
+
+    /**
+     * Advances the wheel to the given time, passing the entries which have expired to the consumer.
+     *
+     * @param now     current time in nanoseconds
+     * @param expired consumer of the expired entries
+     */
+    void advance(long now, Consumer<CacheEntry> expired) {
+        long previous = nanos;
+        nanos = now;
+        for (int i = 0; i < SHIFTS.length; i++) {
+            long previousTicks = previous >>> SHIFTS[i];
+            long currentTicks = now >>> SHIFTS[i];
+            if (currentTicks - previousTicks <= 0L) {
+                break;
+            }
+            expire(i, previousTicks, currentTicks - previousTicks, expired);
+        }
+    }
+
+    void clear() {
+        for (CacheEntry[] buckets : wheel) {
+            for (CacheEntry sentinel : buckets) {
+                CacheEntry entry = sentinel.timerNext;
+                while (entry != sentinel) {
+                    CacheEntry next = entry.timerNext;
+                    entry.timerPrev = null;
+                    entry.timerNext = null;
+                    entry = next;
+                }
+                sentinel.timerPrev = sentinel;
+                sentinel.timerNext = sentinel;
+            }
+        }
+    }
+
+    private void expire(int index, long previousTicks, long delta, Consumer<CacheEntry> expired) {
+        CacheEntry[] buckets = wheel[index];
+        int mask = buckets.length - 1;
+        int steps = (int) Math.min(delta + 1, buckets.length);
+        int start = (int) (previousTicks & mask);
+        for (int i = start; i < start + steps; i++) {
+            CacheEntry sentinel = buckets[i & mask];
+            CacheEntry entry = sentinel.timerNext;
+            sentinel.timerPrev = sentinel;
+            sentinel.timerNext = sentinel;
+            while (entry != sentinel) {
+                CacheEntry next = entry.timerNext;
+                entry.timerPrev = null;
+                entry.timerNext = null;
+                if (entry.hasExpired(nanos)) {
+                    expired.accept(entry);
+                } else {
+                    // not yet expired, the entry belongs to a finer wheel now
+                    schedule(entry);
+                }
+                entry = next;
+            }
+        }
+    }
+
+    private CacheEntry findBucket(long time) {
+        long duration = time - nanos;
+        int last = wheel.length - 1;
+        for (int i = 0; i < last; i++) {
+            if (duration < SPANS[i + 1]) {
+                long ticks = time >>> SHIFTS[i];
+                return wheel[i][(int) (ticks & (wheel[i].length - 1))];
+            }
+        }
+        return wheel[last][0];
+    }
+
+    private static CacheEntry sentinel() {
+        CacheEntry sentinel = new CacheEntry(null, null, CacheEntry.NO_EXPIRY);
+        sentinel.timerPrev = sentinel;
+        sentinel.timerNext = sentinel;
+        return sentinel;
+    }
+
+    private static long ceilingPowerOfTwo(long value) {
+        return 1L << -Long.numberOfLeadingZeros(value - 1);
+    }
+}
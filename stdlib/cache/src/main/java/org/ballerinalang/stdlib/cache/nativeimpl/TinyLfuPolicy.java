@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.cache.nativeimpl;
+
+/**
+ * Window TinyLFU eviction policy, the native implementation of the Ballerina {@code TinyLfuEvictionPolicy}.
+ * <p>
+ * New entries are added to a small LRU admission window. Entries leaving the window are moved to the probation
+ * segment of the main space, and entries accessed while on probation are promoted to its protected segment. When an
+ * entry has to be evicted, the most recent candidate of the probation segment competes with its least recently used
+ * entry, and the one with the lower estimated access frequency is evicted. Thereby a burst of entries which are used
+ * only once does not flush the frequently used entries out of the cache.
+ *
+ * @since 2.0.0
+ */
+class TinyLfuPolicy implements EvictionPolicy {
+
+    private static final double WINDOW_RATIO = 0.01;
+    private static final double PROTECTED_RATIO = 0.8;
+
+    private final AccessOrderDeque window = new AccessOrderDeque();
+    private final AccessOrderDeque probation = new AccessOrderDeque();
+    private final AccessOrderDeque protectedSegment = new AccessOrderDeque();
+    private final FrequencySketch sketch;
+    private final int maxWindow;
+    private final int maxProtected;
+
+    TinyLfuPolicy(int capacity) {
+        this.sketch = new FrequencySketch(capacity);
+        this.maxWindow = Math.max(1, (int) (capacity * WINDOW_RATIO));
+        this.maxProtected = Math.max(1, (int) ((capacity - maxWindow) * PROTECTED_RATIO));
+    }
+
+    @Override
+    public void onAdd(CacheEntry entry) {
+        sketch.increment(entry.key);
+        window.addLast(entry);
+        if (window.size() > maxWindow) {
+            CacheEntry candidate = window.peekFirst();
+            window.remove(candidate);
+            probation.addLast(candidate);
+        }
+    }
+
+    @Override
+    public void onAccess(CacheEntry entry) {
+        sketch.increment(entry.key);
+        if (window.contains(entry)) {
+            window.moveToBack(entry);
+        } else if (probation.contains(entry)) {
+            probation.remove(entry);
+            protectedSegment.addLast(entry);
+            if (protectedSegment.size() > maxProtected) {
+                CacheEntry demoted = protectedSegment.peekFirst();
+                protectedSegment.remove(demoted);
+                probation.addLast(demoted);
+            }
+        } else if (protectedSegment.contains(entry)) {
+            protectedSegment.moveToBack(entry);
+        }
+    }
+
+    @Override
+    public void onRemove(CacheEntry entry) {
+        AccessOrderDeque queue = entry.queue;
+        if (queue != null) {
+            queue.remove(entry);
+        }
+    }
+
+    @Override
+    public CacheEntry victim() {
+        CacheEntry victim = probation.peekFirst();
+        if (victim == null) {
+            victim = protectedSegment.peekFirst();
+            return victim != null ? victim : window.peekFirst();
+        }
+        CacheEntry candidate = probation.peekLast();
+        if (candidate == victim) {
+            return victim;
+        }
+        // the candidate is admitted only if it is used more often than the entry it would replace
+        return sketch.frequency(candidate.key) > sketch.frequency(victim.key) ? victim : candidate;
+    }
+
+    @Override
+    public void clear() {
+        window.clear();
+        probation.clear();
+        protectedSegment.clear();
+        // the frequencies of the removed entries must not decide the admission of new ones
+        sketch.clear();
+    }
+}
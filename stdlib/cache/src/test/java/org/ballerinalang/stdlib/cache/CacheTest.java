@@ -226,7 +226,7 @@ public class CacheTest {
         Assert.assertEquals(((BInteger) returns[1]).intValue(), expected.length);
     }
 
-    @Test(enabled = false)
+    @Test
     public void testCacheEvictionWithTimer1() {
         BValue[] args = new BValue[0];
         BValue[] returns = BRunUtil.invoke(compileResult, "testCacheEvictionWithTimer1", args);
@@ -238,7 +238,7 @@ public class CacheTest {
         Assert.assertEquals(((BInteger) returns[1]).intValue(), expected.length);
     }
 
-    @Test(enabled = false)
+    @Test
     public void testCacheEvictionWithTimer2() {
         BValue[] args = new BValue[0];
         BValue[] returns = BRunUtil.invoke(compileResult, "testCacheEvictionWithTimer2", args);
@@ -250,6 +250,58 @@ public class CacheTest {
         Assert.assertEquals(((BInteger) returns[1]).intValue(), expected.length);
     }
 
+    @Test
+    public void testCacheEvictionWithTinyLfuPolicy() {
+        BValue[] args = new BValue[0];
+        BValue[] returns = BRunUtil.invoke(compileResult, "testCacheEvictionWithTinyLfuPolicy", args);
+        Assert.assertTrue(returns[0] instanceof BValueArray);
+        Assert.assertTrue(returns[1] instanceof BInteger);
+        String[] expected = new String[]{"A", "B", "C", "D", "E", "F", "G", "H", "I", "K"};
+        String[] actual = removeEmptyValues(((BValueArray) returns[0]).getStringArray());
+        Assert.assertTrue(Arrays.equals(actual, expected));
+        Assert.assertEquals(((BInteger) returns[1]).intValue(), expected.length);
+    }
+
+    @Test
+    public void testCacheStats() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "testCacheStats");
+        Assert.assertTrue(returns[0] instanceof BValueArray);
+        BValueArray stats = (BValueArray) returns[0];
+        Assert.assertEquals(stats.getInt(0), 2);
+        Assert.assertEquals(stats.getInt(1), 2);
+        Assert.assertEquals(stats.getInt(2), 2);
+    }
+
+    @Test
+    public void testLoadingCache() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "testLoadingCache");
+        Assert.assertTrue(returns[0] instanceof BInteger);
+        Assert.assertTrue(returns[1] instanceof BValueArray);
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 1);
+        String[] expected = new String[]{"A-value", "A-value", "A-value", "A-value"};
+        Assert.assertTrue(Arrays.equals(((BValueArray) returns[1]).getStringArray(), expected));
+    }
+
+    @Test
+    public void testLoadingCacheWithConcurrentMisses() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "testLoadingCacheWithConcurrentMisses");
+        Assert.assertTrue(returns[0] instanceof BInteger);
+        // A miss which comes after a load completed finds the loaded value instead of loading it again
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 1);
+    }
+
+    @Test
+    public void testLoadingCacheWithLoaderError() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "testLoadingCacheWithLoaderError");
+        Assert.assertTrue(returns[0] instanceof BError);
+        Assert.assertEquals(((BError) returns[0]).getMessage(), "Failed to load the cache entry for the key: A.");
+    }
+
+    @Test(expectedExceptions = BLangRuntimeException.class)
+    public void testCreateCacheWithRefreshWithoutLoader() {
+        BRunUtil.invoke(compileResult, "testCreateCacheWithRefreshWithoutLoader");
+    }
+
     @Test(expectedExceptions = BLangRuntimeException.class)
     public void testCreateCacheWithZeroCapacity() {
         BRunUtil.invoke(compileResult, "testCreateCacheWithZeroCapacity");
@@ -0,0 +1,77 @@
+/*
+ *   Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.cache.nativeimpl;
+
+import io.ballerina.runtime.api.utils.StringUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for the native TinyLFU eviction policy.
+ */
+public class TinyLfuPolicyTest {
+
+    @Test(description = "Test that a new candidate is not admitted over a victim which is used as often")
+    public void testCandidateRejected() {
+        TinyLfuPolicy policy = new TinyLfuPolicy(100);
+        addEntries(policy);
+        Assert.assertEquals(policy.victim().key.getValue(), "b");
+    }
+
+    @Test(description = "Test that a frequently used candidate is admitted over the probation victim")
+    public void testFrequentCandidateAdmitted() {
+        TinyLfuPolicy policy = new TinyLfuPolicy(100);
+        CacheEntry popular = usePopularEntry(policy);
+        policy.onRemove(popular);
+
+        addEntries(policy);
+        Assert.assertEquals(policy.victim().key.getValue(), "a");
+    }
+
+    @Test(description = "Test that the frequencies recorded before a clear do not decide the admission afterwards")
+    public void testClearResetsFrequencies() {
+        TinyLfuPolicy policy = new TinyLfuPolicy(100);
+        usePopularEntry(policy);
+        policy.clear();
+
+        addEntries(policy);
+        Assert.assertEquals(policy.victim().key.getValue(), "b");
+    }
+
+    private static CacheEntry usePopularEntry(TinyLfuPolicy policy) {
+        CacheEntry popular = newEntry("b");
+        policy.onAdd(popular);
+        for (int i = 0; i < 10; i++) {
+            policy.onAccess(popular);
+        }
+        return popular;
+    }
+
+    private static void addEntries(TinyLfuPolicy policy) {
+        // with a capacity of 100 the window holds a single entry, hence "a" and then "b" move on to probation,
+        // where "a" is the victim and "b" the candidate
+        policy.onAdd(newEntry("a"));
+        policy.onAdd(newEntry("b"));
+        policy.onAdd(newEntry("c"));
+    }
+
+    private static CacheEntry newEntry(String key) {
+        return new CacheEntry(StringUtils.fromString(key), key, CacheEntry.NO_EXPIRY);
+    }
+}
@@ -236,6 +236,130 @@ function testCacheEvictionWithTimer2() returns [string[], int] {
     return [cache.keys(), cache.size()];
 }
 
+function testCacheEvictionWithTinyLfuPolicy() returns [string[], int] {
+    cache:CacheConfig config = {
+        capacity: 10,
+        evictionPolicy: new cache:TinyLfuEvictionPolicy(),
+        evictionFactor: 0.1
+    };
+    cache:Cache cache = new(config);
+    checkpanic cache.put("A", "1");
+    checkpanic cache.put("B", "2");
+    checkpanic cache.put("C", "3");
+    checkpanic cache.put("D", "4");
+    checkpanic cache.put("E", "5");
+    checkpanic cache.put("F", "6");
+    checkpanic cache.put("G", "7");
+    checkpanic cache.put("H", "8");
+    checkpanic cache.put("I", "9");
+    checkpanic cache.put("J", "10");
+    foreach int i in 1...3 {
+        foreach string key in ["A", "B", "C", "D", "E", "F", "G", "H", "I"] {
+            any|cache:Error x = cache.get(key);
+        }
+    }
+    checkpanic cache.put("K", "11");
+    return [cache.keys(), cache.size()];
+}
+
+function testCacheStats() returns int[] {
+    cache:CacheConfig config = {
+        capacity: 10,
+        evictionFactor: 0.2
+    };
+    cache:Cache cache = new(config);
+    checkpanic cache.put("A", "1");
+    checkpanic cache.put("B", "2");
+    checkpanic cache.put("C", "3");
+    checkpanic cache.put("D", "4");
+    checkpanic cache.put("E", "5");
+    checkpanic cache.put("F", "6");
+    checkpanic cache.put("G", "7");
+    checkpanic cache.put("H", "8");
+    checkpanic cache.put("I", "9");
+    checkpanic cache.put("J", "10");
+    checkpanic cache.put("K", "11");
+    any|cache:Error x = cache.get("A");
+    x = cache.get("C");
+    x = cache.get("C");
+    x = cache.get("Z");
+    cache:CacheStats stats = cache.stats();
+    return [stats.hitCount, stats.missCount, stats.evictionCount];
+}
+
+int loadCount = 0;
+
+function slowLoader(string key) returns any|error {
+    lock {
+        loadCount += 1;
+    }
+    runtime:sleep(500);
+    return key + "-value";
+}
+
+function testLoadingCache() returns [int, string[]] {
+    loadCount = 0;
+    cache:CacheConfig config = {
+        capacity: 10,
+        loader: slowLoader
+    };
+    cache:Cache cache = new(config);
+    future<any|cache:Error> f1 = start cache.get("A");
+    future<any|cache:Error> f2 = start cache.get("A");
+    future<any|cache:Error> f3 = start cache.get("A");
+    any|cache:Error v1 = wait f1;
+    any|cache:Error v2 = wait f2;
+    any|cache:Error v3 = wait f3;
+    any|cache:Error v4 = cache.get("A");
+    return [loadCount, [<string>checkpanic v1, <string>checkpanic v2, <string>checkpanic v3, <string>checkpanic v4]];
+}
+
+function fastLoader(string key) returns any|error {
+    lock {
+        loadCount += 1;
+    }
+    return key + "-value";
+}
+
+function testLoadingCacheWithConcurrentMisses() returns int {
+    loadCount = 0;
+    cache:CacheConfig config = {
+        capacity: 10,
+        loader: fastLoader
+    };
+    cache:Cache cache = new(config);
+    future<any|cache:Error>[] gets = [];
+    foreach int i in 0 ..< 100 {
+        gets.push(start cache.get("A"));
+    }
+    foreach future<any|cache:Error> f in gets {
+        any|cache:Error value = wait f;
+        if (!(value is string) || value != "A-value") {
+            return -1;
+        }
+    }
+    return loadCount;
+}
+
+function testLoadingCacheWithLoaderError() returns any|cache:Error {
+    cache:CacheConfig config = {
+        capacity: 10,
+        loader: function (string key) returns any|error {
+            return error("Backend is not available.");
+        }
+    };
+    cache:Cache cache = new(config);
+    return cache.get("A");
+}
+
+function testCreateCacheWithRefreshWithoutLoader() {
+    cache:CacheConfig config = {
+        capacity: 10,
+        refreshAfterWriteInSeconds: 10
+    };
+    cache:Cache c = new(config);
+}
+
 function testCreateCacheWithZeroCapacity() {
     cache:CacheConfig config = {
         capacity: 0,
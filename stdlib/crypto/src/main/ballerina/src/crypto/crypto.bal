@@ -14,6 +14,7 @@
 // specific language governing permissions and limitations
 // under the License.
 
+import ballerina/io;
 import ballerina/time;
 import ballerina/java;
 
@@ -54,6 +55,24 @@ public const OAEPwithSHA384andMGF1 = "OAEPwithSHA384andMGF1";
 # The `OAEPwithSHA512andMGF1` padding mode.
 public const OAEPwithSHA512andMGF1 = "OAEPwithSHA512andMGF1";
 
+# Hash algorithms supported by the hash and HMAC functions which read their input from a byte channel.
+public type HashAlgorithm MD5|SHA1|SHA256|SHA384|SHA512;
+
+# The `MD5` hash algorithm.
+public const MD5 = "MD5";
+
+# The `SHA1` hash algorithm.
+public const SHA1 = "SHA1";
+
+# The `SHA256` hash algorithm.
+public const SHA256 = "SHA256";
+
+# The `SHA384` hash algorithm.
+public const SHA384 = "SHA384";
+
+# The `SHA512` hash algorithm.
+public const SHA512 = "SHA512";
+
 # Key store related configurations.
 #
 # + path - Path to the key store file
@@ -278,6 +297,41 @@ public function crc32b(byte[] input) returns string = @java:Method {
     'class: "org.ballerinalang.stdlib.crypto.nativeimpl.Hash"
 } external;
 
+# Returns the hash of the content of the given byte channel. The content is read in chunks until the channel reaches
+# its end, without holding the whole content in memory.
+# ```ballerina
+#  io:ReadableByteChannel channel = check io:openReadableFile("payload.json");
+#  byte[]|crypto:Error hash = crypto:hashChannel(channel, crypto:SHA256);
+# ```
+#
+# + input - Byte channel of the value to be hashed
+# + algorithm - Hash algorithm
+# + return - Hashed output or else a `crypto:Error` if the channel could not be read
+public function hashChannel(io:ReadableByteChannel input, HashAlgorithm algorithm)
+                            returns byte[]|Error = @java:Method {
+    name: "hashChannel",
+    'class: "org.ballerinalang.stdlib.crypto.nativeimpl.Hash"
+} external;
+
+# Returns the HMAC of the content of the given byte channel. The content is read in chunks until the channel reaches
+# its end, without holding the whole content in memory.
+# ```ballerina
+#  io:ReadableByteChannel channel = check io:openReadableFile("payload.json");
+#  string keyString = "some-secret";
+#  byte[] key = keyString.toBytes();
+#  byte[]|crypto:Error hmac = crypto:hmacChannel(channel, key, crypto:SHA256);
+# ```
+#
+# + input - Byte channel of the value to be hashed
+# + key - Key used for HMAC generation
+# + algorithm - Hash algorithm used for HMAC generation
+# + return - HMAC output or else a `crypto:Error` if the channel could not be read
+public function hmacChannel(io:ReadableByteChannel input, byte[] key, HashAlgorithm algorithm)
+                            returns byte[]|Error = @java:Method {
+    name: "hmacChannel",
+    'class: "org.ballerinalang.stdlib.crypto.nativeimpl.Hmac"
+} external;
+
 # Returns the RSA-MD5-based signature value for the given data.
 # ```ballerina
 #  string stringData = "Hello Ballerina";
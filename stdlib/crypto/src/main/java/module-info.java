@@ -1,6 +1,7 @@
 module io.ballerina.crypto {
     requires io.ballerina.runtime;
     requires io.ballerina.time;
+    requires io.ballerina.io;
     requires org.apache.commons.codec;
     exports org.ballerinalang.stdlib.crypto;
     exports org.ballerinalang.stdlib.crypto.nativeimpl;
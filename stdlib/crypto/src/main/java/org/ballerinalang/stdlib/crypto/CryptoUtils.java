@@ -21,7 +21,11 @@ import io.ballerina.runtime.api.creators.ErrorCreator;
 import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BError;
+import org.ballerinalang.stdlib.io.channels.base.Channel;
+import org.ballerinalang.stdlib.io.utils.IOConstants;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.security.InvalidAlgorithmParameterException;
 import java.security.InvalidKeyException;
 import java.security.Key;
@@ -33,6 +37,7 @@ import java.security.Signature;
 import java.security.SignatureException;
 import java.security.spec.AlgorithmParameterSpec;
 import java.util.Arrays;
+import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -41,7 +46,6 @@ import javax.crypto.Cipher;
 import javax.crypto.IllegalBlockSizeException;
 import javax.crypto.Mac;
 import javax.crypto.NoSuchPaddingException;
-import javax.crypto.SecretKey;
 import javax.crypto.spec.GCMParameterSpec;
 import javax.crypto.spec.IvParameterSpec;
 import javax.crypto.spec.SecretKeySpec;
@@ -87,15 +91,34 @@ public class CryptoUtils {
      */
     public static byte[] hmac(String algorithm, byte[] key, byte[] input) {
         try {
-            SecretKey secretKey = new SecretKeySpec(key, algorithm);
-            Mac mac = Mac.getInstance(algorithm);
-            mac.init(secretKey);
+            Mac mac = EngineCache.getMac(algorithm, key);
             return mac.doFinal(input);
         } catch (NoSuchAlgorithmException | InvalidKeyException e) {
             throw CryptoUtils.createError("Error occurred while calculating HMAC: " + e.getMessage());
         }
     }
 
+    /**
+     * Generate HMAC of the content of a byte channel based on the provided HMAC algorithm. The content is read in
+     * chunks, so it is never held in memory as a whole.
+     *
+     * @param algorithm algorithm used during HMAC generation
+     * @param key       key used during HMAC generation
+     * @param channel   byte channel to read the input from
+     * @return calculated HMAC value or error if the channel could not be read
+     */
+    public static Object hmac(String algorithm, byte[] key, Channel channel) {
+        try {
+            Mac mac = EngineCache.getMac(algorithm, key);
+            readChannel(channel, mac::update);
+            return ValueCreator.createArrayValue(mac.doFinal());
+        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+            throw CryptoUtils.createError("Error occurred while calculating HMAC: " + e.getMessage());
+        } catch (IOException e) {
+            return CryptoUtils.createError("Error occurred while reading the channel: " + e.getMessage());
+        }
+    }
+
     /**
      * Generate Hash of a byte array based on the provided hashing algorithm.
      *
@@ -105,15 +128,50 @@ public class CryptoUtils {
      */
     public static byte[] hash(String algorithm, byte[] input) {
         try {
-            MessageDigest messageDigest;
-            messageDigest = MessageDigest.getInstance(algorithm);
-            messageDigest.update(input);
-            return messageDigest.digest();
+            MessageDigest messageDigest = EngineCache.getMessageDigest(algorithm);
+            return messageDigest.digest(input);
         } catch (NoSuchAlgorithmException e) {
             throw CryptoUtils.createError("Error occurred while calculating hash: " + e.getMessage());
         }
     }
 
+    /**
+     * Generate Hash of the content of a byte channel based on the provided hashing algorithm. The content is read in
+     * chunks, so it is never held in memory as a whole.
+     *
+     * @param algorithm algorithm used during hashing
+     * @param channel   byte channel to read the input from
+     * @return calculated hash value or error if the channel could not be read
+     */
+    public static Object hash(String algorithm, Channel channel) {
+        try {
+            MessageDigest messageDigest = EngineCache.getMessageDigest(algorithm);
+            readChannel(channel, messageDigest::update);
+            return ValueCreator.createArrayValue(messageDigest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw CryptoUtils.createError("Error occurred while calculating hash: " + e.getMessage());
+        } catch (IOException e) {
+            return CryptoUtils.createError("Error occurred while reading the channel: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Read a byte channel till its end, passing each chunk read to a consumer.
+     *
+     * @param channel  byte channel to read
+     * @param consumer consumer of the chunks, which is given a buffer ready to be read
+     * @throws IOException if the channel could not be read
+     */
+    private static void readChannel(Channel channel, Consumer<ByteBuffer> consumer) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(IOConstants.CHANNEL_BUFFER_SIZE);
+        while (!channel.hasReachedEnd()) {
+            channel.read(buffer);
+            buffer.flip();
+            consumer.accept(buffer);
+            buffer.clear();
+        }
+    }
+
     /**
      * Generate signature of a byte array based on the provided signing algorithm.
      *
@@ -124,7 +182,7 @@ public class CryptoUtils {
      */
     public static Object sign(String algorithm, PrivateKey privateKey, byte[] input) {
         try {
-            Signature sig = Signature.getInstance(algorithm);
+            Signature sig = EngineCache.getSignature(algorithm);
             sig.initSign(privateKey);
             sig.update(input);
             return ValueCreator.createArrayValue(sig.sign());
@@ -146,7 +204,7 @@ public class CryptoUtils {
      */
     public static Object verify(String algorithm, PublicKey publicKey, byte[] data, byte[] signature) {
         try {
-            Signature sig = Signature.getInstance(algorithm);
+            Signature sig = EngineCache.getSignature(algorithm);
             sig.initVerify(publicKey);
             sig.update(data);
             return sig.verify(signature);
@@ -188,7 +246,7 @@ public class CryptoUtils {
                 return CryptoUtils.createError("Valid tag sizes are: " + Arrays.toString(VALID_GCM_TAG_SIZES));
             }
             AlgorithmParameterSpec paramSpec = buildParameterSpec(transformedAlgorithmMode, iv, (int) tagSize);
-            Cipher cipher = Cipher.getInstance(Constants.RSA + "/" + transformedAlgorithmMode + "/"
+            Cipher cipher = EngineCache.getCipher(Constants.RSA + "/" + transformedAlgorithmMode + "/"
                     + transformedAlgorithmPadding);
             initCipher(cipher, cipherMode, key, paramSpec);
             return ValueCreator.createArrayValue(cipher.doFinal(input));
@@ -231,7 +289,7 @@ public class CryptoUtils {
                         Arrays.toString(VALID_GCM_TAG_SIZES));
             }
             AlgorithmParameterSpec paramSpec = buildParameterSpec(transformedAlgorithmMode, iv, (int) tagSize);
-            Cipher cipher = Cipher.getInstance("AES/" + transformedAlgorithmMode + "/" + transformedAlgorithmPadding);
+            Cipher cipher = EngineCache.getCipher("AES/" + transformedAlgorithmMode + "/" + transformedAlgorithmPadding);
             initCipher(cipher, cipherMode, keySpec, paramSpec);
             return ValueCreator.createArrayValue(cipher.doFinal(input));
         } catch (NoSuchAlgorithmException e) {
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.stdlib.crypto;
+
+import java.nio.ByteBuffer;
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.Signature;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.crypto.NoSuchPaddingException;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Per thread instances of the cryptographic engines, which are reused across operations instead of being looked up
+ * from the providers and created for every operation.
+ * <p>
+ * An engine is only used by one operation at a time, as an operation runs to completion on the thread which started
+ * it. HMAC engines are kept initialized with their key, for the {@link #MAX_MAC_KEYS} most recently used keys of each
+ * algorithm.
+ *
+ * @since 2.0.0
+ */
+class EngineCache {
+
+    private static final int MAX_MAC_KEYS = 16;
+
+    private static final ThreadLocal<Map<String, MessageDigest>> DIGESTS = ThreadLocal.withInitial(HashMap::new);
+    private static final ThreadLocal<Map<String, Map<ByteBuffer, Mac>>> MACS = ThreadLocal.withInitial(HashMap::new);
+    private static final ThreadLocal<Map<String, Signature>> SIGNATURES = ThreadLocal.withInitial(HashMap::new);
+    private static final ThreadLocal<Map<String, Cipher>> CIPHERS = ThreadLocal.withInitial(HashMap::new);
+
+    private EngineCache() {
+
+    }
+
+    /**
+     * Returns the message digest of the current thread for an algorithm.
+     *
+     * @param algorithm digest algorithm
+     * @return message digest in its initial state
+     * @throws NoSuchAlgorithmException if the algorithm is not supported
+     */
+    static MessageDigest getMessageDigest(String algorithm) throws NoSuchAlgorithmException {
+        Map<String, MessageDigest> digests = DIGESTS.get();
+        MessageDigest messageDigest = digests.get(algorithm);
+        if (messageDigest == null) {
+            messageDigest = MessageDigest.getInstance(algorithm);
+            digests.put(algorithm, messageDigest);
+        } else {
+            messageDigest.reset();
+        }
+        return messageDigest;
+    }
+
+    /**
+     * Returns the MAC of the current thread for an algorithm and a key.
+     *
+     * @param algorithm MAC algorithm
+     * @param key       key of the MAC
+     * @return MAC initialized with the key
+     * @throws NoSuchAlgorithmException if the algorithm is not supported
+     * @throws InvalidKeyException      if the key is not valid for the algorithm
+     */
+    static Mac getMac(String algorithm, byte[] key) throws NoSuchAlgorithmException, InvalidKeyException {
+        Map<ByteBuffer, Mac> macs = MACS.get().computeIfAbsent(algorithm, k -> new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<ByteBuffer, Mac> eldest) {
+                return size() > MAX_MAC_KEYS;
+            }
+        });
+        Mac mac = macs.get(ByteBuffer.wrap(key));
+        if (mac == null) {
+            mac = Mac.getInstance(algorithm);
+            mac.init(new SecretKeySpec(key, algorithm));
+            // the key is copied, as the array of the caller may be changed later
+            macs.put(ByteBuffer.wrap(key.clone()), mac);
+        } else {
+            mac.reset();
+        }
+        return mac;
+    }
+
+    /**
+     * Returns the signature engine of the current thread for an algorithm, which has to be initialized for signing or
+     * verification before it is used.
+     *
+     * @param algorithm signature algorithm
+     * @return signature engine
+     * @throws NoSuchAlgorithmException if the algorithm is not supported
+     */
+    static Signature getSignature(String algorithm) throws NoSuchAlgorithmException {
+        Map<String, Signature> signatures = SIGNATURES.get();
+        Signature signature = signatures.get(algorithm);
+        if (signature == null) {
+            signature = Signature.getInstance(algorithm);
+            signatures.put(algorithm, signature);
+        }
+        return signature;
+    }
+
+    /**
+     * Returns the cipher of the current thread for a transformation, which has to be initialized before it is used.
+     *
+     * @param transformation cipher transformation
+     * @return cipher
+     * @throws NoSuchAlgorithmException if the algorithm is not supported
+     * @throws NoSuchPaddingException   if the padding is not supported
+     */
+    static Cipher getCipher(String transformation) throws NoSuchAlgorithmException, NoSuchPaddingException {
+        if (transformation.contains("/" + Constants.GCM + "/")) {
+            // a GCM cipher rejects being initialized again for encryption with the key and IV it last used
+            return Cipher.getInstance(transformation);
+        }
+        Map<String, Cipher> ciphers = CIPHERS.get();
+        Cipher cipher = ciphers.get(transformation);
+        if (cipher == null) {
+            cipher = Cipher.getInstance(transformation);
+            ciphers.put(transformation, cipher);
+        }
+        return cipher;
+    }
+}
@@ -21,8 +21,11 @@ package org.ballerinalang.stdlib.crypto.nativeimpl;
 import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BString;
 import org.ballerinalang.stdlib.crypto.CryptoUtils;
+import org.ballerinalang.stdlib.io.channels.base.Channel;
+import org.ballerinalang.stdlib.io.utils.IOConstants;
 
 import java.util.zip.CRC32;
 import java.util.zip.Checksum;
@@ -64,4 +67,13 @@ public class Hash {
         return ValueCreator.createArrayValue(CryptoUtils.hash("SHA-512", inputValue.getBytes()));
     }
 
+    public static Object hashChannel(BObject channel, BString algorithm) {
+        Channel byteChannel = (Channel) channel.getNativeData(IOConstants.BYTE_CHANNEL_NAME);
+        // SHA algorithms are named as SHA256 in the module and as SHA-256 in Java
+        String hashAlgorithm = algorithm.getValue();
+        if (hashAlgorithm.startsWith("SHA")) {
+            hashAlgorithm = "SHA-" + hashAlgorithm.substring(3);
+        }
+        return CryptoUtils.hash(hashAlgorithm, byteChannel);
+    }
 }
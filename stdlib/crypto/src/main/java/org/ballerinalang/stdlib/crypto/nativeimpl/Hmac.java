@@ -20,7 +20,11 @@ package org.ballerinalang.stdlib.crypto.nativeimpl;
 
 import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.values.BArray;
+import io.ballerina.runtime.api.values.BObject;
+import io.ballerina.runtime.api.values.BString;
 import org.ballerinalang.stdlib.crypto.CryptoUtils;
+import org.ballerinalang.stdlib.io.channels.base.Channel;
+import org.ballerinalang.stdlib.io.utils.IOConstants;
 
 /**
  * Extern functions ballerina hmac algorithms.
@@ -51,4 +55,9 @@ public class Hmac {
         return ValueCreator.createArrayValue(CryptoUtils.hmac("HmacSHA512", keyValue.getBytes(),
                                                               inputValue.getBytes()));
     }
+
+    public static Object hmacChannel(BObject channel, BArray keyValue, BString algorithm) {
+        Channel byteChannel = (Channel) channel.getNativeData(IOConstants.BYTE_CHANNEL_NAME);
+        return CryptoUtils.hmac("Hmac" + algorithm.getValue(), keyValue.getBytes(), byteChannel);
+    }
 }
@@ -138,6 +138,39 @@ public class CryptoTest {
         Assert.assertEquals(((BValueArray) returnValues[0]).getBytes(), expectedSha512Hash);
     }
 
+    @Test(description = "Test hashing the content of a byte channel")
+    public void testHashingChannel() throws DecoderException {
+        byte[] expectedMd5Hash = Hex.decodeHex("5DDA4BEBF6DDFCC7C34B87ED0AE9F8BC".toCharArray());
+        byte[] expectedSha256Hash = Hex
+                .decodeHex("7467A7E283E620137BC0705BCD6FB9B0AABFA3012F1809D3247D56B4810C547F".toCharArray());
+
+        BValue[] args = {new BString(confRoot.resolve("testKeystore.p12").toString())};
+
+        BValue[] returnValues = BRunUtil.invoke(compileResult, "testHashChannelWithMD5", args);
+        Assert.assertFalse(returnValues == null || returnValues.length == 0 || returnValues[0] == null);
+        Assert.assertEquals(((BValueArray) returnValues[0]).getBytes(), expectedMd5Hash);
+
+        returnValues = BRunUtil.invoke(compileResult, "testHashChannelWithSHA256", args);
+        Assert.assertFalse(returnValues == null || returnValues.length == 0 || returnValues[0] == null);
+        Assert.assertEquals(((BValueArray) returnValues[0]).getBytes(), expectedSha256Hash);
+    }
+
+    @Test(description = "Test hmac generation of the content of a byte channel")
+    public void testHmacChannel() throws DecoderException {
+        byte[] key = "abcdefghijk".getBytes(StandardCharsets.UTF_8);
+        byte[] expectedSHA256Hash = Hex
+                .decodeHex("D109AD6189E87E79D5B964DCB79A2E6034AAB6DE96911D4940F1C773E02A4B91".toCharArray());
+
+        BValue[] args = {new BString(confRoot.resolve("testKeystore.p12").toString()), new BValueArray(key)};
+        BValue[] returnValues = BRunUtil.invoke(compileResult, "testHmacChannelWithSHA256", args);
+        Assert.assertFalse(returnValues == null || returnValues.length == 0 || returnValues[0] == null);
+        Assert.assertEquals(((BValueArray) returnValues[0]).getBytes(), expectedSHA256Hash);
+
+        // the HMAC engine initialized with the key is reused for the second invocation
+        returnValues = BRunUtil.invoke(compileResult, "testHmacChannelWithSHA256", args);
+        Assert.assertEquals(((BValueArray) returnValues[0]).getBytes(), expectedSHA256Hash);
+    }
+
     @Test(description = "Test CRC32b generation")
     public void testCRC32() {
         byte[] payload = "Ballerina test".getBytes(StandardCharsets.UTF_8);
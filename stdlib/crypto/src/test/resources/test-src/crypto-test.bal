@@ -15,6 +15,7 @@
 // under the License.
 
 import ballerina/crypto;
+import ballerina/io;
 
 function testHashWithCRC32b(byte[] input) returns string {
     return crypto:crc32b(input);
@@ -60,6 +61,21 @@ function testHmacWithSHA512(byte[] input, byte[] key) returns byte[] {
     return crypto:hmacSha512(input, key);
 }
 
+function testHashChannelWithMD5(string path) returns byte[]|error {
+    io:ReadableByteChannel input = check io:openReadableFile(path);
+    return crypto:hashChannel(input, crypto:MD5);
+}
+
+function testHashChannelWithSHA256(string path) returns byte[]|error {
+    io:ReadableByteChannel input = check io:openReadableFile(path);
+    return crypto:hashChannel(input, crypto:SHA256);
+}
+
+function testHmacChannelWithSHA256(string path, byte[] key) returns byte[]|error {
+    io:ReadableByteChannel input = check io:openReadableFile(path);
+    return crypto:hmacChannel(input, key, crypto:SHA256);
+}
+
 function testSignRsaSha1(byte[] input, string path, string keyStorePassword, string keyAlias, string keyPassword)
                          returns byte[]|crypto:Error {
     crypto:KeyStore keyStore = {
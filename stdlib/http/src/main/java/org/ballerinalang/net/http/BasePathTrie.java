@@ -0,0 +1,106 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ *
+ */
+
+package org.ballerinalang.net.http;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.ballerinalang.net.http.HttpConstants.DEFAULT_BASE_PATH;
+
+/**
+ * Immutable index of the base paths of the services of a host, which finds the service of a request path by walking
+ * the path segments instead of comparing the path with every base path.
+ * <p>
+ * A request path is dispatched to the base path equal to it ignoring case, or else to the longest base path which is
+ * followed by a '/' in the path, or else to the default base path. A new trie is built whenever a service is attached
+ * or detached.
+ *
+ * @since 2.0.0
+ */
+public class BasePathTrie {
+
+    private final Node root = new Node();
+    private final Map<String, String> basePathsIgnoringCase = new HashMap<>();
+    private final Map<String, HttpService> servicesByBasePath;
+
+    /**
+     * Creates the trie of the given services.
+     *
+     * @param basePaths          base paths in the order of precedence of equal length base paths
+     * @param servicesByBasePath services by their base path
+     */
+    public BasePathTrie(List<String> basePaths, Map<String, HttpService> servicesByBasePath) {
+        this.servicesByBasePath = new HashMap<>(servicesByBasePath);
+        for (String basePath : basePaths) {
+            basePathsIgnoringCase.putIfAbsent(basePath.toLowerCase(Locale.ROOT), basePath);
+            Node node = root;
+            for (String segment : basePath.split("/", -1)) {
+                node = node.children.computeIfAbsent(segment, k -> new Node());
+            }
+            node.basePath = basePath;
+        }
+    }
+
+    /**
+     * Finds the base path of the service a request path should be dispatched to.
+     *
+     * @param requestURIPath raw path of the request
+     * @return the base path, or null if there is no service to dispatch to
+     */
+    public String findTheMostSpecificBasePath(String requestURIPath) {
+        String basePath = basePathsIgnoringCase.get(requestURIPath.toLowerCase(Locale.ROOT));
+        if (basePath != null) {
+            return basePath;
+        }
+        Node node = root;
+        int start = 0;
+        int end;
+        // Only the segments followed by a '/' are walked, as a base path matching all the segments is an exact match
+        while ((end = requestURIPath.indexOf('/', start)) >= 0) {
+            node = node.children.get(requestURIPath.substring(start, end));
+            if (node == null) {
+                break;
+            }
+            if (node.basePath != null) {
+                basePath = node.basePath;
+            }
+            start = end + 1;
+        }
+        if (basePath == null && servicesByBasePath.containsKey(DEFAULT_BASE_PATH)) {
+            return DEFAULT_BASE_PATH;
+        }
+        return basePath;
+    }
+
+    public HttpService getService(String basePath) {
+        return servicesByBasePath.get(basePath);
+    }
+
+    /**
+     * A path segment of the base paths.
+     */
+    private static class Node {
+
+        private final Map<String, Node> children = new HashMap<>(4);
+        private String basePath;
+    }
+}
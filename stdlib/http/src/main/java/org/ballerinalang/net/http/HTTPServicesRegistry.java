@@ -100,6 +100,17 @@ public class HTTPServicesRegistry {
         return servicesMapByHost.get(hostName).sortedServiceURIs;
     }
 
+    /**
+     * Get the base path trie for given host name.
+     *
+     * @param hostName of the service
+     * @return the base path trie if exists else null
+     */
+    public BasePathTrie getBasePathTrieByHost(String hostName) {
+        ServicesMapHolder servicesMapHolder = servicesMapByHost.get(hostName);
+        return servicesMapHolder == null ? null : servicesMapHolder.basePathTrie;
+    }
+
     /**
      * Register a service into the map.
      *
@@ -135,6 +146,7 @@ public class HTTPServicesRegistry {
             //basePath will get cached after registering service
             sortedServiceURIs.add(basePath);
             sortedServiceURIs.sort((basePath1, basePath2) -> basePath2.length() - basePath1.length());
+            servicesMapByHost.get(hostName).rebuildBasePathTrie();
             // Register the WebSocket upgrade service in the WebSocket registry
             registerWebSocketUpgradeService(httpService, runtime);
         }
@@ -168,25 +180,6 @@ public class HTTPServicesRegistry {
         return basePath;
     }
 
-    public String findTheMostSpecificBasePath(String requestURIPath, Map<String, HttpService> services,
-                                              List<String> sortedServiceURIs) {
-        for (Object key : sortedServiceURIs) {
-            if (!requestURIPath.toLowerCase().contains(key.toString().toLowerCase())) {
-                continue;
-            }
-            if (requestURIPath.length() <= key.toString().length()) {
-                return key.toString();
-            }
-            if (requestURIPath.startsWith(key.toString().concat("/"))) {
-                return key.toString();
-            }
-        }
-        if (services.containsKey(HttpConstants.DEFAULT_BASE_PATH)) {
-            return HttpConstants.DEFAULT_BASE_PATH;
-        }
-        return null;
-    }
-
     public Scheduler getScheduler() {
         return scheduler;
     }
@@ -200,15 +193,22 @@ public class HTTPServicesRegistry {
     }
 
     /**
-     * Holds both serviceByBasePath map and sorted Service basePath list.
+     * Holds the serviceByBasePath map, the sorted Service basePath list and the base path trie built from them.
      */
     protected class ServicesMapHolder {
         private Map<String, HttpService> servicesByBasePath;
         private List<String> sortedServiceURIs;
+        private volatile BasePathTrie basePathTrie;
 
         public ServicesMapHolder(Map<String, HttpService> servicesByBasePath, List<String> sortedServiceURIs) {
             this.servicesByBasePath = servicesByBasePath;
             this.sortedServiceURIs = sortedServiceURIs;
+            rebuildBasePathTrie();
+        }
+
+        private synchronized void rebuildBasePathTrie() {
+            // Dispatching keeps using the previous trie until the new one is complete
+            basePathTrie = new BasePathTrie(sortedServiceURIs, servicesByBasePath);
         }
     }
 
@@ -239,6 +239,7 @@ public class HTTPServicesRegistry {
                                            basePath));
             }
             sortedServiceURIs.sort((basePath1, basePath2) -> basePath2.length() - basePath1.length());
+            servicesMapHolder.rebuildBasePathTrie();
         }
     }
 }
@@ -39,7 +39,6 @@ import java.io.UnsupportedEncodingException;
 import java.net.URI;
 import java.net.URLDecoder;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 import static org.ballerinalang.net.http.HttpConstants.DEFAULT_HOST;
@@ -54,17 +53,12 @@ public class HttpDispatcher {
 
     public static HttpService findService(HTTPServicesRegistry servicesRegistry, HttpCarbonMessage inboundReqMsg) {
         try {
-            Map<String, HttpService> servicesOnInterface;
-            List<String> sortedServiceURIs;
             String hostName = inboundReqMsg.getHeader(HttpHeaderNames.HOST.toString());
-
-            if (hostName != null && servicesRegistry.getServicesMapHolder(hostName) != null) {
-                servicesOnInterface = servicesRegistry.getServicesByHost(hostName);
-                sortedServiceURIs = servicesRegistry.getSortedServiceURIsByHost(hostName);
-            } else if (servicesRegistry.getServicesMapHolder(DEFAULT_HOST) != null) {
-                servicesOnInterface = servicesRegistry.getServicesByHost(DEFAULT_HOST);
-                sortedServiceURIs = servicesRegistry.getSortedServiceURIsByHost(DEFAULT_HOST);
-            } else {
+            BasePathTrie basePathTrie = hostName != null ? servicesRegistry.getBasePathTrieByHost(hostName) : null;
+            if (basePathTrie == null) {
+                basePathTrie = servicesRegistry.getBasePathTrieByHost(DEFAULT_HOST);
+            }
+            if (basePathTrie == null) {
                 inboundReqMsg.setHttpStatusCode(404);
                 String localAddress = inboundReqMsg.getProperty(HttpConstants.LOCAL_ADDRESS).toString();
                 throw new BallerinaConnectorException("no service has registered for listener : " + localAddress);
@@ -80,8 +74,7 @@ public class HttpDispatcher {
 
             URI validatedUri = getValidatedURI(uriWithoutMatrixParams);
 
-            String basePath = servicesRegistry.findTheMostSpecificBasePath(validatedUri.getRawPath(),
-                    servicesOnInterface, sortedServiceURIs);
+            String basePath = basePathTrie.findTheMostSpecificBasePath(validatedUri.getRawPath());
 
             if (basePath == null) {
                 inboundReqMsg.setHttpStatusCode(404);
@@ -89,7 +82,7 @@ public class HttpDispatcher {
                         validatedUri.getRawPath());
             }
 
-            HttpService service = servicesOnInterface.get(basePath);
+            HttpService service = basePathTrie.getService(basePath);
             setInboundReqProperties(inboundReqMsg, validatedUri, basePath);
             return service;
         } catch (Exception e) {
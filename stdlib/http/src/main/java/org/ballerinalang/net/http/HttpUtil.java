@@ -18,7 +18,7 @@
 
 package org.ballerinalang.net.http;
 
-import io.ballerina.runtime.internal.JSONGenerator;
+import io.ballerina.runtime.internal.JsonGenerator;
 import io.ballerina.runtime.api.BErrorCreator;
 import io.ballerina.runtime.api.BStringUtils;
 import io.ballerina.runtime.api.runtime.Module;
@@ -91,6 +91,7 @@ import java.io.OutputStream;
 import java.net.InetSocketAddress;
 import java.net.UnknownHostException;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Iterator;
@@ -1462,7 +1463,7 @@ public class HttpUtil {
     public static void serializeDataSource(Object outboundMessageSource, BObject entity,
                                            OutputStream messageOutputStream) throws IOException {
         if (MimeUtil.generateAsJSON(outboundMessageSource, entity)) {
-            JSONGenerator gen = new JSONGenerator(messageOutputStream);
+            JsonGenerator gen = new JsonGenerator(messageOutputStream, StandardCharsets.UTF_8);
             gen.serialize(outboundMessageSource);
             gen.flush();
         } else {
@@ -23,6 +23,10 @@ import io.ballerina.runtime.api.BStringUtils;
 import io.ballerina.runtime.api.values.BArray;
 import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BObject;
+import io.netty.buffer.CompositeByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.handler.codec.http.DefaultHttpContent;
 import org.ballerinalang.mime.util.EntityBodyHandler;
 import org.ballerinalang.mime.util.HeaderUtil;
 import org.ballerinalang.mime.util.MultipartDataSource;
@@ -30,6 +34,11 @@ import org.ballerinalang.net.http.DataContext;
 import org.ballerinalang.net.http.HttpConstants;
 import org.ballerinalang.net.http.HttpErrorType;
 import org.ballerinalang.net.http.HttpUtil;
+import org.ballerinalang.stdlib.io.channels.FileIOChannel;
+import org.ballerinalang.stdlib.io.channels.TempFileIOChannel;
+import org.ballerinalang.stdlib.io.channels.base.Channel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.wso2.transport.http.netty.contract.HttpConnectorListener;
 import org.wso2.transport.http.netty.contract.HttpResponseFuture;
 import org.wso2.transport.http.netty.message.HttpCarbonMessage;
@@ -38,7 +47,10 @@ import org.wso2.transport.http.netty.message.PooledDataStreamerFactory;
 
 import java.io.IOException;
 import java.io.OutputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 
+import static org.ballerinalang.mime.util.MimeConstants.ENTITY_BYTE_CHANNEL;
 import static org.ballerinalang.mime.util.MimeConstants.SERIALIZATION_ERROR;
 import static org.ballerinalang.net.http.HttpUtil.extractEntity;
 
@@ -49,6 +61,10 @@ import static org.ballerinalang.net.http.HttpUtil.extractEntity;
  */
 public class ResponseWriter {
 
+    private static final Logger log = LoggerFactory.getLogger(ResponseWriter.class);
+    private static final long FILE_REGION_SIZE = 4 * 1024 * 1024;
+    private static final int MAX_MAPPED_REGIONS = 4;
+
     /**
      * Send outbound response to destination.
      *
@@ -79,7 +95,10 @@ public class ResponseWriter {
                 serializeMultiparts(boundaryString, entityObj, messageOutputStream);
             } else {
                 Object outboundMessageSource = EntityBodyHandler.getMessageDataSource(entityObj);
-                serializeDataSource(outboundMessageSource, entityObj, messageOutputStream);
+                if (outboundMessageSource != null ||
+                        !serializeFileChannel(entityObj, responseMessage, messageOutputStream)) {
+                    serializeDataSource(outboundMessageSource, entityObj, messageOutputStream);
+                }
             }
         }
     }
@@ -134,6 +153,36 @@ public class ResponseWriter {
         }
     }
 
+    /**
+     * Serialize an entity body which is a byte channel of a file, by adding read only memory mappings of the file to
+     * the response as its content. The content is not copied into the heap, and is written to the connection from the
+     * mapped buffers. Only a few regions of the file are mapped at a time, and the rest are mapped as the transport
+     * releases the written ones. Byte channels of other resources, and of temporary files which are deleted once the
+     * channel is closed, are left to be serialized through the output stream.
+     *
+     * @param entity              Represents the entity that holds the byte channel
+     * @param responseMessage     Represents native response message
+     * @param messageOutputStream Represents the output stream, which is closed once the whole file is added
+     * @return true if the byte channel was a file channel and its content is added to the response
+     */
+    private static boolean serializeFileChannel(BObject entity, HttpCarbonMessage responseMessage,
+                                                OutputStream messageOutputStream) {
+        Channel byteChannel = EntityBodyHandler.getByteChannel(entity);
+        if (!(byteChannel instanceof FileIOChannel) || byteChannel instanceof TempFileIOChannel ||
+                !byteChannel.isReadable()) {
+            return false;
+        }
+        //Set the byte channel to null, as it is consumed by the file content
+        entity.addNativeData(ENTITY_BYTE_CHANNEL, null);
+        try {
+            new MappedFileContent((FileIOChannel) byteChannel, responseMessage, messageOutputStream).addRegions();
+        } catch (IOException ex) {
+            throw BErrorCreator.createError(SERIALIZATION_ERROR, BStringUtils.fromString(
+                    "error occurred while serializing file content : " + ex.getMessage()));
+        }
+        return true;
+    }
+
     /**
      * Get the response data streamer that should be used for serializing data.
      *
@@ -188,4 +237,98 @@ public class ResponseWriter {
             this.dataContext.notifyOutboundResponseStatus(httpConnectorError);
         }
     }
+
+    /**
+     * Adds the content of a file to a response as read only memory mappings of its regions. At most
+     * {@code MAX_MAPPED_REGIONS} regions are mapped at a time, and the next region is mapped once the transport has
+     * written and released one of them. The file channel is closed once the whole file is mapped.
+     */
+    private static class MappedFileContent {
+
+        private final FileIOChannel byteChannel;
+        private final FileChannel fileChannel;
+        private final HttpCarbonMessage responseMessage;
+        private final OutputStream messageOutputStream;
+        private final long size;
+        private long position;
+        private int mappedRegions;
+        private boolean completed;
+
+        MappedFileContent(FileIOChannel byteChannel, HttpCarbonMessage responseMessage,
+                          OutputStream messageOutputStream) throws IOException {
+            this.byteChannel = byteChannel;
+            this.fileChannel = byteChannel.getFileChannel();
+            this.responseMessage = responseMessage;
+            this.messageOutputStream = messageOutputStream;
+            this.position = fileChannel.position();
+            this.size = fileChannel.size();
+        }
+
+        /**
+         * Maps and adds regions of the file until the limit of mapped regions is reached. The output stream is closed
+         * after the last region is added.
+         *
+         * @throws IOException if a region of the file could not be mapped
+         */
+        synchronized void addRegions() throws IOException {
+            if (completed) {
+                return;
+            }
+            try {
+                while (mappedRegions < MAX_MAPPED_REGIONS && position < size) {
+                    long length = Math.min(FILE_REGION_SIZE, size - position);
+                    MappedByteBuffer region = fileChannel.map(FileChannel.MapMode.READ_ONLY, position, length);
+                    // The position is moved before the region is added, as the transport could release it at once
+                    position += length;
+                    mappedRegions++;
+                    responseMessage.addHttpContent(new DefaultHttpContent(new FileRegionBuf(region, this)));
+                }
+            } catch (IOException ex) {
+                complete();
+                throw ex;
+            }
+            if (position >= size) {
+                complete();
+            }
+        }
+
+        synchronized void regionReleased() {
+            mappedRegions--;
+            try {
+                addRegions();
+            } catch (IOException ex) {
+                // The response is already being written, so it can only be ended without the rest of the file
+                log.error("Couldn't map the file content of the response", ex);
+            }
+        }
+
+        private void complete() {
+            completed = true;
+            try {
+                byteChannel.close();
+            } catch (IOException ex) {
+                log.error("Couldn't close the file channel of the response", ex);
+            }
+            HttpUtil.closeMessageOutputStream(messageOutputStream);
+        }
+    }
+
+    /**
+     * A buffer of a mapped region of a file, which tells the file content when the transport has released it.
+     */
+    private static class FileRegionBuf extends CompositeByteBuf {
+
+        private final MappedFileContent fileContent;
+
+        FileRegionBuf(MappedByteBuffer region, MappedFileContent fileContent) {
+            super(UnpooledByteBufAllocator.DEFAULT, true, 1, Unpooled.wrappedBuffer(region));
+            this.fileContent = fileContent;
+        }
+
+        @Override
+        protected void deallocate() {
+            super.deallocate();
+            fileContent.regionReleased();
+        }
+    }
 }
@@ -120,6 +120,10 @@ public class URIUtil {
         for (String pathSegment : pathSegments) {
             String[] splitPathSegment = pathSegment.split(";");
             pathToMatrixParam = pathToMatrixParam.concat("/" + splitPathSegment[0]);
+            if (splitPathSegment.length == 1) {
+                // getMatrixParamsMap treats a segment without an entry the same as one without matrix params
+                continue;
+            }
             Map<String, String> segmentMatrixParams = new HashMap<>();
             for (int i = 1; i < splitPathSegment.length; i++) {
                 String[] splitMatrixParam = splitPathSegment[i].split("=");
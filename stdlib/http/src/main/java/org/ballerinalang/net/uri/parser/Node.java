@@ -82,10 +82,7 @@ public abstract class Node<DataType, InboundMsgType> {
             if (childNode instanceof Literal) {
                 String regex = childNode.getToken();
                 if (regex.equals("*")) {
-                    regex = "." + regex;
-                    if (!subPath.matches(regex)) {
-                        continue;
-                    }
+                    // "*" matches any sub path
                     isFound = childNode.matchAll(subUriFragment, variables, start + matchLength, inboundMsg,
                                                  dataReturnAgent);
                     if (isFound) {
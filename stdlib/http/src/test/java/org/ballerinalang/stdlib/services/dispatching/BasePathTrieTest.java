@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.services.dispatching;
+
+import org.ballerinalang.net.http.BasePathTrie;
+import org.ballerinalang.net.http.HttpService;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Test cases for finding the service base path of a request path.
+ */
+public class BasePathTrieTest {
+
+    private static BasePathTrie createTrie(String... basePaths) {
+        List<String> sortedBasePaths = Arrays.asList(basePaths);
+        sortedBasePaths.sort((basePath1, basePath2) -> basePath2.length() - basePath1.length());
+        Map<String, HttpService> services = new HashMap<>();
+        for (String basePath : basePaths) {
+            services.put(basePath, null);
+        }
+        return new BasePathTrie(sortedBasePaths, services);
+    }
+
+    @Test(description = "Test dispatching to the longest base path followed by a '/'")
+    public void testLongestBasePath() {
+        BasePathTrie trie = createTrie("/foo", "/foo/bar", "/foobar", "/baz/qux");
+        Assert.assertEquals(trie.findTheMostSpecificBasePath("/foo"), "/foo");
+        Assert.assertEquals(trie.findTheMostSpecificBasePath("/foo/"), "/foo");
+        Assert.assertEquals(trie.findTheMostSpecificBasePath("/foo/baz"), "/foo");
+        Assert.assertEquals(trie.findTheMostSpecificBasePath("/foo/bar"), "/foo/bar");
+        Assert.assertEquals(trie.findTheMostSpecificBasePath("/foo/bar/baz/qux"), "/foo/bar");
+        Assert.assertEquals(trie.findTheMostSpecificBasePath("/foobar/baz"), "/foobar");
+        Assert.assertNull(trie.findTheMostSpecificBasePath("/foob"));
+        Assert.assertNull(trie.findTheMostSpecificBasePath("/baz"));
+        Assert.assertNull(trie.findTheMostSpecificBasePath("/baz/quxx"));
+    }
+
+    @Test(description = "Test that only a request path equal to a base path is matched ignoring case")
+    public void testBasePathCase() {
+        BasePathTrie trie = createTrie("/Hello", "/hello/world");
+        Assert.assertEquals(trie.findTheMostSpecificBasePath("/HELLO"), "/Hello");
+        Assert.assertEquals(trie.findTheMostSpecificBasePath("/Hello/World"), "/hello/world");
+        Assert.assertEquals(trie.findTheMostSpecificBasePath("/Hello/abc"), "/Hello");
+        Assert.assertNull(trie.findTheMostSpecificBasePath("/hello/abc"));
+    }
+
+    @Test(description = "Test dispatching to the default base path")
+    public void testDefaultBasePath() {
+        BasePathTrie trie = createTrie("/", "/foo");
+        Assert.assertEquals(trie.findTheMostSpecificBasePath("/"), "/");
+        Assert.assertEquals(trie.findTheMostSpecificBasePath("/bar"), "/");
+        Assert.assertEquals(trie.findTheMostSpecificBasePath("/foo/bar"), "/foo");
+        Assert.assertNull(createTrie("/foo").findTheMostSpecificBasePath("/"));
+    }
+}
@@ -27,6 +27,13 @@ import org.testng.Assert;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 import org.wso2.transport.http.netty.message.HttpCarbonMessage;
+import org.wso2.transport.http.netty.message.HttpMessageDataStreamer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 /**
  * Test cases for ballerina/http.response native functions.
@@ -50,4 +57,34 @@ public class ConnectionNativeFunctionTest {
         Assert.assertEquals((int) response.getHttpStatusCode(), 301);
         Assert.assertEquals(response.getHeader("Location"), "location1");
     }
+
+    @Test(description = "Test serving a file, which is larger than the regions of it mapped at a time.")
+    public void testFileResponse() throws IOException {
+        // Larger than the four 4 MB regions mapped at a time, and not a multiple of the region size
+        byte[] content = new byte[5 * 4 * 1024 * 1024 + 123];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) (i % 251);
+        }
+        Path file = Files.createTempFile("file-response-", ".bin");
+        try {
+            Files.write(file, content);
+            HTTPTestRequest cMsg = MessageUtils.generateHTTPMessage("/hello/file", HttpConstants.HTTP_METHOD_GET);
+            cMsg.setHeader("file-path", file.toString());
+            HttpCarbonMessage response = Services.invoke(MOCK_ENDPOINT_PORT, cMsg);
+
+            Assert.assertNotNull(response, "Response message not found");
+            Assert.assertEquals((int) response.getHttpStatusCode(), 200);
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            try (InputStream inputStream = new HttpMessageDataStreamer(response).getInputStream()) {
+                byte[] buffer = new byte[8192];
+                int length;
+                while ((length = inputStream.read(buffer)) != -1) {
+                    body.write(buffer, 0, length);
+                }
+            }
+            Assert.assertEquals(body.toByteArray(), content);
+        } finally {
+            Files.delete(file);
+        }
+    }
 }
@@ -1,4 +1,5 @@
 import ballerina/http;
+import ballerina/io;
 
 listener http:MockListener mockEP = new(9090);
 
@@ -11,4 +12,15 @@ service hello on mockEP {
         http:Response res = new;
         checkpanic caller->redirect(res, http:REDIRECT_MOVED_PERMANENTLY_301, ["location1"]);
     }
+
+    @http:ResourceConfig {
+        path:"/file",
+        methods:["GET"]
+    }
+    resource function serveFile (http:Caller caller, http:Request req) {
+        http:Response res = new;
+        io:ReadableByteChannel byteChannel = checkpanic io:openReadableFile(<@untainted> req.getHeader("file-path"));
+        res.setByteChannel(byteChannel);
+        checkpanic caller->respond(res);
+    }
 }
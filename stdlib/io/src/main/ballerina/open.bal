@@ -16,14 +16,19 @@
 
 import ballerina/java;
 
-# Retrieves a `ReadableByteChannel` from a given file path.
+# Retrieves a `ReadableByteChannel` from a given file path. When a mapping window is given, the file is read through
+# read-only memory mappings of up to that many bytes at a time instead of through read system calls, which suits
+# large files that are read sequentially.
 #```ballerina
 # io:ReadableByteChannel readableFieldResult = check io:openReadableFile("./files/sample.txt");
+# io:ReadableByteChannel mappedResult = check io:openReadableFile("./files/report.csv", 4194304);
 #```
 #
 # + path - Relative/absolute path string to locate the file
+# + mappingWindow - Maximum number of bytes of the file mapped at a time, or `0` to read the file without mapping it
 # + return - The `ByteChannel` representation of the file resource or else an `io:Error` if any error occurred
-public function openReadableFile(@untainted string path) returns ReadableByteChannel|Error = @java:Method {
+public function openReadableFile(@untainted string path, int mappingWindow = 0)
+    returns ReadableByteChannel|Error = @java:Method {
     name: "openReadableFile",
     'class: "org.ballerinalang.stdlib.io.nativeimpl.ByteChannelUtils"
 } external;
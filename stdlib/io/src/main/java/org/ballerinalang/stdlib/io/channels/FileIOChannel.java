@@ -41,6 +41,26 @@ public class FileIOChannel extends Channel {
         this.channel = channel;
     }
 
+    /**
+     * Creates a channel which reads the file through read only memory mappings.
+     *
+     * @param channel       the file channel.
+     * @param mappingWindow maximum number of bytes of the file mapped at a time.
+     */
+    public FileIOChannel(FileChannel channel, long mappingWindow) {
+        super(new MappedFileChannel(channel, mappingWindow));
+        this.channel = channel;
+    }
+
+    /**
+     * Returns the underlying file channel, which could be used to transfer the content of the file directly.
+     *
+     * @return the file channel.
+     */
+    public FileChannel getFileChannel() {
+        return channel;
+    }
+
     /**
      * Transfer file content to the specified destination.
      * <p>
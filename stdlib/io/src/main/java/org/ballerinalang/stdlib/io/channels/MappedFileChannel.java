@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.io.channels;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.ByteChannel;
+import java.nio.channels.FileChannel;
+
+/**
+ * <p>
+ * Reads a file through read only memory mappings of a fixed sized window, instead of copying the content through
+ * read system calls.
+ * </p>
+ * <p>
+ * The window is moved forward as the content is read. The position of the underlying file channel is kept in sync with
+ * the bytes read, so that it can still be used for transfers. Writes are passed to the file channel as they are.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public class MappedFileChannel implements ByteChannel {
+
+    private final FileChannel channel;
+    private final long windowSize;
+    private MappedByteBuffer window;
+    private long windowStart;
+
+    /**
+     * Creates a channel which reads through mapped windows of the given size.
+     *
+     * @param channel    file channel to be mapped.
+     * @param windowSize maximum number of bytes mapped at a time.
+     */
+    public MappedFileChannel(FileChannel channel, long windowSize) {
+        if (windowSize <= 0 || windowSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("invalid mapping window size: " + windowSize);
+        }
+        this.channel = channel;
+        this.windowSize = windowSize;
+    }
+
+    @Override
+    public int read(ByteBuffer dst) throws IOException {
+        long position = channel.position();
+        long size = channel.size();
+        if (position >= size) {
+            return -1;
+        }
+        if (!dst.hasRemaining()) {
+            return 0;
+        }
+        if (window == null || position < windowStart || position >= windowStart + window.limit()) {
+            windowStart = position;
+            window = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(windowSize, size - position));
+        }
+        int offset = (int) (position - windowStart);
+        int length = Math.min(dst.remaining(), window.limit() - offset);
+        ByteBuffer content = window.duplicate();
+        content.position(offset);
+        content.limit(offset + length);
+        dst.put(content);
+        channel.position(position + length);
+        return length;
+    }
+
+    @Override
+    public int write(ByteBuffer src) throws IOException {
+        return channel.write(src);
+    }
+
+    @Override
+    public boolean isOpen() {
+        return channel.isOpen();
+    }
+
+    @Override
+    public void close() throws IOException {
+        // The mapping stays valid until the buffer is garbage collected, dropping it allows that to happen
+        window = null;
+        channel.close();
+    }
+}
@@ -106,6 +106,25 @@ public class CharacterChannel implements IOChannel {
         return channel;
     }
 
+    /**
+     * Provides the charset used to decode and encode characters.
+     *
+     * @return the charset of the channel.
+     */
+    Charset getCharset() {
+        return bytesDecoder.charset();
+    }
+
+    /**
+     * Specifies whether characters have been read through the channel, in which case bytes of the underlying channel
+     * may be held in the buffers of this channel.
+     *
+     * @return true if characters have been read.
+     */
+    boolean isReadStarted() {
+        return null != charBuffer;
+    }
+
     /**
      * Gets number of characters left in the character buffer.
      *
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.io.channels.base;
+
+/**
+ * <p>
+ * Represents a record read through a {@link DelimitedRecordChannel}.
+ * </p>
+ * <p>
+ * The fields of a record may only be converted to values when they are accessed, hence a record is only valid until
+ * the next record is read from the channel.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+public interface DelimitedRecord {
+
+    /**
+     * Provides the number of fields in the record.
+     *
+     * @return the number of fields.
+     */
+    int size();
+
+    /**
+     * Provides the value of a field.
+     *
+     * @param index index of the field.
+     * @return the field value.
+     */
+    String getField(int index);
+
+    /**
+     * Specifies whether a field is empty.
+     *
+     * @param index index of the field.
+     * @return true if the field does not have any characters.
+     */
+    default boolean isEmpty(int index) {
+        return getField(index).isEmpty();
+    }
+
+    /**
+     * Provides the value of a field as an integer.
+     *
+     * @param index index of the field.
+     * @return the integer value of the field.
+     * @throws NumberFormatException if the field is not an integer.
+     */
+    default long getInt(int index) {
+        return Long.parseLong(getField(index));
+    }
+
+    /**
+     * Provides the value of a field as a boolean.
+     *
+     * @param index index of the field.
+     * @return true if the field is "true" ignoring the case, false otherwise.
+     */
+    default boolean getBoolean(int index) {
+        return Boolean.parseBoolean(getField(index));
+    }
+
+    /**
+     * Provides the values of all the fields.
+     *
+     * @return the field values.
+     */
+    default String[] getFields() {
+        String[] fields = new String[size()];
+        for (int i = 0; i < fields.length; i++) {
+            fields[i] = getField(i);
+        }
+        return fields;
+    }
+
+    /**
+     * Creates a record from the field values.
+     *
+     * @param fields the field values.
+     * @return the record.
+     */
+    static DelimitedRecord of(String[] fields) {
+        return new DelimitedRecord() {
+            @Override
+            public int size() {
+                return fields.length;
+            }
+
+            @Override
+            public String getField(int index) {
+                return fields[index];
+            }
+
+            @Override
+            public String[] getFields() {
+                return fields;
+            }
+        };
+    }
+}
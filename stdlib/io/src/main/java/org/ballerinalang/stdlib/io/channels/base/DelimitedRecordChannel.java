@@ -92,6 +92,16 @@ public class DelimitedRecordChannel implements IOChannel {
      */
     private Format format;
 
+    /**
+     * Reads records by scanning the bytes of the channel, if the encoding and the separators allow it.
+     */
+    private DelimitedRecordReader recordReader;
+
+    /**
+     * Specifies whether it has been decided how records are read.
+     */
+    private boolean recordReaderResolved = false;
+
     private static final String DOUBLE_QUOTE_REGEX = "\"([^\"]*)\"";
 
     private static final Logger log = LoggerFactory.getLogger(DelimitedRecordChannel.class);
@@ -111,6 +121,9 @@ public class DelimitedRecordChannel implements IOChannel {
 
     @Override
     public boolean hasReachedEnd() {
+        if (null != recordReader) {
+            return recordReader.hasReachedEnd();
+        }
         return !remaining && channel.hasReachedEnd();
     }
 
@@ -118,6 +131,38 @@ public class DelimitedRecordChannel implements IOChannel {
         return channel.getChannel();
     }
 
+    /**
+     * <p>
+     * Provides the reader which scans the bytes of the channel for records, which is created when records are first
+     * read so that a channel used for writing never reads.
+     * </p>
+     * <p>
+     * Records are read through regular expressions instead if the separators are not single characters or the
+     * encoding is not compatible with ASCII.
+     * </p>
+     *
+     * @return the record reader, or null if records are read through regular expressions.
+     */
+    private DelimitedRecordReader getRecordReader() {
+        if (!recordReaderResolved) {
+            recordReaderResolved = true;
+            if (Format.CSV == format) {
+                //The field separator of CSV ignores the commas enclosed in quotes
+                recordReader = DelimitedRecordReader.create(channel, getRecordSeparatorForReading(),
+                                                            format.getWriteFieldSeparator(), true, true);
+            } else {
+                recordReader = DelimitedRecordReader.create(channel, getRecordSeparatorForReading(),
+                                                            getFieldSeparatorForReading(), false,
+                                                            null != format && format.shouldIgnoreBlanks());
+            }
+            if (log.isDebugEnabled()) {
+                log.debug(String.format("Records of channel %d are read %s", channel.hashCode(),
+                        null != recordReader ? "by scanning bytes" : "through regular expressions"));
+            }
+        }
+        return recordReader;
+    }
+
     /**
      * Retrieves the record separator for reading records.
      *
@@ -345,6 +390,16 @@ public class DelimitedRecordChannel implements IOChannel {
      * @throws BallerinaIOException during I/O errors
      */
     public String[] read() throws BallerinaIOException {
+        DelimitedRecordReader reader = getRecordReader();
+        if (null != reader) {
+            DelimitedRecord record = reader.next();
+            if (null == record) {
+                remaining = false;
+                return new String[0];
+            }
+            numberOfRecordsReadThroughChannel++;
+            return record.getFields();
+        }
         final int emptyArrayIndex = 0;
         String[] fields = new String[emptyArrayIndex];
         if (remaining) {
@@ -377,6 +432,32 @@ public class DelimitedRecordChannel implements IOChannel {
         return fields;
     }
 
+    /**
+     * <p>
+     * Read the next record, without converting its fields to strings until they are accessed.
+     * </p>
+     * <p>
+     * The record is only valid until the next record is read. A record without fields will be returned if all the
+     * records have being processed.
+     * </p>
+     *
+     * @return the record.
+     * @throws BallerinaIOException during I/O errors
+     */
+    public DelimitedRecord readDelimitedRecord() throws BallerinaIOException {
+        DelimitedRecordReader reader = getRecordReader();
+        if (null == reader) {
+            return DelimitedRecord.of(read());
+        }
+        DelimitedRecord record = reader.next();
+        if (null == record) {
+            remaining = false;
+            return DelimitedRecord.of(new String[0]);
+        }
+        numberOfRecordsReadThroughChannel++;
+        return record;
+    }
+
     /**
      * Enclose a given field with quotes.
      *
@@ -460,6 +541,9 @@ public class DelimitedRecordChannel implements IOChannel {
 
     @Override
     public boolean remaining() {
+        if (null != recordReader) {
+            return recordReader.hasRemaining();
+        }
         return persistentCharSequence.length() > 0;
     }
 
@@ -470,6 +554,11 @@ public class DelimitedRecordChannel implements IOChannel {
      * @throws BallerinaIOException if encoding error or channel reading error happens
      */
     public boolean hasNext() throws BallerinaIOException {
+        DelimitedRecordReader reader = getRecordReader();
+        if (null != reader) {
+            remaining = reader.hasNext();
+            return remaining;
+        }
         if (remaining && persistentCharSequence.length() == 0) {
             //If this is the case we need to further verify whether there will be more bytes left to be read
             //Remaining can become false in the next iteration
@@ -0,0 +1,428 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.io.channels.base;
+
+import org.ballerinalang.stdlib.io.utils.BallerinaIOException;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * <p>
+ * Reads delimited records by scanning the bytes of the channel directly, instead of decoding them into characters and
+ * splitting the characters through regular expressions.
+ * </p>
+ * <p>
+ * Separators and quotes are located eight bytes at a time, by comparing a word of the buffer against the byte
+ * repeated in each lane. This is only possible when each separator is a single ASCII character and the encoding
+ * represents ASCII characters as single bytes which never occur within multi byte characters. A field is decoded into
+ * a string only when it is accessed.
+ * </p>
+ * <p>
+ * The records and fields are identical to the ones produced by {@link DelimitedRecordChannel} through regular
+ * expressions. Trailing empty fields of a record are dropped, and when quotes are considered a field separator is
+ * ignored if it is followed by an odd number of quotes in the record.
+ * </p>
+ *
+ * @since 2.0.0
+ */
+class DelimitedRecordReader {
+
+    private static final int INITIAL_BUFFER_SIZE = 64 * 1024;
+    private static final int INITIAL_FIELD_COUNT = 16;
+
+    /**
+     * Separator which ends a record at a line feed, dropping a carriage return before it.
+     */
+    private static final String LINE_SEPARATOR_REGEX = "\\r?\\n";
+    private static final String REGEX_META_CHARACTERS = "\\.[]{}()*+?^$|";
+
+    private static final VarHandle WORD = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+    private static final long LANES = 0x0101010101010101L;
+    private static final long LOW_BITS = 0x7F7F7F7F7F7F7F7FL;
+    private static final byte QUOTE = '"';
+
+    private final Channel channel;
+    private final Charset charset;
+    private final byte recordSeparator;
+    private final boolean dropCarriageReturn;
+    private final byte fieldSeparator;
+    private final boolean quoted;
+    private final boolean unquote;
+    private final ScannedRecord record = new ScannedRecord();
+    private byte[] buffer = new byte[INITIAL_BUFFER_SIZE];
+    private int position;
+    private int limit;
+    private boolean endOfInput;
+
+    private DelimitedRecordReader(Channel channel, Charset charset, byte recordSeparator, boolean dropCarriageReturn,
+                                  byte fieldSeparator, boolean quoted, boolean unquote) {
+        this.channel = channel;
+        this.charset = charset;
+        this.recordSeparator = recordSeparator;
+        this.dropCarriageReturn = dropCarriageReturn;
+        this.fieldSeparator = fieldSeparator;
+        this.quoted = quoted;
+        this.unquote = unquote;
+    }
+
+    /**
+     * Creates a reader for a character channel, if its encoding and the separators allow the bytes to be scanned.
+     *
+     * @param characterChannel channel the records are read from, which should not have been read from yet.
+     * @param recordSeparator  regular expression which separates records.
+     * @param fieldSeparator   regular expression which separates fields, or a single character if quoted is true.
+     * @param quoted           whether field separators enclosed in quotes are ignored.
+     * @param unquote          whether the quotes enclosing a field are removed.
+     * @return the reader, or null if the records should be read through regular expressions.
+     */
+    static DelimitedRecordReader create(CharacterChannel characterChannel, String recordSeparator,
+                                        String fieldSeparator, boolean quoted, boolean unquote) {
+        Charset charset = characterChannel.getCharset();
+        if (characterChannel.isReadStarted() || characterChannel.getChannel() == null ||
+                !(StandardCharsets.UTF_8.equals(charset) || StandardCharsets.US_ASCII.equals(charset) ||
+                        StandardCharsets.ISO_8859_1.equals(charset))) {
+            return null;
+        }
+        boolean dropCarriageReturn = LINE_SEPARATOR_REGEX.equals(recordSeparator);
+        int recordSeparatorByte = dropCarriageReturn ? '\n' : getLiteralByte(recordSeparator);
+        int fieldSeparatorByte = getLiteralByte(fieldSeparator);
+        if (recordSeparatorByte < 0 || fieldSeparatorByte < 0 || recordSeparatorByte == fieldSeparatorByte ||
+                (quoted && fieldSeparatorByte == QUOTE)) {
+            return null;
+        }
+        return new DelimitedRecordReader(characterChannel.getChannel(), charset, (byte) recordSeparatorByte,
+                                         dropCarriageReturn, (byte) fieldSeparatorByte, quoted, unquote);
+    }
+
+    /**
+     * Identifies the character matched by a regular expression which only matches a single ASCII character.
+     *
+     * @param regex the regular expression.
+     * @return the character, or -1 if the regular expression matches anything else.
+     */
+    static int getLiteralByte(String regex) {
+        if (regex == null) {
+            return -1;
+        }
+        if (regex.length() == 1) {
+            char character = regex.charAt(0);
+            return character < 0x80 && REGEX_META_CHARACTERS.indexOf(character) < 0 ? character : -1;
+        }
+        if (regex.length() == 2 && regex.charAt(0) == '\\') {
+            char character = regex.charAt(1);
+            switch (character) {
+                case 't':
+                    return '\t';
+                case 'n':
+                    return '\n';
+                case 'r':
+                    return '\r';
+                case 'f':
+                    return '\f';
+                default:
+                    return REGEX_META_CHARACTERS.indexOf(character) >= 0 ? character : -1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Specifies whether there is another record to be read, reading from the channel if required.
+     *
+     * @return true if there is another record.
+     * @throws BallerinaIOException during I/O error.
+     */
+    boolean hasNext() throws BallerinaIOException {
+        return position < limit || fill();
+    }
+
+    /**
+     * Specifies whether all the records have been read.
+     *
+     * @return true if the channel has reached its end and there are no bytes left.
+     */
+    boolean hasReachedEnd() {
+        return endOfInput && position == limit;
+    }
+
+    /**
+     * Specifies whether there are bytes read from the channel which are not returned as records yet.
+     *
+     * @return true if there are bytes left in the buffer.
+     */
+    boolean hasRemaining() {
+        return position < limit;
+    }
+
+    /**
+     * Reads the next record.
+     *
+     * @return the record, which is valid until the next record is read, or null if there are no records left.
+     * @throws BallerinaIOException during I/O error.
+     */
+    DelimitedRecord next() throws BallerinaIOException {
+        int scanned = position;
+        int separatorIndex;
+        while ((separatorIndex = indexOf(recordSeparator, scanned, limit)) < 0) {
+            int scannedLength = limit - position;
+            if (!fill()) {
+                break;
+            }
+            scanned = position + scannedLength;
+        }
+        int recordEnd;
+        int nextPosition;
+        if (separatorIndex >= 0) {
+            recordEnd = separatorIndex;
+            nextPosition = separatorIndex + 1;
+            if (dropCarriageReturn && recordEnd > position && buffer[recordEnd - 1] == '\r') {
+                recordEnd--;
+            }
+        } else if (position < limit) {
+            //The final record is not followed by a separator
+            recordEnd = limit;
+            nextPosition = limit;
+        } else {
+            return null;
+        }
+        record.split(position, recordEnd);
+        position = nextPosition;
+        return record;
+    }
+
+    /**
+     * Reads more bytes from the channel into the buffer, moving the bytes which are not returned as records yet to the
+     * start of the buffer and enlarging it if it is full.
+     *
+     * @return true if bytes were read, false if the channel has reached its end.
+     * @throws BallerinaIOException during I/O error.
+     */
+    private boolean fill() throws BallerinaIOException {
+        if (endOfInput) {
+            return false;
+        }
+        if (position > 0) {
+            System.arraycopy(buffer, position, buffer, 0, limit - position);
+            limit -= position;
+            position = 0;
+        }
+        if (limit == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        try {
+            int read;
+            do {
+                read = channel.read(ByteBuffer.wrap(buffer, limit, buffer.length - limit));
+                if (read == 0 && channel.hasReachedEnd()) {
+                    endOfInput = true;
+                    return false;
+                }
+            } while (read == 0);
+            limit += read;
+            return true;
+        } catch (IOException e) {
+            throw new BallerinaIOException("error occurred while reading from channel: " + e.getMessage(), e);
+        }
+    }
+
+    private int indexOf(byte value, int from, int to) {
+        long pattern = (value & 0xFFL) * LANES;
+        int index = from;
+        for (; index + Long.BYTES <= to; index += Long.BYTES) {
+            long matches = matchingLanes((long) WORD.get(buffer, index) ^ pattern);
+            if (matches != 0) {
+                return index + (Long.numberOfTrailingZeros(matches) >>> 3);
+            }
+        }
+        for (; index < to; index++) {
+            if (buffer[index] == value) {
+                return index;
+            }
+        }
+        return -1;
+    }
+
+    private int count(byte value, int from, int to) {
+        long pattern = (value & 0xFFL) * LANES;
+        int count = 0;
+        int index = from;
+        for (; index + Long.BYTES <= to; index += Long.BYTES) {
+            count += Long.bitCount(matchingLanes((long) WORD.get(buffer, index) ^ pattern));
+        }
+        for (; index < to; index++) {
+            if (buffer[index] == value) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Sets the high bit of each zero byte of a word, without false positives caused by borrows between the bytes.
+     *
+     * @param word the word.
+     * @return the word with the high bit of each zero byte set and all the other bits cleared.
+     */
+    private static long matchingLanes(long word) {
+        long lowBitsPlusOnes = (word & LOW_BITS) + LOW_BITS;
+        return ~(lowBitsPlusOnes | word | LOW_BITS);
+    }
+
+    /**
+     * A record which refers to the range of its fields in the buffer.
+     */
+    private class ScannedRecord implements DelimitedRecord {
+
+        private int[] starts = new int[INITIAL_FIELD_COUNT];
+        private int[] ends = new int[INITIAL_FIELD_COUNT];
+        private int size;
+
+        void split(int from, int to) {
+            size = 0;
+            int separatorCount = 0;
+            int fieldStart = from;
+            int quoteCount = quoted ? count(QUOTE, from, to) : 0;
+            if (quoteCount == 0) {
+                int index = from;
+                while ((index = indexOf(fieldSeparator, index, to)) >= 0) {
+                    addField(fieldStart, index);
+                    separatorCount++;
+                    fieldStart = ++index;
+                }
+            } else {
+                long separatorPattern = (fieldSeparator & 0xFFL) * LANES;
+                long quotePattern = (QUOTE & 0xFFL) * LANES;
+                int quotesSeen = 0;
+                int index = from;
+                for (; index + Long.BYTES <= to; index += Long.BYTES) {
+                    long word = (long) WORD.get(buffer, index);
+                    long matches = matchingLanes(word ^ separatorPattern) | matchingLanes(word ^ quotePattern);
+                    while (matches != 0) {
+                        int matchIndex = index + (Long.numberOfTrailingZeros(matches) >>> 3);
+                        matches &= matches - 1;
+                        if (buffer[matchIndex] == QUOTE) {
+                            quotesSeen++;
+                        } else if (((quoteCount - quotesSeen) & 1) == 0) {
+                            addField(fieldStart, matchIndex);
+                            separatorCount++;
+                            fieldStart = matchIndex + 1;
+                        }
+                    }
+                }
+                for (; index < to; index++) {
+                    if (buffer[index] == QUOTE) {
+                        quotesSeen++;
+                    } else if (buffer[index] == fieldSeparator && ((quoteCount - quotesSeen) & 1) == 0) {
+                        addField(fieldStart, index);
+                        separatorCount++;
+                        fieldStart = index + 1;
+                    }
+                }
+            }
+            addField(fieldStart, to);
+            if (separatorCount > 0) {
+                while (size > 0 && starts[size - 1] == ends[size - 1]) {
+                    size--;
+                }
+            }
+            if (unquote) {
+                for (int i = 0; i < size; i++) {
+                    removeQuotes(i);
+                }
+            }
+        }
+
+        private void addField(int start, int end) {
+            if (size == starts.length) {
+                starts = Arrays.copyOf(starts, size * 2);
+                ends = Arrays.copyOf(ends, size * 2);
+            }
+            starts[size] = start;
+            ends[size] = end;
+            size++;
+        }
+
+        private void removeQuotes(int index) {
+            int start = starts[index];
+            int end = ends[index];
+            if (end - start >= 2 && buffer[start] == QUOTE && buffer[end - 1] == QUOTE &&
+                    indexOf(QUOTE, start + 1, end - 1) < 0) {
+                starts[index] = start + 1;
+                ends[index] = end - 1;
+            }
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public String getField(int index) {
+            Objects.checkIndex(index, size);
+            return new String(buffer, starts[index], ends[index] - starts[index], charset);
+        }
+
+        @Override
+        public boolean isEmpty(int index) {
+            Objects.checkIndex(index, size);
+            return starts[index] == ends[index];
+        }
+
+        @Override
+        public long getInt(int index) {
+            Objects.checkIndex(index, size);
+            int start = starts[index];
+            int end = ends[index];
+            boolean negative = start < end && buffer[start] == '-';
+            int digitStart = start < end && (buffer[start] == '-' || buffer[start] == '+') ? start + 1 : start;
+            //Up to 18 digits can not overflow a long
+            if (digitStart < end && end - digitStart <= 18) {
+                long value = 0;
+                int i = digitStart;
+                while (i < end && buffer[i] >= '0' && buffer[i] <= '9') {
+                    value = value * 10 + (buffer[i++] - '0');
+                }
+                if (i == end) {
+                    return negative ? -value : value;
+                }
+            }
+            return Long.parseLong(getField(index));
+        }
+
+        @Override
+        public boolean getBoolean(int index) {
+            Objects.checkIndex(index, size);
+            int start = starts[index];
+            if (ends[index] - start != 4) {
+                return DelimitedRecord.super.getBoolean(index);
+            }
+            return (buffer[start] | 0x20) == 't' && (buffer[start + 1] | 0x20) == 'r' &&
+                    (buffer[start + 2] | 0x20) == 'u' && (buffer[start + 3] | 0x20) == 'e';
+        }
+    }
+}
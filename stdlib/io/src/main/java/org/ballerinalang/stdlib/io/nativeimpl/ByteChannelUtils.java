@@ -124,10 +124,13 @@ public class ByteChannelUtils extends AbstractNativeChannel {
         }
     }
 
-    public static Object openReadableFile(BString pathUrl) {
+    public static Object openReadableFile(BString pathUrl, long mappingWindow) {
+        if (mappingWindow < 0 || mappingWindow > Integer.MAX_VALUE) {
+            return IOUtils.createError("invalid mapping window size: " + mappingWindow);
+        }
         Object channel;
         try {
-            channel = createChannel(inFlow(pathUrl.getValue()));
+            channel = createChannel(inFlow(pathUrl.getValue(), mappingWindow));
         } catch (BallerinaIOException e) {
             channel = IOUtils.createError(e);
         } catch (BError e) {
@@ -155,10 +158,11 @@ public class ByteChannelUtils extends AbstractNativeChannel {
         }
     }
 
-    private static Channel inFlow(String pathUrl) throws BallerinaIOException {
+    private static Channel inFlow(String pathUrl, long mappingWindow) throws BallerinaIOException {
         Path path = Paths.get(pathUrl);
         FileChannel fileChannel = IOUtils.openFileChannelExtended(path, READ_ACCESS_MODE);
-        Channel channel = new FileIOChannel(fileChannel);
+        Channel channel = mappingWindow > 0 ? new FileIOChannel(fileChannel, mappingWindow) :
+                new FileIOChannel(fileChannel);
         channel.setReadable(true);
         return channel;
     }
@@ -32,6 +32,7 @@ import io.ballerina.runtime.api.values.BError;
 import io.ballerina.runtime.api.values.BObject;
 import io.ballerina.runtime.api.values.BTable;
 import io.ballerina.runtime.api.values.BTypedesc;
+import org.ballerinalang.stdlib.io.channels.base.DelimitedRecord;
 import org.ballerinalang.stdlib.io.channels.base.DelimitedRecordChannel;
 import org.ballerinalang.stdlib.io.utils.BallerinaIOException;
 import org.ballerinalang.stdlib.io.utils.IOConstants;
@@ -39,7 +40,6 @@ import org.ballerinalang.stdlib.io.utils.IOUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -67,18 +67,15 @@ public class GetTable {
             if (delimitedChannel.hasReachedEnd()) {
                 return IOUtils.createEoFError();
             }
-            List<String[]> records = new ArrayList<>();
-            while (delimitedChannel.hasNext()) {
-                records.add(delimitedChannel.read());
-            }
-            return getTable(bTypedesc, key, records);
+            return getTable(bTypedesc, key, delimitedChannel);
         } catch (BallerinaIOException | BError e) {
             String msg = "failed to process the delimited file: " + e.getMessage();
             return IOUtils.createError(msg);
         }
     }
 
-    private static BTable getTable(BTypedesc bTypedesc, BArray key, List<String[]> records) {
+    private static BTable getTable(BTypedesc bTypedesc, BArray key, DelimitedRecordChannel delimitedChannel)
+            throws BallerinaIOException {
         Type describingType = bTypedesc.getDescribingType();
         TableType newTableType;
         if (key.size() == 0) {
@@ -88,8 +85,9 @@ public class GetTable {
         }
         BTable table = ValueCreator.createTableValue(newTableType);
         StructureType structType = (StructureType) describingType;
-        for (String[] fields : records) {
-            final Map<String, Object> struct = getStruct(fields, structType);
+        //Each record is converted as it is read, since it is only valid until the next record is read
+        while (delimitedChannel.hasNext()) {
+            final Map<String, Object> struct = getStruct(delimitedChannel.readDelimitedRecord(), structType);
             if (struct != null) {
                 table.add(ValueCreator.createRecordValue(describingType.getPackage(), describingType.getName(),
                                                          struct));
@@ -98,40 +96,40 @@ public class GetTable {
         return table;
     }
 
-    private static Map<String, Object> getStruct(String[] fields, final StructureType structType) {
+    private static Map<String, Object> getStruct(DelimitedRecord fields, final StructureType structType) {
         Map<String, Field> internalStructFields = structType.getFields();
         int fieldLength = internalStructFields.size();
         Map<String, Object> struct = null;
-        if (fields.length > 0) {
+        if (fields.size() > 0) {
             Iterator<Map.Entry<String, Field>> itr = internalStructFields.entrySet().iterator();
             struct = new HashMap();
             for (int i = 0; i < fieldLength; i++) {
                 final Field internalStructField = itr.next().getValue();
                 final int type = internalStructField.getFieldType().getTag();
                 String fieldName = internalStructField.getFieldName();
-                if (fields.length > i) {
-                    String value = fields[i];
+                if (fields.size() > i) {
                     switch (type) {
                         case TypeTags.INT_TAG:
                         case TypeTags.FLOAT_TAG:
                         case TypeTags.STRING_TAG:
                         case TypeTags.BOOLEAN_TAG:
-                            populateRecord(type, struct, fieldName, value);
+                            populateRecord(type, struct, fieldName, fields, i);
                             break;
                         case TypeTags.UNION_TAG:
                             List<Type> members = ((UnionType) internalStructField.getFieldType()).getMemberTypes();
                             if (members.get(0).getTag() == TypeTags.NULL_TAG) {
-                                populateRecord(members.get(1).getTag(), struct, fieldName, value);
+                                populateRecord(members.get(1).getTag(), struct, fieldName, fields, i);
                             } else if (members.get(1).getTag() == TypeTags.NULL_TAG) {
-                                populateRecord(members.get(0).getTag(), struct, fieldName, value);
+                                populateRecord(members.get(0).getTag(), struct, fieldName, fields, i);
                             } else {
-                                throw IOUtils.createError("unsupported nillable field for value: " + value);
+                                throw IOUtils.createError("unsupported nillable field for value: " +
+                                                                  fields.getField(i));
                             }
                             break;
                         default:
                             throw IOUtils.createError(
                                     "type casting support only for int, float, boolean and string. "
-                                            + "Invalid value for the struct field: " + value);
+                                            + "Invalid value for the struct field: " + fields.getField(i));
                     }
                 } else {
                     struct.put(fieldName, null);
@@ -141,23 +139,24 @@ public class GetTable {
         return struct;
     }
 
-    private static void populateRecord(int type, Map<String, Object> struct, String fieldName, String value) {
+    private static void populateRecord(int type, Map<String, Object> struct, String fieldName,
+                                       DelimitedRecord fields, int index) {
         switch (type) {
             case TypeTags.INT_TAG:
-                struct.put(fieldName, (value == null || value.isEmpty()) ? null : Long.parseLong(value));
+                struct.put(fieldName, fields.isEmpty(index) ? null : fields.getInt(index));
                 return;
             case TypeTags.FLOAT_TAG:
-                struct.put(fieldName, (value == null || value.isEmpty()) ? null : Double.parseDouble(value));
+                struct.put(fieldName, fields.isEmpty(index) ? null : Double.parseDouble(fields.getField(index)));
                 break;
             case TypeTags.STRING_TAG:
-                struct.put(fieldName, value);
+                struct.put(fieldName, fields.getField(index));
                 break;
             case TypeTags.BOOLEAN_TAG:
-                struct.put(fieldName, (value == null || value.isEmpty()) ? null : (Boolean.parseBoolean(value)));
+                struct.put(fieldName, fields.isEmpty(index) ? null : fields.getBoolean(index));
                 break;
             default:
                 throw IOUtils.createError("type casting support only for int, float, boolean and string. "
-                        + "Invalid value for the struct field: " + value);
+                        + "Invalid value for the struct field: " + fields.getField(index));
         }
     }
 }
@@ -18,6 +18,7 @@
 package org.ballerinalang.stdlib.io.bytes;
 
 import org.ballerinalang.stdlib.io.MockByteChannel;
+import org.ballerinalang.stdlib.io.channels.FileIOChannel;
 import org.ballerinalang.stdlib.io.channels.base.Buffer;
 import org.ballerinalang.stdlib.io.channels.base.Channel;
 import org.ballerinalang.stdlib.io.util.TestUtil;
@@ -31,8 +32,13 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.net.URISyntaxException;
+import java.net.URL;
 import java.nio.ByteBuffer;
 import java.nio.channels.ByteChannel;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.stream.Collectors;
 
 /**
@@ -251,6 +257,22 @@ public class BytesInputOutputBufferTest {
         Assert.assertEquals(numberOfBytesWritten, bytes.length);
     }
 
+    @Test(description = "Read a file through memory mapped windows")
+    public void readMappedFile() throws IOException, URISyntaxException {
+        final int mappingWindow = 4096;
+        URL fileResource = getClass().getClassLoader().getResource("datafiles/io/images/ballerina.png");
+        byte[] expectedBytes = Files.readAllBytes(Paths.get(fileResource.toURI()));
+        FileChannel fileChannel = (FileChannel) TestUtil.openForReading("datafiles/io/images/ballerina.png");
+        Channel channel = new FileIOChannel(fileChannel, mappingWindow);
+        ReadByteResult readByteResult = read(expectedBytes.length + 1, channel);
+
+        Assert.assertEquals(readByteResult.getNumberOfBytesRead(), expectedBytes.length);
+        Assert.assertEquals(Arrays.copyOf(readByteResult.getContent(), expectedBytes.length), expectedBytes);
+        Assert.assertEquals(fileChannel.position(), expectedBytes.length);
+        Assert.assertTrue(channel.hasReachedEnd());
+        channel.close();
+    }
+
     @Test(description = "Get content via InputStream")
     public void getContentViaInputStream() throws IOException, URISyntaxException {
         ByteChannel byteChannel = TestUtil.openForReading("datafiles/io/text/6charfile.txt");
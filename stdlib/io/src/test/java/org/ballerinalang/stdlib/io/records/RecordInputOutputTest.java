@@ -20,7 +20,9 @@ package org.ballerinalang.stdlib.io.records;
 import org.ballerinalang.stdlib.io.MockByteChannel;
 import org.ballerinalang.stdlib.io.channels.base.Channel;
 import org.ballerinalang.stdlib.io.channels.base.CharacterChannel;
+import org.ballerinalang.stdlib.io.channels.base.DelimitedRecord;
 import org.ballerinalang.stdlib.io.channels.base.DelimitedRecordChannel;
+import org.ballerinalang.stdlib.io.csv.Format;
 import org.ballerinalang.stdlib.io.util.TestUtil;
 import org.ballerinalang.stdlib.io.utils.BallerinaIOException;
 import org.testng.Assert;
@@ -144,6 +146,27 @@ public class RecordInputOutputTest {
         recordChannel.close();
     }
 
+    @Test(description = "Read CSV records with quoted fields")
+    public void readQuotedRecords() throws IOException, URISyntaxException, BallerinaIOException {
+        ByteChannel byteChannel = TestUtil.openForReading("datafiles/io/records/sampleRfc.csv");
+        Channel channel = new MockByteChannel(byteChannel);
+        CharacterChannel characterChannel = new CharacterChannel(channel, StandardCharsets.UTF_8.name());
+        DelimitedRecordChannel recordChannel = new DelimitedRecordChannel(characterChannel, Format.CSV);
+
+        Assert.assertEquals(recordChannel.read(), new String[]{"User1,12", "WSO2", "07xxxxxx"});
+        Assert.assertEquals(recordChannel.read(), new String[]{"User2", "WSO2,Colombo", "07xxxxxxx"});
+        Assert.assertEquals(recordChannel.read(), new String[]{"User3", "WSO2", "07xxxxxxx,SL"});
+
+        DelimitedRecord record = recordChannel.readDelimitedRecord();
+        Assert.assertEquals(record.size(), 3);
+        Assert.assertTrue(record.isEmpty(1));
+        Assert.assertEquals(record.getField(2), "123xxxxx");
+        Assert.assertFalse(recordChannel.hasNext());
+        Assert.assertTrue(recordChannel.hasReachedEnd());
+
+        recordChannel.close();
+    }
+
     @Test(description = "Writes records to channel")
     public void writeRecords() throws IOException {
         //Number of characters in this file would be 6
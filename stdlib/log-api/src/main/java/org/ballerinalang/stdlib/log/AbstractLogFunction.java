@@ -26,6 +26,8 @@ import org.ballerinalang.logging.util.BLogLevel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.Supplier;
 import java.util.logging.LogManager;
@@ -41,12 +43,16 @@ public abstract class AbstractLogFunction {
 
     private static final Logger ballerinaRootLogger = LoggerFactory.getLogger(BLogManager.BALLERINA_ROOT_LOGGER_NAME);
 
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+    private static final Map<String, String> PACKAGE_PATHS = new ConcurrentHashMap<>();
+    private static final Map<String, Logger> LOGGERS = new ConcurrentHashMap<>();
+
     protected static Logger getLogger(String pkg) {
         if (".".equals(pkg) || pkg == null) {
             return ballerinaRootLogger;
         } else {
-            // TODO: Refactor this later
-            return LoggerFactory.getLogger(ballerinaRootLogger.getName() + "." + pkg);
+            return LOGGERS.computeIfAbsent(pkg, module ->
+                    LoggerFactory.getLogger(ballerinaRootLogger.getName() + "." + module));
         }
     }
 
@@ -82,8 +88,41 @@ public abstract class AbstractLogFunction {
         ObserveUtils.logMessageToActiveSpan(logLevel.name(), logMessage, logLevel == BLogLevel.ERROR);
     }
 
+    /**
+     * Returns the package of the Ballerina function which called the log function calling this method.
+     *
+     * @return package path
+     */
     static String getPackagePath() {
-        String className = Thread.currentThread().getStackTrace()[4].getClassName();
+        return getCallerPackagePath();
+    }
+
+    /**
+     * Returns the package of the Ballerina function which called the log function calling this method, if logging at
+     * the given level is enabled for it. The call stack is not walked if the log level is disabled for all the
+     * packages.
+     *
+     * @param logLevel log level
+     * @return package path, or null if the log level is disabled
+     */
+    static String getPackagePathIfEnabled(BLogLevel logLevel) {
+        if (LOG_MANAGER.isModuleLogLevelEnabled()) {
+            String pkg = getCallerPackagePath();
+            return LOG_MANAGER.getPackageLogLevel(pkg).value() <= logLevel.value() ? pkg : null;
+        }
+        return LOG_MANAGER.getPackageLogLevel(".").value() <= logLevel.value() ? getCallerPackagePath() : null;
+    }
+
+    private static String getCallerPackagePath() {
+        // Skips this method, the method calling it, the log function and its interop wrapper. Only those frames are
+        // walked, and the package path of each caller class is computed once.
+        String className = STACK_WALKER.walk(frames -> frames.skip(4).findFirst()
+                .map(StackWalker.StackFrame::getClassName))
+                .orElse("");
+        return PACKAGE_PATHS.computeIfAbsent(className, AbstractLogFunction::toPackagePath);
+    }
+
+    private static String toPackagePath(String className) {
         String[] pkgData = className.split("\\.");
         if (pkgData.length > 1) {
             return pkgData[0] + "/" + pkgData[1];
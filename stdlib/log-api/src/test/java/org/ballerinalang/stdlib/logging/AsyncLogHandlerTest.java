@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.logging;
+
+import org.ballerinalang.logging.handlers.AsyncLogHandler;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * Test cases for AsyncLogHandler.
+ */
+public class AsyncLogHandlerTest {
+
+    @Test(description = "Test records published from several threads are all written in order per thread")
+    public void testPublishFromThreads() throws InterruptedException {
+        RecordingHandler recordingHandler = new RecordingHandler(null);
+        AsyncLogHandler asyncLogHandler = new AsyncLogHandler(recordingHandler, 64,
+                                                              AsyncLogHandler.OverflowPolicy.BLOCK);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            String prefix = "thread" + i + ":";
+            Thread thread = new Thread(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    asyncLogHandler.publish(new LogRecord(Level.INFO, prefix + j));
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        asyncLogHandler.flush();
+
+        List<String> messages = recordingHandler.getMessages();
+        Assert.assertEquals(messages.size(), 4000);
+        int[] next = new int[4];
+        for (String message : messages) {
+            int thread = message.charAt("thread".length()) - '0';
+            Assert.assertEquals(message, "thread" + thread + ":" + next[thread]++);
+        }
+        Assert.assertTrue(recordingHandler.flushCount > 0);
+        asyncLogHandler.close();
+    }
+
+    @Test(description = "Test records are dropped when the buffer is full, except the severe ones")
+    public void testDropOnOverflow() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        RecordingHandler recordingHandler = new RecordingHandler(latch);
+        AsyncLogHandler asyncLogHandler = new AsyncLogHandler(recordingHandler, 4, AsyncLogHandler.OverflowPolicy.DROP);
+        for (int i = 0; i < 100; i++) {
+            asyncLogHandler.publish(new LogRecord(Level.INFO, "info" + i));
+        }
+        Thread errorLogger = new Thread(() -> asyncLogHandler.publish(new LogRecord(Level.SEVERE, "error")));
+        errorLogger.start();
+        latch.countDown();
+        errorLogger.join();
+        asyncLogHandler.flush();
+
+        List<String> messages = recordingHandler.getMessages();
+        Assert.assertTrue(asyncLogHandler.getDroppedCount() > 0);
+        Assert.assertTrue(messages.contains("error"));
+        Assert.assertTrue(messages.stream().anyMatch(message -> message.endsWith(
+                "log messages were dropped since the log buffer was full")));
+        asyncLogHandler.close();
+    }
+
+    /**
+     * A handler which records the published messages, optionally waiting for a latch before the first one.
+     */
+    private static class RecordingHandler extends Handler {
+
+        private final List<String> messages = new ArrayList<>();
+        private final CountDownLatch latch;
+        private volatile int flushCount;
+
+        RecordingHandler(CountDownLatch latch) {
+            this.latch = latch;
+        }
+
+        @Override
+        public synchronized void publish(LogRecord record) {
+            if (latch != null) {
+                try {
+                    latch.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            messages.add(record.getMessage());
+        }
+
+        @Override
+        public void flush() {
+            flushCount++;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        synchronized List<String> getMessages() {
+            return new ArrayList<>(messages);
+        }
+    }
+}
@@ -402,6 +402,26 @@ public class Entity {
         return externGetBodyParts(self);
     }
 
+    # Gets the body parts from a given entity as a stream. The body parts are decoded one at a time as they are
+    # read from the stream, so only the body part being read is held by the stream. The content of a body part,
+    # which is larger than the given threshold, is written to a temporary file instead of being kept in memory. The
+    # temporary file is deleted once the byte channel of the body part is closed.
+    # ```ballerina
+    # stream<mime:Entity, mime:ParserError>|mime:ParserError bodyParts = mimeEntity.getBodyPartsAsStream();
+    # ```
+    #
+    # + spillThreshold - Size of the content of a body part in bytes, above which it is written to a temporary file
+    # + return - A stream of body parts extracted from the entity body or else a `mime:ParserError` if the entity
+    #            body is not a set of the body parts
+    public function getBodyPartsAsStream(int spillThreshold = 1048576) returns stream<Entity, ParserError>|ParserError {
+        BodyPartIterator iterator = new;
+        ParserError? result = externInitBodyPartIterator(self, iterator, spillThreshold);
+        if (result is ParserError) {
+            return result;
+        }
+        return new stream<Entity, ParserError>(iterator);
+    }
+
     # Gets the body parts as a byte channel from a given entity.
     #
     # + return - Body parts as a byte channel
@@ -595,6 +615,38 @@ function externGetBodyPartsAsChannel(Entity entity) returns @tainted io:Readable
     name: "getBodyPartsAsChannel"
 } external;
 
+# Iterator of the body parts of a multipart entity body, which decodes the next body part when it is requested.
+class BodyPartIterator {
+
+    public isolated function next() returns record {| Entity value; |}|ParserError? {
+        Entity|ParserError? bodyPart = externGetNextBodyPart(self);
+        if (bodyPart is Entity) {
+            return {value: bodyPart};
+        }
+        return bodyPart;
+    }
+
+    public isolated function close() returns ParserError? {
+        return externCloseBodyPartIterator(self);
+    }
+}
+
+function externInitBodyPartIterator(Entity entity, BodyPartIterator iterator, int spillThreshold)
+                                    returns ParserError? = @java:Method {
+    'class: "org.ballerinalang.mime.nativeimpl.MimeEntityBody",
+    name: "initBodyPartIterator"
+} external;
+
+isolated function externGetNextBodyPart(BodyPartIterator iterator) returns Entity|ParserError? = @java:Method {
+    'class: "org.ballerinalang.mime.nativeimpl.MimeEntityBody",
+    name: "getNextBodyPart"
+} external;
+
+isolated function externCloseBodyPartIterator(BodyPartIterator iterator) returns ParserError? = @java:Method {
+    'class: "org.ballerinalang.mime.nativeimpl.MimeEntityBody",
+    name: "closeBodyPartIterator"
+} external;
+
 # **Deprecated API**. Encodes a given input with MIME specific Base64 encoding scheme.
 #
 # + contentToBeEncoded - Content that needs to be encoded can be of type `string`, `byte[]` or `io:ReadableByteChannel`
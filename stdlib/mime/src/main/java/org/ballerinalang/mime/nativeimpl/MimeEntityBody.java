@@ -29,6 +29,7 @@ import org.ballerinalang.mime.util.EntityWrapper;
 import org.ballerinalang.mime.util.HeaderUtil;
 import org.ballerinalang.mime.util.MimeUtil;
 import org.ballerinalang.mime.util.MultipartDataSource;
+import org.ballerinalang.mime.util.MultipartStreamDecoder;
 import org.ballerinalang.stdlib.io.channels.base.Channel;
 import org.ballerinalang.stdlib.io.utils.IOConstants;
 import org.slf4j.Logger;
@@ -43,6 +44,7 @@ import static org.ballerinalang.mime.util.HeaderUtil.isMultipart;
 import static org.ballerinalang.mime.util.MimeConstants.APPLICATION_JSON;
 import static org.ballerinalang.mime.util.MimeConstants.APPLICATION_XML;
 import static org.ballerinalang.mime.util.MimeConstants.BODY_PARTS;
+import static org.ballerinalang.mime.util.MimeConstants.BODY_PART_DECODER;
 import static org.ballerinalang.mime.util.MimeConstants.ENTITY_BYTE_CHANNEL;
 import static org.ballerinalang.mime.util.MimeConstants.INVALID_CONTENT_TYPE_ERROR;
 import static org.ballerinalang.mime.util.MimeConstants.MEDIA_TYPE;
@@ -98,6 +100,64 @@ public class MimeEntityBody {
         }
     }
 
+    public static Object initBodyPartIterator(BObject entityObj, BObject iterator, long spillThreshold) {
+        try {
+            String contentType = getContentTypeWithParameters(entityObj);
+            if (!isMultipart(contentType)) {
+                return MimeUtil.createError(PARSER_ERROR, "Entity body is not a type of multipart media type. " +
+                        "Received content-type : " + contentType);
+            }
+            String boundary = HeaderUtil.extractBoundaryParameter(contentType);
+            if (boundary == null) {
+                return MimeUtil.createError(PARSER_ERROR, "Boundary parameter is not available in the " +
+                        "content-type : " + contentType);
+            }
+            Channel byteChannel = EntityBodyHandler.getByteChannel(entityObj);
+            if (byteChannel == null) {
+                return MimeUtil.createError(PARSER_ERROR, "Byte channel is not available to decode the body " +
+                        "parts from");
+            }
+            iterator.addNativeData(BODY_PART_DECODER, new MultipartStreamDecoder(byteChannel, boundary,
+                                                                                 spillThreshold));
+            //Set byte channel that belongs to parent entity to null, as the body parts are decoded from it
+            entityObj.addNativeData(ENTITY_BYTE_CHANNEL, null);
+            return null;
+        } catch (Throwable err) {
+            return MimeUtil.createError(PARSER_ERROR,
+                                        "Error occurred while extracting body parts from entity: " + getErrorMsg(err));
+        }
+    }
+
+    public static Object getNextBodyPart(BObject iterator) {
+        MultipartStreamDecoder decoder = (MultipartStreamDecoder) iterator.getNativeData(BODY_PART_DECODER);
+        try {
+            return decoder.nextBodyPart();
+        } catch (Throwable err) {
+            closeBodyPartDecoder(decoder);
+            return MimeUtil.createError(PARSER_ERROR,
+                                        "Error occurred while extracting body parts from entity: " + getErrorMsg(err));
+        }
+    }
+
+    public static Object closeBodyPartIterator(BObject iterator) {
+        MultipartStreamDecoder decoder = (MultipartStreamDecoder) iterator.getNativeData(BODY_PART_DECODER);
+        try {
+            decoder.close();
+            return null;
+        } catch (Throwable err) {
+            return MimeUtil.createError(PARSER_ERROR,
+                                        "Error occurred while closing the body part stream: " + getErrorMsg(err));
+        }
+    }
+
+    private static void closeBodyPartDecoder(MultipartStreamDecoder decoder) {
+        try {
+            decoder.close();
+        } catch (Throwable err) {
+            log.error("Error occurred while closing the body part stream", err);
+        }
+    }
+
     public static Object getBodyPartsAsChannel(BObject entityObj) {
         try {
             String contentType = getContentTypeWithParameters(entityObj);
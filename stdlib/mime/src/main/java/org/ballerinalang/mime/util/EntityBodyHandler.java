@@ -43,6 +43,7 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
@@ -51,6 +52,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -159,12 +161,32 @@ public class EntityBodyHandler {
             return (BArray) ValueCreator.createArrayValue(new byte[0]);
         }
         try {
+            if (byteChannel.getByteChannel() instanceof FileChannel) {
+                // The size of a file is known, so it is read directly into an array of that size
+                byte[] byteData = readFileChannel((FileChannel) byteChannel.getByteChannel());
+                if (byteData != null) {
+                    return (BArray) ValueCreator.createArrayValue(byteData);
+                }
+            }
             return constructBlobDataSource(byteChannel.getInputStream());
         } finally {
             closeByteChannel(byteChannel);
         }
     }
 
+    private static byte[] readFileChannel(FileChannel fileChannel) throws IOException {
+        long size = fileChannel.size() - fileChannel.position();
+        if (size > Integer.MAX_VALUE - 8) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate((int) size);
+        int read = 0;
+        while (buffer.hasRemaining() && read >= 0) {
+            read = fileChannel.read(buffer);
+        }
+        return buffer.hasRemaining() ? Arrays.copyOf(buffer.array(), buffer.position()) : buffer.array();
+    }
+
     /**
      * Construct BlobDataSource from the underneath byte channel which is associated with the entity object.
      *
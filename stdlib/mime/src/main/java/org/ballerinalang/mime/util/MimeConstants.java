@@ -124,6 +124,7 @@ public class MimeConstants {
     public static final String ENTITY_BYTE_CHANNEL = "entity_byte_channel";
     public static final String MULTIPART_ENCODER = "MultipartEncoder";
     public static final String BODY_PARTS = "body_parts";
+    public static final String BODY_PART_DECODER = "body_part_decoder";
     public static final String TRANSPORT_MESSAGE = "transport_message";
     public static final String PARSE_AS_JSON = "PARSE_AS_TEXT";
 
@@ -21,6 +21,7 @@ package org.ballerinalang.mime.util;
 import io.ballerina.runtime.api.creators.ValueCreator;
 import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BObject;
+import org.jvnet.mimepull.Header;
 import org.jvnet.mimepull.MIMEConfig;
 import org.jvnet.mimepull.MIMEMessage;
 import org.jvnet.mimepull.MIMEPart;
@@ -28,6 +29,7 @@ import org.jvnet.mimepull.MIMEPart;
 import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import javax.activation.MimeType;
 import javax.activation.MimeTypeParseException;
@@ -132,17 +134,38 @@ public class MultipartDecoder {
      */
     private static void populateBodyPart(MIMEPart mimePart, BObject partStruct,
                                          BObject mediaType) {
-        EntityHeaderHandler.populateBodyPartHeaders(partStruct, mimePart.getAllHeaders());
-        populateContentLength(mimePart, partStruct);
-        populateContentId(mimePart, partStruct);
-        populateContentType(mimePart, partStruct, mediaType);
-        List<String> contentDispositionHeaders = mimePart.getHeader(MimeConstants.CONTENT_DISPOSITION);
+        populateBodyPartHeaders(partStruct, mediaType, mimePart.getAllHeaders(), mimePart.getContentType(),
+                                mimePart.getContentId());
+        EntityBodyHandler.populateBodyContent(partStruct, mimePart);
+    }
+
+    /**
+     * Populate ballerina body part with header info.
+     *
+     * @param partStruct  Represent a ballerina body part that needs to be filled with data
+     * @param mediaType   Represent the content type of the body part
+     * @param headers     Headers of the body part
+     * @param contentType Content-Type of the body part
+     * @param contentId   Content-ID of the body part
+     */
+    static void populateBodyPartHeaders(BObject partStruct, BObject mediaType, List<? extends Header> headers,
+                                        String contentType, String contentId) {
+        EntityHeaderHandler.populateBodyPartHeaders(partStruct, headers);
+        populateContentLength(headers, partStruct);
+        populateContentId(contentId, partStruct);
+        populateContentType(contentType, partStruct, mediaType);
+        List<String> contentDispositionHeaders = getHeader(headers, MimeConstants.CONTENT_DISPOSITION);
         if (HeaderUtil.isHeaderExist(contentDispositionHeaders)) {
             BObject contentDisposition = ValueCreator.createObjectValue(PROTOCOL_MIME_PKG_ID,
                                                                         CONTENT_DISPOSITION_STRUCT);
             populateContentDisposition(partStruct, contentDispositionHeaders, contentDisposition);
         }
-        EntityBodyHandler.populateBodyContent(partStruct, mimePart);
+    }
+
+    private static List<String> getHeader(List<? extends Header> headers, String headerName) {
+        List<String> values = headers.stream().filter(header -> header.getName().equalsIgnoreCase(headerName))
+                .map(Header::getValue).collect(Collectors.toList());
+        return values.isEmpty() ? null : values;
     }
 
     private static void populateContentDisposition(BObject partStruct,
@@ -152,16 +175,16 @@ public class MultipartDecoder {
                 .get(FIRST_ELEMENT));
     }
 
-    private static void populateContentType(MIMEPart mimePart, BObject partStruct, BObject mediaType) {
-        MimeUtil.setContentType(mediaType, partStruct, mimePart.getContentType());
+    private static void populateContentType(String contentType, BObject partStruct, BObject mediaType) {
+        MimeUtil.setContentType(mediaType, partStruct, contentType);
     }
 
-    private static void populateContentId(MIMEPart mimePart, BObject partStruct) {
-        partStruct.set(CONTENT_ID_FIELD, StringUtils.fromString(mimePart.getContentId()));
+    private static void populateContentId(String contentId, BObject partStruct) {
+        partStruct.set(CONTENT_ID_FIELD, StringUtils.fromString(contentId));
     }
 
-    private static void populateContentLength(MIMEPart mimePart, BObject partStruct) {
-        List<String> lengthHeaders = mimePart.getHeader(MimeConstants.CONTENT_LENGTH);
+    private static void populateContentLength(List<? extends Header> headers, BObject partStruct) {
+        List<String> lengthHeaders = getHeader(headers, MimeConstants.CONTENT_LENGTH);
         if (HeaderUtil.isHeaderExist(lengthHeaders)) {
             MimeUtil.setContentLength(partStruct, Integer.parseInt(lengthHeaders.get(FIRST_ELEMENT)));
         } else {
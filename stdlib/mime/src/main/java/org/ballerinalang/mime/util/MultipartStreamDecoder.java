@@ -0,0 +1,377 @@
+/*
+*  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+
+package org.ballerinalang.mime.util;
+
+import io.ballerina.runtime.api.creators.ValueCreator;
+import io.ballerina.runtime.api.values.BObject;
+import org.ballerinalang.stdlib.io.channels.base.Channel;
+import org.jvnet.mimepull.Header;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.ballerinalang.mime.util.MimeConstants.ENTITY;
+import static org.ballerinalang.mime.util.MimeConstants.ENTITY_BYTE_CHANNEL;
+import static org.ballerinalang.mime.util.MimeConstants.MEDIA_TYPE;
+import static org.ballerinalang.mime.util.MimeConstants.PROTOCOL_MIME_PKG_ID;
+import static org.ballerinalang.mime.util.MimeConstants.READABLE_BUFFER_SIZE;
+import static org.ballerinalang.mime.util.MimeConstants.TEMP_FILE_EXTENSION;
+import static org.ballerinalang.mime.util.MimeConstants.TEMP_FILE_NAME;
+
+/**
+ * Decodes the body parts of a multipart body one at a time, as they are read from the byte channel of the body.
+ * <p>
+ * Only the body part being decoded is held by the decoder. The content of a body part is kept in memory if it is not
+ * larger than the spill threshold, and is written to a temporary file otherwise, which is deleted once the byte
+ * channel of the body part is closed. The content is not decoded according to the Content-Transfer-Encoding header.
+ *
+ * @since 2.0.0
+ */
+public class MultipartStreamDecoder implements Closeable {
+
+    private static final int MAX_HEADER_SIZE = 16384;
+
+    private final Channel channel;
+    private final InputStream inputStream;
+    private final byte[] delimiter;
+    private final long spillThreshold;
+    private final byte[] buffer;
+    private int position;
+    private int limit;
+    private boolean started;
+    private boolean finished;
+
+    /**
+     * Creates a decoder of a multipart body.
+     *
+     * @param channel        Byte channel of the multipart body, which is closed with the decoder
+     * @param boundary       Boundary of the body parts
+     * @param spillThreshold Size in bytes above which the content of a body part is written to a temporary file
+     * @throws IOException When the input stream of the channel cannot be obtained
+     */
+    public MultipartStreamDecoder(Channel channel, String boundary, long spillThreshold) throws IOException {
+        this(channel, channel.getInputStream(), boundary, spillThreshold);
+    }
+
+    MultipartStreamDecoder(Channel channel, InputStream inputStream, String boundary, long spillThreshold) {
+        this.channel = channel;
+        this.inputStream = inputStream;
+        this.delimiter = ("\r\n--" + boundary).getBytes(StandardCharsets.US_ASCII);
+        this.spillThreshold = spillThreshold;
+        this.buffer = new byte[Math.max(READABLE_BUFFER_SIZE, 2 * delimiter.length)];
+        // The first delimiter is not preceded by a line break when there is no preamble, so one is assumed
+        buffer[limit++] = '\r';
+        buffer[limit++] = '\n';
+    }
+
+    /**
+     * Decodes the next body part.
+     *
+     * @return the body part, or null if all the body parts have been decoded
+     * @throws IOException When the body part cannot be read or the multipart body is malformed
+     */
+    public BObject nextBodyPart() throws IOException {
+        DecodedPart part = readPart();
+        if (part == null) {
+            close();
+            return null;
+        }
+        BObject partStruct = ValueCreator.createObjectValue(PROTOCOL_MIME_PKG_ID, ENTITY);
+        BObject mediaType = ValueCreator.createObjectValue(PROTOCOL_MIME_PKG_ID, MEDIA_TYPE);
+        String contentType = getHeaderValue(part.headers, MimeConstants.CONTENT_TYPE);
+        String contentId = getHeaderValue(part.headers, MimeConstants.CONTENT_ID);
+        MultipartDecoder.populateBodyPartHeaders(partStruct, mediaType, part.headers, contentType,
+                                                 contentId != null ? contentId : "");
+        partStruct.addNativeData(ENTITY_BYTE_CHANNEL, part.content);
+        return partStruct;
+    }
+
+    /**
+     * Reads the headers and the content of the next body part.
+     *
+     * @return the body part, or null if all the body parts have been read
+     * @throws IOException When the body part cannot be read or the multipart body is malformed
+     */
+    DecodedPart readPart() throws IOException {
+        if (finished) {
+            return null;
+        }
+        if (!started) {
+            started = true;
+            if (!transferToDelimiter(null)) {
+                throw new IOException("Missing start boundary");
+            }
+        }
+        if (!ensure(2)) {
+            throw new IOException("Unexpected end of the multipart body");
+        }
+        if (buffer[position] == '-' && buffer[position + 1] == '-') {
+            finished = true;
+            return null;
+        }
+        // Skip the transport padding after the delimiter
+        readLine();
+        List<Header> headers = readHeaders();
+        PartContent content = new PartContent(spillThreshold);
+        try {
+            if (!transferToDelimiter(content)) {
+                throw new IOException("Missing end boundary");
+            }
+            return new DecodedPart(headers, content.toChannel());
+        } catch (IOException e) {
+            content.discard();
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        finished = true;
+        if (channel != null) {
+            channel.close();
+        } else {
+            inputStream.close();
+        }
+    }
+
+    private List<Header> readHeaders() throws IOException {
+        List<Header> headers = new ArrayList<>();
+        int headerSize = 0;
+        String line;
+        while (!(line = readLine()).isEmpty()) {
+            headerSize += line.length();
+            if (headerSize > MAX_HEADER_SIZE) {
+                throw new IOException("Body part headers exceed " + MAX_HEADER_SIZE + " bytes");
+            }
+            if ((line.charAt(0) == ' ' || line.charAt(0) == '\t') && !headers.isEmpty()) {
+                // A folded line continues the value of the previous header
+                PartHeader header = (PartHeader) headers.get(headers.size() - 1);
+                header.value = header.value + " " + line.trim();
+                continue;
+            }
+            int separatorIndex = line.indexOf(':');
+            if (separatorIndex <= 0) {
+                throw new IOException("Invalid body part header: " + line);
+            }
+            headers.add(new PartHeader(line.substring(0, separatorIndex).trim(),
+                                       line.substring(separatorIndex + 1).trim()));
+        }
+        return headers;
+    }
+
+    private String readLine() throws IOException {
+        int scanned = 0;
+        while (true) {
+            for (int i = position + scanned; i < limit; i++) {
+                if (buffer[i] == '\n') {
+                    int end = i > position && buffer[i - 1] == '\r' ? i - 1 : i;
+                    String line = new String(buffer, position, end - position, StandardCharsets.UTF_8);
+                    position = i + 1;
+                    return line;
+                }
+            }
+            scanned = limit - position;
+            if (scanned >= buffer.length) {
+                throw new IOException("Body part header line exceeds " + buffer.length + " bytes");
+            }
+            if (!fill()) {
+                throw new IOException("Unexpected end of the multipart body");
+            }
+        }
+    }
+
+    /**
+     * Passes the bytes up to the next delimiter to a sink, and skips the delimiter.
+     *
+     * @param sink Output stream to write the bytes to, or null if they should be skipped
+     * @return true if the delimiter was found, or false if the body ended before it
+     * @throws IOException When the bytes cannot be read or written
+     */
+    private boolean transferToDelimiter(OutputStream sink) throws IOException {
+        while (true) {
+            int index = indexOfDelimiter();
+            if (index >= 0) {
+                if (sink != null) {
+                    sink.write(buffer, position, index - position);
+                }
+                position = index + delimiter.length;
+                return true;
+            }
+            // The bytes which may be the start of a delimiter split across reads are kept in the buffer
+            int end = Math.max(position, limit - delimiter.length + 1);
+            if (sink != null) {
+                sink.write(buffer, position, end - position);
+            }
+            position = end;
+            if (!fill()) {
+                return false;
+            }
+        }
+    }
+
+    private int indexOfDelimiter() {
+        int last = limit - delimiter.length;
+        for (int i = position; i <= last; i++) {
+            if (buffer[i] == delimiter[0] && Arrays.equals(buffer, i, i + delimiter.length, delimiter, 0,
+                                                           delimiter.length)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private boolean ensure(int length) throws IOException {
+        while (limit - position < length) {
+            if (!fill()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean fill() throws IOException {
+        int remaining = limit - position;
+        System.arraycopy(buffer, position, buffer, 0, remaining);
+        position = 0;
+        limit = remaining;
+        int read = inputStream.read(buffer, limit, buffer.length - limit);
+        if (read < 0) {
+            return false;
+        }
+        limit += read;
+        return true;
+    }
+
+    private static String getHeaderValue(List<Header> headers, String headerName) {
+        for (Header header : headers) {
+            if (header.getName().equalsIgnoreCase(headerName)) {
+                return header.getValue();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Headers and content of a decoded body part.
+     */
+    static class DecodedPart {
+
+        final List<Header> headers;
+        final Channel content;
+
+        DecodedPart(List<Header> headers, Channel content) {
+            this.headers = headers;
+            this.content = content;
+        }
+    }
+
+    /**
+     * A body part header.
+     */
+    private static class PartHeader implements Header {
+
+        private final String name;
+        private String value;
+
+        PartHeader(String name, String value) {
+            this.name = name;
+            this.value = value;
+        }
+
+        @Override
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public String getValue() {
+            return value;
+        }
+    }
+
+    /**
+     * Content of a body part, which is kept in memory up to the spill threshold and moved to a temporary file when
+     * it grows larger.
+     */
+    private static class PartContent extends OutputStream {
+
+        private final long spillThreshold;
+        private byte[] data = new byte[256];
+        private int count;
+        private Path tempFile;
+        private OutputStream fileStream;
+
+        PartContent(long spillThreshold) {
+            this.spillThreshold = spillThreshold;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            if (fileStream == null && count + (long) length > spillThreshold) {
+                tempFile = Files.createTempFile(TEMP_FILE_NAME, TEMP_FILE_EXTENSION);
+                fileStream = Files.newOutputStream(tempFile);
+                fileStream.write(data, 0, count);
+                data = null;
+            }
+            if (fileStream != null) {
+                fileStream.write(bytes, offset, length);
+                return;
+            }
+            if (count + length > data.length) {
+                data = Arrays.copyOf(data, Math.max(data.length * 2, count + length));
+            }
+            System.arraycopy(bytes, offset, data, count, length);
+            count += length;
+        }
+
+        Channel toChannel() throws IOException {
+            if (fileStream != null) {
+                fileStream.close();
+                return EntityBodyHandler.getByteChannelForTempFile(tempFile.toString());
+            }
+            return new EntityWrapper(new EntityBodyChannel(new ByteArrayInputStream(data, 0, count)));
+        }
+
+        void discard() {
+            if (fileStream == null) {
+                return;
+            }
+            try {
+                fileStream.close();
+                Files.deleteIfExists(tempFile);
+            } catch (IOException e) {
+                // The temporary file is left behind, as the error of reading the body part is reported instead
+            }
+        }
+    }
+}
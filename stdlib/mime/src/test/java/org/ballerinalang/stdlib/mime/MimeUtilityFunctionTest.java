@@ -25,6 +25,7 @@ import io.ballerina.runtime.api.utils.StringUtils;
 import io.ballerina.runtime.api.values.BObject;
 import org.ballerinalang.core.model.util.JsonParser;
 import org.ballerinalang.core.model.util.XMLUtils;
+import org.ballerinalang.core.model.values.BInteger;
 import org.ballerinalang.core.model.values.BMap;
 import org.ballerinalang.core.model.values.BString;
 import org.ballerinalang.core.model.values.BValue;
@@ -691,6 +692,29 @@ public class MimeUtilityFunctionTest {
                 "Received content-type : application/json");
     }
 
+    @Test(description = "Test whether the body parts of a multipart entity can be retrieved as a stream, with the " +
+            "body parts kept in memory and written to temporary files")
+    public void testGetBodyPartsAsStream() {
+        for (long spillThreshold : new long[]{16, 1048576}) {
+            BValue[] returns = BRunUtil.invoke(compileResult, "testGetBodyPartsAsStream",
+                                               new BValue[]{new BInteger(spillThreshold)});
+            Assert.assertEquals(returns.length, 1);
+            BValueArray contents = (BValueArray) returns[0];
+            Assert.assertEquals(contents.size(), 2);
+            Assert.assertEquals(contents.getString(0), "Ballerina text body part");
+            Assert.assertEquals(contents.getString(1), "Ballerina text body part which is streamed");
+        }
+    }
+
+    @Test(description = "Test whether an error is returned when trying to stream body parts from an " +
+            "entity that has discrete media type content")
+    public void getBodyPartStreamFromDiscreteTypeEntity() {
+        BValue[] returns = BRunUtil.invoke(compileResult, "getBodyPartStreamFromDiscreteTypeEntity");
+        Assert.assertEquals(returns.length, 1);
+        verifyMimeError(returns[0], "Entity body is not a type of multipart media type. " +
+                "Received content-type : application/json");
+    }
+
     @Test(description = "Test whether an error is returned when trying convert body parts as a " +
             "byte channel when the actual content is not composite media type")
     public void getChannelFromParts() {
@@ -459,6 +459,40 @@ function getBodyPartsFromDiscreteTypeEntity() returns mime:Entity[]|error {
     return entity.getBodyParts();
 }
 
+function testGetBodyPartsAsStream(int spillThreshold) returns @tainted string[]|error {
+    mime:Entity bodyPart1 = new;
+    bodyPart1.setText("Ballerina text body part");
+
+    mime:Entity bodyPart2 = new;
+    bodyPart2.setText("Ballerina text body part which is streamed");
+
+    mime:Entity[] bodyParts = [bodyPart1, bodyPart2];
+    mime:Entity multipartEntity = new;
+    string contentType = mime:MULTIPART_MIXED + "; boundary=e3a0b9ad7b4e7cdt";
+    multipartEntity.setBodyParts(bodyParts, contentType);
+    io:ReadableByteChannel byteChannel = check multipartEntity.getBodyPartsAsChannel();
+
+    mime:Entity entity = new;
+    entity.setByteChannel(byteChannel, contentType);
+    stream<mime:Entity, mime:ParserError> bodyPartStream = check entity.getBodyPartsAsStream(spillThreshold);
+    string[] contents = [];
+    var bodyPart = bodyPartStream.next();
+    while (bodyPart is record {| mime:Entity value; |}) {
+        contents.push(check bodyPart.value.getText());
+        bodyPart = bodyPartStream.next();
+    }
+    if (bodyPart is error) {
+        return bodyPart;
+    }
+    return contents;
+}
+
+function getBodyPartStreamFromDiscreteTypeEntity() returns stream<mime:Entity, mime:ParserError>|error {
+    mime:Entity entity = new;
+    entity.setJson({ "bodyPart": "jsonPart" });
+    return entity.getBodyPartsAsStream();
+}
+
 function getChannelFromParts() returns @tainted io:ReadableByteChannel|error {
     mime:Entity entity = new;
     entity.setJson({ "bodyPart": "jsonPart" });
@@ -20,23 +20,17 @@ package org.ballerinalang.stdlib.runtime.nativeimpl;
 import io.ballerina.runtime.api.Environment;
 import io.ballerina.runtime.api.Future;
 
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 
 /**
- * Extern function ballerina/runtime:sleep.
+ * Extern function ballerina/runtime:sleep. The strand is resumed by the timer shared by the runtime.
  *
  * @since 0.94.1
  */
 public class Sleep {
 
-    private static final int CORE_THREAD_POOL_SIZE = 1;
-
-    private static ScheduledExecutorService executor = Executors.newScheduledThreadPool(CORE_THREAD_POOL_SIZE);
-
     public static void sleep(Environment env, long delayMillis) {
         Future balFuture = env.markAsync();
-        executor.schedule(() -> balFuture.complete(null), delayMillis, TimeUnit.MILLISECONDS);
+        balFuture.completeAfter(null, delayMillis, TimeUnit.MILLISECONDS);
     }
 }
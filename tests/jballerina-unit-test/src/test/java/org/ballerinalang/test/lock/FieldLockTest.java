@@ -17,6 +17,7 @@
 
 package org.ballerinalang.test.lock;
 
+import org.ballerinalang.core.model.values.BInteger;
 import org.ballerinalang.core.model.values.BValue;
 import org.ballerinalang.test.BCompileUtil;
 import org.ballerinalang.test.BRunUtil;
@@ -24,6 +25,7 @@ import org.ballerinalang.test.CompileResult;
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
 
+import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertFalse;
 import static org.testng.Assert.assertTrue;
 
@@ -60,6 +62,13 @@ public class FieldLockTest {
         assertTrue((returns2[0].stringValue().equals("1001000") || returns2[0].stringValue().equals("500500")));
     }
 
+    @Test(description = "Test locking a field of an object again while holding the lock of the field")
+    public void testReentrantFieldLock() {
+
+        BValue[] returns = BRunUtil.invoke(compileResult, "reentrantFieldLock");
+        assertEquals(((BInteger) returns[0]).intValue(), 400);
+    }
+
     @Test(description = "Test locking based on a record field")
     public void testLockInRecords() {
 
@@ -114,6 +114,12 @@ public class JoinClauseTest {
         Assert.assertTrue(((BBoolean) values[0]).booleanValue());
     }
 
+    @Test(description = "Test join clauses with keys that are equal, but have different string representations")
+    public void testJoinClauseWithMappingKeys() {
+        BValue[] values = BRunUtil.invoke(result, "testJoinClauseWithMappingKeys");
+        Assert.assertTrue(((BBoolean) values[0]).booleanValue());
+    }
+
     @Test(groups = {"disableOnOldParser"}, description = "Test negative scenarios for query expr with join clause")
     public void testNegativeScenarios() {
         Assert.assertEquals(negativeResult.getErrorCount(), 32);
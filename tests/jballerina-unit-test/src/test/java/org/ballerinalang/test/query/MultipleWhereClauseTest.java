@@ -21,6 +21,7 @@ package org.ballerinalang.test.query;
 import org.ballerinalang.core.model.values.BFloat;
 import org.ballerinalang.core.model.values.BMap;
 import org.ballerinalang.core.model.values.BValue;
+import org.ballerinalang.core.model.values.BValueArray;
 import org.ballerinalang.test.BCompileUtil;
 import org.ballerinalang.test.BRunUtil;
 import org.ballerinalang.test.CompileResult;
@@ -87,4 +88,57 @@ public class MultipleWhereClauseTest {
         Assert.assertEquals(person1.get("lastName").stringValue(), "Fonseka");
         Assert.assertEquals(((BFloat) person1.get("score")).floatValue(), 90.6);
     }
+
+    @Test(description = "Test an equality predicate on a table field, looked up through a secondary index")
+    public void testEqualityOnTableField() {
+        assertIds(BRunUtil.invoke(result, "testEqualityOnTableField"), 1, 3);
+    }
+
+    @Test(description = "Test an equality predicate with the table field on the right hand side")
+    public void testEqualityOnTableFieldWithValueOnLeft() {
+        assertIds(BRunUtil.invoke(result, "testEqualityOnTableFieldWithValueOnLeft"), 2, 4);
+    }
+
+    @Test(description = "Test a range predicate on a table field combined with another predicate")
+    public void testRangeOnTableFieldWithOtherPredicate() {
+        assertIds(BRunUtil.invoke(result, "testRangeOnTableFieldWithOtherPredicate"), 1, 3);
+    }
+
+    @Test(description = "Test a range predicate on a table field within parentheses")
+    public void testRangeOnTableFieldInGroupExpr() {
+        assertIds(BRunUtil.invoke(result, "testRangeOnTableFieldInGroupExpr"), 2, 4);
+    }
+
+    @Test(description = "Test a predicate on a table field which matches no row")
+    public void testNoMatchOnTableField() {
+        assertIds(BRunUtil.invoke(result, "testNoMatchOnTableField"));
+    }
+
+    @Test(description = "Test a predicate on a table field after a row is added")
+    public void testWhereClauseOnTableFieldAfterAdd() {
+        assertIds(BRunUtil.invoke(result, "testWhereClauseOnTableFieldAfterAdd"), 1, 3, 5);
+    }
+
+    @Test(description = "Test a predicate on a table field after a row is removed")
+    public void testWhereClauseOnTableFieldAfterRemove() {
+        assertIds(BRunUtil.invoke(result, "testWhereClauseOnTableFieldAfterRemove"), 5);
+    }
+
+    @Test(description = "Test a predicate on a field of a table with mutable rows after a row is changed")
+    public void testWhereClauseOnMutableTableField() {
+        assertIds(BRunUtil.invoke(result, "testWhereClauseOnMutableTableField"), 1, 2);
+    }
+
+    @Test(description = "Test a predicate on a table field in a stream, which is consumed after the rows change")
+    public void testWhereClauseOnTableFieldInStream() {
+        assertIds(BRunUtil.invoke(result, "testWhereClauseOnTableFieldInStream"), 1, 2);
+    }
+
+    private void assertIds(BValue[] returnValues, long... ids) {
+        BValueArray array = (BValueArray) returnValues[0];
+        Assert.assertEquals(array.size(), ids.length);
+        for (int i = 0; i < ids.length; i++) {
+            Assert.assertEquals(array.getInt(i), ids[i]);
+        }
+    }
 }
@@ -21,6 +21,7 @@ import org.ballerinalang.core.model.values.BBoolean;
 import org.ballerinalang.core.model.values.BInteger;
 import org.ballerinalang.core.model.values.BMap;
 import org.ballerinalang.core.model.values.BValue;
+import org.ballerinalang.core.model.values.BValueArray;
 import org.ballerinalang.test.BCompileUtil;
 import org.ballerinalang.test.BRunUtil;
 import org.ballerinalang.test.CompileResult;
@@ -221,6 +222,37 @@ public class OrderByClauseTest {
         Assert.assertTrue(((BBoolean) returnValues[0]).booleanValue());
     }
 
+    @Test(description = "Test query expr with order by clause with nil values in order-key in both directions")
+    public void testQueryExprWithOrderByClauseHavingNilValues() {
+        BValue[] returnValues = BRunUtil.invoke(result, "testQueryExprWithOrderByClauseHavingNilValues");
+        Assert.assertTrue(((BBoolean) returnValues[0]).booleanValue());
+    }
+
+    @Test(description = "Test query expr with order by clause keeping the input order of equal order-keys")
+    public void testQueryExprWithOrderByClauseIsStable() {
+        BValue[] returnValues = BRunUtil.invoke(result, "testQueryExprWithOrderByClauseIsStable");
+        Assert.assertTrue(((BBoolean) returnValues[0]).booleanValue());
+    }
+
+    @Test(description = "Test query expr with order by clause having order-keys of different types")
+    public void testQueryExprWithOrderByClauseHavingKeysOfDifferentTypes() {
+        BValue[] returnValues = BRunUtil.invoke(result, "testQueryExprWithOrderByClauseHavingKeysOfDifferentTypes");
+        BValueArray ids = (BValueArray) returnValues[0];
+        Assert.assertEquals(ids.size(), 5);
+        int i = 0;
+        Assert.assertEquals(ids.getInt(i++), 5);
+        Assert.assertEquals(ids.getInt(i++), 1);
+        Assert.assertEquals(ids.getInt(i++), 2);
+        Assert.assertEquals(ids.getInt(i++), 3);
+        Assert.assertEquals(ids.getInt(i), 4);
+    }
+
+    @Test(description = "Test query expr with order by clause having array order-keys")
+    public void testQueryExprWithOrderByClauseHavingArrayKeys() {
+        BValue[] returnValues = BRunUtil.invoke(result, "testQueryExprWithOrderByClauseHavingArrayKeys");
+        Assert.assertTrue(((BBoolean) returnValues[0]).booleanValue());
+    }
+
     @Test(description = "Test query expr with order by clause return string")
     public void testQueryExprWithOrderByClauseReturnString() {
         BValue[] returnValues = BRunUtil.invoke(result, "testQueryExprWithOrderByClauseReturnString");
@@ -48,6 +48,11 @@ public class StringValueBasicsTest extends BStringTestCommons {
         testAndAssert("nonBMPLength", 5);
     }
 
+    @Test
+    public void testNonBMPConcatInLoop() {
+        testAndAssert("testNonBMPConcatInLoop", 401);
+    }
+
     @Test
     public void testRecordStringValue() {
         testAndAssert("recordStringValue", 5);
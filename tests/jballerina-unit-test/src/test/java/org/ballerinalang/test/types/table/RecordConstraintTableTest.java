@@ -73,6 +73,11 @@ public class RecordConstraintTableTest {
         BRunUtil.invoke(result, "testKeylessTable");
     }
 
+    @Test(description = "Test multi key table with distinct keys having the same hash")
+    public void testMultiKeyWithSameHash() {
+        BRunUtil.invoke(result, "testMultiKeyWithSameHash");
+    }
+
     @Test(expectedExceptions = BLangRuntimeException.class,
             expectedExceptionsMessageRegExp = "error: \\{ballerina/lang.table\\}KeyNotFound \\{\"message\":\"cannot " +
                     "find key '18'.*")
@@ -94,6 +94,41 @@ function incrementParam(Student param, person p) {
     }
 }
 
+//------------------------------------------------
+// Test locking a field again while the lock of the field is held
+class Counter {
+    int count = 0;
+
+    function increment() {
+        lock {
+            self.count = self.count + 1;
+        }
+    }
+
+    function incrementTwice() {
+        lock {
+            self.count = self.count + 1;
+            self.increment();
+        }
+    }
+}
+
+function reentrantFieldLock() returns int {
+    Counter counter = new;
+
+    worker w1 {
+        foreach var i in 1 ... 100 {
+            counter.incrementTwice();
+        }
+    }
+
+    foreach var i in 1 ... 100 {
+        counter.incrementTwice();
+    }
+    wait w1;
+    return counter.count;
+}
+
 public function sleep(int millis) = @java:Method {
     'class: "org.ballerinalang.test.utils.interop.Sleep"
 } external;
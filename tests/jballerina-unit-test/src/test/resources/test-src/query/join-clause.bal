@@ -448,6 +448,47 @@ function testSimpleJoinClauseWithFunctionInAnEquals() returns boolean {
     return testPassed;
 }
 
+type Customer record {|
+    string name;
+    map<anydata> location;
+|};
+
+type Branch record {|
+    int id;
+    map<anydata> location;
+|};
+
+function testJoinClauseWithMappingKeys() returns boolean {
+    Customer c1 = {name: "Alex", location: {city: "Colombo", zone: 1.0d}};
+    Customer c2 = {name: "Ranjan", location: {city: "Kandy", zone: 2.0d}};
+
+    Branch b1 = {id: 1, location: {zone: 1.00d, city: "Colombo"}};
+    Branch b2 = {id: 2, location: {city: "Galle", zone: 3.0d}};
+    Branch b3 = {id: 3, location: {city: "Colombo", zone: 1.0d}};
+
+    Customer[] customerList = [c1, c2];
+    Branch[] branchList = [b1, b2, b3];
+
+    string[] innerJoined =
+       from var customer in customerList
+       join var branch in branchList
+       on customer.location equals branch.location
+       select customer.name + ":" + branch.id.toString();
+
+    record {| string name; int? branchId; |}[] outerJoined =
+       from var customer in customerList
+       outer join Branch branch in branchList
+       on customer.location equals branch.location
+       select {
+           name : customer.name,
+           branchId : branch.id
+       };
+
+    return innerJoined == ["Alex:1", "Alex:3"] && outerJoined.length() == 3 &&
+        outerJoined[0] == {name: "Alex", branchId: 1} && outerJoined[1] == {name: "Alex", branchId: 3} &&
+        outerJoined[2] == {name: "Ranjan", branchId: ()};
+}
+
 function getDeptName(int id) returns string {
     if (id == 1) {
         return "HR";
@@ -100,3 +100,80 @@ function testLogicalOperandsWithWhere() returns Student[]{
 
     return  outputStudentList;
 }
+
+type Employee record {|
+    readonly int id;
+    string city;
+    int age;
+|};
+
+function getEmployees() returns table<Employee & readonly> key(id) {
+    return table [
+        {id: 1, city: "Colombo", age: 32},
+        {id: 2, city: "Kandy", age: 25},
+        {id: 3, city: "Colombo", age: 41},
+        {id: 4, city: "Galle", age: 25}
+    ];
+}
+
+function testEqualityOnTableField() returns int[] {
+    string city = "Colombo";
+    return from var e in getEmployees() where e.city == city select e.id;
+}
+
+function testEqualityOnTableFieldWithValueOnLeft() returns int[] {
+    return from var e in getEmployees() where 25 == e.age select e.id;
+}
+
+function testRangeOnTableFieldWithOtherPredicate() returns int[] {
+    return from var e in getEmployees() where e.age > 25 && e.city != "Kandy" select e.id;
+}
+
+function testRangeOnTableFieldInGroupExpr() returns int[] {
+    return from var e in getEmployees() where (30 >= e.age) select e.id;
+}
+
+function testNoMatchOnTableField() returns int[] {
+    return from var e in getEmployees() where e.city == "Jaffna" select e.id;
+}
+
+function testWhereClauseOnTableFieldAfterAdd() returns int[] {
+    table<Employee & readonly> key(id) employees = getEmployees();
+    employees.add({id: 5, city: "Colombo", age: 19});
+    return from var e in employees where e.city == "Colombo" select e.id;
+}
+
+function testWhereClauseOnTableFieldAfterRemove() returns int[] {
+    table<Employee & readonly> key(id) employees = getEmployees();
+    employees.add({id: 5, city: "Colombo", age: 19});
+    _ = employees.remove(1);
+    return from var e in employees where e.city == "Colombo" && e.age < 40 select e.id;
+}
+
+function getMutableEmployees() returns table<Employee> key(id) {
+    return table [
+        {id: 1, city: "Colombo", age: 32},
+        {id: 2, city: "Kandy", age: 25}
+    ];
+}
+
+function testWhereClauseOnMutableTableField() returns int[] {
+    table<Employee> key(id) employees = getMutableEmployees();
+    Employee first = employees.get(1);
+    first.city = "Kandy";
+    return from var e in employees where e.city == "Kandy" select e.id;
+}
+
+function testWhereClauseOnTableFieldInStream() returns int[] {
+    table<Employee> key(id) employees = getMutableEmployees();
+    string city = "Kandy";
+    stream<Employee> inCity = stream from var e in employees where e.city == city select e;
+
+    // The stream is consumed after the rows and the compared value have changed
+    Employee first = employees.get(1);
+    first.city = "Galle";
+    Employee second = employees.get(2);
+    second.city = "Galle";
+    city = "Galle";
+    return from var e in inCity select e.id;
+}
@@ -385,6 +385,79 @@ function testQueryExprWithOrderByClauseHavingNaNNilValues() returns boolean {
     return testPassed;
 }
 
+function testQueryExprWithOrderByClauseHavingNilValues() returns boolean {
+    Student s1 = {id: 1, fname: "John", fee: 6000.0, impact: 0.4, isUndergrad: true};
+    Student s2 = {id: 2, fname: (), fee: 5000.0, impact: 0.4, isUndergrad: true};
+    Student s3 = {id: 3, fname: "Anne", fee: 5000.0, impact: 0.4, isUndergrad: true};
+    Student s4 = {id: 4, fname: (), fee: 7000.0, impact: 0.2, isUndergrad: false};
+
+    Student[] studentList = [s1, s2, s3, s4];
+
+    int[] ascending = from var student in studentList
+        order by student.fname ascending
+        select student.id;
+    int[] descending = from var student in studentList
+        order by student.fname descending
+        select student.id;
+
+    return ascending == [3, 1, 2, 4] && descending == [1, 3, 2, 4];
+}
+
+function testQueryExprWithOrderByClauseIsStable() returns boolean {
+    Person p1 = {firstName: "Amy", lastName: "Melina", age: 30};
+    Person p2 = {firstName: "Frank", lastName: "James", age: 25};
+    Person p3 = {firstName: "Melina", lastName: "Kodel", age: 30};
+    Person p4 = {firstName: "Terrence", lastName: "Lewis", age: 25};
+    Person p5 = {firstName: "Meghan", lastName: "Markle", age: 30};
+
+    Person[] personList = [p1, p2, p3, p4, p5];
+
+    string[] ascending = from var person in personList
+        order by person.age ascending
+        select person.firstName;
+    string[] descending = from var person in personList
+        order by person.age descending
+        select person.firstName;
+
+    return ascending == ["Frank", "Terrence", "Amy", "Melina", "Meghan"] &&
+        descending == ["Amy", "Melina", "Meghan", "Frank", "Terrence"];
+}
+
+function testQueryExprWithOrderByClauseHavingKeysOfDifferentTypes() returns int[] {
+    Student s1 = {id: 1, fname: "John", fee: 6000.0, impact: 0.4, isUndergrad: true};
+    Student s2 = {id: 2, fname: "Anne", fee: 5000.0, impact: 0.4, isUndergrad: true};
+    Student s3 = {id: 3, fname: "Kate", fee: 5000.0, impact: 0.4, isUndergrad: true};
+    Student s4 = {id: 4, fname: "Mike", fee: 7000.0, impact: 0.2, isUndergrad: false};
+    Student s5 = {id: 5, fname: "Lee", fee: 8000.0, impact: 0.3, isUndergrad: true};
+
+    Student[] studentList = [s1, s2, s3, s4, s5];
+
+    return from var student in studentList
+        order by student.isUndergrad descending, student.impact ascending, student.fee descending,
+            student.id ascending
+        select student.id;
+}
+
+function testQueryExprWithOrderByClauseHavingArrayKeys() returns boolean {
+    Employee e1 = {name: "Frank", address: {unitNo: 111, street: "Main Street"}, tokens: {}, noOfShifts: [2, 1]};
+    Employee e2 = {name: "James", address: {unitNo: 222, street: "Main Street"}, tokens: {}, noOfShifts: [1, 2, 3]};
+    Employee e3 = {name: "Anne", address: {unitNo: 333, street: "Main Street"}, tokens: {}, noOfShifts: []};
+    Employee e4 = {name: "Bella", address: {unitNo: 444, street: "Main Street"}, tokens: {}, noOfShifts: [1, 2]};
+    Employee e5 = {name: "Clara", address: {unitNo: 555, street: "Main Street"}, tokens: {}, noOfShifts: [1, 2]};
+
+    Employee[] empList = [e1, e2, e3, e4, e5];
+
+    string[] ascending = from var emp in empList
+        order by emp.noOfShifts ascending
+        select emp.name;
+    string[] descending = from var emp in empList
+        order by emp.noOfShifts descending
+        select emp.name;
+
+    return ascending == ["Anne", "Bella", "Clara", "James", "Frank"] &&
+        descending == ["Frank", "James", "Bella", "Clara", "Anne"];
+}
+
 function testQueryExprWithOrderByClauseReturnString() returns string {
     Person p1 = {firstName: "Amy", lastName: "Melina", age: 34};
     Person p2 = {firstName: "Frank", lastName: "James", age: 30};
@@ -70,3 +70,21 @@ function anydataToStringCast() returns int {
     string k = <string> a;
     return k.length();
 }
+
+function testNonBMPConcatInLoop() returns int {
+    string s = "";
+    foreach int i in 0 ..< 200 {
+        s = s + "a😀";
+    }
+    string branch = s + "b";
+    s = s + "c";
+    if s.getCodePoint(1) != 128512 || s.getCodePoint(398) != 97 || s.substring(396, 400) != "a😀a😀" ||
+            branch.getCodePoint(400) != 98 || s.getCodePoint(400) != 99 {
+        return -1;
+    }
+    string small = "😀" + "b😁";
+    if small.getCodePoint(2) != 128513 {
+        return -1;
+    }
+    return s.length();
+}
@@ -155,6 +155,21 @@ function testKeylessTable() {
     assertEquality(expectedValues, customerTable.toString());
 }
 
+function testMultiKeyWithSameHash() {
+    // The keys [0, "B"] and [1, "#"] have the same hash value
+    table<Customer> key(id, name) customerTable = table [{ id: 0 , name: "B", lname: "First" }];
+    customerTable.add({ id: 1 , name: "#", lname: "Second" });
+
+    assertEquality(2, customerTable.length());
+    assertEquality("First", customerTable[0, "B"]["lname"]);
+    assertEquality("Second", customerTable[1, "#"]["lname"]);
+
+    Customer removed = customerTable.remove([0, "B"]);
+    assertEquality("First", removed["lname"]);
+    assertEquality(1, customerTable.length());
+    assertEquality("Second", customerTable[1, "#"]["lname"]);
+}
+
 function testMemberAccessWithInvalidSingleKey() {
     table<Customer> key(id) customerTable = table [{ id: 13 , name: "Sanjiva", lname: "Weerawarana" },
                                         { id: 23 , name: "James" , lname: "Clark" }];